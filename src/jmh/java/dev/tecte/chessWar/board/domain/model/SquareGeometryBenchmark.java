@@ -0,0 +1,113 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미리 계산한 칸 기하 테이블 조회와 호출마다 벡터 연산으로 계산하던 방식을 비교합니다.
+ * <p>
+ * 한 번의 호출이 격자의 모든 칸을 한 바퀴 조회하며, {@code perCall} 계열은 테이블 도입 이전의 계산을 그대로 재현합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SquareGeometryBenchmark {
+    @Param({"8x8", "16x16"})
+    public String grid;
+
+    private SquareGrid squareGrid;
+    private Coordinate[] coordinates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] size = grid.split("x");
+        GridSpec gridSpec = GridSpec.of(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+
+        squareGrid = SquareGrid.of(Vec3.of(100, 64, -200), Orientation.EAST, gridSpec, SquareSpec.defaultSpec());
+        coordinates = new Coordinate[gridSpec.rowCount() * gridSpec.colCount()];
+
+        for (int row = 0; row < gridSpec.rowCount(); row++) {
+            for (int col = 0; col < gridSpec.colCount(); col++) {
+                coordinates[row * gridSpec.colCount() + col] = Coordinate.of(row, col);
+            }
+        }
+
+        // 테이블은 지연 생성되므로 측정 전에 만들어 둠
+        squareGrid.geometry();
+    }
+
+    @Benchmark
+    public void squareAtLookup(Blackhole blackhole) {
+        for (Coordinate coordinate : coordinates) {
+            blackhole.consume(squareGrid.squareAt(coordinate));
+        }
+    }
+
+    @Benchmark
+    public void squareAtPerCall(Blackhole blackhole) {
+        for (Coordinate coordinate : coordinates) {
+            blackhole.consume(perCallSquareAt(coordinate));
+        }
+    }
+
+    @Benchmark
+    public void spawnPointLookup(Blackhole blackhole) {
+        SquareGeometry geometry = squareGrid.geometry();
+
+        for (Coordinate coordinate : coordinates) {
+            int ordinal = geometry.ordinalOf(coordinate);
+
+            blackhole.consume(geometry.spawnX(ordinal));
+            blackhole.consume(geometry.spawnY(ordinal));
+            blackhole.consume(geometry.spawnZ(ordinal));
+        }
+    }
+
+    @Benchmark
+    public void spawnPointPerCall(Blackhole blackhole) {
+        for (Coordinate coordinate : coordinates) {
+            blackhole.consume(perCallSquareAt(coordinate).boundingBox().getCenter().add(new Vector(0, 1, 0)));
+        }
+    }
+
+    // 테이블 도입 이전의 SquareGrid.squareAt
+    private Square perCallSquareAt(Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        SquareColor color = (row + col) % 2 == 0 ? SquareColor.BLACK : SquareColor.WHITE;
+        Vector colStep = toVector(squareGrid.colStep());
+        Vector rowStep = toVector(squareGrid.rowStep());
+        Vector squareOrigin = toVector(squareGrid.anchor())
+                .add(colStep.clone().multiply(col))
+                .add(rowStep.clone().multiply(row));
+        Vector diagonalCorner = squareOrigin.clone()
+                .add(colStep)
+                .add(rowStep);
+
+        return new Square(color, BoundingBox.of(squareOrigin, diagonalCorner));
+    }
+
+    private static Vector toVector(Vec3 vec) {
+        return new Vector(vec.x(), vec.y(), vec.z());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.tecte.chessWar.game.domain.model.phase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 양방향 선택 현황과 이전의 단방향 맵 방식을 참가자 수별로 비교합니다.
+ * <p>
+ * {@code copied} 계열은 선택마다 맵을 복사하고 기물 선택 여부를 값 순회로 확인하던 방식을 재현합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PieceSelectionsBenchmark {
+    private static final long SEED = 0x5E1EC7L;
+
+    @Param({"8", "64", "512"})
+    public int participants;
+
+    private UUID[] participantIds;
+    private UUID[] pieceIds;
+    private UUID newcomerId;
+    private UUID freePieceId;
+    private PieceSelections selections;
+    private Map<UUID, UUID> copiedSelections;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        Map<UUID, UUID> initial = new HashMap<>();
+
+        participantIds = new UUID[participants];
+        pieceIds = new UUID[participants];
+
+        for (int i = 0; i < participants; i++) {
+            participantIds[i] = new UUID(random.nextLong(), random.nextLong());
+            pieceIds[i] = new UUID(random.nextLong(), random.nextLong());
+            initial.put(participantIds[i], pieceIds[i]);
+        }
+
+        newcomerId = new UUID(random.nextLong(), random.nextLong());
+        freePieceId = new UUID(random.nextLong(), random.nextLong());
+        selections = PieceSelections.of(initial);
+        copiedSelections = Map.copyOf(initial);
+    }
+
+    @Benchmark
+    public boolean isSelectedIndexed() {
+        return selections.isSelected(nextPieceId());
+    }
+
+    @Benchmark
+    public boolean isSelectedCopied() {
+        return copiedSelections.containsValue(nextPieceId());
+    }
+
+    @Benchmark
+    public PieceSelections selectIndexed() {
+        return selections.select(newcomerId, freePieceId);
+    }
+
+    @Benchmark
+    public Map<UUID, UUID> selectCopied() {
+        Map<UUID, UUID> newSelections = new HashMap<>(copiedSelections);
+
+        newSelections.put(newcomerId, freePieceId);
+
+        return Map.copyOf(newSelections);
+    }
+
+    // 선택된 기물을 차례로 조회해 값 순회의 평균 비용을 측정함
+    private UUID nextPieceId() {
+        UUID pieceId = pieceIds[cursor];
+
+        cursor = cursor + 1 == pieceIds.length ? 0 : cursor + 1;
+
+        return pieceId;
+    }
+}
@@ -0,0 +1,114 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수 생성기의 perft 처리량을 초당 노드 수로 측정합니다.
+ * <p>
+ * {@code nodes} 보조 지표가 초당 방문한 말단 국면 수(nps)이며, {@code perft} 지표는 초당 perft 호출 수입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoveGeneratorBenchmark {
+    @Param({"8x8", "6x6", "10x10", "8x12"})
+    public String grid;
+
+    @Param({"3"})
+    public int depth;
+
+    private MoveGenerator moveGenerator;
+    private Position position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] size = grid.split("x");
+        GridSpec gridSpec = GridSpec.of(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+
+        moveGenerator = new MoveGenerator();
+        position = startingPosition(gridSpec);
+    }
+
+    @Benchmark
+    public long perft(NodeCounter counter) {
+        long nodes = moveGenerator.perft(position, TeamColor.WHITE, depth);
+
+        counter.nodes += nodes;
+
+        return nodes;
+    }
+
+    // 테스트의 시작 국면과 같은 배치 (벤치마크 소스 세트는 테스트 클래스를 보지 않음)
+    private static Position startingPosition(GridSpec gridSpec) {
+        int rowCount = gridSpec.rowCount();
+        int colCount = gridSpec.colCount();
+        Position position = Position.empty(gridSpec);
+
+        for (int col = 0; col < colCount; col++) {
+            PieceType backRank = backRankTypeAt(col, colCount);
+
+            position = position
+                    .with(Coordinate.of(0, col), PieceSpec.of(backRank, TeamColor.WHITE))
+                    .with(Coordinate.of(1, col), PieceSpec.of(PieceType.PAWN, TeamColor.WHITE))
+                    .with(Coordinate.of(rowCount - 2, col), PieceSpec.of(PieceType.PAWN, TeamColor.BLACK))
+                    .with(Coordinate.of(rowCount - 1, col), PieceSpec.of(backRank, TeamColor.BLACK));
+        }
+
+        return position;
+    }
+
+    private static PieceType backRankTypeAt(int col, int colCount) {
+        int king = colCount / 2;
+
+        if (col == king) {
+            return PieceType.KING;
+        }
+
+        if (col == king - 1) {
+            return PieceType.QUEEN;
+        }
+
+        return switch (Math.min(col, colCount - 1 - col)) {
+            case 0 -> PieceType.ROOK;
+            case 1 -> PieceType.KNIGHT;
+            default -> PieceType.BISHOP;
+        };
+    }
+
+    /**
+     * 반복마다 방문한 말단 국면 수를 누적합니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class NodeCounter {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+}
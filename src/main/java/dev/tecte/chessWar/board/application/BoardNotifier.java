@@ -3,12 +3,17 @@ package dev.tecte.chessWar.board.application;
 import dev.tecte.chessWar.port.UserNotifier;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.SiteSurvey;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.command.CommandSender;
 
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * 체스판 관련 알림 및 안내 메시지를 전송합니다.
  */
@@ -21,8 +26,98 @@ public class BoardNotifier {
      * 체스판 생성 성공을 알립니다.
      *
      * @param recipient 수신자
+     * @param name      체스판 이름
      */
-    public void informCreated(@NonNull CommandSender recipient) {
-        userNotifier.informSuccess(recipient, Component.text("체스판이 생성되었습니다.", NamedTextColor.WHITE));
+    public void informCreated(@NonNull CommandSender recipient, @NonNull String name) {
+        userNotifier.informSuccess(recipient, Component.text(
+                "체스판 '%s'이(가) 생성되었습니다.".formatted(name), NamedTextColor.WHITE));
+    }
+
+    /**
+     * 체스판 복구 완료를 알립니다.
+     *
+     * @param recipient 수신자
+     * @param name      체스판 이름
+     */
+    public void informRepaired(@NonNull CommandSender recipient, @NonNull String name) {
+        userNotifier.informSuccess(recipient, Component.text(
+                "체스판 '%s'이(가) 복구되었습니다.".formatted(name), NamedTextColor.WHITE));
+    }
+
+    /**
+     * 체스판 제거 완료를 알립니다.
+     *
+     * @param recipient 수신자
+     * @param name      체스판 이름
+     */
+    public void informRemoved(@NonNull CommandSender recipient, @NonNull String name) {
+        userNotifier.informSuccess(recipient, Component.text(
+                "체스판 '%s'이(가) 제거되었습니다.".formatted(name), NamedTextColor.WHITE));
+    }
+
+    /**
+     * 보관된 지형이 없어 체스판 블록만 남았음을 알립니다.
+     *
+     * @param recipient 수신자
+     */
+    public void informTerrainMissing(@NonNull CommandSender recipient) {
+        userNotifier.informError(recipient, Component.text(
+                "보관된 지형이 없어 체스판 블록을 복원하지 못했습니다.", NamedTextColor.WHITE));
+    }
+
+    /**
+     * 설치 예정지 조사 결과를 알립니다.
+     *
+     * @param recipient 수신자
+     * @param survey    조사 결과
+     */
+    public void informSurvey(@NonNull CommandSender recipient, @NonNull SiteSurvey survey) {
+        if (survey.isClear()) {
+            userNotifier.informSuccess(recipient, Component.text("설치 예정지에 문제가 없습니다.", NamedTextColor.WHITE));
+
+            return;
+        }
+
+        userNotifier.informError(recipient, Component.text("설치 예정지에 정리가 필요합니다.", NamedTextColor.WHITE));
+        String details = "장애물 %d개, 액체 %d개, 지면 없는 열 %d개, 지면 높이 차 %d칸".formatted(
+                survey.obstructionCount(),
+                survey.liquidCount(),
+                survey.unsupportedColumnCount(),
+                survey.heightSpread()
+        );
+
+        userNotifier.inform(recipient, Component.text(details, NamedTextColor.GRAY));
+    }
+
+    /**
+     * 설치 예정지 정리 완료를 알립니다.
+     *
+     * @param recipient    수신자
+     * @param clearedCount 비운 블록 수
+     */
+    public void informSiteCleared(@NonNull CommandSender recipient, int clearedCount) {
+        userNotifier.informSuccess(recipient, Component.text(
+                "설치 예정지를 정리했습니다. (%d개 블록)".formatted(clearedCount), NamedTextColor.WHITE));
+    }
+
+    /**
+     * 체스판 목록을 안내합니다.
+     *
+     * @param recipient 수신자
+     * @param boards    체스판 목록
+     */
+    public void informBoardList(@NonNull CommandSender recipient, @NonNull List<Board> boards) {
+        if (boards.isEmpty()) {
+            userNotifier.inform(recipient, Component.text("생성된 체스판이 없습니다.", NamedTextColor.GRAY));
+
+            return;
+        }
+
+        userNotifier.inform(recipient, Component.text(
+                "체스판 %d개".formatted(boards.size()), NamedTextColor.WHITE));
+        boards.stream()
+                .sorted(Comparator.comparing(Board::name))
+                .forEach(board -> userNotifier.inform(recipient, Component.text(
+                        " - %s (%s)".formatted(board.name(), board.worldName()), NamedTextColor.GRAY)));
     }
 }
@@ -1,19 +1,39 @@
 package dev.tecte.chessWar.board.application;
 
+import dev.tecte.chessWar.board.application.port.BoardProgressDisplay;
 import dev.tecte.chessWar.board.application.port.BoardRenderer;
 import dev.tecte.chessWar.board.application.port.BoardRepository;
+import dev.tecte.chessWar.board.application.port.SiteSurveyor;
+import dev.tecte.chessWar.board.application.port.TerrainArchive;
+import dev.tecte.chessWar.board.domain.exception.BoardException;
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.domain.model.Orientation;
+import dev.tecte.chessWar.board.domain.model.Vec3;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.board.domain.service.BoardFactory;
+import dev.tecte.chessWar.port.WorldResolver;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.util.Vector;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * 체스판 관련 비즈니스 로직을 처리합니다.
@@ -22,36 +42,328 @@ import java.util.Optional;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class BoardService {
+    // 조사용으로만 배치해 보는 체스판의 이름
+    private static final String SURVEY_BOARD_NAME = "survey";
+    private static final Component RENDERING_TITLE = Component.text("체스판 렌더링 중", NamedTextColor.AQUA);
+    private static final Component RESTORING_TITLE = Component.text("지형 복원 중", NamedTextColor.GREEN);
+    private static final Component CLEARING_TITLE = Component.text("설치 예정지 정리 중", NamedTextColor.YELLOW);
+
     private final BoardFactory boardFactory;
     private final BoardRepository boardRepository;
     private final BoardRenderer boardRenderer;
+    private final BoardProgressDisplay boardProgressDisplay;
+    private final TerrainArchive terrainArchive;
+    private final SiteSurveyor siteSurveyor;
     private final BoardNotifier boardNotifier;
+    private final WorldResolver worldResolver;
+    private final ExceptionDispatcher exceptionDispatcher;
+    private final GridSpec gridSpec;
+
+    // 생성이나 정리가 진행 중이라 아직 저장되지 않은 체스판 (이름과 영역을 미리 차지함)
+    private final Map<String, Board> reservations = new ConcurrentHashMap<>();
 
     /**
      * 플레이어의 위치와 방향을 기준으로 체스판을 생성합니다.
+     * <p>
+     * 설치 전에 원래 지형을 보관하며, 블록 설치는 여러 틱에 나누어 진행됩니다.
+     * 설치가 끝난 뒤에 체스판을 저장하며, 그동안 이름과 영역을 미리 차지합니다.
+     * 중간에 실패하면 차지한 이름과 영역을 해제하고 플레이어에게 알립니다.
      *
-     * @param player 체스판을 생성할 플레이어
+     * @param player   체스판을 생성할 플레이어
+     * @param name     체스판 이름
+     * @param rowCount 행 개수, 생략 시 기본 크기
+     * @param colCount 열 개수, 생략 시 행 개수와 동일
+     * @throws BoardException 이름이나 크기가 잘못되었거나 이미 있는 경우, 다른 체스판과 겹치는 경우
      */
-    public void createBoard(@NonNull Player player) {
-        String worldName = player.getWorld().getName();
-        Vector playerPosition = player.getLocation().toBlockLocation().toVector();
-        Orientation orientation = Orientation.from(player.getFacing());
-        Board board = boardFactory.createAt(worldName, playerPosition, orientation);
+    public void createBoard(
+            @NonNull Player player,
+            @NonNull String name,
+            @Nullable Integer rowCount,
+            @Nullable Integer colCount
+    ) {
+        World world = player.getWorld();
+        Vec3 playerPosition = blockPositionOf(player);
+        Board board = reserveNewBoard(player, name, rowCount, colCount);
+
+        terrainArchive.capture(board, world)
+                .thenCompose(ignored -> renderWithProgress(board, world, player))
+                .thenRun(() -> {
+                    boardRepository.save(board);
+                    boardNotifier.informCreated(player, name);
+                    log.atInfo().log("Player '{}' created chessboard '{}' at {} in world '{}'",
+                            player.getName(), name, playerPosition, world.getName());
+                })
+                .whenComplete((ignored, throwable) -> reservations.remove(name, board))
+                .exceptionally(throwable -> {
+                    if (throwable.getCause() instanceof Exception cause) {
+                        exceptionDispatcher.dispatch(cause, player, "Board Creation");
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * 플레이어의 위치에 체스판을 설치한다고 가정하고 예정지를 조사합니다.
+     * <p>
+     * 청크 로딩과 분석은 메인 스레드 밖에서 진행되며, 조사 결과만 안내합니다.
+     *
+     * @param player   행위자
+     * @param rowCount 행 개수, 생략 시 기본 크기
+     * @param colCount 열 개수, 생략 시 행 개수와 동일
+     * @throws BoardException 크기가 잘못된 경우
+     */
+    public void surveySite(@NonNull Player player, @Nullable Integer rowCount, @Nullable Integer colCount) {
+        Board board = planBoardAt(player, SURVEY_BOARD_NAME, resolveGridSpec(rowCount, colCount));
+
+        siteSurveyor.survey(board, player.getWorld())
+                .thenAccept(survey -> boardNotifier.informSurvey(player, survey))
+                .exceptionally(throwable -> {
+                    if (throwable.getCause() instanceof Exception cause) {
+                        exceptionDispatcher.dispatch(cause, player, "Site Survey");
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * 예정지를 조사한 뒤, 체스판 위를 가로막는 블록을 여러 틱에 나누어 비웁니다.
+     * <p>
+     * 비우기 전에 원래 지형을 설치할 체스판 이름으로 보관하므로, 같은 자리에 체스판을 생성하면
+     * 제거할 때 정리 전의 지형까지 복원됩니다.
+     *
+     * @param player   행위자
+     * @param name     설치할 체스판 이름
+     * @param rowCount 행 개수, 생략 시 기본 크기
+     * @param colCount 열 개수, 생략 시 행 개수와 동일
+     * @throws BoardException 이름이나 크기가 잘못되었거나 이미 있는 경우, 다른 체스판과 겹치는 경우
+     */
+    public void clearSite(
+            @NonNull Player player,
+            @NonNull String name,
+            @Nullable Integer rowCount,
+            @Nullable Integer colCount
+    ) {
+        World world = player.getWorld();
+        UUID playerId = player.getUniqueId();
+        Board board = reserveNewBoard(player, name, rowCount, colCount);
+
+        siteSurveyor.survey(board, world)
+                .thenCompose(survey -> {
+                    if (!survey.needsClearing()) {
+                        return CompletableFuture.completedFuture(survey);
+                    }
+
+                    return terrainArchive.capture(board, world)
+                            .thenCompose(ignored -> {
+                                boardProgressDisplay.show(playerId, CLEARING_TITLE);
+
+                                return siteSurveyor.clear(
+                                        survey,
+                                        world,
+                                        progress -> boardProgressDisplay.update(playerId, progress),
+                                        player
+                                );
+                            })
+                            .whenComplete((ignored, throwable) -> boardProgressDisplay.hide(playerId))
+                            .thenApply(ignored -> survey);
+                })
+                .thenAccept(survey -> boardNotifier.informSiteCleared(player, survey.clearTargets().size()))
+                .whenComplete((ignored, throwable) -> reservations.remove(name, board))
+                .exceptionally(throwable -> {
+                    if (throwable.getCause() instanceof Exception cause) {
+                        exceptionDispatcher.dispatch(cause, player, "Site Clearing");
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * 저장된 체스판을 다시 렌더링하여 훼손된 블록을 복구합니다.
+     * <p>
+     * 월드의 현재 상태와 다른 블록만 다시 설치합니다.
+     *
+     * @param player 행위자
+     * @param name   체스판 이름
+     * @throws BoardException 체스판이 없거나 월드를 찾을 수 없는 경우
+     */
+    public void repairBoard(@NonNull Player player, @NonNull String name) {
+        Board board = boardRepository.find(name).orElseThrow(() -> BoardException.notFound(name));
+        World world = worldResolver.resolve(board.worldName(), BoardException::worldNotFound);
+
+        renderWithProgress(board, world, player).thenRun(() -> boardNotifier.informRepaired(player, name));
+    }
+
+    /**
+     * 체스판을 제거하고 보관해 둔 원래 지형을 복원합니다.
+     * <p>
+     * 복원은 여러 틱에 나누어 진행되며, 복원이 끝난 뒤에 체스판을 삭제합니다.
+     *
+     * @param player 행위자
+     * @param name   체스판 이름
+     * @throws BoardException 체스판이 없거나 월드를 찾을 수 없는 경우
+     */
+    public void removeBoard(@NonNull Player player, @NonNull String name) {
+        Board board = boardRepository.find(name).orElseThrow(() -> BoardException.notFound(name));
+        World world = worldResolver.resolve(board.worldName(), BoardException::worldNotFound);
+        UUID playerId = player.getUniqueId();
 
-        boardRenderer.render(board, player.getWorld());
-        boardRepository.save(board);
-        boardNotifier.informCreated(player);
-        log.atInfo().log("Player '{}' created a new chessboard at {} in world '{}'",
-                player.getName(), playerPosition, worldName);
+        boardProgressDisplay.show(playerId, RESTORING_TITLE);
+        terrainArchive.restore(board, world, progress -> boardProgressDisplay.update(playerId, progress), player)
+                .whenComplete((ignored, throwable) -> boardProgressDisplay.hide(playerId))
+                .thenAccept(restored -> {
+                    if (!restored) {
+                        boardNotifier.informTerrainMissing(player);
+                    }
+
+                    boardRepository.delete(name);
+                    boardNotifier.informRemoved(player, name);
+                    log.atInfo().log("Player '{}' removed chessboard '{}' in world '{}'",
+                            player.getName(), name, board.worldName());
+                });
+    }
+
+    /**
+     * 체스판 목록을 안내합니다.
+     *
+     * @param sender 행위자
+     */
+    public void listBoards(@NonNull CommandSender sender) {
+        boardNotifier.informBoardList(sender, boardRepository.findAll());
+    }
+
+    /**
+     * 이름으로 체스판을 찾습니다.
+     *
+     * @param name 체스판 이름
+     * @return 찾은 체스판
+     */
+    @NonNull
+    public Optional<Board> findBoard(@NonNull String name) {
+        return boardRepository.find(name);
     }
 
     /**
-     * 체스판을 찾습니다.
+     * 위치를 덮는 체스판을 찾습니다.
      *
+     * @param location 대상 위치
      * @return 찾은 체스판
      */
     @NonNull
-    public Optional<Board> findBoard() {
-        return boardRepository.find();
+    public Optional<Board> findBoardAt(@NonNull Location location) {
+        World world = location.getWorld();
+
+        if (world == null) {
+            return Optional.empty();
+        }
+
+        return boardRepository.findAt(world.getName(), location.getX(), location.getZ());
+    }
+
+    /**
+     * 모든 체스판의 이름을 반환합니다.
+     *
+     * @return 체스판 이름 목록
+     */
+    @NonNull
+    public List<String> findBoardNames() {
+        return boardRepository.findAll().stream()
+                .map(Board::name)
+                .sorted()
+                .toList();
+    }
+
+    // 새 체스판의 이름과 크기를 검증하고, 다른 체스판과 겹치지 않는 배치를 구해 작업이 끝날 때까지 차지함
+    @NonNull
+    private Board reserveNewBoard(
+            @NonNull Player player,
+            @NonNull String name,
+            @Nullable Integer rowCount,
+            @Nullable Integer colCount
+    ) {
+        if (!Board.isValidName(name)) {
+            throw BoardException.invalidName(name);
+        }
+
+        GridSpec boardGridSpec = resolveGridSpec(rowCount, colCount);
+
+        if (boardRepository.find(name).isPresent() || reservations.containsKey(name)) {
+            throw BoardException.alreadyExists(name);
+        }
+
+        Board board = planBoardAt(player, name, boardGridSpec);
+
+        ensureNoOverlap(board);
+        reservations.put(name, board);
+
+        return board;
+    }
+
+    private void ensureNoOverlap(@NonNull Board board) {
+        BoundingBox area = board.frame().boundingBox();
+
+        Stream.concat(boardRepository.findAll().stream(), reservations.values().stream())
+                .filter(other -> other.worldName().equals(board.worldName()))
+                .filter(other -> other.frame().boundingBox().overlaps(area))
+                .findFirst()
+                .ifPresent(other -> {
+                    throw BoardException.overlaps(other.name());
+                });
+    }
+
+    @NonNull
+    private GridSpec resolveGridSpec(@Nullable Integer rowCount, @Nullable Integer colCount) {
+        if (rowCount == null) {
+            return gridSpec;
+        }
+
+        int cols = colCount == null ? rowCount : colCount;
+
+        if (!GridSpec.isValidSize(rowCount, cols)) {
+            throw BoardException.invalidGridSize(rowCount, cols);
+        }
+
+        return GridSpec.of(rowCount, cols);
+    }
+
+    @NonNull
+    private Board planBoardAt(@NonNull Player player, @NonNull String name, @NonNull GridSpec boardGridSpec) {
+        Orientation orientation = Orientation.from(player.getFacing());
+
+        return boardFactory.createAt(
+                name,
+                player.getWorld().getName(),
+                blockPositionOf(player),
+                orientation,
+                boardGridSpec
+        );
+    }
+
+    @NonNull
+    private Vec3 blockPositionOf(@NonNull Player player) {
+        Location location = player.getLocation();
+
+        return Vec3.of(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    @NonNull
+    private CompletableFuture<Void> renderWithProgress(
+            @NonNull Board board,
+            @NonNull World world,
+            @NonNull Player player
+    ) {
+        UUID playerId = player.getUniqueId();
+
+        boardProgressDisplay.show(playerId, RENDERING_TITLE);
+
+        return boardRenderer.renderIncrementally(
+                        board,
+                        world,
+                        progress -> boardProgressDisplay.update(playerId, progress),
+                        player
+                )
+                .whenComplete((ignored, throwable) -> boardProgressDisplay.hide(playerId));
     }
 }
@@ -0,0 +1,34 @@
+package dev.tecte.chessWar.board.application.port;
+
+import lombok.NonNull;
+import net.kyori.adventure.text.Component;
+
+import java.util.UUID;
+
+/**
+ * 체스판 작업의 진행률 표시를 관리합니다.
+ */
+public interface BoardProgressDisplay {
+    /**
+     * 진행률을 보여줍니다.
+     *
+     * @param viewerId 플레이어 ID
+     * @param title    제목
+     */
+    void show(@NonNull UUID viewerId, @NonNull Component title);
+
+    /**
+     * 진행률을 업데이트합니다.
+     *
+     * @param viewerId 플레이어 ID
+     * @param progress 진행률
+     */
+    void update(@NonNull UUID viewerId, double progress);
+
+    /**
+     * 진행률을 숨깁니다.
+     *
+     * @param viewerId 플레이어 ID
+     */
+    void hide(@NonNull UUID viewerId);
+}
@@ -3,6 +3,10 @@ package dev.tecte.chessWar.board.application.port;
 import dev.tecte.chessWar.board.domain.model.Board;
 import lombok.NonNull;
 import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 
 /**
  * 체스판을 렌더링합니다.
@@ -15,4 +19,21 @@ public interface BoardRenderer {
      * @param world 렌더링할 월드
      */
     void render(@NonNull Board board, @NonNull World world);
+
+    /**
+     * 체스판을 틱 예산 안에서 여러 틱에 나누어 렌더링합니다.
+     *
+     * @param board            렌더링할 체스판
+     * @param world            렌더링할 월드
+     * @param progressListener 진행률(0.0~1.0) 수신자
+     * @param sender           행위자
+     * @return 렌더링 완료 시 완료되는 Future
+     */
+    @NonNull
+    CompletableFuture<Void> renderIncrementally(
+            @NonNull Board board,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    );
 }
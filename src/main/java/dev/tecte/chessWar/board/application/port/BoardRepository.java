@@ -3,19 +3,42 @@ package dev.tecte.chessWar.board.application.port;
 import dev.tecte.chessWar.board.domain.model.Board;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
- * 체스판의 영속성을 관리합니다.
+ * 이름으로 구분되는 체스판들의 영속성을 관리합니다.
  */
 public interface BoardRepository {
     /**
-     * 현재 생성된 체스판을 찾습니다.
+     * 이름으로 체스판을 찾습니다.
      *
+     * @param name 체스판 이름
      * @return 찾은 체스판
      */
     @NonNull
-    Optional<Board> find();
+    Optional<Board> find(@NonNull String name);
+
+    /**
+     * 모든 체스판을 반환합니다.
+     *
+     * @return 체스판 목록
+     */
+    @NonNull
+    List<Board> findAll();
+
+    /**
+     * 수평 위치를 덮는 체스판을 찾습니다.
+     * <p>
+     * 이동이나 상호작용 처리처럼 빈번한 조회에서 사용할 수 있도록 상수 시간에 동작합니다.
+     *
+     * @param worldName 월드 이름
+     * @param x         월드 X
+     * @param z         월드 Z
+     * @return 찾은 체스판
+     */
+    @NonNull
+    Optional<Board> findAt(@NonNull String worldName, double x, double z);
 
     /**
      * 체스판을 저장하거나 업데이트합니다.
@@ -23,4 +46,11 @@ public interface BoardRepository {
      * @param board 저장할 체스판
      */
     void save(@NonNull Board board);
+
+    /**
+     * 체스판을 삭제합니다.
+     *
+     * @param name 체스판 이름
+     */
+    void delete(@NonNull String name);
 }
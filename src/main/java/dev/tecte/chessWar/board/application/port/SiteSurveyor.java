@@ -0,0 +1,44 @@
+package dev.tecte.chessWar.board.application.port;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.SiteSurvey;
+import lombok.NonNull;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 체스판 설치 예정지의 지형을 조사하고 정리합니다.
+ */
+public interface SiteSurveyor {
+    /**
+     * 체스판이 차지할 영역을 조사합니다.
+     * <p>
+     * 청크는 비동기로 불러오며, 분석은 메인 스레드 밖에서 수행합니다.
+     *
+     * @param board 설치 예정 체스판
+     * @param world 대상 월드
+     * @return 조사 결과
+     */
+    @NonNull
+    CompletableFuture<SiteSurvey> survey(@NonNull Board board, @NonNull World world);
+
+    /**
+     * 조사 결과의 정리 대상 블록을 틱 예산 안에서 비웁니다.
+     *
+     * @param survey           조사 결과
+     * @param world            대상 월드
+     * @param progressListener 진행률(0.0~1.0) 수신자
+     * @param sender           행위자
+     * @return 정리 완료 시 완료되는 Future
+     */
+    @NonNull
+    CompletableFuture<Void> clear(
+            @NonNull SiteSurvey survey,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    );
+}
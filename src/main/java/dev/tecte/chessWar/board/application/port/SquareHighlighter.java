@@ -0,0 +1,43 @@
+package dev.tecte.chessWar.board.application.port;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.HighlightStyle;
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 플레이어별로 체스판 칸을 강조 표시합니다.
+ * <p>
+ * 강조 표시는 해당 플레이어의 클라이언트에만 보이며 월드를 변경하지 않습니다.
+ */
+public interface SquareHighlighter {
+    /**
+     * 플레이어의 강조 표시를 주어진 칸들로 교체합니다.
+     * <p>
+     * 이전 표시와 달라진 블록만 전송합니다.
+     *
+     * @param viewerId   대상 플레이어 ID
+     * @param board      대상 체스판
+     * @param highlights 칸별 강조 종류
+     */
+    void show(@NonNull UUID viewerId, @NonNull Board board, @NonNull Map<Coordinate, HighlightStyle> highlights);
+
+    /**
+     * 플레이어의 강조 표시를 모두 지우고 실제 블록을 다시 보여줍니다.
+     *
+     * @param viewerId 대상 플레이어 ID
+     */
+    void clear(@NonNull UUID viewerId);
+
+    /**
+     * 블록을 전송하지 않고 플레이어의 강조 상태만 폐기합니다.
+     * <p>
+     * 접속 종료나 월드 이동으로 클라이언트가 이미 표시를 잃은 경우에 사용합니다.
+     *
+     * @param viewerId 대상 플레이어 ID
+     */
+    void discard(@NonNull UUID viewerId);
+}
@@ -0,0 +1,44 @@
+package dev.tecte.chessWar.board.application.port;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import lombok.NonNull;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 체스판이 덮어쓴 원래 지형을 보관하고 복원합니다.
+ */
+public interface TerrainArchive {
+    /**
+     * 체스판이 차지할 영역의 현재 지형을 보관합니다.
+     * <p>
+     * 같은 체스판 이름으로 같은 영역을 이미 보관해 두었다면 다시 보관하지 않습니다.
+     * 반환된 Future는 압축한 지형이 파일에 기록된 뒤 완료되며, 보관에 실패하면 예외로 완료됩니다.
+     *
+     * @param board 설치할 체스판
+     * @param world 대상 월드
+     * @return 지형 보관 완료 시 완료되는 Future
+     */
+    @NonNull
+    CompletableFuture<Void> capture(@NonNull Board board, @NonNull World world);
+
+    /**
+     * 보관된 지형을 틱 예산 안에서 여러 틱에 나누어 복원합니다.
+     *
+     * @param board            제거할 체스판
+     * @param world            대상 월드
+     * @param progressListener 진행률(0.0~1.0) 수신자
+     * @param sender           행위자
+     * @return 복원 여부, 보관된 지형이 없으면 {@code false}
+     */
+    @NonNull
+    CompletableFuture<Boolean> restore(
+            @NonNull Board board,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    );
+}
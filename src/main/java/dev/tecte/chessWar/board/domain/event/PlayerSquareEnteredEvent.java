@@ -0,0 +1,65 @@
+package dev.tecte.chessWar.board.domain.event;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.common.event.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * 플레이어가 체스판의 새로운 칸에 들어섰음을 기록합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlayerSquareEnteredEvent extends DomainEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final UUID playerId;
+    private final String boardName;
+    private final Coordinate coordinate;
+    @Nullable
+    private final Coordinate previousCoordinate;
+
+    /**
+     * 칸 진입 이벤트를 생성합니다.
+     *
+     * @param playerId           플레이어 ID
+     * @param boardName          체스판 이름
+     * @param coordinate         들어선 칸의 좌표
+     * @param previousCoordinate 같은 체스판에서 직전에 있던 칸의 좌표 (없으면 null)
+     * @return 칸 진입 이벤트
+     */
+    @NonNull
+    public static PlayerSquareEnteredEvent of(
+            @NonNull UUID playerId,
+            @NonNull String boardName,
+            @NonNull Coordinate coordinate,
+            @Nullable Coordinate previousCoordinate
+    ) {
+        return new PlayerSquareEnteredEvent(playerId, boardName, coordinate, previousCoordinate);
+    }
+
+    @NonNull
+    @Override
+    public UUID senderId() {
+        return playerId;
+    }
+
+    @NonNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NonNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,86 @@
+package dev.tecte.chessWar.board.domain.exception;
+
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.common.exception.BusinessException;
+import lombok.NonNull;
+
+/**
+ * 체스판 도메인 규칙 위반 시 발생하는 비즈니스 예외입니다.
+ * <p>
+ * 이 예외는 로그를 남기지 않고, 사용자에게 알림 메시지만 전달합니다.
+ */
+public class BoardException extends BusinessException {
+    private BoardException(@NonNull String message) {
+        super(message);
+    }
+
+    /**
+     * 체스판이 존재하지 않을 때 발생합니다.
+     *
+     * @param name 체스판 이름
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException notFound(@NonNull String name) {
+        return new BoardException("체스판 '%s'이(가) 존재하지 않습니다.".formatted(name));
+    }
+
+    /**
+     * 같은 이름의 체스판이 이미 있을 때 발생합니다.
+     *
+     * @param name 체스판 이름
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException alreadyExists(@NonNull String name) {
+        return new BoardException("체스판 '%s'이(가) 이미 존재합니다.".formatted(name));
+    }
+
+    /**
+     * 체스판 이름이 규칙에 맞지 않을 때 발생합니다.
+     *
+     * @param name 체스판 이름
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException invalidName(@NonNull String name) {
+        return new BoardException(
+                "체스판 이름 '%s'은(는) 사용할 수 없습니다. 영문 소문자, 숫자, '-', '_'로 32자 이내여야 합니다."
+                        .formatted(name));
+    }
+
+    /**
+     * 격자 크기가 허용 범위를 벗어날 때 발생합니다.
+     *
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException invalidGridSize(int rowCount, int colCount) {
+        return new BoardException("격자 크기 %dx%d은(는) 사용할 수 없습니다. 행과 열은 %d 이상 %d 이하여야 합니다."
+                .formatted(rowCount, colCount, GridSpec.MIN_SIZE, GridSpec.MAX_SIZE));
+    }
+
+    /**
+     * 다른 체스판과 영역이 겹칠 때 발생합니다.
+     *
+     * @param otherName 겹치는 체스판 이름
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException overlaps(@NonNull String otherName) {
+        return new BoardException("체스판 '%s'과(와) 영역이 겹칩니다.".formatted(otherName));
+    }
+
+    /**
+     * 체스판이 위치한 월드를 찾을 수 없을 때 발생합니다.
+     *
+     * @param worldName 월드 이름
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static BoardException worldNotFound(@NonNull String worldName) {
+        return new BoardException("체스판이 위치한 월드 '%s'을(를) 찾을 수 없습니다.".formatted(worldName));
+    }
+}
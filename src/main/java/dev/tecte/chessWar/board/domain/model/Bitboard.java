@@ -0,0 +1,326 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * 격자 칸의 집합을 비트로 표현하는 불변 객체입니다.
+ * <p>
+ * 격자는 최대 {@value Coordinate#MAX_DIMENSION}x{@value Coordinate#MAX_DIMENSION}칸이므로
+ * 행마다 {@code long} 하나를 사용하며, 열은 해당 워드의 비트 위치에 대응합니다.
+ * 따라서 비트 위치는 좌표의 압축 색인({@link Coordinate#index()})과 일치하고,
+ * 열 방향 이동은 워드 내 시프트로, 행 방향 이동은 워드 단위 이동으로 계산할 수 있습니다.
+ */
+public final class Bitboard {
+    public static final Bitboard EMPTY = new Bitboard(new long[Coordinate.MAX_DIMENSION]);
+
+    private static final int WORD_SHIFT = 6;
+    private static final int BIT_MASK = Long.SIZE - 1;
+
+    private final long[] rows;
+
+    private Bitboard(long[] rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * 격자의 모든 칸을 담은 집합을 생성합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 격자 전체 집합
+     */
+    @NonNull
+    public static Bitboard full(@NonNull GridSpec gridSpec) {
+        long[] rows = new long[Coordinate.MAX_DIMENSION];
+        long rowMask = maskOfColumns(gridSpec.colCount());
+
+        Arrays.fill(rows, 0, gridSpec.rowCount(), rowMask);
+
+        return new Bitboard(rows);
+    }
+
+    /**
+     * 주어진 좌표만 담은 집합을 생성합니다.
+     *
+     * @param coordinate 좌표
+     * @return 집합
+     */
+    @NonNull
+    public static Bitboard of(@NonNull Coordinate coordinate) {
+        return EMPTY.with(coordinate);
+    }
+
+    /**
+     * 행 워드 배열의 일부로부터 집합을 생성합니다.
+     *
+     * @param words  행 워드 배열
+     * @param offset 첫 행의 위치
+     * @param count  행 개수
+     * @return 집합
+     */
+    @NonNull
+    public static Bitboard ofRows(@NonNull long[] words, int offset, int count) {
+        long[] rows = new long[Coordinate.MAX_DIMENSION];
+
+        System.arraycopy(words, offset, rows, 0, count);
+
+        return new Bitboard(rows);
+    }
+
+    /**
+     * 집합을 단계적으로 채우는 빌더를 생성합니다.
+     *
+     * @return 빌더
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 열 개수만큼 하위 비트를 채운 행 마스크를 반환합니다.
+     *
+     * @param colCount 열 개수
+     * @return 행 마스크
+     */
+    public static long maskOfColumns(int colCount) {
+        return colCount >= Long.SIZE ? -1L : (1L << colCount) - 1;
+    }
+
+    /**
+     * 행의 비트 워드를 반환합니다.
+     *
+     * @param row 행
+     * @return 해당 행의 열 비트
+     */
+    public long row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * 좌표가 집합에 포함되는지 확인합니다.
+     *
+     * @param coordinate 좌표
+     * @return 포함 여부
+     */
+    public boolean contains(@NonNull Coordinate coordinate) {
+        return contains(coordinate.index());
+    }
+
+    /**
+     * 압축 색인의 칸이 집합에 포함되는지 확인합니다.
+     *
+     * @param index 압축 색인
+     * @return 포함 여부
+     */
+    public boolean contains(int index) {
+        return (rows[index >>> WORD_SHIFT] & (1L << (index & BIT_MASK))) != 0;
+    }
+
+    /**
+     * 좌표를 추가한 집합을 반환합니다.
+     *
+     * @param coordinate 좌표
+     * @return 새 집합, 이미 포함되어 있으면 현재 집합
+     */
+    @NonNull
+    public Bitboard with(@NonNull Coordinate coordinate) {
+        if (contains(coordinate)) {
+            return this;
+        }
+
+        long[] newRows = rows.clone();
+
+        newRows[coordinate.row()] |= 1L << coordinate.col();
+
+        return new Bitboard(newRows);
+    }
+
+    /**
+     * 좌표를 제거한 집합을 반환합니다.
+     *
+     * @param coordinate 좌표
+     * @return 새 집합, 포함되어 있지 않으면 현재 집합
+     */
+    @NonNull
+    public Bitboard without(@NonNull Coordinate coordinate) {
+        if (!contains(coordinate)) {
+            return this;
+        }
+
+        long[] newRows = rows.clone();
+
+        newRows[coordinate.row()] &= ~(1L << coordinate.col());
+
+        return new Bitboard(newRows);
+    }
+
+    /**
+     * 합집합을 반환합니다.
+     *
+     * @param other 다른 집합
+     * @return 합집합
+     */
+    @NonNull
+    public Bitboard or(@NonNull Bitboard other) {
+        long[] result = new long[rows.length];
+
+        for (int row = 0; row < rows.length; row++) {
+            result[row] = rows[row] | other.rows[row];
+        }
+
+        return new Bitboard(result);
+    }
+
+    /**
+     * 교집합을 반환합니다.
+     *
+     * @param other 다른 집합
+     * @return 교집합
+     */
+    @NonNull
+    public Bitboard and(@NonNull Bitboard other) {
+        long[] result = new long[rows.length];
+
+        for (int row = 0; row < rows.length; row++) {
+            result[row] = rows[row] & other.rows[row];
+        }
+
+        return new Bitboard(result);
+    }
+
+    /**
+     * 차집합을 반환합니다.
+     *
+     * @param other 뺄 집합
+     * @return 차집합
+     */
+    @NonNull
+    public Bitboard andNot(@NonNull Bitboard other) {
+        long[] result = new long[rows.length];
+
+        for (int row = 0; row < rows.length; row++) {
+            result[row] = rows[row] & ~other.rows[row];
+        }
+
+        return new Bitboard(result);
+    }
+
+    /**
+     * 두 집합이 겹치는지 확인합니다.
+     *
+     * @param other 다른 집합
+     * @return 교집합 존재 여부
+     */
+    public boolean intersects(@NonNull Bitboard other) {
+        for (int row = 0; row < rows.length; row++) {
+            if ((rows[row] & other.rows[row]) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 빈 집합인지 확인합니다.
+     *
+     * @return 빈 집합 여부
+     */
+    public boolean isEmpty() {
+        for (long row : rows) {
+            if (row != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 집합에 포함된 칸 수를 반환합니다.
+     *
+     * @return 칸 수
+     */
+    public int count() {
+        int count = 0;
+
+        for (long row : rows) {
+            count += Long.bitCount(row);
+        }
+
+        return count;
+    }
+
+    /**
+     * 포함된 칸의 압축 색인을 오름차순으로 순회합니다.
+     *
+     * @param action 색인마다 수행할 작업
+     */
+    public void forEachIndex(@NonNull IntConsumer action) {
+        for (int row = 0; row < rows.length; row++) {
+            long bits = rows[row];
+
+            while (bits != 0) {
+                action.accept(row << WORD_SHIFT | Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Bitboard other && Arrays.equals(rows, other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rows);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "Bitboard[", "]");
+
+        forEachIndex(index -> joiner.add(Coordinate.fromIndex(index).toNotation()));
+
+        return joiner.toString();
+    }
+
+    /**
+     * {@link Bitboard}를 단계적으로 채웁니다.
+     */
+    public static final class Builder {
+        private final long[] rows = new long[Coordinate.MAX_DIMENSION];
+
+        private Builder() {
+        }
+
+        /**
+         * 좌표를 추가합니다.
+         *
+         * @param coordinate 좌표
+         * @return 현재 빌더
+         */
+        @NonNull
+        public Builder add(@NonNull Coordinate coordinate) {
+            rows[coordinate.row()] |= 1L << coordinate.col();
+
+            return this;
+        }
+
+        /**
+         * 채운 내용으로 집합을 생성합니다.
+         *
+         * @return 집합
+         */
+        @NonNull
+        public Bitboard build() {
+            return new Bitboard(rows.clone());
+        }
+    }
+}
@@ -2,26 +2,31 @@ package dev.tecte.chessWar.board.domain.model;
 
 import dev.tecte.chessWar.team.domain.model.TeamColor;
 import lombok.NonNull;
-import org.bukkit.util.Vector;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * 체스판의 물리 구조와 공간 정보를 관리합니다.
  * 공간 구성 요소를 통합하고 위치 관련 비즈니스 규칙을 처리합니다.
  *
+ * @param name        체스판 이름
  * @param worldName   체스판이 위치한 월드 이름
  * @param squareGrid  격자 좌표 체계
  * @param innerBorder 내부 구획 테두리
  * @param frame       최외곽 프레임 테두리
  */
 public record Board(
+        String name,
         String worldName,
         SquareGrid squareGrid,
         Border innerBorder,
         Border frame
 ) {
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9_-]{1,32}");
+
     public Board {
+        Objects.requireNonNull(name, "Name cannot be null");
         Objects.requireNonNull(worldName, "World name cannot be null");
         Objects.requireNonNull(squareGrid, "Square grid cannot be null");
         Objects.requireNonNull(innerBorder, "Inner border cannot be null");
@@ -31,6 +36,7 @@ public record Board(
     /**
      * 모든 구성 요소를 갖춘 체스판을 생성합니다.
      *
+     * @param name        체스판 이름
      * @param worldName   체스판이 위치할 월드 이름
      * @param squareGrid  격자 좌표 정보
      * @param innerBorder 내부 구획 테두리
@@ -39,12 +45,25 @@ public record Board(
      */
     @NonNull
     public static Board of(
+            @NonNull String name,
             @NonNull String worldName,
             @NonNull SquareGrid squareGrid,
             @NonNull Border innerBorder,
             @NonNull Border frame
     ) {
-        return new Board(worldName, squareGrid, innerBorder, frame);
+        return new Board(name, worldName, squareGrid, innerBorder, frame);
+    }
+
+    /**
+     * 체스판 이름으로 사용할 수 있는지 확인합니다.
+     * <p>
+     * 이름은 저장 경로의 키로도 쓰이므로 영문 소문자, 숫자, '-', '_'만 허용합니다.
+     *
+     * @param name 검사할 이름
+     * @return 사용 가능 여부
+     */
+    public static boolean isValidName(@NonNull String name) {
+        return NAME_PATTERN.matcher(name).matches();
     }
 
     /**
@@ -54,8 +73,8 @@ public record Board(
      * @return 소환 위치
      */
     @NonNull
-    public Vector spawnPositionOf(@NonNull Coordinate coordinate) {
-        return squareGrid.centerOf(coordinate).add(new Vector(0, 1, 0));
+    public Vec3 spawnPositionOf(@NonNull Coordinate coordinate) {
+        return squareGrid.spawnPointOf(coordinate);
     }
 
     /**
@@ -65,14 +84,14 @@ public record Board(
      * @return 시작 위치
      */
     @NonNull
-    public Vector startingPositionOf(@NonNull TeamColor teamColor) {
+    public Vec3 startingPositionOf(@NonNull TeamColor teamColor) {
         Orientation startDirection = (teamColor == TeamColor.WHITE)
                 ? squareGrid.orientation().opposite()
                 : squareGrid.orientation();
-        Vector offset = squareGrid.halfStep(startDirection);
+        Vec3 offset = squareGrid.halfStep(startDirection);
 
         return center()
-                .add(new Vector(0, 1, 0))
+                .add(Vec3.UP)
                 .add(offset);
     }
 
@@ -82,8 +101,8 @@ public record Board(
      * @return 체스판 중심점
      */
     @NonNull
-    public Vector center() {
-        return squareGrid.boundingBox().getCenter();
+    public Vec3 center() {
+        return squareGrid.center();
     }
 
     /**
@@ -92,7 +111,7 @@ public record Board(
      * @return 정면 방향
      */
     @NonNull
-    public Vector forwardFacing() {
+    public Vec3 forwardFacing() {
         return squareGrid.orientation().forward();
     }
 
@@ -102,7 +121,7 @@ public record Board(
      * @return 후면 방향
      */
     @NonNull
-    public Vector backwardFacing() {
+    public Vec3 backwardFacing() {
         return squareGrid.orientation().backward();
     }
 }
@@ -1,42 +1,52 @@
 package dev.tecte.chessWar.board.domain.model;
 
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import lombok.NonNull;
-import org.bukkit.util.Vector;
 
 import java.util.Objects;
 
 /**
  * 체스판 구축에 필요한 초기 설정 데이터를 관리합니다.
  *
+ * @param name        체스판 이름
  * @param worldName   체스판이 생성될 월드 이름
  * @param gridAnchor  격자의 기준점
  * @param orientation 체스판의 정면이 향할 방위
+ * @param gridSpec    격자 크기 명세
  */
 public record BoardCreationParams(
+        String name,
         String worldName,
-        Vector gridAnchor,
-        Orientation orientation
+        Vec3 gridAnchor,
+        Orientation orientation,
+        GridSpec gridSpec
 ) {
     public BoardCreationParams {
+        Objects.requireNonNull(name, "Name cannot be null.");
         Objects.requireNonNull(worldName, "World name cannot be null.");
         Objects.requireNonNull(gridAnchor, "Grid anchor cannot be null.");
         Objects.requireNonNull(orientation, "Orientation cannot be null.");
+        Objects.requireNonNull(gridSpec, "Grid spec cannot be null.");
     }
 
     /**
      * 체스판 설정 파라미터를 생성합니다.
      *
+     * @param name        체스판 이름
      * @param worldName   대상 월드 이름
      * @param gridAnchor  격자 기준점 위치
      * @param orientation 체스판 배치 방향
+     * @param gridSpec    격자 크기 명세
      * @return 설정 파라미터
      */
     @NonNull
     public static BoardCreationParams of(
+            @NonNull String name,
             @NonNull String worldName,
-            @NonNull Vector gridAnchor,
-            @NonNull Orientation orientation
+            @NonNull Vec3 gridAnchor,
+            @NonNull Orientation orientation,
+            @NonNull GridSpec gridSpec
     ) {
-        return new BoardCreationParams(worldName, gridAnchor, orientation);
+        return new BoardCreationParams(name, worldName, gridAnchor, orientation, gridSpec);
     }
 }
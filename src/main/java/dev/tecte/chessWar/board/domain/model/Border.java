@@ -52,4 +52,18 @@ public record Border(
     public BoundingBox boundingBox() {
         return boundingBox.clone();
     }
+
+    /**
+     * 수평 위치가 테두리 영역 안에 있는지 확인합니다.
+     * <p>
+     * 영역을 복제하지 않으므로 빈번한 조회에 사용할 수 있습니다.
+     *
+     * @param x 월드 X
+     * @param z 월드 Z
+     * @return 포함 여부
+     */
+    public boolean containsHorizontally(double x, double z) {
+        return x >= boundingBox.getMinX() && x < boundingBox.getMaxX()
+                && z >= boundingBox.getMinZ() && z < boundingBox.getMaxZ();
+    }
 }
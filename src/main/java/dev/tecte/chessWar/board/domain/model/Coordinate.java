@@ -4,41 +4,144 @@ import lombok.NonNull;
 
 /**
  * 체스판 위의 위치를 나타내는 좌표입니다.
+ * <p>
+ * 행과 열은 각각 {@value #MAX_DIMENSION}칸까지 지원하며, 좌표는 격자 크기와 무관한
+ * 압축 색인({@code row << 6 | col})으로 표현할 수 있습니다. 해시값도 이 색인을 그대로 사용합니다.
+ * 정적 팩토리는 미리 만들어 둔 공유 인스턴스를 반환하므로 좌표 생성에 할당이 없습니다.
  *
- * @param row 행 인덱스 (0-7, 대응되는 Rank: 1-8)
- * @param col 열 인덱스 (0-7, 대응되는 File: A-H)
+ * @param row 행 인덱스 (0부터, 대응되는 Rank: 1부터)
+ * @param col 열 인덱스 (0부터, 대응되는 File: A, B, ..., Z, AA, AB, ...)
  */
 public record Coordinate(int row, int col) {
-    public static final int NOTATION_LENGTH = 2;
-    public static final String NOTATION_RANGE = "A1-H8";
+    public static final int MAX_DIMENSION = 64;
+    public static final int INDEX_SPACE = MAX_DIMENSION * MAX_DIMENSION;
+    public static final int NO_INDEX = -1;
 
-    public Coordinate {
-        if (row < 0 || row > 7) {
-            throw new IllegalArgumentException("Row must be between 0 and 7.");
+    private static final int INDEX_SHIFT = 6;
+    private static final int INDEX_MASK = MAX_DIMENSION - 1;
+    private static final int FILE_RADIX = 26;
+    private static final Coordinate[] INTERNED = new Coordinate[INDEX_SPACE];
+
+    static {
+        for (int index = 0; index < INDEX_SPACE; index++) {
+            INTERNED[index] = new Coordinate(index >>> INDEX_SHIFT, index & INDEX_MASK);
         }
+    }
+
+    public Coordinate {
+        requireInRange(row, col);
+    }
+
+    /**
+     * 좌표를 생성합니다.
+     *
+     * @param row 행 인덱스
+     * @param col 열 인덱스
+     * @return 좌표
+     */
+    @NonNull
+    public static Coordinate of(int row, int col) {
+        requireInRange(row, col);
+
+        return INTERNED[indexOf(row, col)];
+    }
 
-        if (col < 0 || col > 7) {
-            throw new IllegalArgumentException("Column must be between 0 and 7.");
+    /**
+     * 압축 색인으로부터 좌표를 복원합니다.
+     *
+     * @param index 압축 색인
+     * @return 좌표
+     * @throws IllegalArgumentException 색인 범위를 벗어난 경우
+     */
+    @NonNull
+    public static Coordinate fromIndex(int index) {
+        if (index < 0 || index >= INDEX_SPACE) {
+            throw new IllegalArgumentException("Index must be between 0 and " + (INDEX_SPACE - 1) + ".");
         }
+
+        return INTERNED[index];
     }
 
     /**
      * 기보 문자열로부터 좌표를 생성합니다.
+     * <p>
+     * 열은 알파벳(A-Z, AA-AZ, BA-...), 행은 1부터 시작하는 숫자로 표기합니다.
      *
-     * @param notation 기보 문자열 (예: "A1")
+     * @param notation 기보 문자열 (예: "A1", "AB12")
      * @return 좌표
      * @throws IllegalArgumentException 형식이 올바르지 않은 경우
      */
     @NonNull
     public static Coordinate from(@NonNull String notation) {
-        if (notation.length() != NOTATION_LENGTH) {
-            throw new IllegalArgumentException("Notation must be exactly " + NOTATION_LENGTH + " characters long.");
+        int length = notation.length();
+        int cursor = 0;
+        int file = 0;
+
+        while (cursor < length && Character.isLetter(notation.charAt(cursor))) {
+            char letter = Character.toUpperCase(notation.charAt(cursor));
+
+            if (letter < 'A' || letter > 'Z') {
+                throw new IllegalArgumentException("Invalid file letter: " + notation.charAt(cursor));
+            }
+
+            file = file * FILE_RADIX + (letter - 'A' + 1);
+            cursor++;
+
+            if (file > MAX_DIMENSION) {
+                throw new IllegalArgumentException("File is out of range: " + notation);
+            }
         }
 
-        int col = Character.toUpperCase(notation.charAt(0)) - 'A';
-        int row = notation.charAt(1) - '1';
+        if (cursor == 0 || cursor == length) {
+            throw new IllegalArgumentException("Notation must consist of file letters followed by a rank: " + notation);
+        }
+
+        int rank;
 
-        return new Coordinate(row, col);
+        try {
+            rank = Integer.parseInt(notation, cursor, length, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rank: " + notation, e);
+        }
+
+        return of(rank - 1, file - 1);
+    }
+
+    /**
+     * 열 번호를 기보의 알파벳 표기로 변환합니다.
+     *
+     * @param col 열 인덱스
+     * @return 알파벳 표기 (예: 0 → "A", 26 → "AA")
+     */
+    @NonNull
+    public static String fileLabelOf(int col) {
+        StringBuilder label = new StringBuilder(2);
+
+        for (int remaining = col + 1; remaining > 0; remaining = (remaining - 1) / FILE_RADIX) {
+            label.append((char) ('A' + (remaining - 1) % FILE_RADIX));
+        }
+
+        return label.reverse().toString();
+    }
+
+    /**
+     * 격자 크기와 무관한 압축 색인을 반환합니다.
+     *
+     * @return 압축 색인 (0 이상 {@value #INDEX_SPACE} 미만)
+     */
+    public int index() {
+        return indexOf(row, col);
+    }
+
+    /**
+     * 행과 열의 압축 색인을 객체 생성 없이 산출합니다.
+     *
+     * @param row 행 인덱스
+     * @param col 열 인덱스
+     * @return 압축 색인
+     */
+    public static int indexOf(int row, int col) {
+        return row << INDEX_SHIFT | col;
     }
 
     /**
@@ -48,9 +151,21 @@ public record Coordinate(int row, int col) {
      */
     @NonNull
     public String toNotation() {
-        char file = (char) ('A' + col);
-        char rank = (char) ('1' + row);
+        return fileLabelOf(col) + (row + 1);
+    }
+
+    @Override
+    public int hashCode() {
+        return index();
+    }
 
-        return "" + file + rank;
+    private static void requireInRange(int row, int col) {
+        if (row < 0 || row >= MAX_DIMENSION) {
+            throw new IllegalArgumentException("Row must be between 0 and " + (MAX_DIMENSION - 1) + ".");
+        }
+
+        if (col < 0 || col >= MAX_DIMENSION) {
+            throw new IllegalArgumentException("Column must be between 0 and " + (MAX_DIMENSION - 1) + ".");
+        }
     }
 }
@@ -0,0 +1,427 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import lombok.NonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 격자 좌표를 키로 사용하는 불변 맵입니다.
+ * <p>
+ * 값은 칸 순번({@code row * colCount + col})으로 색인된 평탄한 배열에 저장되므로
+ * 조회는 해시 계산 없이 O(1)이며, 순회는 항상 칸 순번 순서를 따릅니다.
+ * {@link Map}의 변경 메서드는 지원하지 않으며, {@link #plus}와 {@link #minus}로 새 맵을 만듭니다.
+ * {@code null} 값과 격자 밖의 좌표는 허용하지 않습니다.
+ *
+ * @param <V> 값 타입
+ */
+public final class CoordinateMap<V> extends AbstractMap<Coordinate, V> {
+    private final GridSpec gridSpec;
+    private final Object[] values;
+    private final int size;
+
+    private Set<Entry<Coordinate, V>> entrySet;
+    private Collection<V> valueView;
+
+    private CoordinateMap(@NonNull GridSpec gridSpec, @NonNull Object[] values, int size) {
+        this.gridSpec = gridSpec;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * 빈 맵을 반환합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @param <V>      값 타입
+     * @return 빈 맵
+     */
+    @NonNull
+    public static <V> CoordinateMap<V> empty(@NonNull GridSpec gridSpec) {
+        return new CoordinateMap<>(gridSpec, new Object[gridSpec.squareCount()], 0);
+    }
+
+    /**
+     * 주어진 맵의 내용을 담은 맵을 생성합니다.
+     * <p>
+     * 격자가 같은 이 타입의 맵이면 복사하지 않고 그대로 반환합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @param map      원본 맵
+     * @param <V>      값 타입
+     * @return 맵
+     * @throws IllegalArgumentException 격자 밖의 좌표가 있을 경우
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <V> CoordinateMap<V> copyOf(
+            @NonNull GridSpec gridSpec,
+            @NonNull Map<Coordinate, ? extends V> map
+    ) {
+        if (map instanceof CoordinateMap<?> coordinateMap && coordinateMap.gridSpec.equals(gridSpec)) {
+            return (CoordinateMap<V>) coordinateMap;
+        }
+
+        Builder<V> builder = builder(gridSpec);
+
+        map.forEach(builder::put);
+
+        return builder.build();
+    }
+
+    /**
+     * 맵을 단계적으로 채우는 빌더를 생성합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @param <V>      값 타입
+     * @return 빌더
+     */
+    @NonNull
+    public static <V> Builder<V> builder(@NonNull GridSpec gridSpec) {
+        return new Builder<>(gridSpec);
+    }
+
+    /**
+     * 격자 크기 명세를 반환합니다.
+     *
+     * @return 격자 크기 명세
+     */
+    @NonNull
+    public GridSpec gridSpec() {
+        return gridSpec;
+    }
+
+    /**
+     * 항목을 추가하거나 값을 교체한 새 맵을 반환합니다.
+     *
+     * @param coordinate 좌표
+     * @param value      값
+     * @return 새 맵, 변경이 없으면 현재 맵
+     * @throws IllegalArgumentException 격자 밖의 좌표일 경우
+     */
+    @NonNull
+    public CoordinateMap<V> plus(@NonNull Coordinate coordinate, @NonNull V value) {
+        int ordinal = requireOrdinal(gridSpec, coordinate);
+        Object previous = values[ordinal];
+
+        if (previous == value) {
+            return this;
+        }
+
+        Object[] newValues = values.clone();
+
+        newValues[ordinal] = value;
+
+        return new CoordinateMap<>(gridSpec, newValues, previous == null ? size + 1 : size);
+    }
+
+    /**
+     * 모든 항목을 추가하거나 값을 교체한 새 맵을 반환합니다.
+     *
+     * @param map 추가할 항목
+     * @return 새 맵
+     * @throws IllegalArgumentException 격자 밖의 좌표가 있을 경우
+     */
+    @NonNull
+    public CoordinateMap<V> plusAll(@NonNull Map<Coordinate, ? extends V> map) {
+        if (map.isEmpty()) {
+            return this;
+        }
+
+        Builder<V> builder = new Builder<>(gridSpec, values.clone(), size);
+
+        map.forEach(builder::put);
+
+        return builder.build();
+    }
+
+    /**
+     * 항목을 제거한 새 맵을 반환합니다.
+     *
+     * @param coordinate 좌표
+     * @return 새 맵, 키가 없으면 현재 맵
+     */
+    @NonNull
+    public CoordinateMap<V> minus(@NonNull Coordinate coordinate) {
+        if (!containsKey(coordinate)) {
+            return this;
+        }
+
+        Object[] newValues = values.clone();
+
+        newValues[ordinalOf(coordinate)] = null;
+
+        return new CoordinateMap<>(gridSpec, newValues, size - 1);
+    }
+
+    /**
+     * 주어진 타입의 값만 남긴 새 맵을 반환합니다.
+     *
+     * @param type 남길 값의 타입
+     * @param <W>  남길 값의 타입
+     * @return 새 맵
+     */
+    @NonNull
+    public <W extends V> CoordinateMap<W> ofType(@NonNull Class<W> type) {
+        Object[] filtered = new Object[values.length];
+        int count = 0;
+
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (type.isInstance(values[ordinal])) {
+                filtered[ordinal] = values[ordinal];
+                count++;
+            }
+        }
+
+        return new CoordinateMap<>(gridSpec, filtered, count);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (!(key instanceof Coordinate coordinate) || !gridSpec.contains(coordinate)) {
+            return null;
+        }
+
+        return (V) values[ordinalOf(coordinate)];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(@NonNull BiConsumer<? super Coordinate, ? super V> action) {
+        int colCount = gridSpec.colCount();
+
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            Object value = values[ordinal];
+
+            if (value != null) {
+                action.accept(Coordinate.of(ordinal / colCount, ordinal % colCount), (V) value);
+            }
+        }
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<Coordinate, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @NonNull
+                @Override
+                public Iterator<Entry<Coordinate, V>> iterator() {
+                    return new SlotIterator<>() {
+                        @NonNull
+                        @Override
+                        Entry<Coordinate, V> at(int ordinal) {
+                            return Map.entry(coordinateOf(ordinal), valueAt(ordinal));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    @NonNull
+    @Override
+    public Collection<V> values() {
+        if (valueView == null) {
+            valueView = new AbstractCollection<>() {
+                @NonNull
+                @Override
+                public Iterator<V> iterator() {
+                    return new SlotIterator<>() {
+                        @NonNull
+                        @Override
+                        V at(int ordinal) {
+                            return valueAt(ordinal);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        return valueView;
+    }
+
+    @Override
+    public int hashCode() {
+        // 순서가 고정되어 있으므로 항목 해시를 바로 합산
+        int hash = 0;
+        int colCount = gridSpec.colCount();
+
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) {
+                hash += Coordinate.of(ordinal / colCount, ordinal % colCount).hashCode()
+                        ^ values[ordinal].hashCode();
+            }
+        }
+
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CoordinateMap<?> other && other.gridSpec.equals(gridSpec)) {
+            return size == other.size && Arrays.equals(values, other.values);
+        }
+
+        return super.equals(o);
+    }
+
+    private int ordinalOf(@NonNull Coordinate coordinate) {
+        return coordinate.row() * gridSpec.colCount() + coordinate.col();
+    }
+
+    @NonNull
+    private Coordinate coordinateOf(int ordinal) {
+        return Coordinate.of(ordinal / gridSpec.colCount(), ordinal % gridSpec.colCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int ordinal) {
+        return (V) values[ordinal];
+    }
+
+    private static int requireOrdinal(@NonNull GridSpec gridSpec, @NonNull Coordinate coordinate) {
+        if (!gridSpec.contains(coordinate)) {
+            throw new IllegalArgumentException("Coordinate %s is outside the %s grid."
+                    .formatted(coordinate.toNotation(), gridSpec.notationRange()));
+        }
+
+        return coordinate.row() * gridSpec.colCount() + coordinate.col();
+    }
+
+    /**
+     * 값이 있는 칸을 칸 순번 순서로 순회합니다.
+     *
+     * @param <T> 반환할 요소 타입
+     */
+    private abstract class SlotIterator<T> implements Iterator<T> {
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int current = next;
+
+            next = advance(current + 1);
+
+            return at(current);
+        }
+
+        abstract T at(int ordinal);
+
+        private int advance(int from) {
+            int ordinal = from;
+
+            while (ordinal < values.length && values[ordinal] == null) {
+                ordinal++;
+            }
+
+            return ordinal;
+        }
+    }
+
+    /**
+     * {@link CoordinateMap}을 중간 복사 없이 채웁니다.
+     * <p>
+     * {@link #build()} 이후에는 더 이상 사용할 수 없습니다.
+     *
+     * @param <V> 값 타입
+     */
+    public static final class Builder<V> {
+        private final GridSpec gridSpec;
+        private Object[] values;
+        private int size;
+
+        private Builder(@NonNull GridSpec gridSpec) {
+            this(gridSpec, new Object[gridSpec.squareCount()], 0);
+        }
+
+        private Builder(@NonNull GridSpec gridSpec, @NonNull Object[] values, int size) {
+            this.gridSpec = gridSpec;
+            this.values = values;
+            this.size = size;
+        }
+
+        /**
+         * 항목을 추가하거나 값을 교체합니다.
+         *
+         * @param coordinate 좌표
+         * @param value      값
+         * @return 현재 빌더
+         * @throws IllegalArgumentException 격자 밖의 좌표일 경우
+         */
+        @NonNull
+        public Builder<V> put(@NonNull Coordinate coordinate, @NonNull V value) {
+            Object[] target = Objects.requireNonNull(values, "Builder has already been built");
+            int ordinal = requireOrdinal(gridSpec, coordinate);
+
+            if (target[ordinal] == null) {
+                size++;
+            }
+
+            target[ordinal] = value;
+
+            return this;
+        }
+
+        /**
+         * 채운 내용으로 맵을 생성합니다.
+         *
+         * @return 맵
+         */
+        @NonNull
+        public CoordinateMap<V> build() {
+            Object[] built = Objects.requireNonNull(values, "Builder has already been built");
+
+            values = null;
+
+            return new CoordinateMap<>(gridSpec, built, size);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dev.tecte.chessWar.board.domain.model;
+
+/**
+ * 칸 강조 표시의 종류를 나타내는 열거형입니다.
+ */
+public enum HighlightStyle {
+    SELECTED,
+    MOVABLE,
+    THREATENED
+}
@@ -2,7 +2,6 @@ package dev.tecte.chessWar.board.domain.model;
 
 import lombok.NonNull;
 import org.bukkit.block.BlockFace;
-import org.bukkit.util.Vector;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -19,20 +18,20 @@ public enum Orientation {
     SOUTH(BlockFace.SOUTH),
     WEST(BlockFace.WEST);
 
-    private final Vector forward;
-    private final Vector backward;
-    private final Vector left;
-    private final Vector right;
+    private final Vec3 forward;
+    private final Vec3 backward;
+    private final Vec3 left;
+    private final Vec3 right;
 
     private static final Map<String, Orientation> LOOKUP = Arrays.stream(values())
             .collect(Collectors.toUnmodifiableMap(Orientation::name, Function.identity()));
 
     Orientation(@NonNull BlockFace blockFace) {
-        forward = blockFace.getDirection();
-        backward = forward().multiply(-1);
+        forward = Vec3.of(blockFace.getModX(), blockFace.getModY(), blockFace.getModZ());
+        backward = forward.negate();
         // 위쪽 벡터와 정면 벡터를 외적하면 정면을 기준으로 왼쪽을 가리키는 벡터가 나옴
-        left = BlockFace.UP.getDirection().crossProduct(forward);
-        right = left().multiply(-1);
+        left = Vec3.UP.cross(forward);
+        right = left.negate();
     }
 
     /**
@@ -93,8 +92,8 @@ public enum Orientation {
      * @return 정면 방향
      */
     @NonNull
-    public Vector forward() {
-        return forward.clone();
+    public Vec3 forward() {
+        return forward;
     }
 
     /**
@@ -103,8 +102,8 @@ public enum Orientation {
      * @return 후면 방향
      */
     @NonNull
-    public Vector backward() {
-        return backward.clone();
+    public Vec3 backward() {
+        return backward;
     }
 
     /**
@@ -113,8 +112,8 @@ public enum Orientation {
      * @return 왼쪽 방향
      */
     @NonNull
-    public Vector left() {
-        return left.clone();
+    public Vec3 left() {
+        return left;
     }
 
     /**
@@ -123,7 +122,7 @@ public enum Orientation {
      * @return 오른쪽 방향
      */
     @NonNull
-    public Vector right() {
-        return right.clone();
+    public Vec3 right() {
+        return right;
     }
 }
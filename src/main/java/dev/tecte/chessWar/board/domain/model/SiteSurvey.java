@@ -0,0 +1,98 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 체스판 설치 예정지의 지형 조사 결과입니다.
+ *
+ * @param planeY                 체스판 평면의 높이
+ * @param obstructionCount       평면 위를 가로막는 블록 수
+ * @param liquidCount            평면 위 또는 평면에 있는 액체 블록 수
+ * @param unsupportedColumnCount 아래에 지면이 없는 열의 수
+ * @param lowestGroundY          가장 낮은 지면의 높이
+ * @param highestGroundY         가장 높은 지면의 높이
+ * @param clearTargets           설치 전에 비워야 하는 블록 위치
+ */
+public record SiteSurvey(
+        int planeY,
+        int obstructionCount,
+        int liquidCount,
+        int unsupportedColumnCount,
+        int lowestGroundY,
+        int highestGroundY,
+        List<Vec3> clearTargets
+) {
+    /**
+     * 기물이 서 있을 수 있도록 평면 위로 비워 두어야 하는 높이입니다.
+     */
+    public static final int CLEARANCE_HEIGHT = 4;
+
+    public SiteSurvey {
+        Objects.requireNonNull(clearTargets, "Clear targets cannot be null");
+
+        clearTargets = List.copyOf(clearTargets);
+    }
+
+    /**
+     * 조사 결과를 생성합니다.
+     *
+     * @param planeY                 체스판 평면의 높이
+     * @param obstructionCount       평면 위를 가로막는 블록 수
+     * @param liquidCount            액체 블록 수
+     * @param unsupportedColumnCount 아래에 지면이 없는 열의 수
+     * @param lowestGroundY          가장 낮은 지면의 높이
+     * @param highestGroundY         가장 높은 지면의 높이
+     * @param clearTargets           비워야 하는 블록 위치
+     * @return 조사 결과
+     */
+    @NonNull
+    public static SiteSurvey of(
+            int planeY,
+            int obstructionCount,
+            int liquidCount,
+            int unsupportedColumnCount,
+            int lowestGroundY,
+            int highestGroundY,
+            @NonNull List<Vec3> clearTargets
+    ) {
+        return new SiteSurvey(
+                planeY,
+                obstructionCount,
+                liquidCount,
+                unsupportedColumnCount,
+                lowestGroundY,
+                highestGroundY,
+                clearTargets
+        );
+    }
+
+    /**
+     * 지면의 최대 높이 차를 반환합니다.
+     *
+     * @return 높이 차, 지면이 없으면 0
+     */
+    public int heightSpread() {
+        return highestGroundY < lowestGroundY ? 0 : highestGroundY - lowestGroundY;
+    }
+
+    /**
+     * 별도 조치 없이 설치할 수 있는지 확인합니다.
+     *
+     * @return 장애물, 액체, 지면 결손과 높이 차가 모두 없으면 {@code true}
+     */
+    public boolean isClear() {
+        return obstructionCount == 0 && liquidCount == 0 && unsupportedColumnCount == 0 && heightSpread() == 0;
+    }
+
+    /**
+     * 비워야 할 블록이 있는지 확인합니다.
+     *
+     * @return 비울 블록 존재 여부
+     */
+    public boolean needsClearing() {
+        return !clearTargets.isEmpty();
+    }
+}
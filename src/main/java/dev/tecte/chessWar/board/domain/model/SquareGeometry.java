@@ -0,0 +1,241 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import lombok.NonNull;
+
+/**
+ * 격자의 모든 칸에 대한 영역, 중심점, 소환 위치를 미리 계산해 둔 불변 테이블입니다.
+ * <p>
+ * 값은 칸 순번({@code row * colCount + col})으로 색인된 평탄한 {@code double[]} 배열에 저장되며,
+ * 모든 조회 메서드는 객체를 생성하지 않습니다.
+ */
+public final class SquareGeometry {
+    private static final int BOUNDS_STRIDE = 6;
+    private static final int POINT_STRIDE = 3;
+    private static final double SPAWN_HEIGHT_OFFSET = 1.0;
+
+    private final int rowCount;
+    private final int colCount;
+    // [minX, minY, minZ, maxX, maxY, maxZ] * 칸 수
+    private final double[] bounds;
+    // [x, y, z] * 칸 수
+    private final double[] centers;
+    // [x, y, z] * 칸 수
+    private final double[] spawnPoints;
+
+    private SquareGeometry(int rowCount, int colCount) {
+        int squareCount = rowCount * colCount;
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.bounds = new double[squareCount * BOUNDS_STRIDE];
+        this.centers = new double[squareCount * POINT_STRIDE];
+        this.spawnPoints = new double[squareCount * POINT_STRIDE];
+    }
+
+    /**
+     * 격자의 기하 정보를 계산합니다.
+     *
+     * @param grid 대상 격자
+     * @return 계산된 기하 테이블
+     */
+    @NonNull
+    static SquareGeometry of(@NonNull SquareGrid grid) {
+        int rowCount = grid.gridSpec().rowCount();
+        int colCount = grid.gridSpec().colCount();
+        SquareGeometry geometry = new SquareGeometry(rowCount, colCount);
+        Vec3 anchor = grid.anchor();
+        Vec3 colStep = grid.colStep();
+        Vec3 rowStep = grid.rowStep();
+
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                double originX = anchor.x() + colStep.x() * col + rowStep.x() * row;
+                double originY = anchor.y() + colStep.y() * col + rowStep.y() * row;
+                double originZ = anchor.z() + colStep.z() * col + rowStep.z() * row;
+
+                geometry.fill(
+                        row * colCount + col,
+                        originX, originY, originZ,
+                        originX + colStep.x() + rowStep.x(),
+                        originY + colStep.y() + rowStep.y(),
+                        originZ + colStep.z() + rowStep.z()
+                );
+            }
+        }
+
+        return geometry;
+    }
+
+    private void fill(int ordinal, double x1, double y1, double z1, double x2, double y2, double z2) {
+        int b = ordinal * BOUNDS_STRIDE;
+        int p = ordinal * POINT_STRIDE;
+
+        bounds[b] = Math.min(x1, x2);
+        bounds[b + 1] = Math.min(y1, y2);
+        bounds[b + 2] = Math.min(z1, z2);
+        bounds[b + 3] = Math.max(x1, x2);
+        bounds[b + 4] = Math.max(y1, y2);
+        bounds[b + 5] = Math.max(z1, z2);
+
+        centers[p] = (bounds[b] + bounds[b + 3]) / 2.0;
+        centers[p + 1] = (bounds[b + 1] + bounds[b + 4]) / 2.0;
+        centers[p + 2] = (bounds[b + 2] + bounds[b + 5]) / 2.0;
+
+        spawnPoints[p] = centers[p];
+        spawnPoints[p + 1] = centers[p + 1] + SPAWN_HEIGHT_OFFSET;
+        spawnPoints[p + 2] = centers[p + 2];
+    }
+
+    /**
+     * 전체 칸 수를 반환합니다.
+     *
+     * @return 칸 수
+     */
+    public int squareCount() {
+        return rowCount * colCount;
+    }
+
+    /**
+     * 좌표의 칸 순번을 산출합니다.
+     *
+     * @param row 행
+     * @param col 열
+     * @return 칸 순번
+     */
+    public int ordinalOf(int row, int col) {
+        return row * colCount + col;
+    }
+
+    /**
+     * 좌표의 칸 순번을 산출합니다.
+     *
+     * @param coordinate 대상 좌표
+     * @return 칸 순번
+     */
+    public int ordinalOf(@NonNull Coordinate coordinate) {
+        return ordinalOf(coordinate.row(), coordinate.col());
+    }
+
+    /**
+     * 칸 순번의 행을 반환합니다.
+     */
+    public int rowOf(int ordinal) {
+        return ordinal / colCount;
+    }
+
+    /**
+     * 칸 순번의 열을 반환합니다.
+     */
+    public int colOf(int ordinal) {
+        return ordinal % colCount;
+    }
+
+    /**
+     * 칸의 색상을 반환합니다.
+     *
+     * @param ordinal 칸 순번
+     * @return 칸 색상
+     */
+    @NonNull
+    public SquareColor colorOf(int ordinal) {
+        return (rowOf(ordinal) + colOf(ordinal)) % 2 == 0 ? SquareColor.BLACK : SquareColor.WHITE;
+    }
+
+    /**
+     * 칸 영역의 최소 X를 반환합니다.
+     */
+    public double minX(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE];
+    }
+
+    /**
+     * 칸 영역의 최소 Y를 반환합니다.
+     */
+    public double minY(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE + 1];
+    }
+
+    /**
+     * 칸 영역의 최소 Z를 반환합니다.
+     */
+    public double minZ(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE + 2];
+    }
+
+    /**
+     * 칸 영역의 최대 X를 반환합니다.
+     */
+    public double maxX(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE + 3];
+    }
+
+    /**
+     * 칸 영역의 최대 Y를 반환합니다.
+     */
+    public double maxY(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE + 4];
+    }
+
+    /**
+     * 칸 영역의 최대 Z를 반환합니다.
+     */
+    public double maxZ(int ordinal) {
+        return bounds[ordinal * BOUNDS_STRIDE + 5];
+    }
+
+    /**
+     * 칸 중심점의 X를 반환합니다.
+     */
+    public double centerX(int ordinal) {
+        return centers[ordinal * POINT_STRIDE];
+    }
+
+    /**
+     * 칸 중심점의 Y를 반환합니다.
+     */
+    public double centerY(int ordinal) {
+        return centers[ordinal * POINT_STRIDE + 1];
+    }
+
+    /**
+     * 칸 중심점의 Z를 반환합니다.
+     */
+    public double centerZ(int ordinal) {
+        return centers[ordinal * POINT_STRIDE + 2];
+    }
+
+    /**
+     * 기물 소환 위치의 X를 반환합니다.
+     */
+    public double spawnX(int ordinal) {
+        return spawnPoints[ordinal * POINT_STRIDE];
+    }
+
+    /**
+     * 기물 소환 위치의 Y를 반환합니다.
+     */
+    public double spawnY(int ordinal) {
+        return spawnPoints[ordinal * POINT_STRIDE + 1];
+    }
+
+    /**
+     * 기물 소환 위치의 Z를 반환합니다.
+     */
+    public double spawnZ(int ordinal) {
+        return spawnPoints[ordinal * POINT_STRIDE + 2];
+    }
+
+    /**
+     * 수평 위치가 칸 영역 안에 있는지 확인합니다.
+     *
+     * @param ordinal 칸 순번
+     * @param x       월드 X
+     * @param z       월드 Z
+     * @return 포함 여부
+     */
+    public boolean containsHorizontally(int ordinal, double x, double z) {
+        int b = ordinal * BOUNDS_STRIDE;
+
+        return x >= bounds[b] && x < bounds[b + 3] && z >= bounds[b + 2] && z < bounds[b + 5];
+    }
+}
@@ -2,34 +2,55 @@ package dev.tecte.chessWar.board.domain.model;
 
 import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.Accessors;
 import org.bukkit.util.BoundingBox;
-import org.bukkit.util.Vector;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 좌표 기반의 물리 영역 계산을 담당합니다.
  * 기준점으로부터 논리적 좌표를 물리적 영역으로 변환합니다.
- *
- * @param anchor      격자 기준점
- * @param orientation 격자 배치 방향
- * @param gridSpec    격자 크기 명세
- * @param squareSpec  개별 칸의 물리 크기 명세
+ * <p>
+ * 모든 칸의 영역과 중심점은 처음 조회할 때 {@link SquareGeometry}로 한 번만 계산하며,
+ * 이 테이블은 동등성 비교에 포함되지 않습니다.
  */
-public record SquareGrid(
-        Vector anchor,
-        Orientation orientation,
-        GridSpec gridSpec,
-        SquareSpec squareSpec
-) {
-    public SquareGrid {
+@Getter
+@Accessors(fluent = true)
+@EqualsAndHashCode(exclude = "geometry", doNotUseGetters = true)
+@ToString(exclude = "geometry", doNotUseGetters = true)
+public final class SquareGrid {
+    private final Vec3 anchor;
+    private final Orientation orientation;
+    private final GridSpec gridSpec;
+    private final SquareSpec squareSpec;
+
+    @Getter(AccessLevel.NONE)
+    private volatile SquareGeometry geometry;
+
+    /**
+     * 격자를 생성합니다.
+     *
+     * @param anchor      격자 기준점
+     * @param orientation 격자 배치 방향
+     * @param gridSpec    격자 크기 명세
+     * @param squareSpec  개별 칸의 물리 크기 명세
+     */
+    public SquareGrid(Vec3 anchor, Orientation orientation, GridSpec gridSpec, SquareSpec squareSpec) {
         Objects.requireNonNull(anchor, "Anchor cannot be null");
         Objects.requireNonNull(orientation, "Orientation cannot be null");
         Objects.requireNonNull(gridSpec, "GridSpec cannot be null");
         Objects.requireNonNull(squareSpec, "SquareSpec cannot be null");
 
-        anchor = anchor.clone();
+        this.anchor = anchor;
+        this.orientation = orientation;
+        this.gridSpec = gridSpec;
+        this.squareSpec = squareSpec;
     }
 
     /**
@@ -43,7 +64,7 @@ public record SquareGrid(
      */
     @NonNull
     public static SquareGrid of(
-            @NonNull Vector anchor,
+            @NonNull Vec3 anchor,
             @NonNull Orientation orientation,
             @NonNull GridSpec gridSpec,
             @NonNull SquareSpec squareSpec
@@ -51,6 +72,43 @@ public record SquareGrid(
         return new SquareGrid(anchor, orientation, gridSpec, squareSpec);
     }
 
+    /**
+     * 블록 위치가 속한 칸의 압축 색인을 산출합니다.
+     * <p>
+     * 방위별 축 변환과 정수 내림 나눗셈만으로 계산하므로 객체를 생성하지 않으며,
+     * 이동 이벤트처럼 매우 자주 호출되는 경로에서 사용합니다.
+     *
+     * @param blockX 블록 X
+     * @param blockZ 블록 Z
+     * @return 좌표의 압축 색인, 격자 밖이면 {@link Coordinate#NO_INDEX}
+     */
+    public int indexAt(int blockX, int blockZ) {
+        int offsetX = blockX - (int) Math.floor(anchor.x());
+        int offsetZ = blockZ - (int) Math.floor(anchor.z());
+        int col = Math.floorDiv(cellOffset(orientation.right(), offsetX, offsetZ), squareSpec.width());
+        int row = Math.floorDiv(cellOffset(orientation.forward(), offsetX, offsetZ), squareSpec.height());
+
+        if (row < 0 || row >= gridSpec.rowCount() || col < 0 || col >= gridSpec.colCount()) {
+            return Coordinate.NO_INDEX;
+        }
+
+        return Coordinate.indexOf(row, col);
+    }
+
+    /**
+     * 월드 위치가 속한 칸의 좌표를 산출합니다.
+     *
+     * @param x 월드 X
+     * @param z 월드 Z
+     * @return 해당 좌표, 격자 밖이면 빈 값
+     */
+    @NonNull
+    public Optional<Coordinate> coordinateAt(double x, double z) {
+        int index = indexAt((int) Math.floor(x), (int) Math.floor(z));
+
+        return index == Coordinate.NO_INDEX ? Optional.empty() : Optional.of(Coordinate.fromIndex(index));
+    }
+
     /**
      * 해당 좌표의 물리적 칸을 산출합니다.
      *
@@ -59,17 +117,13 @@ public record SquareGrid(
      */
     @NonNull
     public Square squareAt(@NonNull Coordinate coordinate) {
-        int row = coordinate.row();
-        int col = coordinate.col();
-        SquareColor color = (row + col) % 2 == 0 ? SquareColor.BLACK : SquareColor.WHITE;
-        Vector squareOrigin = anchor()
-                .add(colStep().multiply(col))
-                .add(rowStep().multiply(row));
-        Vector diagonalCorner = squareOrigin.clone()
-                .add(colStep())
-                .add(rowStep());
+        SquareGeometry table = geometry();
+        int ordinal = ordinalOf(table, coordinate);
 
-        return new Square(color, BoundingBox.of(squareOrigin, diagonalCorner));
+        return new Square(table.colorOf(ordinal), new BoundingBox(
+                table.minX(ordinal), table.minY(ordinal), table.minZ(ordinal),
+                table.maxX(ordinal), table.maxY(ordinal), table.maxZ(ordinal)
+        ));
     }
 
     /**
@@ -79,8 +133,45 @@ public record SquareGrid(
      * @return 칸 중심점
      */
     @NonNull
-    public Vector centerOf(@NonNull Coordinate coordinate) {
-        return squareAt(coordinate).boundingBox().getCenter();
+    public Vec3 centerOf(@NonNull Coordinate coordinate) {
+        SquareGeometry table = geometry();
+        int ordinal = ordinalOf(table, coordinate);
+
+        return new Vec3(table.centerX(ordinal), table.centerY(ordinal), table.centerZ(ordinal));
+    }
+
+    /**
+     * 해당 좌표의 기물 소환 위치를 제공합니다.
+     *
+     * @param coordinate 대상 좌표
+     * @return 소환 위치
+     */
+    @NonNull
+    public Vec3 spawnPointOf(@NonNull Coordinate coordinate) {
+        SquareGeometry table = geometry();
+        int ordinal = ordinalOf(table, coordinate);
+
+        return new Vec3(table.spawnX(ordinal), table.spawnY(ordinal), table.spawnZ(ordinal));
+    }
+
+    /**
+     * 모든 칸의 기하 정보 테이블을 제공합니다.
+     * <p>
+     * 매 틱 반복되는 위치 계산에서는 이 테이블의 조회 메서드를 직접 사용해 객체 생성을 피합니다.
+     *
+     * @return 칸 기하 테이블
+     */
+    @NonNull
+    public SquareGeometry geometry() {
+        SquareGeometry table = geometry;
+
+        if (table == null) {
+            // 불변 객체이므로 경쟁 상태에서 중복 계산되더라도 결과는 동일함
+            table = SquareGeometry.of(this);
+            geometry = table;
+        }
+
+        return table;
     }
 
     /**
@@ -90,12 +181,34 @@ public record SquareGrid(
      * @return 이동 변위
      */
     @NonNull
-    public Vector halfStep(@NonNull Orientation direction) {
+    public Vec3 halfStep(@NonNull Orientation direction) {
         double distance = (orientation.isParallelTo(direction) ? squareSpec.height() : squareSpec.width()) / 2.0;
 
         return direction.forward().multiply(distance);
     }
 
+    /**
+     * 격자 전체의 대각 반대편 꼭짓점을 산출합니다.
+     *
+     * @return 기준점의 대각 반대편 꼭짓점
+     */
+    @NonNull
+    public Vec3 diagonalCorner() {
+        return anchor
+                .add(colStep().multiply(gridSpec.colCount()))
+                .add(rowStep().multiply(gridSpec.rowCount()));
+    }
+
+    /**
+     * 격자 전체의 중심점을 산출합니다.
+     *
+     * @return 격자 중심점
+     */
+    @NonNull
+    public Vec3 center() {
+        return anchor.midpoint(diagonalCorner());
+    }
+
     /**
      * 격자 전체의 물리 영역을 산출합니다.
      *
@@ -103,12 +216,9 @@ public record SquareGrid(
      */
     @NonNull
     public BoundingBox boundingBox() {
-        Vector diagonalOffset = colStep()
-                .multiply(gridSpec.colCount())
-                .add(rowStep().multiply(gridSpec.rowCount()));
-        Vector diagonalCorner = anchor().add(diagonalOffset);
+        Vec3 corner = diagonalCorner();
 
-        return BoundingBox.of(anchor(), diagonalCorner);
+        return new BoundingBox(anchor.x(), anchor.y(), anchor.z(), corner.x(), corner.y(), corner.z());
     }
 
     /**
@@ -117,7 +227,7 @@ public record SquareGrid(
      * @return 열 이동 변위
      */
     @NonNull
-    public Vector colStep() {
+    public Vec3 colStep() {
         return orientation.right().multiply(squareSpec.width());
     }
 
@@ -127,17 +237,33 @@ public record SquareGrid(
      * @return 행 이동 변위
      */
     @NonNull
-    public Vector rowStep() {
+    public Vec3 rowStep() {
         return orientation.forward().multiply(squareSpec.height());
     }
 
+    private int ordinalOf(@NonNull SquareGeometry table, @NonNull Coordinate coordinate) {
+        if (!gridSpec.contains(coordinate)) {
+            throw new IllegalArgumentException("Coordinate " + coordinate.toNotation()
+                    + " is outside the grid " + gridSpec.notationRange() + ".");
+        }
+
+        return table.ordinalOf(coordinate);
+    }
+
     /**
-     * 격자의 기준점 정보를 제공합니다.
-     *
-     * @return 격자 기준점
+     * 기준점으로부터의 블록 변위를 주어진 방향 축의 블록 거리로 변환합니다.
+     * <p>
+     * 음의 방향 축에서는 기준점 바로 앞 블록이 거리 0이 되도록 한 칸을 보정합니다.
      */
-    @NonNull
-    public Vector anchor() {
-        return anchor.clone();
+    private static int cellOffset(@NonNull Vec3 direction, int offsetX, int offsetZ) {
+        if (direction.x() > 0) {
+            return offsetX;
+        }
+
+        if (direction.x() < 0) {
+            return -offsetX - 1;
+        }
+
+        return direction.z() > 0 ? offsetZ : -offsetZ - 1;
     }
 }
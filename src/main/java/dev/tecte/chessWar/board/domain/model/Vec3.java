@@ -0,0 +1,154 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import lombok.NonNull;
+
+/**
+ * 체스판 도메인의 위치와 방향을 나타내는 불변 3차원 벡터입니다.
+ * <p>
+ * 모든 연산은 새 값을 반환하는 순수 함수이므로 방어적 복제가 필요 없습니다.
+ * Bukkit 타입으로의 변환은 인프라 계층의 경계에서만 수행합니다.
+ *
+ * @param x X 성분
+ * @param y Y 성분
+ * @param z Z 성분
+ */
+public record Vec3(double x, double y, double z) {
+    public static final Vec3 ZERO = new Vec3(0, 0, 0);
+    public static final Vec3 UP = new Vec3(0, 1, 0);
+
+    /**
+     * 벡터를 생성합니다.
+     *
+     * @param x X 성분
+     * @param y Y 성분
+     * @param z Z 성분
+     * @return 벡터
+     */
+    @NonNull
+    public static Vec3 of(double x, double y, double z) {
+        return new Vec3(x, y, z);
+    }
+
+    /**
+     * 두 벡터를 더합니다.
+     *
+     * @param other 더할 벡터
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 add(@NonNull Vec3 other) {
+        return new Vec3(x + other.x, y + other.y, z + other.z);
+    }
+
+    /**
+     * 각 성분에 값을 더합니다.
+     *
+     * @param dx X 증분
+     * @param dy Y 증분
+     * @param dz Z 증분
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 add(double dx, double dy, double dz) {
+        return new Vec3(x + dx, y + dy, z + dz);
+    }
+
+    /**
+     * 두 벡터를 뺍니다.
+     *
+     * @param other 뺄 벡터
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 subtract(@NonNull Vec3 other) {
+        return new Vec3(x - other.x, y - other.y, z - other.z);
+    }
+
+    /**
+     * 스칼라 배를 구합니다.
+     *
+     * @param scalar 배율
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 multiply(double scalar) {
+        return new Vec3(x * scalar, y * scalar, z * scalar);
+    }
+
+    /**
+     * 반대 방향 벡터를 구합니다.
+     *
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 negate() {
+        return new Vec3(-x, -y, -z);
+    }
+
+    /**
+     * 외적을 구합니다.
+     *
+     * @param other 대상 벡터
+     * @return 외적 벡터
+     */
+    @NonNull
+    public Vec3 cross(@NonNull Vec3 other) {
+        return new Vec3(
+                y * other.z - z * other.y,
+                z * other.x - x * other.z,
+                x * other.y - y * other.x
+        );
+    }
+
+    /**
+     * 두 점의 중점을 구합니다.
+     *
+     * @param other 대상 점
+     * @return 중점
+     */
+    @NonNull
+    public Vec3 midpoint(@NonNull Vec3 other) {
+        return new Vec3((x + other.x) / 2.0, (y + other.y) / 2.0, (z + other.z) / 2.0);
+    }
+
+    /**
+     * 각 성분의 최솟값으로 이루어진 벡터를 구합니다.
+     *
+     * @param other 대상 벡터
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 min(@NonNull Vec3 other) {
+        return new Vec3(Math.min(x, other.x), Math.min(y, other.y), Math.min(z, other.z));
+    }
+
+    /**
+     * 각 성분의 최댓값으로 이루어진 벡터를 구합니다.
+     *
+     * @param other 대상 벡터
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 max(@NonNull Vec3 other) {
+        return new Vec3(Math.max(x, other.x), Math.max(y, other.y), Math.max(z, other.z));
+    }
+
+    /**
+     * 각 성분을 내림하여 블록 격자에 맞춘 벡터를 구합니다.
+     *
+     * @return 결과 벡터
+     */
+    @NonNull
+    public Vec3 floor() {
+        return new Vec3(Math.floor(x), Math.floor(y), Math.floor(z));
+    }
+
+    /**
+     * 모든 성분이 정수인지 확인합니다.
+     *
+     * @return 블록 격자 정렬 여부
+     */
+    public boolean isBlockAligned() {
+        return x == Math.floor(x) && y == Math.floor(y) && z == Math.floor(z);
+    }
+}
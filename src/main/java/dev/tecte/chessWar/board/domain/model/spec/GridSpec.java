@@ -1,24 +1,31 @@
 package dev.tecte.chessWar.board.domain.model.spec;
 
+import dev.tecte.chessWar.board.domain.model.Coordinate;
 import lombok.NonNull;
 
 /**
  * 체스판 격자의 크기 명세를 정의하는 불변 객체입니다.
+ * <p>
+ * 양 팀이 각각 두 줄씩 기물을 배치할 수 있도록 행과 열은 {@value #MIN_SIZE}칸 이상,
+ * {@link Coordinate#MAX_DIMENSION}칸 이하여야 합니다.
  *
  * @param rowCount 격자의 행 개수
  * @param colCount 격자의 열 개수
  */
 public record GridSpec(int rowCount, int colCount) {
+    public static final int MIN_SIZE = 4;
+    public static final int MAX_SIZE = Coordinate.MAX_DIMENSION;
+
     private static final int ROW_COUNT = 8;
     private static final int COL_COUNT = 8;
 
     public GridSpec {
-        if (rowCount <= 0) {
-            throw new IllegalArgumentException("Row must be positive.");
+        if (rowCount < MIN_SIZE || rowCount > MAX_SIZE) {
+            throw new IllegalArgumentException("Row count must be between " + MIN_SIZE + " and " + MAX_SIZE + ".");
         }
 
-        if (colCount <= 0) {
-            throw new IllegalArgumentException("Column must be positive.");
+        if (colCount < MIN_SIZE || colCount > MAX_SIZE) {
+            throw new IllegalArgumentException("Column count must be between " + MIN_SIZE + " and " + MAX_SIZE + ".");
         }
     }
 
@@ -31,4 +38,56 @@ public record GridSpec(int rowCount, int colCount) {
     public static GridSpec defaultSpec() {
         return new GridSpec(ROW_COUNT, COL_COUNT);
     }
+
+    /**
+     * 격자 명세를 생성합니다.
+     *
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
+     * @return 격자 명세
+     */
+    @NonNull
+    public static GridSpec of(int rowCount, int colCount) {
+        return new GridSpec(rowCount, colCount);
+    }
+
+    /**
+     * 격자 크기로 사용할 수 있는지 확인합니다.
+     *
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
+     * @return 사용 가능 여부
+     */
+    public static boolean isValidSize(int rowCount, int colCount) {
+        return rowCount >= MIN_SIZE && rowCount <= MAX_SIZE && colCount >= MIN_SIZE && colCount <= MAX_SIZE;
+    }
+
+    /**
+     * 전체 칸 수를 반환합니다.
+     *
+     * @return 칸 수
+     */
+    public int squareCount() {
+        return rowCount * colCount;
+    }
+
+    /**
+     * 좌표가 격자 안에 있는지 확인합니다.
+     *
+     * @param coordinate 대상 좌표
+     * @return 포함 여부
+     */
+    public boolean contains(@NonNull Coordinate coordinate) {
+        return coordinate.row() < rowCount && coordinate.col() < colCount;
+    }
+
+    /**
+     * 격자의 기보 표기 범위를 반환합니다.
+     *
+     * @return 표기 범위 (예: "A1-H8")
+     */
+    @NonNull
+    public String notationRange() {
+        return "A1-" + Coordinate.of(rowCount - 1, colCount - 1).toNotation();
+    }
 }
@@ -0,0 +1,47 @@
+package dev.tecte.chessWar.board.domain.model.theme;
+
+import dev.tecte.chessWar.board.domain.model.HighlightStyle;
+import lombok.NonNull;
+import org.bukkit.Material;
+
+import java.util.Objects;
+
+/**
+ * 칸 강조 표시에 사용할 블록 재질을 정의하는 불변 객체입니다.
+ *
+ * @param selected   선택된 칸의 재질
+ * @param movable    이동 가능한 칸의 재질
+ * @param threatened 위협받는 칸의 재질
+ */
+public record HighlightTheme(Material selected, Material movable, Material threatened) {
+    public HighlightTheme {
+        Objects.requireNonNull(selected, "Selected material cannot be null.");
+        Objects.requireNonNull(movable, "Movable material cannot be null.");
+        Objects.requireNonNull(threatened, "Threatened material cannot be null.");
+    }
+
+    /**
+     * 기본 강조 테마를 생성합니다.
+     *
+     * @return 기본 강조 테마
+     */
+    @NonNull
+    public static HighlightTheme defaultTheme() {
+        return new HighlightTheme(Material.GOLD_BLOCK, Material.LIME_CONCRETE, Material.RED_CONCRETE);
+    }
+
+    /**
+     * 강조 종류에 해당하는 재질을 반환합니다.
+     *
+     * @param style 강조 종류
+     * @return 블록 재질
+     */
+    @NonNull
+    public Material materialOf(@NonNull HighlightStyle style) {
+        return switch (style) {
+            case SELECTED -> selected;
+            case MOVABLE -> movable;
+            case THREATENED -> threatened;
+        };
+    }
+}
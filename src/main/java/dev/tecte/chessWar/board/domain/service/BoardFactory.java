@@ -6,6 +6,7 @@ import dev.tecte.chessWar.board.domain.model.Border;
 import dev.tecte.chessWar.board.domain.model.BorderType;
 import dev.tecte.chessWar.board.domain.model.Orientation;
 import dev.tecte.chessWar.board.domain.model.SquareGrid;
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import dev.tecte.chessWar.board.domain.model.spec.BorderSpec;
 import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
@@ -13,7 +14,6 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.bukkit.util.Vector;
 
 /**
  * 체스판의 생성과 조립을 담당합니다.
@@ -21,13 +21,17 @@ import org.bukkit.util.Vector;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class BoardFactory {
+    private static final String PROTOTYPE_NAME = "prototype";
+    private static final String PROTOTYPE_WORLD_NAME = "";
+
     private final GridSpec gridSpec;
     private final SquareSpec squareSpec;
     private final BorderSpec borderSpec;
 
     /**
-     * 특정 위치와 방향을 기반으로 체스판을 생성합니다.
+     * 특정 위치와 방향을 기반으로 기본 크기의 체스판을 생성합니다.
      *
+     * @param name           체스판 이름
      * @param worldName      생성될 월드 이름
      * @param playerPosition 플레이어 위치
      * @param orientation    플레이어 방향
@@ -35,13 +39,35 @@ public class BoardFactory {
      */
     @NonNull
     public Board createAt(
+            @NonNull String name,
             @NonNull String worldName,
-            @NonNull Vector playerPosition,
+            @NonNull Vec3 playerPosition,
             @NonNull Orientation orientation
     ) {
-        Vector gridAnchor = determineAnchor(playerPosition, orientation);
+        return createAt(name, worldName, playerPosition, orientation, gridSpec);
+    }
 
-        return create(BoardCreationParams.of(worldName, gridAnchor, orientation));
+    /**
+     * 특정 위치와 방향을 기반으로 지정한 크기의 체스판을 생성합니다.
+     *
+     * @param name           체스판 이름
+     * @param worldName      생성될 월드 이름
+     * @param playerPosition 플레이어 위치
+     * @param orientation    플레이어 방향
+     * @param boardGridSpec  격자 크기 명세
+     * @return 생성된 체스판
+     */
+    @NonNull
+    public Board createAt(
+            @NonNull String name,
+            @NonNull String worldName,
+            @NonNull Vec3 playerPosition,
+            @NonNull Orientation orientation,
+            @NonNull GridSpec boardGridSpec
+    ) {
+        Vec3 gridAnchor = determineAnchor(playerPosition, orientation, boardGridSpec);
+
+        return create(BoardCreationParams.of(name, worldName, gridAnchor, orientation, boardGridSpec));
     }
 
     /**
@@ -55,7 +81,7 @@ public class BoardFactory {
         SquareGrid squareGrid = SquareGrid.of(
                 params.gridAnchor(),
                 params.orientation(),
-                gridSpec,
+                params.gridSpec(),
                 squareSpec
         );
         Border innerBorder = Border.from(
@@ -69,7 +95,42 @@ public class BoardFactory {
                 borderSpec.frameThickness()
         );
 
-        return Board.of(params.worldName(), squareGrid, innerBorder, frame);
+        return Board.of(params.name(), params.worldName(), squareGrid, innerBorder, frame);
+    }
+
+    /**
+     * 기준점이 원점인 체스판 원형을 생성합니다.
+     * <p>
+     * 블록 템플릿을 컴파일할 때 기준점에 대한 상대 위치를 얻기 위해 사용합니다.
+     *
+     * @param orientation   방향
+     * @param boardGridSpec 격자 크기 명세
+     * @return 원점에 놓인 체스판
+     */
+    @NonNull
+    public Board prototypeOf(@NonNull Orientation orientation, @NonNull GridSpec boardGridSpec) {
+        return create(BoardCreationParams.of(
+                PROTOTYPE_NAME,
+                PROTOTYPE_WORLD_NAME,
+                Vec3.ZERO,
+                orientation,
+                boardGridSpec
+        ));
+    }
+
+    /**
+     * 체스판이 현재 명세로 조립되었는지 확인합니다.
+     * <p>
+     * 명세가 같고 기준점이 블록 격자에 맞춰진 체스판만 원형을 평행 이동한 결과와 일치합니다.
+     *
+     * @param board 대상 체스판
+     * @return 원형과의 호환 여부
+     */
+    public boolean matchesPrototype(@NonNull Board board) {
+        return board.squareGrid().anchor().isBlockAligned()
+                && board.squareGrid().squareSpec().equals(squareSpec)
+                && board.innerBorder().thickness() == borderSpec.innerThickness()
+                && board.frame().thickness() == borderSpec.frameThickness();
     }
 
     /**
@@ -77,17 +138,19 @@ public class BoardFactory {
      *
      * @param playerPosition 플레이어 위치
      * @param orientation    방향
+     * @param boardGridSpec  격자 크기 명세
      * @return 격자 기준점
      */
-    private Vector determineAnchor(Vector playerPosition, Orientation orientation) {
+    private Vec3 determineAnchor(Vec3 playerPosition, Orientation orientation, GridSpec boardGridSpec) {
         // 기준점: a1 칸 좌측 하단 모서리
         // 플레이어 정면 중앙 배치를 위해 격자 너비 절반만큼 왼쪽, 테두리 두께만큼 앞쪽으로 이동
-        int gridWidth = squareSpec.width() * gridSpec.colCount();
+        // 컴파일된 템플릿을 그대로 붙여넣을 수 있도록 블록 격자에 맞춤
+        int gridWidth = squareSpec.width() * boardGridSpec.colCount();
         double totalThickness = borderSpec.totalThickness();
-        Vector offset = orientation.left()
+        Vec3 offset = orientation.left()
                 .multiply(gridWidth / 2.0)
                 .add(orientation.forward().multiply(totalThickness));
 
-        return playerPosition.clone().add(offset);
+        return playerPosition.add(offset).floor();
     }
 }
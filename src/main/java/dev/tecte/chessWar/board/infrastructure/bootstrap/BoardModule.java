@@ -3,17 +3,34 @@ package dev.tecte.chessWar.board.infrastructure.bootstrap;
 import co.aikar.commands.BaseCommand;
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
+import dev.tecte.chessWar.board.application.port.BoardProgressDisplay;
 import dev.tecte.chessWar.board.application.port.BoardRenderer;
 import dev.tecte.chessWar.board.application.port.BoardRepository;
+import dev.tecte.chessWar.board.application.port.SiteSurveyor;
+import dev.tecte.chessWar.board.application.port.SquareHighlighter;
+import dev.tecte.chessWar.board.application.port.TerrainArchive;
 import dev.tecte.chessWar.board.domain.model.spec.BorderSpec;
+import dev.tecte.chessWar.board.domain.model.theme.HighlightTheme;
 import dev.tecte.chessWar.board.domain.model.theme.BorderTheme;
 import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
 import dev.tecte.chessWar.board.domain.model.theme.SquareTheme;
+import dev.tecte.chessWar.board.infrastructure.bukkit.BukkitBoardProgressDisplay;
 import dev.tecte.chessWar.board.infrastructure.bukkit.BukkitBoardRenderer;
+import dev.tecte.chessWar.board.infrastructure.bukkit.BukkitSiteSurveyor;
+import dev.tecte.chessWar.board.infrastructure.bukkit.BukkitSquareHighlighter;
+import dev.tecte.chessWar.board.infrastructure.bukkit.BukkitTerrainArchive;
+import dev.tecte.chessWar.board.infrastructure.bukkit.RenderBudget;
 import dev.tecte.chessWar.board.infrastructure.command.BoardCommand;
+import dev.tecte.chessWar.board.infrastructure.command.BoardCompletions;
+import dev.tecte.chessWar.board.infrastructure.listener.HighlightCleanupListener;
+import dev.tecte.chessWar.board.infrastructure.listener.SquareEntryDetector;
+import dev.tecte.chessWar.board.infrastructure.persistence.FileBoardTemplateStore;
+import dev.tecte.chessWar.board.infrastructure.persistence.FileTerrainSnapshotStore;
 import dev.tecte.chessWar.board.infrastructure.persistence.YmlBoardRepository;
 import dev.tecte.chessWar.common.persistence.PersistableState;
+import dev.tecte.chessWar.infrastructure.command.CommandConfigurer;
+import org.bukkit.event.Listener;
 
 /**
  * 체스판 모듈의 의존성 주입 설정을 담당하는 Guice 모듈입니다.
@@ -27,11 +44,28 @@ public class BoardModule extends AbstractModule {
         bind(BorderSpec.class).toInstance(BorderSpec.defaultSpec());
         bind(SquareTheme.class).toInstance(SquareTheme.defaultTheme());
         bind(BorderTheme.class).toInstance(BorderTheme.defaultTheme());
+        bind(HighlightTheme.class).toInstance(HighlightTheme.defaultTheme());
+        bind(RenderBudget.class).toInstance(RenderBudget.defaultBudget());
 
         bind(BoardRepository.class).to(YmlBoardRepository.class);
         bind(BoardRenderer.class).to(BukkitBoardRenderer.class);
+        bind(BoardProgressDisplay.class).to(BukkitBoardProgressDisplay.class);
+        bind(TerrainArchive.class).to(BukkitTerrainArchive.class);
+        bind(SiteSurveyor.class).to(BukkitSiteSurveyor.class);
+        bind(SquareHighlighter.class).to(BukkitSquareHighlighter.class);
 
         Multibinder.newSetBinder(binder(), BaseCommand.class).addBinding().to(BoardCommand.class);
-        Multibinder.newSetBinder(binder(), PersistableState.class).addBinding().to(YmlBoardRepository.class);
+        Multibinder.newSetBinder(binder(), CommandConfigurer.class).addBinding().to(BoardCompletions.class);
+
+        Multibinder<PersistableState> stateBinder = Multibinder.newSetBinder(binder(), PersistableState.class);
+
+        stateBinder.addBinding().to(YmlBoardRepository.class);
+        stateBinder.addBinding().to(FileTerrainSnapshotStore.class);
+        stateBinder.addBinding().to(FileBoardTemplateStore.class);
+
+        Multibinder<Listener> listenerBinder = Multibinder.newSetBinder(binder(), Listener.class);
+
+        listenerBinder.addBinding().to(HighlightCleanupListener.class);
+        listenerBinder.addBinding().to(SquareEntryDetector.class);
     }
 }
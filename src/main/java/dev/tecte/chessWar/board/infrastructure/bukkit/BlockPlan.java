@@ -0,0 +1,69 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import lombok.NonNull;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 월드에 설치할 블록들을 청크 섹션 단위로 묶은 설치 계획입니다.
+ * <p>
+ * 블록 단위가 아닌 섹션 단위로 쓰기를 수행할 수 있도록 위치를 미리 분류해 둡니다.
+ */
+public final class BlockPlan {
+    private final Map<Long, SectionPlan> sections = new LinkedHashMap<>();
+    private int blockCount;
+
+    /**
+     * 설치할 블록을 추가합니다. 같은 위치에 다시 추가하면 덮어씁니다.
+     *
+     * @param x         월드 X
+     * @param y         월드 Y
+     * @param z         월드 Z
+     * @param blockData 설치할 블록 데이터
+     */
+    public void put(int x, int y, int z, @NonNull BlockData blockData) {
+        int sectionX = x >> 4;
+        int sectionY = y >> 4;
+        int sectionZ = z >> 4;
+        SectionPlan section = sections.computeIfAbsent(
+                SectionPlan.keyOf(sectionX, sectionY, sectionZ),
+                key -> new SectionPlan(sectionX, sectionY, sectionZ)
+        );
+        int previousSize = section.size();
+
+        section.put(SectionPlan.packLocal(x, y, z), blockData);
+        blockCount += section.size() - previousSize;
+    }
+
+    /**
+     * 섹션별 설치 계획을 반환합니다.
+     *
+     * @return 섹션 계획 목록
+     */
+    @NonNull
+    public Collection<SectionPlan> sections() {
+        return Collections.unmodifiableCollection(sections.values());
+    }
+
+    /**
+     * 계획된 전체 블록 수를 반환합니다.
+     *
+     * @return 블록 수
+     */
+    public int blockCount() {
+        return blockCount;
+    }
+
+    /**
+     * 설치할 블록이 없는지 확인합니다.
+     *
+     * @return 비어있는지 여부
+     */
+    public boolean isEmpty() {
+        return blockCount == 0;
+    }
+}
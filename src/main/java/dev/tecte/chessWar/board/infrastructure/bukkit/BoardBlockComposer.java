@@ -0,0 +1,115 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Border;
+import dev.tecte.chessWar.board.domain.model.BorderType;
+import dev.tecte.chessWar.board.domain.model.SquareColor;
+import dev.tecte.chessWar.board.domain.model.SquareGeometry;
+import dev.tecte.chessWar.board.domain.model.theme.BorderTheme;
+import dev.tecte.chessWar.board.domain.model.theme.SquareTheme;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Axis;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Orientable;
+import org.bukkit.util.BoundingBox;
+
+/**
+ * 체스판의 기하 정보와 테마로부터 블록 설치 계획을 작성합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BoardBlockComposer {
+    private final SquareTheme squareTheme;
+    private final BorderTheme borderTheme;
+
+    /**
+     * 체스판을 구성하는 모든 블록의 설치 계획을 작성합니다.
+     *
+     * @param board 대상 체스판
+     * @return 섹션 단위로 묶인 설치 계획
+     */
+    @NonNull
+    public BlockPlan compose(@NonNull Board board) {
+        BlockPlan plan = new BlockPlan();
+
+        planSquares(board, plan);
+        planBorder(board.innerBorder(), plan);
+        planBorder(board.frame(), plan);
+
+        return plan;
+    }
+
+    /**
+     * 테마를 식별하는 문자열을 반환합니다.
+     * <p>
+     * 테마가 바뀌면 컴파일된 템플릿도 달라져야 하므로 템플릿 식별자에 포함됩니다.
+     *
+     * @return 테마 식별 문자열
+     */
+    @NonNull
+    public String themeSignature() {
+        return squareTheme + "|" + borderTheme;
+    }
+
+    private void planSquares(@NonNull Board board, @NonNull BlockPlan plan) {
+        SquareGeometry geometry = board.squareGrid().geometry();
+        BlockData whiteData = squareTheme.white().createBlockData();
+        BlockData blackData = squareTheme.black().createBlockData();
+
+        for (int ordinal = 0; ordinal < geometry.squareCount(); ordinal++) {
+            BlockData blockData = geometry.colorOf(ordinal) == SquareColor.WHITE ? whiteData : blackData;
+            int y = (int) geometry.minY(ordinal);
+
+            for (int x = (int) geometry.minX(ordinal); x < geometry.maxX(ordinal); x++) {
+                for (int z = (int) geometry.minZ(ordinal); z < geometry.maxZ(ordinal); z++) {
+                    plan.put(x, y, z, blockData);
+                }
+            }
+        }
+    }
+
+    private void planBorder(@NonNull Border border, @NonNull BlockPlan plan) {
+        BorderType borderType = border.borderType();
+        int thickness = border.thickness();
+        BoundingBox boundingBox = border.boundingBox();
+        int minY = (int) boundingBox.getMinY();
+        int minX = (int) boundingBox.getMinX();
+        int minZ = (int) boundingBox.getMinZ();
+        int maxX = (int) boundingBox.getMaxX();
+        int maxZ = (int) boundingBox.getMaxZ();
+        Material material = borderType == BorderType.INNER_BORDER ? borderTheme.inner() : borderTheme.frame();
+        BlockData blockDataX = createOrientableBlockData(material, Axis.X);
+        BlockData blockDataZ = createOrientableBlockData(material, Axis.Z);
+
+        // 테두리를 속이 빈 사각형 형태로 만들기 위해, 바깥쪽부터 안쪽으로 두께만큼 블럭을 설치
+        for (int i = 0; i < thickness; i++) {
+            // Z축에 평행한 테두리
+            for (int x = minX + i; x < maxX - i; x++) {
+                plan.put(x, minY, maxZ - 1 - i, blockDataX);
+                plan.put(x, minY, minZ + i, blockDataX);
+            }
+
+            // X축에 평행한 테두리
+            for (int z = minZ + i + 1; z < maxZ - i - 1; z++) {
+                plan.put(maxX - 1 - i, minY, z, blockDataZ);
+                plan.put(minX + i, minY, z, blockDataZ);
+            }
+        }
+    }
+
+    @NonNull
+    private BlockData createOrientableBlockData(@NonNull Material material, @NonNull Axis axis) {
+        // Bukkit.createBlockData의 람다를 사용하면,
+        // instanceof 패턴 매칭을 통해 불필요한 형변환 코드 없이 안전하게 블록 데이터를 수정할 수 있음
+        return Bukkit.createBlockData(material, data -> {
+            if (data instanceof Orientable orientable) {
+                orientable.setAxis(axis);
+            }
+        });
+    }
+}
@@ -0,0 +1,310 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Orientation;
+import dev.tecte.chessWar.board.domain.model.spec.BorderSpec;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
+import dev.tecte.chessWar.board.domain.service.BoardFactory;
+import dev.tecte.chessWar.board.infrastructure.persistence.BoardTemplate;
+import dev.tecte.chessWar.board.infrastructure.persistence.FileBoardTemplateStore;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 격자 크기별로 컴파일된 체스판 템플릿을 메모리와 디스크에 보관합니다.
+ * <p>
+ * 템플릿은 원점에 놓인 체스판 원형을 네 방위 모두에 대해 한 번만 작성하여 만들며,
+ * 같은 격자 크기의 체스판은 몇 개를 만들든 이 템플릿을 기준점에 붙여넣어 재사용합니다.
+ */
+@Slf4j(topic = "ChessWar")
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BoardTemplateCache {
+    private static final int FINGERPRINT_DIGEST_BYTES = 16;
+
+    private final BoardFactory boardFactory;
+    private final BoardBlockComposer blockComposer;
+    private final FileBoardTemplateStore templateStore;
+    private final SquareSpec squareSpec;
+    private final BorderSpec borderSpec;
+
+    private final BukkitScheduler scheduler;
+    private final JavaPlugin plugin;
+
+    private final Map<GridSpec, CompletableFuture<CompiledBoardTemplate>> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * 체스판에 붙여넣을 수 있는 템플릿을 찾습니다.
+     * <p>
+     * 현재 명세와 다르게 조립되었거나 기준점이 블록 격자에 맞지 않는 체스판은 템플릿을 사용할 수 없습니다.
+     *
+     * @param board 대상 체스판
+     * @return 사용 가능한 템플릿, 준비되면 완료되는 Future
+     */
+    @NonNull
+    public CompletableFuture<Optional<CompiledBoardTemplate>> find(@NonNull Board board) {
+        if (!boardFactory.matchesPrototype(board)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        return templateOf(board.squareGrid().gridSpec()).thenApply(Optional::of);
+    }
+
+    /**
+     * 이미 준비된 템플릿만 즉시 찾습니다.
+     * <p>
+     * 아직 읽거나 컴파일하는 중이면 기다리지 않고 빈 값을 반환합니다.
+     *
+     * @param board 대상 체스판
+     * @return 준비된 템플릿
+     */
+    @NonNull
+    public Optional<CompiledBoardTemplate> findReady(@NonNull Board board) {
+        if (!boardFactory.matchesPrototype(board)) {
+            return Optional.empty();
+        }
+
+        CompletableFuture<CompiledBoardTemplate> future = compiled.get(board.squareGrid().gridSpec());
+
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(future.join());
+    }
+
+    /**
+     * 격자 크기에 해당하는 템플릿을 반환하며, 없으면 작업 스레드에서 디스크에서 읽거나 새로 컴파일합니다.
+     * <p>
+     * 진행 중인 작업을 캐시하므로 같은 격자 크기의 요청은 하나의 작업을 함께 기다리며,
+     * 실패한 작업은 캐시에서 제거되어 다음 요청에서 다시 시도합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 컴파일된 템플릿, 준비되면 완료되는 Future
+     */
+    @NonNull
+    public CompletableFuture<CompiledBoardTemplate> templateOf(@NonNull GridSpec gridSpec) {
+        CompletableFuture<CompiledBoardTemplate> future = compiled.computeIfAbsent(
+                gridSpec,
+                spec -> CompletableFuture.supplyAsync(() -> loadOrCompile(spec), asyncExecutor())
+        );
+
+        future.whenComplete((template, throwable) -> {
+            if (throwable != null) {
+                compiled.remove(gridSpec, future);
+            }
+        });
+
+        return future;
+    }
+
+    @NonNull
+    private CompiledBoardTemplate loadOrCompile(@NonNull GridSpec gridSpec) {
+        String fingerprint = fingerprintOf(gridSpec);
+        Optional<BoardTemplate> stored = templateStore.find(fingerprint);
+
+        if (stored.isPresent()) {
+            try {
+                return CompiledBoardTemplate.from(stored.get());
+            } catch (IllegalArgumentException e) {
+                // 서버 버전이 바뀌어 블록 데이터를 해석할 수 없으면 다시 컴파일
+                log.atWarn().log("Recompiling stale board template '{}': {}", fingerprint, e.getMessage());
+            }
+        }
+
+        BoardTemplate template = compile(fingerprint, gridSpec);
+
+        templateStore.save(template);
+
+        return CompiledBoardTemplate.from(template);
+    }
+
+    // 컴파일은 서버 스레드를 막지 않도록 플러그인의 비동기 작업 스레드에서 수행
+    @NonNull
+    private Executor asyncExecutor() {
+        return task -> scheduler.runTaskAsynchronously(plugin, task);
+    }
+
+    @NonNull
+    private BoardTemplate compile(@NonNull String fingerprint, @NonNull GridSpec gridSpec) {
+        Map<BlockData, Integer> paletteIndex = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+        Map<Orientation, int[]> runs = new EnumMap<>(Orientation.class);
+
+        for (Orientation orientation : Orientation.values()) {
+            BlockPlan plan = blockComposer.compose(boardFactory.prototypeOf(orientation, gridSpec));
+
+            runs.put(orientation, encode(plan, paletteIndex, palette));
+        }
+
+        return new BoardTemplate(fingerprint, palette, runs);
+    }
+
+    @NonNull
+    private int[] encode(
+            @NonNull BlockPlan plan,
+            @NonNull Map<BlockData, Integer> paletteIndex,
+            @NonNull List<String> palette
+    ) {
+        PlanBounds bounds = PlanBounds.of(plan);
+        // 0은 빈 칸, 그 외에는 팔레트 색인 + 1
+        int[] cells = new int[bounds.volume()];
+
+        for (SectionPlan section : plan.sections()) {
+            for (int i = 0; i < section.size(); i++) {
+                short packed = section.positionAt(i);
+                BlockData blockData = section.blockAt(packed);
+
+                if (blockData == null) {
+                    continue;
+                }
+
+                int index = paletteIndex.computeIfAbsent(blockData, data -> {
+                    palette.add(data.getAsString());
+
+                    return palette.size() - 1;
+                });
+
+                int cell = bounds.cellOf(section.worldX(packed), section.worldY(packed), section.worldZ(packed));
+
+                cells[cell] = index + 1;
+            }
+        }
+
+        return bounds.toRuns(cells);
+    }
+
+    @NonNull
+    private String fingerprintOf(@NonNull GridSpec gridSpec) {
+        String signature = String.join("|",
+                String.valueOf(gridSpec.rowCount()),
+                String.valueOf(gridSpec.colCount()),
+                String.valueOf(squareSpec.width()),
+                String.valueOf(squareSpec.height()),
+                String.valueOf(borderSpec.innerThickness()),
+                String.valueOf(borderSpec.frameThickness()),
+                blockComposer.themeSignature()
+        );
+
+        // 파일 이름으로도 쓰이므로 전체 명세와 테마를 충돌 걱정 없는 길이의 다이제스트로 축약
+        return "%dx%d-%s".formatted(
+                gridSpec.rowCount(),
+                gridSpec.colCount(),
+                HexFormat.of().formatHex(sha256(signature), 0, FINGERPRINT_DIGEST_BYTES)
+        );
+    }
+
+    @NonNull
+    private byte[] sha256(@NonNull String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 자바 플랫폼이 SHA-256을 반드시 제공하므로 도달하지 않음
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 설치 계획이 차지하는 영역입니다.
+     */
+    private record PlanBounds(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        @NonNull
+        private static PlanBounds of(@NonNull BlockPlan plan) {
+            if (plan.isEmpty()) {
+                return new PlanBounds(0, 0, 0, 0, 0, 0);
+            }
+
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            int maxZ = Integer.MIN_VALUE;
+
+            for (SectionPlan section : plan.sections()) {
+                for (int i = 0; i < section.size(); i++) {
+                    short packed = section.positionAt(i);
+
+                    minX = Math.min(minX, section.worldX(packed));
+                    minY = Math.min(minY, section.worldY(packed));
+                    minZ = Math.min(minZ, section.worldZ(packed));
+                    maxX = Math.max(maxX, section.worldX(packed));
+                    maxY = Math.max(maxY, section.worldY(packed));
+                    maxZ = Math.max(maxZ, section.worldZ(packed));
+                }
+            }
+
+            return new PlanBounds(minX, minY, minZ, maxX - minX + 1, maxY - minY + 1, maxZ - minZ + 1);
+        }
+
+        private int volume() {
+            return sizeX * sizeY * sizeZ;
+        }
+
+        private int cellOf(int x, int y, int z) {
+            return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+        }
+
+        @NonNull
+        private int[] toRuns(@NonNull int[] cells) {
+            int[] runs = new int[BoardTemplate.RUN_STRIDE * 16];
+            int size = 0;
+
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    int rowStart = (y * sizeZ + z) * sizeX;
+                    int x = 0;
+
+                    while (x < sizeX) {
+                        int cell = cells[rowStart + x];
+
+                        if (cell == 0) {
+                            x++;
+                            continue;
+                        }
+
+                        int start = x;
+
+                        while (x < sizeX && cells[rowStart + x] == cell) {
+                            x++;
+                        }
+
+                        if (size + BoardTemplate.RUN_STRIDE > runs.length) {
+                            runs = Arrays.copyOf(runs, runs.length * 2);
+                        }
+
+                        runs[size++] = minX + start;
+                        runs[size++] = minY + y;
+                        runs[size++] = minZ + z;
+                        runs[size++] = x - start;
+                        runs[size++] = cell - 1;
+                    }
+                }
+            }
+
+            return Arrays.copyOf(runs, size);
+        }
+    }
+}
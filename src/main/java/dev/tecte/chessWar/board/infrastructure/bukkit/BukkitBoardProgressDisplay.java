@@ -0,0 +1,59 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.application.port.BoardProgressDisplay;
+import dev.tecte.chessWar.port.UserResolver;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보스바를 활용하여 체스판 작업의 진행률을 표시합니다.
+ * <p>
+ * 게임 타이머 보스바와 겹치지 않도록 플레이어마다 별도의 보스바를 사용합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BukkitBoardProgressDisplay implements BoardProgressDisplay {
+    private final UserResolver userResolver;
+
+    private final Map<UUID, BossBar> bossBars = new ConcurrentHashMap<>();
+
+    @Override
+    public void show(@NonNull UUID viewerId, @NonNull Component title) {
+        BossBar bossBar = bossBars.computeIfAbsent(viewerId, id -> BossBar.bossBar(
+                title,
+                BossBar.MIN_PROGRESS,
+                BossBar.Color.BLUE,
+                BossBar.Overlay.NOTCHED_10
+        ));
+
+        bossBar.name(title);
+        bossBar.progress(BossBar.MIN_PROGRESS);
+        userResolver.findPlayer(viewerId).ifPresent(player -> player.showBossBar(bossBar));
+    }
+
+    @Override
+    public void update(@NonNull UUID viewerId, double progress) {
+        BossBar bossBar = bossBars.get(viewerId);
+
+        if (bossBar != null) {
+            bossBar.progress((float) Math.clamp(progress, BossBar.MIN_PROGRESS, BossBar.MAX_PROGRESS));
+        }
+    }
+
+    @Override
+    public void hide(@NonNull UUID viewerId) {
+        BossBar bossBar = bossBars.remove(viewerId);
+
+        if (bossBar != null) {
+            userResolver.findPlayer(viewerId).ifPresent(player -> player.hideBossBar(bossBar));
+        }
+    }
+}
@@ -2,105 +2,93 @@ package dev.tecte.chessWar.board.infrastructure.bukkit;
 
 import dev.tecte.chessWar.board.application.port.BoardRenderer;
 import dev.tecte.chessWar.board.domain.model.Board;
-import dev.tecte.chessWar.board.domain.model.Border;
-import dev.tecte.chessWar.board.domain.model.BorderType;
-import dev.tecte.chessWar.board.domain.model.Coordinate;
-import dev.tecte.chessWar.board.domain.model.Square;
-import dev.tecte.chessWar.board.domain.model.SquareColor;
-import dev.tecte.chessWar.board.domain.model.SquareGrid;
-import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
-import dev.tecte.chessWar.board.domain.model.theme.BorderTheme;
-import dev.tecte.chessWar.board.domain.model.theme.SquareTheme;
+import dev.tecte.chessWar.board.domain.model.Vec3;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.bukkit.Axis;
-import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.data.BlockData;
-import org.bukkit.block.data.Orientable;
-import org.bukkit.util.BoundingBox;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 
 /**
  * Bukkit API를 사용하여 체스판을 실제 월드에 렌더링하는 클래스입니다.
  * {@link BoardRenderer} 인터페이스의 구현체입니다.
+ * <p>
+ * 블록을 하나씩 설치하지 않고, 설치 계획을 청크 섹션 단위로 묶어 한 번에 기록합니다.
+ * 설치 계획은 컴파일된 체스판 템플릿을 기준점에 붙여넣어 작성합니다.
+ * 점진적 렌더링은 월드의 현재 상태와 비교하여 달라진 블록만 기록합니다.
  */
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class BukkitBoardRenderer implements BoardRenderer {
-    private final SquareTheme squareTheme;
-    private final BorderTheme borderTheme;
+    private final BoardBlockComposer blockComposer;
+    private final BoardTemplateCache templateCache;
+    private final ChunkSectionBlockWriter blockWriter;
+    private final TickBudgetedBlockWriter budgetedWriter;
+    private final LiveBlockDiffer liveBlockDiffer;
+    private final ExceptionDispatcher exceptionDispatcher;
+    private final BukkitScheduler scheduler;
+    private final JavaPlugin plugin;
 
+    // 즉시 기록해야 하므로 템플릿이 준비되지 않았으면 기하 정보로부터 작성
     @Override
     public void render(@NonNull Board board, @NonNull World world) {
-        renderSquares(board, world);
-        renderBorder(board.innerBorder(), world);
-        renderBorder(board.frame(), world);
-    }
-
-    private void renderSquares(@NonNull Board board, @NonNull World world) {
-        SquareGrid squareGrid = board.squareGrid();
-        GridSpec gridSpec = squareGrid.gridSpec();
-        int rowCount = gridSpec.rowCount();
-        int colCount = gridSpec.colCount();
+        BlockPlan plan = templateCache.findReady(board)
+                .map(template -> planAt(template, board))
+                .orElseGet(() -> blockComposer.compose(board));
 
-        for (int row = 0; row < rowCount; row++) {
-            for (int col = 0; col < colCount; col++) {
-                Square square = squareGrid.squareAt(new Coordinate(row, col));
-                BoundingBox boundingBox = square.boundingBox();
-                Material material = square.color() == SquareColor.WHITE ? squareTheme.white() : squareTheme.black();
+        blockWriter.write(world, plan);
+    }
 
-                for (int x = (int) boundingBox.getMinX(); x < boundingBox.getMaxX(); x++) {
-                    for (int z = (int) boundingBox.getMinZ(); z < boundingBox.getMaxZ(); z++) {
-                        // 두 번째 인수인 applyPhysics를 false로 설정하면,
-                        // 블록 변경 시 주변 블록에 물리적 업데이트(예: 물 흐름, 중력)를 유발하지 않음
-                        // 대량의 블록을 빠르게 변경할 때 서버 부하를 크게 줄일 수 있음
-                        world.getBlockAt(x, (int) boundingBox.getMinY(), z).setType(material, false);
+    @NonNull
+    @Override
+    public CompletableFuture<Void> renderIncrementally(
+            @NonNull Board board,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    ) {
+        return planOf(board)
+                .thenComposeAsync(plan -> liveBlockDiffer.diff(world, plan), scheduler.getMainThreadExecutor(plugin))
+                .whenComplete((changes, throwable) -> {
+                    if (throwable != null && throwable.getCause() instanceof Exception cause) {
+                        exceptionDispatcher.dispatch(cause, sender, "Board Diffing");
                     }
-                }
-            }
-        }
+                })
+                .thenComposeAsync(
+                        changes -> budgetedWriter.submit(world, changes, progressListener, sender),
+                        scheduler.getMainThreadExecutor(plugin)
+                );
     }
 
-    private void renderBorder(@NonNull Border border, @NonNull World world) {
-        BorderType borderType = border.borderType();
-        int thickness = border.thickness();
-        BoundingBox boundingBox = border.boundingBox();
-        int minY = (int) boundingBox.getMinY();
-        int minX = (int) boundingBox.getMinX();
-        int minZ = (int) boundingBox.getMinZ();
-        int maxX = (int) boundingBox.getMaxX();
-        int maxZ = (int) boundingBox.getMaxZ();
-        Material material = borderType == BorderType.INNER_BORDER ? borderTheme.inner() : borderTheme.frame();
-        BlockData blockDataX = createOrientableBlockData(material, Axis.X);
-        BlockData blockDataZ = createOrientableBlockData(material, Axis.Z);
-
-        // 테두리를 속이 빈 사각형 형태로 만들기 위해, 바깥쪽부터 안쪽으로 두께만큼 블럭을 설치
-        for (int i = 0; i < thickness; i++) {
-            // Z축에 평행한 테두리
-            for (int x = minX + i; x < maxX - i; x++) {
-                world.getBlockAt(x, minY, maxZ - 1 - i).setBlockData(blockDataX, false);
-                world.getBlockAt(x, minY, minZ + i).setBlockData(blockDataX, false);
-            }
-
-            // X축에 평행한 테두리
-            for (int z = minZ + i + 1; z < maxZ - i - 1; z++) {
-                world.getBlockAt(maxX - 1 - i, minY, z).setBlockData(blockDataZ, false);
-                world.getBlockAt(minX + i, minY, z).setBlockData(blockDataZ, false);
-            }
-        }
+    /**
+     * 체스판을 구성하는 모든 블록의 설치 계획을 작성합니다.
+     * <p>
+     * 현재 명세로 조립된 체스판은 컴파일된 템플릿을 기준점에 붙여넣고,
+     * 그렇지 않은 체스판만 기하 정보로부터 새로 작성합니다.
+     * 템플릿을 처음 읽거나 컴파일하는 작업은 메인 스레드 밖에서 진행됩니다.
+     *
+     * @param board 대상 체스판
+     * @return 섹션 단위로 묶인 설치 계획, 작성되면 완료되는 Future
+     */
+    @NonNull
+    public CompletableFuture<BlockPlan> planOf(@NonNull Board board) {
+        return templateCache.find(board)
+                .thenApply(found -> found
+                        .map(template -> planAt(template, board))
+                        .orElseGet(() -> blockComposer.compose(board)));
     }
 
     @NonNull
-    private BlockData createOrientableBlockData(@NonNull Material material, @NonNull Axis axis) {
-        // Bukkit.createBlockData의 람다를 사용하면,
-        // instanceof 패턴 매칭을 통해 불필요한 형변환 코드 없이 안전하게 블록 데이터를 수정할 수 있음
-        return Bukkit.createBlockData(material, data -> {
-            if (data instanceof Orientable orientable) {
-                orientable.setAxis(axis);
-            }
-        });
+    private BlockPlan planAt(@NonNull CompiledBoardTemplate template, @NonNull Board board) {
+        Vec3 anchor = board.squareGrid().anchor();
+
+        return template.planAt(board.squareGrid().orientation(), (int) anchor.x(), (int) anchor.y(), (int) anchor.z());
     }
 }
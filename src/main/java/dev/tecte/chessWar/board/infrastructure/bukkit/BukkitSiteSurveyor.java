@@ -0,0 +1,174 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.application.port.SiteSurveyor;
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.SiteSurvey;
+import dev.tecte.chessWar.board.domain.model.Vec3;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+
+/**
+ * 청크 스냅샷을 분석하여 체스판 설치 예정지를 조사합니다.
+ * <p>
+ * 청크 로딩은 비동기로, 분석은 작업 스레드에서 수행하며 결과는 메인 스레드에서 전달합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BukkitSiteSurveyor implements SiteSurveyor {
+    // 평면 아래로 지면을 탐색하는 깊이
+    private static final int GROUND_SEARCH_DEPTH = 8;
+
+    private final ChunkSnapshotLoader snapshotLoader;
+    private final TickBudgetedBlockWriter budgetedWriter;
+    private final BukkitScheduler scheduler;
+    private final JavaPlugin plugin;
+
+    @NonNull
+    @Override
+    public CompletableFuture<SiteSurvey> survey(@NonNull Board board, @NonNull World world) {
+        BoundingBox area = board.frame().boundingBox();
+        SurveyArea surveyArea = new SurveyArea(
+                (int) area.getMinX(),
+                (int) area.getMinZ(),
+                (int) area.getMaxX() - 1,
+                (int) area.getMaxZ() - 1,
+                (int) area.getMinY(),
+                world.getMinHeight(),
+                world.getMaxHeight()
+        );
+
+        return snapshotLoader.loadArea(
+                        world,
+                        surveyArea.minX(),
+                        surveyArea.minZ(),
+                        surveyArea.maxX(),
+                        surveyArea.maxZ()
+                )
+                .thenApplyAsync(snapshots -> analyse(surveyArea, snapshots))
+                .thenApplyAsync(Function.identity(), scheduler.getMainThreadExecutor(plugin));
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<Void> clear(
+            @NonNull SiteSurvey survey,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    ) {
+        BlockData air = Material.AIR.createBlockData();
+        BlockPlan plan = new BlockPlan();
+
+        for (Vec3 target : survey.clearTargets()) {
+            plan.put((int) target.x(), (int) target.y(), (int) target.z(), air);
+        }
+
+        return budgetedWriter.submit(world, plan, progressListener, sender);
+    }
+
+    @NonNull
+    private SiteSurvey analyse(@NonNull SurveyArea area, @NonNull Map<Long, ChunkSnapshot> snapshots) {
+        int planeY = area.planeY();
+        int topY = Math.min(planeY + SiteSurvey.CLEARANCE_HEIGHT, area.worldMaxY() - 1);
+        int bottomY = Math.max(planeY - GROUND_SEARCH_DEPTH, area.worldMinY());
+        int obstructionCount = 0;
+        int liquidCount = 0;
+        int unsupportedColumnCount = 0;
+        int lowestGroundY = Integer.MAX_VALUE;
+        int highestGroundY = Integer.MIN_VALUE;
+        List<Vec3> clearTargets = new ArrayList<>();
+
+        for (int x = area.minX(); x <= area.maxX(); x++) {
+            for (int z = area.minZ(); z <= area.maxZ(); z++) {
+                ChunkSnapshot snapshot = snapshots.get(Chunk.getChunkKey(x >> 4, z >> 4));
+                int localX = x & 15;
+                int localZ = z & 15;
+
+                if (isLiquid(snapshot.getBlockType(localX, planeY, localZ))) {
+                    liquidCount++;
+                }
+
+                for (int y = planeY + 1; y <= topY; y++) {
+                    Material type = snapshot.getBlockType(localX, y, localZ);
+
+                    if (type.isAir()) {
+                        continue;
+                    }
+
+                    if (isLiquid(type)) {
+                        liquidCount++;
+                    } else {
+                        obstructionCount++;
+                    }
+
+                    clearTargets.add(Vec3.of(x, y, z));
+                }
+
+                int groundY = findGround(snapshot, localX, localZ, planeY - 1, bottomY);
+
+                if (groundY < bottomY) {
+                    unsupportedColumnCount++;
+                } else {
+                    lowestGroundY = Math.min(lowestGroundY, groundY);
+                    highestGroundY = Math.max(highestGroundY, groundY);
+                }
+            }
+        }
+
+        return SiteSurvey.of(
+                planeY,
+                obstructionCount,
+                liquidCount,
+                unsupportedColumnCount,
+                lowestGroundY,
+                highestGroundY,
+                clearTargets
+        );
+    }
+
+    private int findGround(@NonNull ChunkSnapshot snapshot, int localX, int localZ, int fromY, int bottomY) {
+        for (int y = fromY; y >= bottomY; y--) {
+            if (snapshot.getBlockType(localX, y, localZ).isSolid()) {
+                return y;
+            }
+        }
+
+        return bottomY - 1;
+    }
+
+    private boolean isLiquid(@NonNull Material type) {
+        return type == Material.WATER || type == Material.LAVA || type == Material.BUBBLE_COLUMN;
+    }
+
+    /**
+     * 조사 영역과 월드 높이 한계를 작업 스레드로 넘기기 위한 값입니다.
+     */
+    private record SurveyArea(
+            int minX,
+            int minZ,
+            int maxX,
+            int maxZ,
+            int planeY,
+            int worldMinY,
+            int worldMaxY
+    ) {
+    }
+}
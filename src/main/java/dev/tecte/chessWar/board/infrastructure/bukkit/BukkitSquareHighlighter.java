@@ -0,0 +1,211 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.application.port.SquareHighlighter;
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.HighlightStyle;
+import dev.tecte.chessWar.board.domain.model.SquareGeometry;
+import dev.tecte.chessWar.board.domain.model.theme.HighlightTheme;
+import dev.tecte.chessWar.port.UserResolver;
+import io.papermc.paper.math.Position;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가짜 블록 변경 패킷으로 플레이어별 칸 강조 표시를 구현합니다.
+ * <p>
+ * 플레이어마다 현재 보여주고 있는 가짜 블록을 기억해 두고, 갱신 시 이전 표시와의 차이만
+ * 청크 섹션 단위로 묶어 {@link Player#sendMultiBlockChange(Map)}로 전송합니다.
+ * 월드, 조명, 청크 저장에는 영향을 주지 않습니다. 메인 스레드에서만 호출해야 합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BukkitSquareHighlighter implements SquareHighlighter {
+    private final HighlightTheme highlightTheme;
+    private final UserResolver userResolver;
+
+    private final Map<UUID, Overlay> overlays = new ConcurrentHashMap<>();
+
+    @Override
+    public void show(
+            @NonNull UUID viewerId,
+            @NonNull Board board,
+            @NonNull Map<Coordinate, HighlightStyle> highlights
+    ) {
+        Optional<Player> foundPlayer = userResolver.findPlayer(viewerId);
+
+        if (foundPlayer.isEmpty()) {
+            overlays.remove(viewerId);
+            return;
+        }
+
+        Player player = foundPlayer.get();
+        World world = player.getWorld();
+
+        if (!world.getName().equals(board.worldName())) {
+            // 다른 월드에 있는 클라이언트에는 표시할 대상도, 되돌릴 대상도 없음
+            overlays.remove(viewerId);
+            return;
+        }
+
+        Long2ObjectMap<BlockData> desired = planOf(board, highlights);
+        Overlay previous = overlays.get(viewerId);
+        Long2ObjectMap<BlockData> shown = previous != null && previous.worldName().equals(world.getName())
+                ? previous.blocks()
+                : new Long2ObjectOpenHashMap<>();
+        Long2ObjectMap<Map<Position, BlockData>> changes = new Long2ObjectOpenHashMap<>();
+
+        for (Long2ObjectMap.Entry<BlockData> entry : desired.long2ObjectEntrySet()) {
+            if (!entry.getValue().equals(shown.get(entry.getLongKey()))) {
+                addChange(changes, entry.getLongKey(), entry.getValue());
+            }
+        }
+
+        for (long packed : shown.keySet()) {
+            if (!desired.containsKey(packed)) {
+                addRestore(changes, world, packed);
+            }
+        }
+
+        send(player, changes);
+
+        if (desired.isEmpty()) {
+            overlays.remove(viewerId);
+        } else {
+            overlays.put(viewerId, new Overlay(world.getName(), desired));
+        }
+    }
+
+    @Override
+    public void clear(@NonNull UUID viewerId) {
+        Overlay previous = overlays.remove(viewerId);
+
+        if (previous == null) {
+            return;
+        }
+
+        Optional<Player> foundPlayer = userResolver.findPlayer(viewerId);
+
+        if (foundPlayer.isEmpty()) {
+            return;
+        }
+
+        Player player = foundPlayer.get();
+        World world = player.getWorld();
+
+        if (!world.getName().equals(previous.worldName())) {
+            return;
+        }
+
+        Long2ObjectMap<Map<Position, BlockData>> changes = new Long2ObjectOpenHashMap<>();
+
+        for (long packed : previous.blocks().keySet()) {
+            addRestore(changes, world, packed);
+        }
+
+        send(player, changes);
+    }
+
+    @Override
+    public void discard(@NonNull UUID viewerId) {
+        overlays.remove(viewerId);
+    }
+
+    @NonNull
+    private Long2ObjectMap<BlockData> planOf(
+            @NonNull Board board,
+            @NonNull Map<Coordinate, HighlightStyle> highlights
+    ) {
+        SquareGeometry geometry = board.squareGrid().geometry();
+        Map<HighlightStyle, BlockData> styleData = new EnumMap<>(HighlightStyle.class);
+        Long2ObjectMap<BlockData> blocks = new Long2ObjectOpenHashMap<>();
+
+        for (Map.Entry<Coordinate, HighlightStyle> entry : highlights.entrySet()) {
+            Coordinate coordinate = entry.getKey();
+
+            if (!board.squareGrid().gridSpec().contains(coordinate)) {
+                continue;
+            }
+
+            BlockData blockData = styleData.computeIfAbsent(
+                    entry.getValue(),
+                    style -> highlightTheme.materialOf(style).createBlockData()
+            );
+            int ordinal = geometry.ordinalOf(coordinate);
+            int y = (int) geometry.minY(ordinal);
+
+            for (int x = (int) geometry.minX(ordinal); x < geometry.maxX(ordinal); x++) {
+                for (int z = (int) geometry.minZ(ordinal); z < geometry.maxZ(ordinal); z++) {
+                    blocks.put(BlockPos.asLong(x, y, z), blockData);
+                }
+            }
+        }
+
+        return blocks;
+    }
+
+    private void addRestore(
+            @NonNull Long2ObjectMap<Map<Position, BlockData>> changes,
+            @NonNull World world,
+            long packed
+    ) {
+        int x = BlockPos.getX(packed);
+        int z = BlockPos.getZ(packed);
+
+        // 로드되지 않은 청크는 클라이언트에도 없으므로 되돌릴 필요가 없음
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return;
+        }
+
+        addChange(changes, packed, world.getBlockData(x, BlockPos.getY(packed), z));
+    }
+
+    private void addChange(
+            @NonNull Long2ObjectMap<Map<Position, BlockData>> changes,
+            long packed,
+            @NonNull BlockData blockData
+    ) {
+        int x = BlockPos.getX(packed);
+        int y = BlockPos.getY(packed);
+        int z = BlockPos.getZ(packed);
+        long sectionKey = SectionPlan.keyOf(
+                SectionPos.blockToSectionCoord(x),
+                SectionPos.blockToSectionCoord(y),
+                SectionPos.blockToSectionCoord(z)
+        );
+
+        changes.computeIfAbsent(sectionKey, key -> new HashMap<>()).put(Position.block(x, y, z), blockData);
+    }
+
+    private void send(@NonNull Player player, @NonNull Long2ObjectMap<Map<Position, BlockData>> changes) {
+        // 섹션당 하나의 블록 갱신 패킷으로 전송
+        for (Map<Position, BlockData> sectionChanges : changes.values()) {
+            player.sendMultiBlockChange(sectionChanges);
+        }
+    }
+
+    /**
+     * 플레이어에게 현재 보여주고 있는 가짜 블록입니다.
+     *
+     * @param worldName 표시 중인 월드 이름
+     * @param blocks    압축된 블록 위치별 가짜 블록
+     */
+    private record Overlay(String worldName, Long2ObjectMap<BlockData> blocks) {
+    }
+}
@@ -0,0 +1,209 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.application.port.TerrainArchive;
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.SiteSurvey;
+import dev.tecte.chessWar.board.infrastructure.persistence.FileTerrainSnapshotStore;
+import dev.tecte.chessWar.board.infrastructure.persistence.TerrainSnapshot;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 청크 스냅샷을 활용하여 체스판 아래의 원래 지형을 보관하고 복원합니다.
+ * <p>
+ * 체스판 틀의 평면부터 정리 높이까지를 보관하며, 지형 읽기와 압축은 메인 스레드 밖에서 수행하고,
+ * 복원은 틱 예산 안에서 나누어 기록합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BukkitTerrainArchive implements TerrainArchive {
+    private final ChunkSnapshotLoader snapshotLoader;
+    private final LiveBlockDiffer liveBlockDiffer;
+    private final TickBudgetedBlockWriter budgetedWriter;
+    private final FileTerrainSnapshotStore snapshotStore;
+    private final BukkitScheduler scheduler;
+    private final JavaPlugin plugin;
+
+    @NonNull
+    @Override
+    public CompletableFuture<Void> capture(@NonNull Board board, @NonNull World world) {
+        CaptureArea area = CaptureArea.of(board.frame().boundingBox(), world);
+
+        return snapshotStore.find(board.name())
+                .thenComposeAsync(found -> {
+                    // 예정지를 정리하기 전에 같은 영역을 보관해 두었다면 정리된 지형으로 덮어쓰지 않음
+                    if (found.filter(area::matches).isPresent()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    return snapshotLoader.loadArea(world, area.minX(), area.minZ(), area.maxX(), area.maxZ())
+                            .thenApplyAsync(snapshots -> encode(snapshots, area), asyncExecutor())
+                            .thenCompose(snapshot -> snapshotStore.save(board.name(), snapshot));
+                }, scheduler.getMainThreadExecutor(plugin));
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<Boolean> restore(
+            @NonNull Board board,
+            @NonNull World world,
+            @NonNull DoubleConsumer progressListener,
+            @NonNull CommandSender sender
+    ) {
+        return snapshotStore.find(board.name())
+                .thenComposeAsync(found -> {
+                    if (found.isEmpty()) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+
+                    return liveBlockDiffer.diff(world, decode(found.get()))
+                            .thenComposeAsync(
+                                    changes -> budgetedWriter.submit(world, changes, progressListener, sender),
+                                    scheduler.getMainThreadExecutor(plugin)
+                            )
+                            .thenApply(ignored -> {
+                                snapshotStore.delete(board.name());
+
+                                return true;
+                            });
+                }, scheduler.getMainThreadExecutor(plugin));
+    }
+
+    @NonNull
+    private TerrainSnapshot encode(@NonNull Map<Long, ChunkSnapshot> snapshots, @NonNull CaptureArea area) {
+        Map<BlockData, Integer> paletteIndex = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+        RunBuffer runs = new RunBuffer();
+
+        // TerrainSnapshot의 나열 순서(Y, Z, X)에 맞춰 순회
+        for (int y = area.minY(); y < area.minY() + area.sizeY(); y++) {
+            for (int z = area.minZ(); z <= area.maxZ(); z++) {
+                for (int x = area.minX(); x <= area.maxX(); x++) {
+                    ChunkSnapshot snapshot = snapshots.get(Chunk.getChunkKey(x >> 4, z >> 4));
+                    BlockData blockData = snapshot.getBlockData(x & 15, y, z & 15);
+                    int index = paletteIndex.computeIfAbsent(blockData, data -> {
+                        palette.add(data.getAsString());
+
+                        return palette.size() - 1;
+                    });
+
+                    runs.append(index);
+                }
+            }
+        }
+
+        return new TerrainSnapshot(
+                area.minX(),
+                area.minY(),
+                area.minZ(),
+                area.sizeX(),
+                area.sizeY(),
+                area.sizeZ(),
+                palette,
+                runs.toArray()
+        );
+    }
+
+    // 압축은 서버 스레드를 막지 않도록 플러그인의 비동기 작업 스레드에서 수행
+    @NonNull
+    private Executor asyncExecutor() {
+        return task -> scheduler.runTaskAsynchronously(plugin, task);
+    }
+
+    @NonNull
+    private BlockPlan decode(@NonNull TerrainSnapshot snapshot) {
+        BlockPlan plan = new BlockPlan();
+        BlockData[] palette = snapshot.palette().stream()
+                .map(Bukkit::createBlockData)
+                .toArray(BlockData[]::new);
+
+        snapshot.forEachBlock((x, y, z, index) -> plan.put(x, y, z, palette[index]));
+
+        return plan;
+    }
+
+    /**
+     * 보관할 영역입니다.
+     * <p>
+     * 체스판 틀의 평면부터 예정지 정리가 비우는 높이까지를 포함하여, 설치와 정리로 바뀌는 블록을 모두 덮습니다.
+     */
+    private record CaptureArea(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        private static CaptureArea of(BoundingBox frame, World world) {
+            int minX = (int) frame.getMinX();
+            int minY = (int) frame.getMinY();
+            int minZ = (int) frame.getMinZ();
+            int topY = Math.min(minY + SiteSurvey.CLEARANCE_HEIGHT, world.getMaxHeight() - 1);
+            int sizeY = Math.max((int) frame.getMaxY() - minY, topY - minY + 1);
+
+            return new CaptureArea(
+                    minX,
+                    minY,
+                    minZ,
+                    (int) frame.getMaxX() - minX,
+                    sizeY,
+                    (int) frame.getMaxZ() - minZ
+            );
+        }
+
+        private int maxX() {
+            return minX + sizeX - 1;
+        }
+
+        private int maxZ() {
+            return minZ + sizeZ - 1;
+        }
+
+        private boolean matches(TerrainSnapshot snapshot) {
+            return snapshot.originX() == minX && snapshot.originY() == minY && snapshot.originZ() == minZ
+                    && snapshot.sizeX() == sizeX && snapshot.sizeY() == sizeY && snapshot.sizeZ() == sizeZ;
+        }
+    }
+
+    /**
+     * 팔레트 색인을 런 길이 부호화하여 누적합니다.
+     */
+    private static final class RunBuffer {
+        private int[] values = new int[64];
+        private int size;
+
+        private void append(int paletteIndex) {
+            if (size > 0 && values[size - 2] == paletteIndex) {
+                values[size - 1]++;
+
+                return;
+            }
+
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+
+            values[size++] = paletteIndex;
+            values[size++] = 1;
+        }
+
+        @NonNull
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import it.unimi.dsi.fastutil.shorts.ShortArraySet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.craftbukkit.CraftWorld;
+import org.bukkit.craftbukkit.block.data.CraftBlockData;
+
+/**
+ * 블록 설치 계획을 청크 섹션 단위로 월드에 기록합니다.
+ * <p>
+ * 블록마다 {@code Block#setBlockData}를 호출하는 대신 섹션 팔레트에 직접 기록하고,
+ * 섹션당 한 번의 패킷으로 변경 사항을 클라이언트에 전송합니다.
+ * 메인 스레드에서만 호출해야 합니다.
+ */
+@Singleton
+public class ChunkSectionBlockWriter {
+    private static final Heightmap.Types[] HEIGHTMAP_TYPES = {
+            Heightmap.Types.MOTION_BLOCKING,
+            Heightmap.Types.MOTION_BLOCKING_NO_LEAVES,
+            Heightmap.Types.OCEAN_FLOOR,
+            Heightmap.Types.WORLD_SURFACE
+    };
+
+    /**
+     * 설치 계획 전체를 월드에 기록합니다.
+     *
+     * @param world 대상 월드
+     * @param plan  설치 계획
+     */
+    public void write(@NonNull World world, @NonNull BlockPlan plan) {
+        ServerLevel level = ((CraftWorld) world).getHandle();
+
+        for (SectionPlan section : plan.sections()) {
+            writeSection(level, section, 0, section.size());
+        }
+    }
+
+    /**
+     * 섹션 계획의 일부 구간을 월드에 기록합니다.
+     *
+     * @param world   대상 월드
+     * @param section 섹션 계획
+     * @param from    시작 순번 (포함)
+     * @param to      끝 순번 (제외)
+     */
+    public void write(@NonNull World world, @NonNull SectionPlan section, int from, int to) {
+        writeSection(((CraftWorld) world).getHandle(), section, from, to);
+    }
+
+    private void writeSection(@NonNull ServerLevel level, @NonNull SectionPlan section, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        LevelChunk chunk = level.getChunk(section.chunkX(), section.chunkZ());
+        int sectionIndex = chunk.getSectionIndexFromSectionY(section.sectionY());
+
+        // 월드 높이 범위를 벗어난 섹션은 기록할 수 없음
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+            return;
+        }
+
+        LevelChunkSection chunkSection = chunk.getSection(sectionIndex);
+        LevelLightEngine lightEngine = level.getChunkSource().getLightEngine();
+        SectionPos sectionPos = SectionPos.of(section.sectionX(), section.sectionY(), section.sectionZ());
+        boolean wasEmpty = chunkSection.hasOnlyAir();
+        ShortSet changed = new ShortArraySet(to - from);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int i = from; i < to; i++) {
+            short packed = section.positionAt(i);
+            BlockData blockData = section.blockAt(packed);
+
+            if (blockData == null) {
+                continue;
+            }
+
+            int localX = SectionPlan.localX(packed);
+            int localY = SectionPlan.localY(packed);
+            int localZ = SectionPlan.localZ(packed);
+            BlockState state = ((CraftBlockData) blockData).getState();
+            // 잠금 없이 팔레트에 직접 기록하므로, 이웃 블록 갱신과 물리 연산이 발생하지 않음
+            BlockState previous = chunkSection.setBlockState(localX, localY, localZ, state, false);
+
+            if (previous == state) {
+                continue;
+            }
+
+            pos.set(section.worldX(packed), section.worldY(packed), section.worldZ(packed));
+
+            if (previous.hasBlockEntity()) {
+                chunk.removeBlockEntity(pos);
+            }
+
+            for (Heightmap.Types type : HEIGHTMAP_TYPES) {
+                chunk.getOrCreateHeightmapUnprimed(type).update(localX, pos.getY(), localZ, state);
+            }
+
+            lightEngine.checkBlock(pos);
+            changed.add(packed);
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        boolean isEmpty = chunkSection.hasOnlyAir();
+
+        if (wasEmpty != isEmpty) {
+            lightEngine.updateSectionStatus(sectionPos, isEmpty);
+        }
+
+        chunk.markUnsaved();
+        broadcast(level, chunk, new ClientboundSectionBlocksUpdatePacket(sectionPos, changed, chunkSection));
+    }
+
+    private void broadcast(
+            @NonNull ServerLevel level,
+            @NonNull LevelChunk chunk,
+            @NonNull ClientboundSectionBlocksUpdatePacket packet
+    ) {
+        for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false)) {
+            player.connection.send(packet);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 청크를 비동기로 불러와 읽기 전용 스냅샷으로 고정합니다.
+ * <p>
+ * 반환된 스냅샷은 스레드 안전하므로, 이후의 분석은 메인 스레드 밖에서 수행할 수 있습니다.
+ */
+@Singleton
+public class ChunkSnapshotLoader {
+    /**
+     * 블록 영역을 덮는 모든 청크의 스냅샷을 불러옵니다.
+     *
+     * @param world 대상 월드
+     * @param minX  최소 블록 X (포함)
+     * @param minZ  최소 블록 Z (포함)
+     * @param maxX  최대 블록 X (포함)
+     * @param maxZ  최대 블록 Z (포함)
+     * @return 청크 키별 스냅샷
+     */
+    @NonNull
+    public CompletableFuture<Map<Long, ChunkSnapshot>> loadArea(
+            @NonNull World world,
+            int minX,
+            int minZ,
+            int maxX,
+            int maxZ
+    ) {
+        Set<Long> chunkKeys = new LinkedHashSet<>();
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                chunkKeys.add(Chunk.getChunkKey(chunkX, chunkZ));
+            }
+        }
+
+        return load(world, chunkKeys);
+    }
+
+    /**
+     * 청크 키 목록에 해당하는 스냅샷을 불러옵니다.
+     *
+     * @param world     대상 월드
+     * @param chunkKeys 청크 키 목록
+     * @return 청크 키별 스냅샷
+     */
+    @NonNull
+    public CompletableFuture<Map<Long, ChunkSnapshot>> load(@NonNull World world, @NonNull Collection<Long> chunkKeys) {
+        Map<Long, CompletableFuture<ChunkSnapshot>> pending = new HashMap<>(chunkKeys.size());
+
+        for (long chunkKey : chunkKeys) {
+            // getChunkAtAsync는 메인 스레드에서 완료되므로, 스냅샷 자체는 안전하게 생성됨
+            pending.put(chunkKey, world.getChunkAtAsync(chunkXOf(chunkKey), chunkZOf(chunkKey))
+                    .thenApply(chunk -> chunk.getChunkSnapshot(false, false, false)));
+        }
+
+        return CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<Long, ChunkSnapshot> snapshots = new HashMap<>(pending.size());
+
+                    pending.forEach((key, future) -> snapshots.put(key, future.join()));
+
+                    return snapshots;
+                });
+    }
+
+    /**
+     * 청크 키에서 청크 X 좌표를 꺼냅니다.
+     *
+     * @param chunkKey 청크 키
+     * @return 청크 X
+     */
+    public static int chunkXOf(long chunkKey) {
+        return (int) chunkKey;
+    }
+
+    /**
+     * 청크 키에서 청크 Z 좌표를 꺼냅니다.
+     *
+     * @param chunkKey 청크 키
+     * @return 청크 Z
+     */
+    public static int chunkZOf(long chunkKey) {
+        return (int) (chunkKey >> 32);
+    }
+}
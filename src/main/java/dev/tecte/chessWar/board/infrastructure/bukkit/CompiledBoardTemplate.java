@@ -0,0 +1,84 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.domain.model.Orientation;
+import dev.tecte.chessWar.board.infrastructure.persistence.BoardTemplate;
+import lombok.NonNull;
+import org.bukkit.Bukkit;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * 팔레트를 블록 데이터로 해석해 둔, 바로 붙여넣을 수 있는 체스판 템플릿입니다.
+ * <p>
+ * 기하 계산이나 블록 데이터 생성 없이 블록 묶음을 평행 이동하여 설치 계획을 작성합니다.
+ */
+public final class CompiledBoardTemplate {
+    private final BoardTemplate template;
+    private final BlockData[] palette;
+
+    private CompiledBoardTemplate(@NonNull BoardTemplate template, @NonNull BlockData[] palette) {
+        this.template = template;
+        this.palette = palette;
+    }
+
+    /**
+     * 템플릿의 팔레트를 해석합니다.
+     *
+     * @param template 대상 템플릿
+     * @return 해석된 템플릿
+     * @throws IllegalArgumentException 현재 서버에서 해석할 수 없는 블록 데이터가 있는 경우
+     */
+    @NonNull
+    public static CompiledBoardTemplate from(@NonNull BoardTemplate template) {
+        BlockData[] palette = template.palette().stream()
+                .map(Bukkit::createBlockData)
+                .toArray(BlockData[]::new);
+
+        return new CompiledBoardTemplate(template, palette);
+    }
+
+    /**
+     * 기준점에 템플릿을 붙여넣은 설치 계획을 작성합니다.
+     *
+     * @param orientation 체스판 방위
+     * @param anchorX     기준점 X
+     * @param anchorY     기준점 Y
+     * @param anchorZ     기준점 Z
+     * @return 설치 계획
+     */
+    @NonNull
+    public BlockPlan planAt(@NonNull Orientation orientation, int anchorX, int anchorY, int anchorZ) {
+        BlockPlan plan = new BlockPlan();
+
+        pasteInto(plan, orientation, anchorX, anchorY, anchorZ);
+
+        return plan;
+    }
+
+    /**
+     * 기존 설치 계획에 템플릿을 붙여넣습니다.
+     *
+     * @param plan        대상 설치 계획
+     * @param orientation 체스판 방위
+     * @param anchorX     기준점 X
+     * @param anchorY     기준점 Y
+     * @param anchorZ     기준점 Z
+     */
+    public void pasteInto(
+            @NonNull BlockPlan plan,
+            @NonNull Orientation orientation,
+            int anchorX,
+            int anchorY,
+            int anchorZ
+    ) {
+        template.forEachRun(orientation, (dx, dy, dz, length, paletteIndex) -> {
+            BlockData blockData = palette[paletteIndex];
+            int startX = anchorX + dx;
+            int y = anchorY + dy;
+            int z = anchorZ + dz;
+
+            for (int x = startX; x < startX + length; x++) {
+                plan.put(x, y, z, blockData);
+            }
+        });
+    }
+}
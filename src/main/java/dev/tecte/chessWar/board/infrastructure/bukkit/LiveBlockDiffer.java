@@ -0,0 +1,69 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 설치 계획을 월드의 현재 상태와 비교하여, 실제로 바뀌어야 하는 블록만 남깁니다.
+ * <p>
+ * 청크는 비동기로 불러와 스냅샷으로 고정하고, 비교 연산은 메인 스레드 밖에서 수행합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class LiveBlockDiffer {
+    private final ChunkSnapshotLoader snapshotLoader;
+
+    /**
+     * 현재 월드와 다른 블록만 담은 설치 계획을 산출합니다.
+     *
+     * @param world 대상 월드
+     * @param plan  목표 설치 계획
+     * @return 차이만 담은 설치 계획
+     */
+    @NonNull
+    public CompletableFuture<BlockPlan> diff(@NonNull World world, @NonNull BlockPlan plan) {
+        Set<Long> chunkKeys = new LinkedHashSet<>();
+
+        for (SectionPlan section : plan.sections()) {
+            chunkKeys.add(Chunk.getChunkKey(section.chunkX(), section.chunkZ()));
+        }
+
+        return snapshotLoader.load(world, chunkKeys)
+                .thenApplyAsync(snapshots -> diffAgainst(plan, snapshots));
+    }
+
+    @NonNull
+    private BlockPlan diffAgainst(@NonNull BlockPlan plan, @NonNull Map<Long, ChunkSnapshot> snapshots) {
+        BlockPlan changes = new BlockPlan();
+
+        for (SectionPlan section : plan.sections()) {
+            ChunkSnapshot snapshot = snapshots.get(Chunk.getChunkKey(section.chunkX(), section.chunkZ()));
+
+            for (int i = 0; i < section.size(); i++) {
+                short packed = section.positionAt(i);
+                BlockData target = section.blockAt(packed);
+                int y = section.worldY(packed);
+                BlockData current = snapshot.getBlockData(SectionPlan.localX(packed), y, SectionPlan.localZ(packed));
+
+                if (target == null || target.equals(current)) {
+                    continue;
+                }
+
+                changes.put(section.worldX(packed), y, section.worldZ(packed), target);
+            }
+        }
+
+        return changes;
+    }
+}
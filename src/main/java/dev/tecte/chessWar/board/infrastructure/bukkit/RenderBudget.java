@@ -0,0 +1,46 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점진적 렌더링이 한 틱에 사용할 수 있는 시간 예산입니다.
+ *
+ * @param millisPerTick 틱당 블록 기록에 사용할 최대 시간(ms)
+ * @param sliceSize     예산을 확인하기 전까지 연속으로 기록할 블록 수
+ */
+public record RenderBudget(long millisPerTick, int sliceSize) {
+    private static final long MILLIS_PER_TICK = 10L;
+    private static final int SLICE_SIZE = 256;
+    private static final long TICK_MILLIS = 50L;
+
+    public RenderBudget {
+        if (millisPerTick <= 0 || millisPerTick >= TICK_MILLIS) {
+            throw new IllegalArgumentException("Budget must be between 1 and 49 ms.");
+        }
+
+        if (sliceSize <= 0) {
+            throw new IllegalArgumentException("Slice size must be positive.");
+        }
+    }
+
+    /**
+     * 기본 렌더링 예산을 생성합니다.
+     *
+     * @return 기본 렌더링 예산
+     */
+    @NonNull
+    public static RenderBudget defaultBudget() {
+        return new RenderBudget(MILLIS_PER_TICK, SLICE_SIZE);
+    }
+
+    /**
+     * 틱당 예산을 나노초로 반환합니다.
+     *
+     * @return 틱당 예산(ns)
+     */
+    public long nanosPerTick() {
+        return TimeUnit.MILLISECONDS.toNanos(millisPerTick);
+    }
+}
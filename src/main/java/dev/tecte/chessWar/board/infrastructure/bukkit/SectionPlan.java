@@ -0,0 +1,172 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 청크 섹션(16x16x16)에 설치할 블록 목록입니다.
+ * <p>
+ * 섹션 내 위치는 {@code x << 8 | z << 4 | y} 형태의 short로 압축해 보관합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class SectionPlan {
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int sectionX;
+    private final int sectionY;
+    private final int sectionZ;
+
+    @Getter(AccessLevel.NONE)
+    private final BlockData[] blocks = new BlockData[SECTION_VOLUME];
+    @Getter(AccessLevel.NONE)
+    private short[] positions = new short[INITIAL_CAPACITY];
+    private int size;
+
+    SectionPlan(int sectionX, int sectionY, int sectionZ) {
+        this.sectionX = sectionX;
+        this.sectionY = sectionY;
+        this.sectionZ = sectionZ;
+    }
+
+    /**
+     * 섹션 좌표를 하나의 long 키로 압축합니다.
+     *
+     * @param sectionX 섹션 X
+     * @param sectionY 섹션 Y
+     * @param sectionZ 섹션 Z
+     * @return 섹션 키
+     */
+    public static long keyOf(int sectionX, int sectionY, int sectionZ) {
+        return ((long) (sectionX & 0x3FFFFF) << 42)
+                | ((long) (sectionZ & 0x3FFFFF) << 20)
+                | (sectionY & 0xFFFFF);
+    }
+
+    /**
+     * 섹션 내 위치를 압축합니다.
+     *
+     * @param localX 섹션 내 X (0~15)
+     * @param localY 섹션 내 Y (0~15)
+     * @param localZ 섹션 내 Z (0~15)
+     * @return 압축된 위치
+     */
+    public static short packLocal(int localX, int localY, int localZ) {
+        return (short) ((localX & 15) << 8 | (localZ & 15) << 4 | (localY & 15));
+    }
+
+    /**
+     * 압축된 위치에서 섹션 내 X를 꺼냅니다.
+     */
+    public static int localX(short packed) {
+        return (packed >>> 8) & 15;
+    }
+
+    /**
+     * 압축된 위치에서 섹션 내 Y를 꺼냅니다.
+     */
+    public static int localY(short packed) {
+        return packed & 15;
+    }
+
+    /**
+     * 압축된 위치에서 섹션 내 Z를 꺼냅니다.
+     */
+    public static int localZ(short packed) {
+        return (packed >>> 4) & 15;
+    }
+
+    /**
+     * 섹션 키를 반환합니다.
+     *
+     * @return 섹션 키
+     */
+    public long key() {
+        return keyOf(sectionX, sectionY, sectionZ);
+    }
+
+    /**
+     * 섹션이 속한 청크의 X 좌표를 반환합니다.
+     *
+     * @return 청크 X
+     */
+    public int chunkX() {
+        return sectionX;
+    }
+
+    /**
+     * 섹션이 속한 청크의 Z 좌표를 반환합니다.
+     *
+     * @return 청크 Z
+     */
+    public int chunkZ() {
+        return sectionZ;
+    }
+
+    /**
+     * 설치할 블록을 추가합니다. 같은 위치에 다시 추가하면 덮어씁니다.
+     *
+     * @param packed    압축된 섹션 내 위치
+     * @param blockData 설치할 블록 데이터
+     */
+    public void put(short packed, @NonNull BlockData blockData) {
+        if (blocks[packed] == null) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, Math.min(positions.length * 2, SECTION_VOLUME));
+            }
+
+            positions[size++] = packed;
+        }
+
+        blocks[packed] = blockData;
+    }
+
+    /**
+     * 추가된 순서상 {@code index}번째 위치를 반환합니다.
+     *
+     * @param index 순번
+     * @return 압축된 섹션 내 위치
+     */
+    public short positionAt(int index) {
+        return positions[index];
+    }
+
+    /**
+     * 해당 위치에 설치할 블록 데이터를 반환합니다.
+     *
+     * @param packed 압축된 섹션 내 위치
+     * @return 블록 데이터, 계획에 없으면 {@code null}
+     */
+    @Nullable
+    public BlockData blockAt(short packed) {
+        return blocks[packed];
+    }
+
+    /**
+     * 월드 X 좌표로 변환합니다.
+     */
+    public int worldX(short packed) {
+        return (sectionX << 4) + localX(packed);
+    }
+
+    /**
+     * 월드 Y 좌표로 변환합니다.
+     */
+    public int worldY(short packed) {
+        return (sectionY << 4) + localY(packed);
+    }
+
+    /**
+     * 월드 Z 좌표로 변환합니다.
+     */
+    public int worldZ(short packed) {
+        return (sectionZ << 4) + localZ(packed);
+    }
+}
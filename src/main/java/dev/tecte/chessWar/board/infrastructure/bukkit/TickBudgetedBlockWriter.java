@@ -0,0 +1,170 @@
+package dev.tecte.chessWar.board.infrastructure.bukkit;
+
+import dev.tecte.chessWar.port.TaskRunner;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 설치 계획을 여러 틱에 나누어 기록합니다.
+ * <p>
+ * 모든 작업이 하나의 반복 태스크와 틱 예산을 공유하므로, 여러 체스판을 동시에 렌더링해도
+ * 한 틱에 사용하는 시간은 {@link RenderBudget}을 넘지 않습니다.
+ * 작업 간에는 조각 단위로 번갈아 가며 기록합니다. 메인 스레드에서만 호출해야 합니다.
+ * 기록 태스크의 활성 여부는 태스크 상태에서 판단하므로, 태스크가 외부에서 취소되어도 다음 작업이 새 태스크를 시작합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class TickBudgetedBlockWriter {
+    private static final int NO_TASK = -1;
+
+    private final ChunkSectionBlockWriter blockWriter;
+    private final ExceptionDispatcher exceptionDispatcher;
+    private final TaskRunner taskRunner;
+    private final RenderBudget renderBudget;
+
+    private final Deque<WriteJob> jobs = new ArrayDeque<>();
+    private int drainTaskId = NO_TASK;
+
+    /**
+     * 설치 계획을 기록 대기열에 추가합니다.
+     *
+     * @param world            대상 월드
+     * @param plan             설치 계획
+     * @param progressListener 진행률(0.0~1.0) 수신자
+     * @param sender           예외 알림 대상
+     * @return 기록 완료 시 완료되는 Future
+     */
+    @NonNull
+    public CompletableFuture<Void> submit(
+            @NonNull World world,
+            @NonNull BlockPlan plan,
+            @NonNull DoubleConsumer progressListener,
+            @Nullable CommandSender sender
+    ) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        if (plan.isEmpty()) {
+            progressListener.accept(1.0);
+            future.complete(null);
+
+            return future;
+        }
+
+        jobs.addLast(new WriteJob(world, plan, progressListener, sender, future));
+
+        if (!isDraining()) {
+            drainTaskId = taskRunner.runRepeating(this::drain, 0L, 1L, sender, "Board Rendering");
+        }
+
+        return future;
+    }
+
+    private void drain(@NonNull BukkitRunnable task) {
+        long deadline = System.nanoTime() + renderBudget.nanosPerTick();
+
+        while (!jobs.isEmpty() && System.nanoTime() < deadline) {
+            WriteJob job = jobs.pollFirst();
+
+            if (!writeSlice(job)) {
+                jobs.addLast(job);
+            }
+        }
+
+        if (jobs.isEmpty()) {
+            task.cancel();
+            drainTaskId = NO_TASK;
+        }
+    }
+
+    private boolean isDraining() {
+        return drainTaskId != NO_TASK && taskRunner.isActive(drainTaskId);
+    }
+
+    private boolean writeSlice(@NonNull WriteJob job) {
+        try {
+            int written = job.writeSlice(blockWriter, renderBudget.sliceSize());
+
+            job.progressListener.accept(written / (double) job.total);
+
+            if (written >= job.total) {
+                job.future.complete(null);
+
+                return true;
+            }
+
+            return false;
+        } catch (Exception e) {
+            exceptionDispatcher.dispatch(e, job.sender, "Board Rendering");
+            job.future.completeExceptionally(e);
+
+            return true;
+        }
+    }
+
+    private static final class WriteJob {
+        private final World world;
+        private final Iterator<SectionPlan> sections;
+        private final DoubleConsumer progressListener;
+        private final CommandSender sender;
+        private final CompletableFuture<Void> future;
+        private final int total;
+
+        private SectionPlan current;
+        private int cursor;
+        private int written;
+
+        private WriteJob(
+                @NonNull World world,
+                @NonNull BlockPlan plan,
+                @NonNull DoubleConsumer progressListener,
+                @Nullable CommandSender sender,
+                @NonNull CompletableFuture<Void> future
+        ) {
+            this.world = world;
+            this.sections = plan.sections().iterator();
+            this.progressListener = progressListener;
+            this.sender = sender;
+            this.future = future;
+            this.total = plan.blockCount();
+        }
+
+        private int writeSlice(@NonNull ChunkSectionBlockWriter blockWriter, int sliceSize) {
+            int remaining = sliceSize;
+
+            while (remaining > 0) {
+                if (current == null || cursor >= current.size()) {
+                    if (!sections.hasNext()) {
+                        written = total;
+
+                        break;
+                    }
+
+                    current = sections.next();
+                    cursor = 0;
+                }
+
+                int end = Math.min(current.size(), cursor + remaining);
+
+                blockWriter.write(world, current, cursor, end);
+                remaining -= end - cursor;
+                written += end - cursor;
+                cursor = end;
+            }
+
+            return written;
+        }
+    }
+}
@@ -2,15 +2,21 @@ package dev.tecte.chessWar.board.infrastructure.command;
 
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.annotation.CommandAlias;
+import co.aikar.commands.annotation.CommandCompletion;
 import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Optional;
+import co.aikar.commands.annotation.Single;
 import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
 import dev.tecte.chessWar.board.application.BoardService;
 import dev.tecte.chessWar.infrastructure.command.CommandRouting;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * 체스판 관련 명령어를 처리합니다.
@@ -26,11 +32,97 @@ public class BoardCommand extends BaseCommand {
     /**
      * 체스판을 생성합니다.
      *
-     * @param player 행위자
+     * @param player   행위자
+     * @param name     체스판 이름
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
      */
     @Subcommand("create")
+    @Syntax("<이름> [행] [열]")
     @Description("새로운 체스판을 생성합니다.")
-    public void create(@NonNull Player player) {
-        boardService.createBoard(player);
+    public void create(
+            @NonNull Player player,
+            @Single @NonNull String name,
+            @Optional @Nullable Integer rowCount,
+            @Optional @Nullable Integer colCount
+    ) {
+        boardService.createBoard(player, name, rowCount, colCount);
+    }
+
+    /**
+     * 체스판 목록을 확인합니다.
+     *
+     * @param sender 행위자
+     */
+    @Subcommand("list")
+    @Description("생성된 체스판 목록을 확인합니다.")
+    public void list(@NonNull CommandSender sender) {
+        boardService.listBoards(sender);
+    }
+
+    /**
+     * 현재 위치의 체스판 설치 예정지를 조사합니다.
+     *
+     * @param player   행위자
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
+     */
+    @Subcommand("survey")
+    @Syntax("[행] [열]")
+    @Description("현재 위치에 체스판을 설치할 수 있는지 조사합니다.")
+    public void survey(
+            @NonNull Player player,
+            @Optional @Nullable Integer rowCount,
+            @Optional @Nullable Integer colCount
+    ) {
+        boardService.surveySite(player, rowCount, colCount);
+    }
+
+    /**
+     * 현재 위치의 체스판 설치 예정지를 정리합니다.
+     *
+     * @param player   행위자
+     * @param name     설치할 체스판 이름
+     * @param rowCount 행 개수
+     * @param colCount 열 개수
+     */
+    @Subcommand("clear")
+    @Syntax("<이름> [행] [열]")
+    @Description("원래 지형을 보관한 뒤 체스판 설치 예정지 위의 장애물과 액체를 제거합니다.")
+    public void clear(
+            @NonNull Player player,
+            @Single @NonNull String name,
+            @Optional @Nullable Integer rowCount,
+            @Optional @Nullable Integer colCount
+    ) {
+        boardService.clearSite(player, name, rowCount, colCount);
+    }
+
+    /**
+     * 훼손된 체스판을 복구합니다.
+     *
+     * @param player 행위자
+     * @param name   체스판 이름
+     */
+    @Subcommand("repair")
+    @Syntax("<이름>")
+    @CommandCompletion(BoardCompletions.BOARDS)
+    @Description("체스판의 훼손된 블록을 복구합니다.")
+    public void repair(@NonNull Player player, @Single @NonNull String name) {
+        boardService.repairBoard(player, name);
+    }
+
+    /**
+     * 체스판을 제거하고 원래 지형을 복원합니다.
+     *
+     * @param player 행위자
+     * @param name   체스판 이름
+     */
+    @Subcommand("remove")
+    @Syntax("<이름>")
+    @CommandCompletion(BoardCompletions.BOARDS)
+    @Description("체스판을 제거하고 원래 지형을 복원합니다.")
+    public void remove(@NonNull Player player, @Single @NonNull String name) {
+        boardService.removeBoard(player, name);
     }
 }
@@ -0,0 +1,27 @@
+package dev.tecte.chessWar.board.infrastructure.command;
+
+import co.aikar.commands.PaperCommandManager;
+import dev.tecte.chessWar.board.application.BoardService;
+import dev.tecte.chessWar.infrastructure.command.CommandConfigurer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체스판 이름 자동 완성을 등록합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BoardCompletions implements CommandConfigurer {
+    private static final String BOARDS_ID = "boards";
+    public static final String BOARDS = "@" + BOARDS_ID;
+
+    private final BoardService boardService;
+
+    @Override
+    public void configure(@NonNull PaperCommandManager commandManager) {
+        commandManager.getCommandCompletions()
+                .registerAsyncCompletion(BOARDS_ID, context -> boardService.findBoardNames());
+    }
+}
@@ -0,0 +1,41 @@
+package dev.tecte.chessWar.board.infrastructure.listener;
+
+import dev.tecte.chessWar.board.application.port.SquareHighlighter;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * 클라이언트가 강조 표시를 잃는 시점에 남은 강조 상태를 정리합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class HighlightCleanupListener implements Listener {
+    private final SquareHighlighter squareHighlighter;
+
+    /**
+     * 접속을 종료한 플레이어의 강조 상태를 폐기합니다.
+     *
+     * @param event 접속 종료 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NonNull PlayerQuitEvent event) {
+        squareHighlighter.discard(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 월드를 이동한 플레이어의 강조 상태를 폐기합니다.
+     *
+     * @param event 월드 이동 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(@NonNull PlayerChangedWorldEvent event) {
+        squareHighlighter.discard(event.getPlayer().getUniqueId());
+    }
+}
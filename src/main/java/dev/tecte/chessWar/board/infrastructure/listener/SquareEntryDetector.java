@@ -0,0 +1,106 @@
+package dev.tecte.chessWar.board.infrastructure.listener;
+
+import dev.tecte.chessWar.board.application.BoardService;
+import dev.tecte.chessWar.board.domain.event.PlayerSquareEnteredEvent;
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.common.event.DomainEventDispatcher;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 플레이어 이동을 감시하여 체스판 칸 진입을 감지합니다.
+ * <p>
+ * 같은 블록 안에서의 이동은 즉시 무시하고, 블록 경계를 넘었을 때만 칸 좌표를 계산합니다.
+ * 칸이 실제로 바뀐 경우에만 {@link PlayerSquareEnteredEvent}를 발행합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class SquareEntryDetector implements Listener {
+    private final BoardService boardService;
+    private final DomainEventDispatcher eventDispatcher;
+
+    // 이동 이벤트는 메인 스레드에서만 호출됨
+    private final Map<UUID, SquareVisit> visits = new HashMap<>();
+
+    /**
+     * 블록 경계를 넘은 이동에 대해 칸 진입 여부를 확인합니다.
+     *
+     * @param event 이동 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(@NonNull PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        // 같은 블록 안의 이동이나 수직 이동은 칸을 바꿀 수 없음
+        if (from.getBlockX() == to.getBlockX()
+                && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+
+        UUID playerId = event.getPlayer().getUniqueId();
+        Optional<Board> foundBoard = boardService.findBoardAt(to);
+
+        if (foundBoard.isEmpty()) {
+            visits.remove(playerId);
+            return;
+        }
+
+        Board board = foundBoard.get();
+        int index = board.squareGrid().indexAt(to.getBlockX(), to.getBlockZ());
+
+        if (index == Coordinate.NO_INDEX) {
+            visits.remove(playerId);
+            return;
+        }
+
+        SquareVisit previous = visits.get(playerId);
+        boolean sameBoard = previous != null && previous.boardName().equals(board.name());
+
+        if (sameBoard && previous.index() == index) {
+            return;
+        }
+
+        visits.put(playerId, new SquareVisit(board.name(), index));
+        eventDispatcher.dispatch(PlayerSquareEnteredEvent.of(
+                playerId,
+                board.name(),
+                Coordinate.fromIndex(index),
+                sameBoard ? Coordinate.fromIndex(previous.index()) : null
+        ));
+    }
+
+    /**
+     * 접속을 종료한 플레이어의 위치 기록을 정리합니다.
+     *
+     * @param event 접속 종료 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NonNull PlayerQuitEvent event) {
+        visits.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 플레이어가 마지막으로 머문 칸입니다.
+     *
+     * @param boardName 체스판 이름
+     * @param index     좌표의 압축 색인
+     */
+    private record SquareVisit(String boardName, int index) {
+    }
+}
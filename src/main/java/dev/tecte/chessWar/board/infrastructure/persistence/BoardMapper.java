@@ -5,11 +5,14 @@ import dev.tecte.chessWar.board.domain.model.Border;
 import dev.tecte.chessWar.board.domain.model.BorderType;
 import dev.tecte.chessWar.board.domain.model.Orientation;
 import dev.tecte.chessWar.board.domain.model.SquareGrid;
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import dev.tecte.chessWar.board.domain.model.spec.BorderSpec;
 import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.board.domain.model.spec.SquareSpec;
 import dev.tecte.chessWar.board.infrastructure.persistence.BoardPersistenceConstants.Keys;
+import dev.tecte.chessWar.infrastructure.bukkit.BukkitVectors;
 import dev.tecte.chessWar.infrastructure.persistence.YmlParser;
+import dev.tecte.chessWar.infrastructure.persistence.exception.YmlMappingException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
@@ -53,17 +56,19 @@ public class BoardMapper {
     /**
      * 데이터 섹션으로부터 체스판을 복원합니다.
      *
+     * @param name    체스판 이름
      * @param section 데이터 섹션
      * @return 복원된 체스판
      */
     @NonNull
-    public Board fromSection(@NonNull ConfigurationSection section) {
+    public Board fromSection(@NonNull String name, @NonNull ConfigurationSection section) {
         String worldName = parser.requireValue(section, Keys.WORLD_NAME, String.class);
         ConfigurationSection squareGridSection = parser.requireSection(section, Keys.SQUARE_GRID);
         ConfigurationSection innerBorderSection = parser.requireSection(section, Keys.INNER_BORDER);
         ConfigurationSection frameSection = parser.requireSection(section, Keys.FRAME);
 
         return Board.of(
+                name,
                 worldName,
                 fromSectionSquareGrid(squareGridSection),
                 fromSectionBorder(innerBorderSection, BorderType.INNER_BORDER),
@@ -75,8 +80,10 @@ public class BoardMapper {
     private Map<String, Object> toMapSquareGrid(@NonNull SquareGrid squareGrid) {
         Map<String, Object> map = new HashMap<>();
 
-        map.put(Keys.ANCHOR, squareGrid.anchor());
+        map.put(Keys.ANCHOR, BukkitVectors.toVector(squareGrid.anchor()));
         map.put(Keys.ORIENTATION, squareGrid.orientation().name());
+        map.put(Keys.ROW_COUNT, squareGrid.gridSpec().rowCount());
+        map.put(Keys.COL_COUNT, squareGrid.gridSpec().colCount());
 
         return map;
     }
@@ -92,10 +99,28 @@ public class BoardMapper {
 
     @NonNull
     private SquareGrid fromSectionSquareGrid(@NonNull ConfigurationSection section) {
-        Vector anchor = parser.requireValue(section, Keys.ANCHOR, Vector.class);
+        Vec3 anchor = BukkitVectors.fromVector(parser.requireValue(section, Keys.ANCHOR, Vector.class));
         Orientation orientation = parser.requireEnum(section, Keys.ORIENTATION, Orientation::from);
 
-        return SquareGrid.of(anchor, orientation, gridSpec, squareSpec);
+        return SquareGrid.of(anchor, orientation, fromSectionGridSpec(section), squareSpec);
+    }
+
+    // 크기 정보가 없는 이전 데이터는 기본 격자 명세를 따름
+    @NonNull
+    private GridSpec fromSectionGridSpec(@NonNull ConfigurationSection section) {
+        int rowCount = parser.findValue(section, Keys.ROW_COUNT, Integer.class).orElse(gridSpec.rowCount());
+        int colCount = parser.findValue(section, Keys.COL_COUNT, Integer.class).orElse(gridSpec.colCount());
+
+        if (!GridSpec.isValidSize(rowCount, colCount)) {
+            throw YmlMappingException.forInvalidFormat(
+                    rowCount + "x" + colCount,
+                    section.getCurrentPath(),
+                    GridSpec.MIN_SIZE + "x" + GridSpec.MIN_SIZE + " - " + GridSpec.MAX_SIZE + "x" + GridSpec.MAX_SIZE,
+                    null
+            );
+        }
+
+        return GridSpec.of(rowCount, colCount);
     }
 
     @NonNull
@@ -8,6 +8,8 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class BoardPersistenceConstants {
     public final String ROOT = "board";
+    // 단일 체스판 데이터를 옮겨 올 때 사용할 이름
+    public final String LEGACY_BOARD_NAME = "default";
 
     /**
      * YAML 매핑 키 상수입니다.
@@ -15,6 +17,7 @@ public class BoardPersistenceConstants {
     @UtilityClass
     public class Keys {
         public final String STATE = "state";
+        public final String BOARDS = "boards";
 
         public final String WORLD_NAME = "world";
         public final String SQUARE_GRID = "square-grid";
@@ -23,6 +26,8 @@ public class BoardPersistenceConstants {
 
         public final String ANCHOR = "anchor";
         public final String ORIENTATION = "orientation";
+        public final String ROW_COUNT = "rows";
+        public final String COL_COUNT = "cols";
         public final String BOUNDING_BOX = "bounding-box";
     }
 
@@ -31,6 +36,8 @@ public class BoardPersistenceConstants {
      */
     @UtilityClass
     public class StatePaths {
-        public final String STATE_PATH = ROOT + "." + Keys.STATE;
+        public final String BOARDS_PATH = ROOT + "." + Keys.BOARDS;
+        // 단일 체스판만 지원하던 시절의 저장 경로
+        public final String LEGACY_STATE_PATH = ROOT + "." + Keys.STATE;
     }
 }
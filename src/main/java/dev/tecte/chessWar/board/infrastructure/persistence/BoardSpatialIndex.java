@@ -0,0 +1,100 @@
+package dev.tecte.chessWar.board.infrastructure.persistence;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.NonNull;
+import org.bukkit.Chunk;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 월드와 청크 좌표로 체스판을 찾는 불변 공간 색인입니다.
+ * <p>
+ * 청크 좌표는 {@link Chunk#getChunkKey(int, int)}와 같은 방식으로 {@code long}에 압축하며,
+ * 조회는 해시 두 번과 해당 청크에 걸친 소수의 체스판 비교로 끝납니다.
+ * 체스판이 바뀔 때마다 새로 만들어 교체하므로 어느 스레드에서든 안전하게 조회할 수 있습니다.
+ */
+final class BoardSpatialIndex {
+    static final BoardSpatialIndex EMPTY = new BoardSpatialIndex(Map.of());
+
+    private static final Board[] NO_BOARDS = new Board[0];
+
+    private final Map<String, Long2ObjectMap<Board[]>> chunksByWorld;
+
+    private BoardSpatialIndex(@NonNull Map<String, Long2ObjectMap<Board[]>> chunksByWorld) {
+        this.chunksByWorld = chunksByWorld;
+    }
+
+    /**
+     * 체스판 목록으로 색인을 만듭니다.
+     *
+     * @param boards 색인할 체스판
+     * @return 공간 색인
+     */
+    @NonNull
+    static BoardSpatialIndex of(@NonNull Collection<Board> boards) {
+        Map<String, Long2ObjectMap<Board[]>> chunksByWorld = new HashMap<>();
+
+        for (Board board : boards) {
+            Long2ObjectMap<Board[]> chunks = chunksByWorld.computeIfAbsent(
+                    board.worldName(),
+                    ignored -> new Long2ObjectOpenHashMap<>()
+            );
+            BoundingBox area = board.frame().boundingBox();
+            int minChunkX = (int) Math.floor(area.getMinX()) >> 4;
+            int minChunkZ = (int) Math.floor(area.getMinZ()) >> 4;
+            int maxChunkX = ((int) Math.ceil(area.getMaxX()) - 1) >> 4;
+            int maxChunkZ = ((int) Math.ceil(area.getMaxZ()) - 1) >> 4;
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    long key = Chunk.getChunkKey(chunkX, chunkZ);
+                    Board[] existing = chunks.getOrDefault(key, NO_BOARDS);
+                    Board[] extended = Arrays.copyOf(existing, existing.length + 1);
+
+                    extended[existing.length] = board;
+                    chunks.put(key, extended);
+                }
+            }
+        }
+
+        return new BoardSpatialIndex(Map.copyOf(chunksByWorld));
+    }
+
+    /**
+     * 수평 위치를 덮는 체스판을 찾습니다.
+     *
+     * @param worldName 월드 이름
+     * @param x         월드 X
+     * @param z         월드 Z
+     * @return 찾은 체스판
+     */
+    @NonNull
+    Optional<Board> find(@NonNull String worldName, double x, double z) {
+        Long2ObjectMap<Board[]> chunks = chunksByWorld.get(worldName);
+
+        if (chunks == null) {
+            return Optional.empty();
+        }
+
+        Board[] candidates = chunks.get(Chunk.getChunkKey((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4));
+
+        if (candidates == null) {
+            return Optional.empty();
+        }
+
+        for (Board candidate : candidates) {
+            if (candidate.frame().containsHorizontally(x, z)) {
+                return Optional.of(candidate);
+            }
+        }
+
+        return Optional.empty();
+    }
+}
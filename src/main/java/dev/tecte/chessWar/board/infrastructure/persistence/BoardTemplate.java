@@ -0,0 +1,77 @@
+package dev.tecte.chessWar.board.infrastructure.persistence;
+
+import dev.tecte.chessWar.board.domain.model.Orientation;
+import lombok.NonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 기준점에 대한 상대 위치로 미리 계산해 둔 체스판 블록 템플릿입니다.
+ * <p>
+ * 방위마다 X 방향으로 이어진 블록 묶음의 배열을 가지며, 각 묶음은
+ * {@code [dx, dy, dz, 길이, 팔레트 색인]} 다섯 값으로 표현됩니다.
+ *
+ * @param fingerprint 템플릿을 만든 명세와 테마의 식별자
+ * @param palette     블록 데이터 문자열 팔레트
+ * @param runs        방위별 블록 묶음 배열
+ */
+public record BoardTemplate(String fingerprint, List<String> palette, Map<Orientation, int[]> runs) {
+    public static final int RUN_STRIDE = 5;
+
+    public BoardTemplate {
+        Objects.requireNonNull(fingerprint, "Fingerprint cannot be null");
+        Objects.requireNonNull(palette, "Palette cannot be null");
+        Objects.requireNonNull(runs, "Runs cannot be null");
+
+        for (Orientation orientation : Orientation.values()) {
+            int[] orientationRuns = runs.get(orientation);
+
+            if (orientationRuns == null || orientationRuns.length % RUN_STRIDE != 0) {
+                throw new IllegalArgumentException("Runs for " + orientation + " are missing or malformed.");
+            }
+        }
+
+        palette = List.copyOf(palette);
+        runs = new EnumMap<>(runs);
+    }
+
+    /**
+     * 방위에 해당하는 블록 묶음을 기준점 기준으로 방문합니다.
+     *
+     * @param orientation 체스판 방위
+     * @param visitor     블록 묶음 방문자
+     */
+    public void forEachRun(@NonNull Orientation orientation, @NonNull RunVisitor visitor) {
+        int[] orientationRuns = runs.get(orientation);
+
+        for (int i = 0; i < orientationRuns.length; i += RUN_STRIDE) {
+            visitor.visit(
+                    orientationRuns[i],
+                    orientationRuns[i + 1],
+                    orientationRuns[i + 2],
+                    orientationRuns[i + 3],
+                    orientationRuns[i + 4]
+            );
+        }
+    }
+
+    /**
+     * 템플릿의 블록 묶음을 방문합니다.
+     */
+    @FunctionalInterface
+    public interface RunVisitor {
+        /**
+         * X 방향으로 이어진 블록 묶음 하나를 방문합니다.
+         *
+         * @param dx           기준점에 대한 시작 X 변위
+         * @param dy           기준점에 대한 Y 변위
+         * @param dz           기준점에 대한 Z 변위
+         * @param length       묶음 길이
+         * @param paletteIndex 팔레트 색인
+         */
+        void visit(int dx, int dy, int dz, int length, int paletteIndex);
+    }
+}
@@ -0,0 +1,196 @@
+package dev.tecte.chessWar.board.infrastructure.persistence;
+
+import dev.tecte.chessWar.board.domain.model.Orientation;
+import dev.tecte.chessWar.common.persistence.PersistableState;
+import dev.tecte.chessWar.infrastructure.persistence.AtomicFileWriter;
+import dev.tecte.chessWar.infrastructure.persistence.exception.PersistenceException;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 컴파일된 체스판 템플릿을 압축된 바이너리 파일로 보관합니다.
+ * <p>
+ * 템플릿은 기동 시 모두 메모리로 읽어 두며, 새로 컴파일된 템플릿만 영속성 전용 스레드에서 기록합니다.
+ * 읽을 수 없는 파일은 다시 컴파일하면 되므로 경고만 남기고 건너뜁니다.
+ */
+@Slf4j(topic = "ChessWar")
+@Singleton
+public class FileBoardTemplateStore implements PersistableState {
+    private static final int MAGIC = 0x43574254;
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIRECTORY = "templates";
+    private static final String FILE_EXTENSION = ".bin";
+
+    private final ExceptionDispatcher dispatcher;
+    private final ExecutorService persistenceExecutor;
+    private final Path directory;
+    private final Map<String, BoardTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, BoardTemplate> pending = new ConcurrentHashMap<>();
+
+    @Inject
+    public FileBoardTemplateStore(
+            @NonNull ExceptionDispatcher dispatcher,
+            @NonNull ExecutorService persistenceExecutor,
+            @NonNull JavaPlugin plugin
+    ) {
+        this.dispatcher = dispatcher;
+        this.persistenceExecutor = persistenceExecutor;
+        this.directory = plugin.getDataFolder().toPath().resolve(DIRECTORY);
+    }
+
+    @Override
+    public void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    BoardTemplate template = read(file);
+
+                    templates.put(template.fingerprint(), template);
+                } catch (IOException | IllegalArgumentException e) {
+                    log.atWarn().log("Skipping unreadable board template '{}': {}",
+                            file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw PersistenceException.forLoadFailure(DIRECTORY, e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        pending.forEach((fingerprint, template) -> {
+            write(template);
+            pending.remove(fingerprint, template);
+        });
+    }
+
+    /**
+     * 식별자에 해당하는 템플릿을 찾습니다.
+     *
+     * @param fingerprint 템플릿 식별자
+     * @return 찾은 템플릿
+     */
+    @NonNull
+    public Optional<BoardTemplate> find(@NonNull String fingerprint) {
+        return Optional.ofNullable(templates.get(fingerprint));
+    }
+
+    /**
+     * 템플릿을 저장하고 비동기적으로 파일에 반영합니다.
+     *
+     * @param template 저장할 템플릿
+     */
+    public void save(@NonNull BoardTemplate template) {
+        String fingerprint = template.fingerprint();
+
+        templates.put(fingerprint, template);
+        pending.put(fingerprint, template);
+        persistenceExecutor.execute(() -> {
+            try {
+                write(template);
+                pending.remove(fingerprint, template);
+            } catch (PersistenceException e) {
+                dispatcher.dispatch(e, null, "Async Board Template Persistence");
+            }
+        });
+    }
+
+    @NonNull
+    private String fileNameOf(@NonNull String fingerprint) {
+        return fingerprint + FILE_EXTENSION;
+    }
+
+    private void write(@NonNull BoardTemplate template) {
+        Path file = directory.resolve(fileNameOf(template.fingerprint()));
+
+        AtomicFileWriter.writeCompressed(file, out -> writeTemplate(out, template));
+    }
+
+    @NonNull
+    private BoardTemplate read(@NonNull Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            return readTemplate(in);
+        }
+    }
+
+    private void writeTemplate(@NonNull DataOutputStream out, @NonNull BoardTemplate template) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(template.fingerprint());
+        out.writeInt(template.palette().size());
+
+        for (String blockData : template.palette()) {
+            out.writeUTF(blockData);
+        }
+
+        for (Orientation orientation : Orientation.values()) {
+            int[] runs = template.runs().get(orientation);
+
+            out.writeInt(runs.length);
+
+            for (int value : runs) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    @NonNull
+    private BoardTemplate readTemplate(@NonNull DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a board template file.");
+        }
+
+        int version = in.readInt();
+
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported board template version: " + version);
+        }
+
+        String fingerprint = in.readUTF();
+        int paletteSize = in.readInt();
+        List<String> palette = new ArrayList<>(paletteSize);
+
+        for (int i = 0; i < paletteSize; i++) {
+            palette.add(in.readUTF());
+        }
+
+        Map<Orientation, int[]> runs = new EnumMap<>(Orientation.class);
+
+        for (Orientation orientation : Orientation.values()) {
+            int[] orientationRuns = new int[in.readInt()];
+
+            for (int i = 0; i < orientationRuns.length; i++) {
+                orientationRuns[i] = in.readInt();
+            }
+
+            runs.put(orientation, orientationRuns);
+        }
+
+        return new BoardTemplate(fingerprint, palette, runs);
+    }
+}
@@ -0,0 +1,215 @@
+package dev.tecte.chessWar.board.infrastructure.persistence;
+
+import dev.tecte.chessWar.common.persistence.PersistableState;
+import dev.tecte.chessWar.infrastructure.persistence.AtomicFileWriter;
+import dev.tecte.chessWar.infrastructure.persistence.exception.PersistenceException;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 체스판별 원래 지형 스냅샷을 압축된 바이너리 파일로 관리합니다.
+ * <p>
+ * 모든 파일 I/O는 영속성 전용 스레드에서 순서대로 수행하며,
+ * 아직 기록되지 않은 스냅샷은 종료 시 {@link #flush()}로 즉시 기록합니다.
+ */
+@Singleton
+public class FileTerrainSnapshotStore implements PersistableState {
+    private static final int MAGIC = 0x43575453;
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIRECTORY = "terrain";
+    private static final String FILE_EXTENSION = ".bin";
+
+    private final ExceptionDispatcher dispatcher;
+    private final ExecutorService persistenceExecutor;
+    private final Path directory;
+    private final Map<String, TerrainSnapshot> pending = new ConcurrentHashMap<>();
+
+    @Inject
+    public FileTerrainSnapshotStore(
+            @NonNull ExceptionDispatcher dispatcher,
+            @NonNull ExecutorService persistenceExecutor,
+            @NonNull JavaPlugin plugin
+    ) {
+        this.dispatcher = dispatcher;
+        this.persistenceExecutor = persistenceExecutor;
+        this.directory = plugin.getDataFolder().toPath().resolve(DIRECTORY);
+    }
+
+    @Override
+    public void load() {
+        // 스냅샷은 복원 시점에만 필요하므로 기동 시 미리 읽지 않음
+    }
+
+    @Override
+    public void flush() {
+        pending.forEach((boardName, snapshot) -> {
+            write(boardName, snapshot);
+            pending.remove(boardName, snapshot);
+        });
+    }
+
+    /**
+     * 스냅샷을 저장하고 비동기적으로 파일에 반영합니다.
+     * <p>
+     * 기록에 실패하면 보류 중인 스냅샷을 버리고 Future를 예외로 완료합니다.
+     *
+     * @param boardName 체스판 이름
+     * @param snapshot  저장할 스냅샷
+     * @return 파일 기록 완료 시 완료되는 Future
+     */
+    @NonNull
+    public CompletableFuture<Void> save(@NonNull String boardName, @NonNull TerrainSnapshot snapshot) {
+        pending.put(boardName, snapshot);
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                write(boardName, snapshot);
+            } finally {
+                pending.remove(boardName, snapshot);
+            }
+        }, persistenceExecutor);
+    }
+
+    /**
+     * 저장된 스냅샷을 비동기로 불러옵니다.
+     *
+     * @param boardName 체스판 이름
+     * @return 불러온 스냅샷
+     */
+    @NonNull
+    public CompletableFuture<Optional<TerrainSnapshot>> find(@NonNull String boardName) {
+        TerrainSnapshot snapshot = pending.get(boardName);
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(Optional.of(snapshot));
+        }
+
+        return CompletableFuture.supplyAsync(() -> read(boardName), persistenceExecutor);
+    }
+
+    /**
+     * 저장된 스냅샷을 삭제합니다.
+     *
+     * @param boardName 체스판 이름
+     */
+    public void delete(@NonNull String boardName) {
+        pending.remove(boardName);
+        persistenceExecutor.execute(() -> {
+            try {
+                Files.deleteIfExists(fileOf(boardName));
+            } catch (IOException e) {
+                dispatcher.dispatch(
+                        PersistenceException.forSaveFailure(fileNameOf(boardName), e),
+                        null,
+                        "Async Terrain Snapshot Deletion"
+                );
+            }
+        });
+    }
+
+    @NonNull
+    private Path fileOf(@NonNull String boardName) {
+        return directory.resolve(fileNameOf(boardName));
+    }
+
+    @NonNull
+    private String fileNameOf(@NonNull String boardName) {
+        return boardName + FILE_EXTENSION;
+    }
+
+    private void write(@NonNull String boardName, @NonNull TerrainSnapshot snapshot) {
+        AtomicFileWriter.writeCompressed(fileOf(boardName), out -> writeSnapshot(out, snapshot));
+    }
+
+    @NonNull
+    private Optional<TerrainSnapshot> read(@NonNull String boardName) {
+        Path file = fileOf(boardName);
+
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            return Optional.of(readSnapshot(in));
+        } catch (IOException | IllegalArgumentException e) {
+            throw PersistenceException.forLoadFailure(fileNameOf(boardName), e);
+        }
+    }
+
+    private void writeSnapshot(@NonNull DataOutputStream out, @NonNull TerrainSnapshot snapshot) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(snapshot.originX());
+        out.writeInt(snapshot.originY());
+        out.writeInt(snapshot.originZ());
+        out.writeInt(snapshot.sizeX());
+        out.writeInt(snapshot.sizeY());
+        out.writeInt(snapshot.sizeZ());
+        out.writeInt(snapshot.palette().size());
+
+        for (String blockData : snapshot.palette()) {
+            out.writeUTF(blockData);
+        }
+
+        int[] runs = snapshot.runs();
+
+        out.writeInt(runs.length);
+
+        for (int value : runs) {
+            out.writeInt(value);
+        }
+    }
+
+    @NonNull
+    private TerrainSnapshot readSnapshot(@NonNull DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a terrain snapshot file.");
+        }
+
+        int version = in.readInt();
+
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported terrain snapshot version: " + version);
+        }
+
+        int originX = in.readInt();
+        int originY = in.readInt();
+        int originZ = in.readInt();
+        int sizeX = in.readInt();
+        int sizeY = in.readInt();
+        int sizeZ = in.readInt();
+        int paletteSize = in.readInt();
+        List<String> palette = new ArrayList<>(paletteSize);
+
+        for (int i = 0; i < paletteSize; i++) {
+            palette.add(in.readUTF());
+        }
+
+        int[] runs = new int[in.readInt()];
+
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = in.readInt();
+        }
+
+        return new TerrainSnapshot(originX, originY, originZ, sizeX, sizeY, sizeZ, palette, runs);
+    }
+}
@@ -0,0 +1,93 @@
+package dev.tecte.chessWar.board.infrastructure.persistence;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 체스판을 설치하기 전의 원래 지형을 팔레트와 런 길이 부호화로 압축해 보관합니다.
+ * <p>
+ * 블록은 Y, Z, X 순서로 나열되며, {@code runs}는 {@code [팔레트 색인, 반복 횟수]} 쌍의 배열입니다.
+ *
+ * @param originX 영역의 최소 X
+ * @param originY 영역의 최소 Y
+ * @param originZ 영역의 최소 Z
+ * @param sizeX   X 방향 크기
+ * @param sizeY   Y 방향 크기
+ * @param sizeZ   Z 방향 크기
+ * @param palette 블록 데이터 문자열 팔레트
+ * @param runs    팔레트 색인과 반복 횟수의 쌍
+ */
+public record TerrainSnapshot(
+        int originX,
+        int originY,
+        int originZ,
+        int sizeX,
+        int sizeY,
+        int sizeZ,
+        List<String> palette,
+        int[] runs
+) {
+    public TerrainSnapshot {
+        Objects.requireNonNull(palette, "Palette cannot be null");
+        Objects.requireNonNull(runs, "Runs cannot be null");
+
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+
+        if (runs.length % 2 != 0) {
+            throw new IllegalArgumentException("Runs must be pairs of palette index and length.");
+        }
+
+        palette = List.copyOf(palette);
+    }
+
+    /**
+     * 영역 안의 블록 수를 반환합니다.
+     *
+     * @return 블록 수
+     */
+    public int volume() {
+        return sizeX * sizeY * sizeZ;
+    }
+
+    /**
+     * 저장된 모든 블록을 나열 순서대로 방문합니다.
+     *
+     * @param visitor 블록 방문자
+     */
+    public void forEachBlock(@NonNull BlockVisitor visitor) {
+        int index = 0;
+
+        for (int i = 0; i < runs.length; i += 2) {
+            int paletteIndex = runs[i];
+            int length = runs[i + 1];
+
+            for (int j = 0; j < length; j++, index++) {
+                int x = index % sizeX;
+                int z = (index / sizeX) % sizeZ;
+                int y = index / (sizeX * sizeZ);
+
+                visitor.visit(originX + x, originY + y, originZ + z, paletteIndex);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷의 블록을 방문합니다.
+     */
+    @FunctionalInterface
+    public interface BlockVisitor {
+        /**
+         * 블록 하나를 방문합니다.
+         *
+         * @param x            월드 X
+         * @param y            월드 Y
+         * @param z            월드 Z
+         * @param paletteIndex 팔레트 색인
+         */
+        void visit(int x, int y, int z, int paletteIndex);
+    }
+}
@@ -4,7 +4,7 @@ import dev.tecte.chessWar.board.application.port.BoardRepository;
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.infrastructure.persistence.BoardPersistenceConstants.StatePaths;
 import dev.tecte.chessWar.infrastructure.file.YmlFileManager;
-import dev.tecte.chessWar.infrastructure.persistence.AbstractSingleYmlRepository;
+import dev.tecte.chessWar.infrastructure.persistence.AbstractKeyedYmlRepository;
 import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -12,14 +12,20 @@ import lombok.NonNull;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 /**
- * YML 파일을 사용하여 체스판의 영속성을 관리합니다.
+ * YML 파일을 사용하여 이름별 체스판의 영속성을 관리합니다.
+ * <p>
+ * 체스판이 바뀔 때마다 청크 단위 공간 색인을 다시 만들어, 위치 기반 조회를 상수 시간에 처리합니다.
  */
 @Singleton
-public class YmlBoardRepository extends AbstractSingleYmlRepository<Board> implements BoardRepository {
+public class YmlBoardRepository extends AbstractKeyedYmlRepository<Board> implements BoardRepository {
     private final BoardMapper mapper;
+    private final YmlFileManager fileManager;
+
+    private volatile BoardSpatialIndex spatialIndex = BoardSpatialIndex.EMPTY;
 
     @Inject
     public YmlBoardRepository(
@@ -30,12 +36,36 @@ public class YmlBoardRepository extends AbstractSingleYmlRepository<Board> imple
     ) {
         super(dispatcher, fileManager, persistenceExecutor);
         this.mapper = mapper;
+        this.fileManager = fileManager;
+    }
+
+    @Override
+    public void load() {
+        super.load();
+        migrateLegacyBoard();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Board> findAt(@NonNull String worldName, double x, double z) {
+        return spatialIndex.find(worldName, x, z);
+    }
+
+    @Override
+    protected void onChanged() {
+        spatialIndex = BoardSpatialIndex.of(cachedValues());
     }
 
     @NonNull
     @Override
-    protected Board deserialize(@NonNull ConfigurationSection section) {
-        return mapper.fromSection(section);
+    protected String keyOf(@NonNull Board entity) {
+        return entity.name();
+    }
+
+    @NonNull
+    @Override
+    protected Board deserialize(@NonNull String key, @NonNull ConfigurationSection section) {
+        return mapper.fromSection(key, section);
     }
 
     @NonNull
@@ -47,6 +77,23 @@ public class YmlBoardRepository extends AbstractSingleYmlRepository<Board> imple
     @NonNull
     @Override
     protected String getDataPath() {
-        return StatePaths.STATE_PATH;
+        return StatePaths.BOARDS_PATH;
+    }
+
+    private void migrateLegacyBoard() {
+        ConfigurationSection legacy = fileManager.config().getConfigurationSection(StatePaths.LEGACY_STATE_PATH);
+
+        if (legacy == null) {
+            return;
+        }
+
+        Board board = mapper.fromSection(BoardPersistenceConstants.LEGACY_BOARD_NAME, legacy);
+
+        // 이어지는 비동기 저장에 옛 경로의 삭제도 함께 반영되도록 먼저 비움
+        fileManager.set(StatePaths.LEGACY_STATE_PATH, null);
+
+        if (find(BoardPersistenceConstants.LEGACY_BOARD_NAME).isEmpty()) {
+            save(board);
+        }
     }
 }
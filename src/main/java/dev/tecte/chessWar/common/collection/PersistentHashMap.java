@@ -0,0 +1,681 @@
+package dev.tecte.chessWar.common.collection;
+
+import lombok.NonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 구조를 공유하는 불변 해시 트라이 맵입니다.
+ * <p>
+ * CHAMP(Compressed Hash-Array Mapped Prefix-tree) 구조를 사용하며, 갱신은 바뀐 경로의 노드만
+ * 새로 만들고 나머지는 이전 버전과 공유하므로 O(log n)의 할당으로 새 버전을 얻을 수 있습니다.
+ * {@link Map}의 변경 메서드는 지원하지 않으며, {@link #plus}와 {@link #minus}로 새 버전을 만듭니다.
+ * {@code null} 키와 값은 허용하지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.empty(), 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentHashMap(@NonNull Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 빈 맵을 반환합니다.
+     *
+     * @param <K> 키 타입
+     * @param <V> 값 타입
+     * @return 빈 맵
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * 주어진 맵의 내용을 담은 맵을 생성합니다.
+     * <p>
+     * 이미 이 타입의 맵이면 복사하지 않고 그대로 반환합니다.
+     *
+     * @param map 원본 맵
+     * @param <K> 키 타입
+     * @param <V> 값 타입
+     * @return 맵
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(@NonNull Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap<?, ?> persistent) {
+            return (PersistentHashMap<K, V>) persistent;
+        }
+
+        return PersistentHashMap.<K, V>empty().plusAll(map);
+    }
+
+    /**
+     * 항목을 추가하거나 값을 교체한 새 맵을 반환합니다.
+     *
+     * @param key   키
+     * @param value 값
+     * @return 새 맵, 변경이 없으면 현재 맵
+     */
+    @NonNull
+    public PersistentHashMap<K, V> plus(@NonNull K key, @NonNull V value) {
+        Change change = new Change();
+        Node<K, V> newRoot = root.updated(key, value, hashOf(key), 0, change);
+
+        if (newRoot == root) {
+            return this;
+        }
+
+        return new PersistentHashMap<>(newRoot, change.inserted ? size + 1 : size);
+    }
+
+    /**
+     * 모든 항목을 추가하거나 값을 교체한 새 맵을 반환합니다.
+     *
+     * @param map 추가할 항목
+     * @return 새 맵
+     */
+    @NonNull
+    public PersistentHashMap<K, V> plusAll(@NonNull Map<? extends K, ? extends V> map) {
+        Node<K, V> newRoot = root;
+        int newSize = size;
+
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            K key = Objects.requireNonNull(entry.getKey(), "Key cannot be null");
+            V value = Objects.requireNonNull(entry.getValue(), "Value cannot be null");
+            Change change = new Change();
+
+            newRoot = newRoot.updated(key, value, hashOf(key), 0, change);
+
+            if (change.inserted) {
+                newSize++;
+            }
+        }
+
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, newSize);
+    }
+
+    /**
+     * 항목을 제거한 새 맵을 반환합니다.
+     *
+     * @param key 키
+     * @return 새 맵, 키가 없으면 현재 맵
+     */
+    @NonNull
+    public PersistentHashMap<K, V> minus(@NonNull Object key) {
+        Node<K, V> newRoot = root.removed(key, hashOf(key), 0);
+
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    public V get(Object key) {
+        return key == null ? null : root.find(key, hashOf(key), 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+        root.forEach(action);
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entries = entrySet;
+
+        if (entries == null) {
+            entries = new AbstractSet<>() {
+                @NonNull
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator<>(root);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+            entrySet = entries;
+        }
+
+        return entries;
+    }
+
+    private static int hashOf(@NonNull Object key) {
+        int hash = key.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 갱신 중 새 항목이 삽입되었는지 기록합니다.
+     */
+    private static final class Change {
+        private boolean inserted;
+    }
+
+    /**
+     * 트라이의 노드입니다.
+     */
+    private abstract static class Node<K, V> {
+        static final int BITS_PER_LEVEL = 5;
+        static final int HASH_BITS = 32;
+        static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+        abstract V find(@NonNull Object key, int hash, int shift);
+
+        @NonNull
+        abstract Node<K, V> updated(@NonNull K key, @NonNull V value, int hash, int shift, @NonNull Change change);
+
+        @NonNull
+        abstract Node<K, V> removed(@NonNull Object key, int hash, int shift);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        @NonNull
+        abstract Node<K, V> nodeAt(int index);
+
+        /**
+         * 하위 노드 없이 항목이 하나뿐인지 확인합니다.
+         */
+        boolean isSingleton() {
+            return nodeArity() == 0 && payloadArity() == 1;
+        }
+
+        void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+            for (int i = 0; i < payloadArity(); i++) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+
+            for (int i = 0; i < nodeArity(); i++) {
+                nodeAt(i).forEach(action);
+            }
+        }
+
+        static int maskOf(int hash, int shift) {
+            return (hash >>> shift) & LEVEL_MASK;
+        }
+
+        static int bitOf(int mask) {
+            return 1 << mask;
+        }
+    }
+
+    /**
+     * 비트맵으로 항목과 하위 노드의 위치를 압축해 보관하는 노드입니다.
+     * <p>
+     * {@code content}의 앞쪽에는 키와 값이 번갈아, 뒤쪽에는 하위 노드가 역순으로 놓입니다.
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, 0, new Object[0]);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, @NonNull Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @NonNull
+        @SuppressWarnings("unchecked")
+        static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY;
+        }
+
+        @NonNull
+        static <K, V> BitmapNode<K, V> singleton(@NonNull K key, @NonNull V value, int hash) {
+            // 최상위까지 끌어올려질 수 있으므로 첫 단계 기준의 비트 위치를 사용
+            return new BitmapNode<>(bitOf(maskOf(hash, 0)), 0, new Object[]{key, value});
+        }
+
+        @NonNull
+        static <K, V> Node<K, V> merge(
+                @NonNull K key0, @NonNull V value0, int hash0,
+                @NonNull K key1, @NonNull V value1, int hash1,
+                int shift
+        ) {
+            if (shift >= HASH_BITS) {
+                return new CollisionNode<>(hash0, new Object[]{key0, value0, key1, value1});
+            }
+
+            int mask0 = maskOf(hash0, shift);
+            int mask1 = maskOf(hash1, shift);
+
+            if (mask0 != mask1) {
+                Object[] content = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+
+                return new BitmapNode<>(bitOf(mask0) | bitOf(mask1), 0, content);
+            }
+
+            Node<K, V> child = merge(key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+
+            return new BitmapNode<>(0, bitOf(mask0), new Object[]{child});
+        }
+
+        @Override
+        V find(@NonNull Object key, int hash, int shift) {
+            int bit = bitOf(maskOf(hash, shift));
+
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+
+                return key.equals(keyAt(index)) ? valueAt(index) : null;
+            }
+
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(nodeIndex(bit)).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+
+            return null;
+        }
+
+        @NonNull
+        @Override
+        Node<K, V> updated(@NonNull K key, @NonNull V value, int hash, int shift, @NonNull Change change) {
+            int bit = bitOf(maskOf(hash, shift));
+
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                K currentKey = keyAt(index);
+                V currentValue = valueAt(index);
+
+                if (key.equals(currentKey)) {
+                    return value.equals(currentValue) ? this : copyAndSetValue(index, value);
+                }
+
+                Node<K, V> child = merge(
+                        currentKey, currentValue, hashOf(currentKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL
+                );
+
+                change.inserted = true;
+
+                return copyAndMigrateToNode(bit, child);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                Node<K, V> child = nodeAt(nodeIndex(bit));
+                Node<K, V> newChild = child.updated(key, value, hash, shift + BITS_PER_LEVEL, change);
+
+                return newChild == child ? this : copyAndSetNode(bit, newChild);
+            }
+
+            change.inserted = true;
+
+            return copyAndInsertValue(bit, key, value);
+        }
+
+        @NonNull
+        @Override
+        Node<K, V> removed(@NonNull Object key, int hash, int shift) {
+            int bit = bitOf(maskOf(hash, shift));
+
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+
+                if (!key.equals(keyAt(index))) {
+                    return this;
+                }
+
+                if (payloadArity() == 2 && nodeArity() == 0) {
+                    // 남은 항목 하나는 상위 노드에 인라인되거나 최상위가 됨
+                    int remaining = 1 - index;
+                    K remainingKey = keyAt(remaining);
+
+                    return singleton(remainingKey, valueAt(remaining), hashOf(remainingKey));
+                }
+
+                return copyAndRemoveValue(bit, index);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                Node<K, V> child = nodeAt(nodeIndex(bit));
+                Node<K, V> newChild = child.removed(key, hash, shift + BITS_PER_LEVEL);
+
+                if (newChild == child) {
+                    return this;
+                }
+
+                if (!newChild.isSingleton()) {
+                    return copyAndSetNode(bit, newChild);
+                }
+
+                // 하위 노드가 항목 하나로 줄어들면 현재 노드에 인라인하여 트라이를 정규형으로 유지
+                return payloadArity() == 0 && nodeArity() == 1
+                        ? newChild
+                        : copyAndMigrateToInline(bit, newChild);
+            }
+
+            return this;
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) content[index * 2];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) content[index * 2 + 1];
+        }
+
+        @NonNull
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> nodeAt(int index) {
+            return (Node<K, V>) content[content.length - 1 - index];
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndSetValue(int index, @NonNull V value) {
+            Object[] newContent = content.clone();
+
+            newContent[index * 2 + 1] = value;
+
+            return new BitmapNode<>(dataMap, nodeMap, newContent);
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndSetNode(int bit, @NonNull Node<K, V> node) {
+            Object[] newContent = content.clone();
+
+            newContent[content.length - 1 - nodeIndex(bit)] = node;
+
+            return new BitmapNode<>(dataMap, nodeMap, newContent);
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndInsertValue(int bit, @NonNull K key, @NonNull V value) {
+            int position = dataIndex(bit) * 2;
+            Object[] newContent = new Object[content.length + 2];
+
+            System.arraycopy(content, 0, newContent, 0, position);
+            newContent[position] = key;
+            newContent[position + 1] = value;
+            System.arraycopy(content, position, newContent, position + 2, content.length - position);
+
+            return new BitmapNode<>(dataMap | bit, nodeMap, newContent);
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndRemoveValue(int bit, int index) {
+            int position = index * 2;
+            Object[] newContent = new Object[content.length - 2];
+
+            System.arraycopy(content, 0, newContent, 0, position);
+            System.arraycopy(content, position + 2, newContent, position, content.length - position - 2);
+
+            return new BitmapNode<>(dataMap ^ bit, nodeMap, newContent);
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndMigrateToNode(int bit, @NonNull Node<K, V> node) {
+            int oldPosition = dataIndex(bit) * 2;
+            int newPosition = content.length - 2 - nodeIndex(bit);
+            Object[] newContent = new Object[content.length - 1];
+
+            System.arraycopy(content, 0, newContent, 0, oldPosition);
+            System.arraycopy(content, oldPosition + 2, newContent, oldPosition, newPosition - oldPosition);
+            newContent[newPosition] = node;
+            System.arraycopy(
+                    content, newPosition + 2,
+                    newContent, newPosition + 1,
+                    content.length - newPosition - 2
+            );
+
+            return new BitmapNode<>(dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        @NonNull
+        private BitmapNode<K, V> copyAndMigrateToInline(int bit, @NonNull Node<K, V> node) {
+            int oldPosition = content.length - 1 - nodeIndex(bit);
+            int newPosition = dataIndex(bit) * 2;
+            Object[] newContent = new Object[content.length + 1];
+
+            System.arraycopy(content, 0, newContent, 0, newPosition);
+            newContent[newPosition] = node.keyAt(0);
+            newContent[newPosition + 1] = node.valueAt(0);
+            System.arraycopy(content, newPosition, newContent, newPosition + 2, oldPosition - newPosition);
+            System.arraycopy(
+                    content, oldPosition + 1,
+                    newContent, oldPosition + 2,
+                    content.length - oldPosition - 1
+            );
+
+            return new BitmapNode<>(dataMap | bit, nodeMap ^ bit, newContent);
+        }
+    }
+
+    /**
+     * 해시값 전체가 같은 항목들을 선형으로 보관하는 노드입니다.
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Object[] content;
+
+        private CollisionNode(int hash, @NonNull Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        @Override
+        V find(@NonNull Object key, int hash, int shift) {
+            int index = indexOf(key);
+
+            return index < 0 ? null : valueAt(index);
+        }
+
+        @NonNull
+        @Override
+        Node<K, V> updated(@NonNull K key, @NonNull V value, int hash, int shift, @NonNull Change change) {
+            int index = indexOf(key);
+
+            if (index >= 0) {
+                if (value.equals(valueAt(index))) {
+                    return this;
+                }
+
+                Object[] newContent = content.clone();
+
+                newContent[index * 2 + 1] = value;
+
+                return new CollisionNode<>(this.hash, newContent);
+            }
+
+            Object[] newContent = new Object[content.length + 2];
+
+            System.arraycopy(content, 0, newContent, 0, content.length);
+            newContent[content.length] = key;
+            newContent[content.length + 1] = value;
+            change.inserted = true;
+
+            return new CollisionNode<>(this.hash, newContent);
+        }
+
+        @NonNull
+        @Override
+        Node<K, V> removed(@NonNull Object key, int hash, int shift) {
+            int index = indexOf(key);
+
+            if (index < 0) {
+                return this;
+            }
+
+            if (payloadArity() == 2) {
+                int remaining = 1 - index;
+
+                return BitmapNode.singleton(keyAt(remaining), valueAt(remaining), this.hash);
+            }
+
+            int position = index * 2;
+            Object[] newContent = new Object[content.length - 2];
+
+            System.arraycopy(content, 0, newContent, 0, position);
+            System.arraycopy(content, position + 2, newContent, position, content.length - position - 2);
+
+            return new CollisionNode<>(this.hash, newContent);
+        }
+
+        @Override
+        int payloadArity() {
+            return content.length / 2;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) content[index * 2];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) content[index * 2 + 1];
+        }
+
+        @NonNull
+        @Override
+        Node<K, V> nodeAt(int index) {
+            throw new IndexOutOfBoundsException("Collision node has no child nodes.");
+        }
+
+        private int indexOf(@NonNull Object key) {
+            for (int i = 0; i < payloadArity(); i++) {
+                if (key.equals(keyAt(i))) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * 트라이를 깊이 우선으로 순회하며 항목을 제공합니다.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+        private Node<K, V> current;
+        private int payloadIndex;
+
+        private EntryIterator(@NonNull Node<K, V> root) {
+            pending.push(root);
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+
+            Entry<K, V> entry = new SimpleImmutableEntry<>(
+                    current.keyAt(payloadIndex),
+                    current.valueAt(payloadIndex)
+            );
+
+            if (++payloadIndex >= current.payloadArity()) {
+                advance();
+            }
+
+            return entry;
+        }
+
+        private void advance() {
+            current = null;
+
+            while (!pending.isEmpty()) {
+                Node<K, V> node = pending.pop();
+
+                for (int i = node.nodeArity() - 1; i >= 0; i--) {
+                    pending.push(node.nodeAt(i));
+                }
+
+                if (node.payloadArity() > 0) {
+                    current = node;
+                    payloadIndex = 0;
+
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.tecte.chessWar.common.collection;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 구조를 공유하는 불변 스택입니다.
+ * <p>
+ * 단일 연결 리스트로 구현되어, 쌓기와 꺼내기 모두 이전 버전의 노드를 그대로 공유하며 O(1)에 새 버전을 만듭니다.
+ * 따라서 버전을 여러 개 보관해도 메모리는 전체 버전 수가 아니라 쌓은 원소 수에 비례합니다.
+ * {@link java.util.Collection}의 변경 메서드는 지원하지 않으며, 순회는 맨 위 원소부터 진행합니다.
+ * {@code null} 원소는 허용하지 않습니다.
+ *
+ * @param <E> 원소 타입
+ */
+public final class PersistentStack<E> extends AbstractCollection<E> {
+    private static final PersistentStack<?> EMPTY = new PersistentStack<>(null);
+
+    @Nullable
+    private final Node<E> top;
+
+    private PersistentStack(@Nullable Node<E> top) {
+        this.top = top;
+    }
+
+    /**
+     * 빈 스택을 반환합니다.
+     *
+     * @param <E> 원소 타입
+     * @return 빈 스택
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentStack<E> empty() {
+        return (PersistentStack<E>) EMPTY;
+    }
+
+    /**
+     * 원소를 맨 위에 쌓은 새 스택을 반환합니다.
+     *
+     * @param element 원소
+     * @return 새 스택
+     */
+    @NonNull
+    public PersistentStack<E> pushed(@NonNull E element) {
+        return new PersistentStack<>(new Node<>(element, top, size() + 1));
+    }
+
+    /**
+     * 맨 위 원소를 꺼낸 새 스택을 반환합니다.
+     *
+     * @return 새 스택
+     * @throws NoSuchElementException 스택이 비어 있을 경우
+     */
+    @NonNull
+    public PersistentStack<E> popped() {
+        if (top == null) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+
+        return top.next() == null ? empty() : new PersistentStack<>(top.next());
+    }
+
+    /**
+     * 맨 위 원소를 제공합니다.
+     *
+     * @return 맨 위 원소, 비어 있으면 빈 값
+     */
+    @NonNull
+    public Optional<E> peek() {
+        return top == null ? Optional.empty() : Optional.of(top.element());
+    }
+
+    @Override
+    public int size() {
+        return top == null ? 0 : top.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> cursor = top;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != null;
+            }
+
+            @Override
+            public E next() {
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+
+                E element = cursor.element();
+
+                cursor = cursor.next();
+
+                return element;
+            }
+        };
+    }
+
+    // 공유된 꼬리는 같은 노드이므로 만나는 즉시 비교를 끝냄
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof PersistentStack<?> other) || size() != other.size()) {
+            return false;
+        }
+
+        Node<?> left = top;
+        Node<?> right = other.top;
+
+        while (left != right) {
+            if (!Objects.equals(left.element(), right.element())) {
+                return false;
+            }
+
+            left = left.next();
+            right = right.next();
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+
+        for (E element : this) {
+            hash = 31 * hash + element.hashCode();
+        }
+
+        return hash;
+    }
+
+    private record Node<E>(E element, @Nullable Node<E> next, int size) {
+    }
+}
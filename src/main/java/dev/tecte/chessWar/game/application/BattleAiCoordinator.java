@@ -0,0 +1,165 @@
+package dev.tecte.chessWar.game.application;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.common.identity.ProjectIdentity;
+import dev.tecte.chessWar.game.application.port.GameExecutors;
+import dev.tecte.chessWar.game.application.port.GameRepository;
+import dev.tecte.chessWar.game.application.port.GameTaskManager;
+import dev.tecte.chessWar.game.domain.exception.GameException;
+import dev.tecte.chessWar.game.domain.model.Game;
+import dev.tecte.chessWar.game.domain.model.phase.BattleState;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.game.domain.service.MoveSearcher;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 전투에서 참가자가 조종하지 않는 기물을 인공지능으로 움직입니다.
+ * <p>
+ * 메인 스레드에서는 국면 스냅샷과 움직일 기물의 칸만 모으고, 수읽기는 작업 스레드에서 탐색 포크-조인 풀로 수행합니다.
+ * 찾은 수만 메인 스레드로 넘겨 참가자의 이동 요청과 같은 경로({@link RealTimeBattleCoordinator#submitMove})로
+ * 반영하므로, 칸 예약과 바뀐 국면에 대한 합법성 재검증을 똑같이 거칩니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BattleAiCoordinator {
+    private static final Duration SEARCH_BUDGET = Duration.ofMillis(250);
+    private static final long THINK_INTERVAL_TICKS = 2 * 20L;
+
+    private final GameRepository gameRepository;
+    private final RealTimeBattleCoordinator battleCoordinator;
+    private final MoveSearcher moveSearcher;
+    private final GameTaskManager gameTaskManager;
+    private final GameExecutors executors;
+    private final ExceptionDispatcher exceptionDispatcher;
+
+    // 수읽기가 진행 중인 경기장별 팀 (같은 팀의 탐색이 겹치지 않도록 함)
+    private final Set<String> thinking = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 경기장의 인공지능을 시작합니다.
+     *
+     * @param arenaId 경기장 ID
+     */
+    public void start(@NonNull String arenaId) {
+        gameTaskManager.runRepeating(
+                arenaId,
+                GameTaskType.AI,
+                () -> think(arenaId),
+                THINK_INTERVAL_TICKS,
+                THINK_INTERVAL_TICKS
+        );
+    }
+
+    /**
+     * 경기장의 인공지능을 중단합니다.
+     * <p>
+     * 이미 진행 중인 수읽기는 제한 시간 안에 끝나며, 그 결과는 반영 시점의 검증에서 걸러집니다.
+     *
+     * @param arenaId 경기장 ID
+     */
+    public void stop(@NonNull String arenaId) {
+        gameTaskManager.cancel(arenaId, GameTaskType.AI);
+    }
+
+    /**
+     * 실시간 전투가 진행 중인 모든 경기장의 인공지능을 재개합니다.
+     */
+    public void resumeAll() {
+        gameRepository.findAll().stream()
+                .filter(this::isRealTimeBattle)
+                .map(Game::arenaId)
+                .forEach(this::start);
+    }
+
+    private void think(String arenaId) {
+        Optional<Game> found = gameRepository.find(arenaId).filter(this::isRealTimeBattle);
+
+        if (found.isEmpty()) {
+            stop(arenaId);
+
+            return;
+        }
+
+        Game game = found.get();
+
+        for (TeamColor team : TeamColor.values()) {
+            Bitboard movable = movableOf(game, team);
+
+            if (!movable.isEmpty() && thinking.add(thinkingKey(arenaId, team))) {
+                play(game, team, movable);
+            }
+        }
+    }
+
+    private void play(Game game, TeamColor team, Bitboard movable) {
+        String arenaId = game.arenaId();
+        Position snapshot = game.position();
+        CompletableFuture<Optional<Move>> search;
+
+        try {
+            search = CompletableFuture.supplyAsync(
+                    () -> moveSearcher.search(snapshot, team, movable, SEARCH_BUDGET, executors.search()),
+                    executors.worker()
+            );
+        } catch (RuntimeException e) {
+            // 작업 스레드가 작업을 거부하면 표시를 지울 후속 단계가 없으므로 여기서 지워 다음 주기에 다시 시도
+            thinking.remove(thinkingKey(arenaId, team));
+            exceptionDispatcher.dispatch(e, null, "Battle AI");
+
+            return;
+        }
+
+        search
+                .thenComposeAsync(move -> move.map(found -> submit(arenaId, team, found))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null)), executors.mainThread())
+                .whenComplete((ignored, throwable) -> thinking.remove(thinkingKey(arenaId, team)))
+                .exceptionally(throwable -> {
+                    // 참가자의 수와 경합해 칸 예약이나 재검증에 실패한 경우는 조용히 넘기고 다음 주기에 다시 수를 찾음
+                    if (throwable.getCause() instanceof Exception cause && !(cause instanceof GameException)) {
+                        exceptionDispatcher.dispatch(cause, null, "Battle AI");
+                    }
+
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> submit(String arenaId, TeamColor team, Move move) {
+        return gameRepository.find(arenaId)
+                .filter(this::isRealTimeBattle)
+                .map(game -> battleCoordinator.submitMove(game, ProjectIdentity.SYSTEM_ID, team, move))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    // 참가자가 조종하지 않는 기물의 칸
+    private Bitboard movableOf(Game game, TeamColor team) {
+        Bitboard.Builder builder = Bitboard.builder();
+
+        game.pieces().forEach((coordinate, piece) -> {
+            if (piece.isTeam(team) && !game.isAlreadySelected(piece.id())) {
+                builder.add(coordinate);
+            }
+        });
+
+        return builder.build();
+    }
+
+    private boolean isRealTimeBattle(Game game) {
+        return game.state() instanceof BattleState battle && battle.isRealTime();
+    }
+
+    private String thinkingKey(String arenaId, TeamColor team) {
+        return arenaId + ":" + team;
+    }
+}
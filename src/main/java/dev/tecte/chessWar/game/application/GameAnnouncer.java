@@ -2,9 +2,11 @@ package dev.tecte.chessWar.game.application;
 
 import dev.tecte.chessWar.game.application.port.GameRepository;
 import dev.tecte.chessWar.game.application.port.GameTaskManager;
+import dev.tecte.chessWar.game.domain.model.Game;
+import dev.tecte.chessWar.game.domain.model.position.Move;
 import dev.tecte.chessWar.piece.domain.model.PieceType;
 import dev.tecte.chessWar.port.UserNotifier;
-import dev.tecte.chessWar.team.application.TeamService;
+import dev.tecte.chessWar.port.UserResolver;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
@@ -12,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -22,7 +26,7 @@ import java.util.Set;
 public class GameAnnouncer {
     private final GameRepository gameRepository;
     private final GameTaskManager gameTaskManager;
-    private final TeamService teamService;
+    private final UserResolver userResolver;
     private final UserNotifier userNotifier;
 
     /**
@@ -35,32 +39,35 @@ public class GameAnnouncer {
     }
 
     /**
-     * 현재 게임 상태에 맞게 기물 선택 가이드를 재개합니다.
+     * 진행 중인 모든 게임의 상태에 맞게 기물 선택 가이드를 재개합니다.
      */
     public void restoreSelectionGuidance() {
-        gameRepository.find().ifPresent(game -> {
+        gameRepository.findAll().forEach(game -> {
             if (!game.isInSelectionPhase()) {
                 return;
             }
 
-            if (game.hasSelectedPiece(teamService.findAllParticipantIds())) {
-                announceSelectionCompletion();
+            if (game.hasAllParticipantsSelected()) {
+                announceSelectionCompletion(game.arenaId());
             } else {
-                startSelectionGuidance();
+                startSelectionGuidance(game.arenaId());
             }
         });
     }
 
     /**
      * 기물 선택 가이드를 시작합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    public void startSelectionGuidance() {
+    public void startSelectionGuidance(@NonNull String arenaId) {
         long initialDelay = 0L;
         long intervalTicks = 2 * 20L;
 
         gameTaskManager.runRepeating(
+                arenaId,
                 GameTaskType.GUIDANCE,
-                this::refreshParticipantsStatus,
+                () -> refreshParticipantsStatus(arenaId),
                 initialDelay,
                 intervalTicks
         );
@@ -68,9 +75,11 @@ public class GameAnnouncer {
 
     /**
      * 기물 선택 가이드를 중단합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    public void stopGuidance() {
-        gameTaskManager.cancel(GameTaskType.GUIDANCE);
+    public void stopGuidance(@NonNull String arenaId) {
+        gameTaskManager.cancel(arenaId, GameTaskType.GUIDANCE);
     }
 
     /**
@@ -79,12 +88,12 @@ public class GameAnnouncer {
      * @param player 대상 참가자
      */
     public void refreshSelectionStatus(@NonNull Player player) {
-        gameRepository.find().ifPresent(game -> {
+        gameRepository.findByParticipant(player.getUniqueId()).ifPresent(game -> {
             if (!game.isInSelectionPhase()) {
                 return;
             }
 
-            if (game.hasSelectedPiece(teamService.findAllParticipantIds())) {
+            if (game.hasAllParticipantsSelected()) {
                 userNotifier.displayActionBar(player, GameMessage.SELECTION_COMPLETED.content());
 
                 return;
@@ -108,12 +117,15 @@ public class GameAnnouncer {
 
     /**
      * 모든 참가자의 기물 선택 완료를 알립니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    public void announceSelectionCompletion() {
-        stopGuidance();
+    public void announceSelectionCompletion(@NonNull String arenaId) {
+        stopGuidance(arenaId);
         gameTaskManager.runRepeating(
+                arenaId,
                 GameTaskType.GUIDANCE,
-                this::displayCompletionStatus,
+                () -> displayCompletionStatus(arenaId),
                 0L,
                 2 * 20L
         );
@@ -128,9 +140,29 @@ public class GameAnnouncer {
         userNotifier.informSuccess(requester, GameMessage.GAME_STOPPED.content());
     }
 
-    private void refreshParticipantsStatus() {
-        gameRepository.find().ifPresent(game ->
-                teamService.findAllOnlineParticipants().forEach(player -> {
+    /**
+     * 수 되돌리기를 알립니다.
+     *
+     * @param requester 행위자
+     * @param move      되돌린 수
+     */
+    public void notifyMoveUndone(@NonNull CommandSender requester, @NonNull Move move) {
+        userNotifier.informSuccess(requester, GameMessage.moveUndone(move));
+    }
+
+    /**
+     * 수 다시 두기를 알립니다.
+     *
+     * @param requester 행위자
+     * @param move      다시 둔 수
+     */
+    public void notifyMoveRedone(@NonNull CommandSender requester, @NonNull Move move) {
+        userNotifier.informSuccess(requester, GameMessage.moveRedone(move));
+    }
+
+    private void refreshParticipantsStatus(String arenaId) {
+        gameRepository.find(arenaId).ifPresent(game ->
+                findOnlineParticipants(game).forEach(player -> {
                     boolean hasSelected = game.hasSelectedPiece(player.getUniqueId());
 
                     sendSelectionStatus(player, hasSelected);
@@ -144,8 +176,16 @@ public class GameAnnouncer {
         );
     }
 
-    private void displayCompletionStatus() {
-        teamService.findAllOnlineParticipants().forEach(player ->
-                userNotifier.displayActionBar(player, GameMessage.SELECTION_COMPLETED.content()));
+    private void displayCompletionStatus(String arenaId) {
+        gameRepository.find(arenaId).ifPresent(game ->
+                findOnlineParticipants(game).forEach(player ->
+                        userNotifier.displayActionBar(player, GameMessage.SELECTION_COMPLETED.content())));
+    }
+
+    private List<Player> findOnlineParticipants(Game game) {
+        return game.participants().keySet().stream()
+                .map(userResolver::findPlayer)
+                .flatMap(Optional::stream)
+                .toList();
     }
 }
@@ -2,16 +2,20 @@ package dev.tecte.chessWar.game.application;
 
 import dev.tecte.chessWar.board.application.BoardService;
 import dev.tecte.chessWar.board.domain.model.Board;
-import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import dev.tecte.chessWar.common.event.DomainEventDispatcher;
 import dev.tecte.chessWar.game.application.port.GameRepository;
+import dev.tecte.chessWar.game.domain.event.BattleStartedEvent;
 import dev.tecte.chessWar.game.domain.event.GameParticipantJoinedEvent;
 import dev.tecte.chessWar.game.domain.event.GameSelectionStartedEvent;
 import dev.tecte.chessWar.game.domain.event.GameStartedEvent;
 import dev.tecte.chessWar.game.domain.event.GameStoppedEvent;
+import dev.tecte.chessWar.game.domain.event.MoveRedoneEvent;
+import dev.tecte.chessWar.game.domain.event.MoveUndoneEvent;
 import dev.tecte.chessWar.game.domain.event.PiecesSpawnedEvent;
 import dev.tecte.chessWar.game.domain.exception.GameException;
 import dev.tecte.chessWar.game.domain.exception.GameSystemException;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
 import dev.tecte.chessWar.game.domain.model.Game;
 import dev.tecte.chessWar.game.domain.model.GamePhase;
 import dev.tecte.chessWar.game.domain.model.PhaseTimerSettings;
@@ -30,11 +34,16 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * 게임의 전반적인 진행 흐름을 조율합니다.
+ * <p>
+ * 게임은 경기장별로 독립적으로 진행되므로, 체스판이 다르면 여러 게임을 동시에 진행할 수 있습니다.
  */
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -52,20 +61,21 @@ public class GameFlowCoordinator {
     /**
      * 게임을 시작합니다.
      *
-     * @param sender 행위자
+     * @param sender    행위자
+     * @param boardName 게임을 진행할 체스판 이름
      * @throws GameException 시작 조건을 충족하지 못했을 경우
      */
-    public void startGame(@NonNull CommandSender sender) {
-        if (gameRepository.isGameInProgress()) {
-            throw GameException.alreadyInProgress();
+    public void startGame(@NonNull CommandSender sender, @NonNull String boardName) {
+        if (gameRepository.isGameInProgress(boardName)) {
+            throw GameException.alreadyInProgress(boardName);
         }
 
-        Board board = boardService.findBoard().orElseThrow(GameException::boardNotSetup);
+        Board board = boardService.findBoard(boardName).orElseThrow(() -> GameException.boardNotSetup(boardName));
 
         worldResolver.ensureExists(board.worldName(), GameException::worldNotFound);
         teamService.ensureMinimumCapacityMet();
 
-        Game game = Game.create(board);
+        Game game = Game.create(board, findAvailableParticipants());
 
         gameRepository.save(game);
         eventDispatcher.dispatch(GameStartedEvent.of(
@@ -77,26 +87,43 @@ public class GameFlowCoordinator {
     /**
      * 게임을 중단합니다.
      *
-     * @param sender 행위자
+     * @param sender  행위자
+     * @param arenaId 경기장 ID
      * @throws GameException 게임을 찾지 못했을 경우
      */
-    public void stopGame(@NonNull CommandSender sender) {
-        Game game = gameRepository.find().orElseThrow(GameException::notFound);
+    public void stopGame(@NonNull CommandSender sender, @NonNull String arenaId) {
+        Game game = gameRepository.find(arenaId).orElseThrow(GameException::notFound);
 
-        gameRepository.delete();
+        gameRepository.delete(arenaId);
+        // 잡힌 뒤 되돌리기에 대비해 숨겨 둔 기물도 함께 정리
         eventDispatcher.dispatch(GameStoppedEvent.of(
-                game.units(),
+                arenaId,
+                Stream.concat(game.units().stream(), game.capturedUnits().stream()).toList(),
                 userResolver.resolveActorId(sender)
         ));
     }
 
+    /**
+     * 게임이 진행 중인 모든 경기장의 ID를 반환합니다.
+     *
+     * @return 경기장 ID 목록
+     */
+    @NonNull
+    public List<String> findActiveArenaIds() {
+        return gameRepository.findAll().stream()
+                .map(Game::arenaId)
+                .sorted()
+                .toList();
+    }
+
     /**
      * 전장을 준비합니다.
      *
-     * @param board     체스판
+     * @param game      시작된 게임
      * @param starterId 행위자 ID
      */
-    public void prepareBattlefield(@NonNull Board board, @NonNull UUID starterId) {
+    public void prepareBattlefield(@NonNull Game game, @NonNull UUID starterId) {
+        Board board = game.board();
         CommandSender starter = userResolver.resolveSender(starterId);
 
         pieceService.spawnPieces(board, starter)
@@ -104,7 +131,7 @@ public class GameFlowCoordinator {
                         PiecesSpawnedEvent.of(
                                 board,
                                 unitPlacements,
-                                teamService.findAllParticipants(),
+                                game.participants(),
                                 starterId
                         )
                 ));
@@ -113,17 +140,19 @@ public class GameFlowCoordinator {
     /**
      * 기물 선택 단계를 시작합니다.
      *
+     * @param arenaId           경기장 ID
      * @param initialPlacements 초기 기물 배치
      * @param participants      참여자 정보
      * @param starterId         행위자 ID
      * @throws GameSystemException 단계 전이 실패 시
      */
     public void startSelectionPhase(
-            @NonNull Map<Coordinate, UnitPiece> initialPlacements,
+            @NonNull String arenaId,
+            @NonNull CoordinateMap<UnitPiece> initialPlacements,
             @NonNull Map<UUID, TeamColor> participants,
             @NonNull UUID starterId
     ) {
-        Game game = gameRepository.find()
+        Game game = gameRepository.find(arenaId)
                 .orElseThrow(() -> GameSystemException.gameTransitionInterrupted(GamePhase.PIECE_SELECTION));
         PhaseTimerSettings timerSettings = timerPolicy.findSettings(GamePhase.PIECE_SELECTION)
                 .orElseThrow(() -> GameSystemException.gameTransitionInterrupted(GamePhase.PIECE_SELECTION));
@@ -140,16 +169,83 @@ public class GameFlowCoordinator {
     /**
      * 기물 선택 완료 시 타이머를 단축합니다.
      *
+     * @param arenaId 경기장 ID
      * @throws GameSystemException 게임 정보를 찾을 수 없을 경우
      */
-    public void accelerateSelectionTimer() {
-        Game game = gameRepository.find()
+    public void accelerateSelectionTimer(@NonNull String arenaId) {
+        Game game = gameRepository.find(arenaId)
                 .orElseThrow(() -> GameSystemException.gameNotFound(GamePhase.PIECE_SELECTION));
 
-        timerService.accelerate();
+        timerService.accelerate(arenaId);
         gameRepository.save(game);
     }
 
+    /**
+     * 전투 단계를 시작합니다.
+     * <p>
+     * 기물 선택 단계에서 바로 넘어오는 경우 남은 선택 타이머는 중단합니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 경기장 ID
+     * @param mode    전투 방식
+     * @throws GameException 게임을 찾지 못했거나 전투를 시작할 수 있는 단계가 아닐 경우
+     */
+    public void startBattle(@NonNull CommandSender sender, @NonNull String arenaId, @NonNull BattleMode mode) {
+        Game game = gameRepository.find(arenaId)
+                .orElseThrow(GameException::notFound)
+                .startBattle(mode);
+
+        timerService.stop(arenaId);
+        gameRepository.save(game);
+        eventDispatcher.dispatch(BattleStartedEvent.of(
+                game,
+                userResolver.resolveActorId(sender)
+        ));
+    }
+
+    /**
+     * 경기장의 마지막 수를 되돌립니다.
+     * <p>
+     * 메모리의 수 이력에서 바로 되돌리므로 저장된 게임을 다시 읽지 않습니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 경기장 ID
+     * @throws GameException 게임을 찾지 못했거나, 전투 중이 아니거나, 되돌릴 수가 없을 경우
+     */
+    public void undoMove(@NonNull CommandSender sender, @NonNull String arenaId) {
+        Game game = gameRepository.find(arenaId).orElseThrow(GameException::notFound);
+        Game undone = game.undo();
+
+        gameRepository.save(undone);
+        eventDispatcher.dispatch(MoveUndoneEvent.of(
+                arenaId,
+                undone.board(),
+                game.lastMove().orElseThrow(),
+                userResolver.resolveActorId(sender)
+        ));
+    }
+
+    /**
+     * 경기장에서 마지막으로 되돌린 수를 다시 둡니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 경기장 ID
+     * @throws GameException 게임을 찾지 못했거나, 전투 중이 아니거나, 다시 둘 수가 없을 경우
+     */
+    public void redoMove(@NonNull CommandSender sender, @NonNull String arenaId) {
+        Game redone = gameRepository.find(arenaId)
+                .orElseThrow(GameException::notFound)
+                .redo();
+
+        gameRepository.save(redone);
+        eventDispatcher.dispatch(MoveRedoneEvent.of(
+                arenaId,
+                redone.board(),
+                redone.lastMove().orElseThrow(),
+                userResolver.resolveActorId(sender)
+        ));
+    }
+
     /**
      * 게임 단계에 맞는 타이머를 활성화합니다.
      *
@@ -158,15 +254,19 @@ public class GameFlowCoordinator {
      */
     public void initiatePhaseTimer(@NonNull Game game, @NonNull Collection<UUID> participantIds) {
         game.timedState()
-                .ifPresent(timedState -> timerService.start(game.phase(), timedState, participantIds));
+                .ifPresent(timedState -> timerService.start(
+                        game.arenaId(),
+                        game.phase(),
+                        timedState,
+                        participantIds
+                ));
     }
 
     /**
-     * 진행 중인 게임의 타이머를 복구합니다.
+     * 진행 중인 모든 게임의 타이머를 복구합니다.
      */
-    public void resumeActiveGameTimer() {
-        gameRepository.find()
-                .ifPresent(game -> initiatePhaseTimer(game, teamService.findAllParticipantIds()));
+    public void resumeActiveGameTimers() {
+        gameRepository.findAll().forEach(game -> initiatePhaseTimer(game, game.participants().keySet()));
     }
 
     /**
@@ -175,13 +275,24 @@ public class GameFlowCoordinator {
      * @param player 접속한 플레이어
      */
     public void handlePlayerJoin(@NonNull Player player) {
-        teamService.findTeam(player)
-                .flatMap(teamColor -> gameRepository.find()
-                        .map(game -> GameParticipantJoinedEvent.of(
-                                player.getUniqueId(),
-                                teamColor,
-                                game.unitPlacements()
-                        )))
+        UUID playerId = player.getUniqueId();
+
+        gameRepository.findByParticipant(playerId)
+                .map(game -> GameParticipantJoinedEvent.of(
+                        game.arenaId(),
+                        playerId,
+                        game.participants().get(playerId),
+                        game.unitPlacements()
+                ))
                 .ifPresent(eventDispatcher::dispatch);
     }
+
+    // 다른 경기장의 참가자 명단에 오른 플레이어를 제외한 팀 참여자
+    private Map<UUID, TeamColor> findAvailableParticipants() {
+        Map<UUID, TeamColor> participants = new HashMap<>(teamService.findAllParticipants());
+
+        gameRepository.findAll().forEach(game -> participants.keySet().removeAll(game.participants().keySet()));
+
+        return participants;
+    }
 }
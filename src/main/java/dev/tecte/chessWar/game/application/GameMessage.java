@@ -1,5 +1,6 @@
 package dev.tecte.chessWar.game.application;
 
+import dev.tecte.chessWar.game.domain.model.position.Move;
 import dev.tecte.chessWar.piece.domain.model.PieceType;
 import lombok.Getter;
 import lombok.NonNull;
@@ -46,5 +47,34 @@ public enum GameMessage {
                 .append(Component.text(" 기물로 전장에 참전합니다."))
                 .build();
     }
-}
 
+    /**
+     * 수 되돌리기 메시지를 생성합니다.
+     *
+     * @param move 되돌린 수
+     * @return 조립된 메시지
+     */
+    public static Component moveUndone(@NonNull Move move) {
+        return Component.text()
+                .append(notationOf(move).color(NamedTextColor.GOLD))
+                .append(Component.text(" 수를 되돌렸습니다."))
+                .build();
+    }
+
+    /**
+     * 수 다시 두기 메시지를 생성합니다.
+     *
+     * @param move 다시 둔 수
+     * @return 조립된 메시지
+     */
+    public static Component moveRedone(@NonNull Move move) {
+        return Component.text()
+                .append(notationOf(move).color(NamedTextColor.GOLD))
+                .append(Component.text(" 수를 다시 두었습니다."))
+                .build();
+    }
+
+    private static Component notationOf(Move move) {
+        return Component.text(move.from().toNotation() + " → " + move.to().toNotation());
+    }
+}
@@ -5,5 +5,6 @@ package dev.tecte.chessWar.game.application;
  */
 public enum GameTaskType {
     TIMER,
-    GUIDANCE
+    GUIDANCE,
+    AI
 }
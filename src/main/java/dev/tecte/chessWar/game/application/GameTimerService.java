@@ -15,11 +15,13 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 게임 단계별 타이머의 생명주기를 관리합니다.
+ * 경기장별 게임 단계 타이머의 생명주기를 관리합니다.
  */
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -30,90 +32,106 @@ public class GameTimerService {
     private final GameTimerDisplay timerDisplay;
     private final DomainEventDispatcher eventDispatcher;
 
-    private TimerSession currentSession;
+    // 경기장별 진행 중인 타이머 세션
+    private final Map<String, TimerSession> sessions = new ConcurrentHashMap<>();
 
     /**
      * 타이머를 시작합니다.
      *
+     * @param arenaId        경기장 ID
      * @param phase          게임 단계
      * @param state          타이머 상태
      * @param participantIds 참가자 ID 목록
      */
     public void start(
+            @NonNull String arenaId,
             @NonNull GamePhase phase,
             @NonNull TimedState state,
             @NonNull Collection<UUID> participantIds
     ) {
-        stop();
+        stop(arenaId);
 
-        currentSession = TimerSession.of(state.timerSettings(), phase, state.remainingTime());
-        timerDisplay.show(participantIds, currentSession.renderTitle(), currentSession.progress());
-        taskManager.runRepeating(GameTaskType.TIMER, this::tick, 0L, TICKS_PER_SECOND);
+        TimerSession session = TimerSession.of(state.timerSettings(), phase, state.remainingTime());
+
+        sessions.put(arenaId, session);
+        timerDisplay.show(arenaId, participantIds, session.renderTitle(), session.progress());
+        taskManager.runRepeating(arenaId, GameTaskType.TIMER, () -> tick(arenaId), 0L, TICKS_PER_SECOND);
     }
 
     /**
      * 타이머를 중단합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    public void stop() {
-        taskManager.cancel(GameTaskType.TIMER);
-        timerDisplay.hide();
-        currentSession = null;
+    public void stop(@NonNull String arenaId) {
+        taskManager.cancel(arenaId, GameTaskType.TIMER);
+        timerDisplay.hide(arenaId);
+        sessions.remove(arenaId);
     }
 
     /**
      * 타이머 표시를 복구합니다.
      *
+     * @param arenaId       경기장 ID
      * @param participantId 참가자 ID
      */
-    public void restore(@NonNull UUID participantId) {
-        if (isActive()) {
-            timerDisplay.show(participantId);
+    public void restore(@NonNull String arenaId, @NonNull UUID participantId) {
+        if (isActive(arenaId)) {
+            timerDisplay.show(arenaId, participantId);
         }
     }
 
     /**
-     * 현재 활성화된 타이머를 설정된 제한 시간으로 단축합니다.
+     * 활성화된 타이머를 설정된 제한 시간으로 단축합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    public void accelerate() {
-        if (isActive()) {
-            accelerate(currentSession.reducedDuration());
+    public void accelerate(@NonNull String arenaId) {
+        TimerSession session = sessions.get(arenaId);
+
+        if (session != null) {
+            accelerate(arenaId, session.reducedDuration());
         }
     }
 
     /**
      * 타이머를 특정 시간으로 단축합니다.
      *
+     * @param arenaId     경기장 ID
      * @param reducedTime 목표 제한 시간
      */
-    public void accelerate(@NonNull Duration reducedTime) {
+    public void accelerate(@NonNull String arenaId, @NonNull Duration reducedTime) {
+        TimerSession session = sessions.get(arenaId);
         int reducedSeconds = (int) reducedTime.toSeconds();
 
-        if (isActive() && currentSession.accelerateTo(reducedSeconds)) {
-            timerDisplay.update(currentSession.renderTitle(), currentSession.progress());
+        if (session != null && session.accelerateTo(reducedSeconds)) {
+            timerDisplay.update(arenaId, session.renderTitle(), session.progress());
         }
     }
 
     /**
      * 타이머 활성화 여부를 확인합니다.
      *
+     * @param arenaId 경기장 ID
      * @return 활성화 여부
      */
-    public boolean isActive() {
-        return currentSession != null;
+    public boolean isActive(@NonNull String arenaId) {
+        return sessions.containsKey(arenaId);
     }
 
     /**
      * 남은 시간을 제공합니다.
      *
+     * @param arenaId 경기장 ID
      * @return 남은 시간
      */
     @NonNull
-    public Optional<Duration> remainingTime() {
-        return isActive() ? Optional.of(currentSession.remainingTime()) : Optional.empty();
+    public Optional<Duration> remainingTime(@NonNull String arenaId) {
+        return Optional.ofNullable(sessions.get(arenaId)).map(TimerSession::remainingTime);
     }
 
-    private void tick() {
-        TimerSession session = currentSession;
+    private void tick(String arenaId) {
+        TimerSession session = sessions.get(arenaId);
 
         if (session == null) {
             return;
@@ -122,16 +140,16 @@ public class GameTimerService {
         int secondsLeft = session.tick();
 
         if (secondsLeft <= 0) {
-            handleTimeout(session.phase());
+            handleTimeout(arenaId, session.phase());
 
             return;
         }
 
-        timerDisplay.update(session.renderTitle(), session.progress());
+        timerDisplay.update(arenaId, session.renderTitle(), session.progress());
     }
 
-    private void handleTimeout(@NonNull GamePhase phase) {
-        stop();
-        eventDispatcher.dispatch(GamePhaseExpiredEvent.of(phase, ProjectIdentity.SYSTEM_ID));
+    private void handleTimeout(@NonNull String arenaId, @NonNull GamePhase phase) {
+        stop(arenaId);
+        eventDispatcher.dispatch(GamePhaseExpiredEvent.of(arenaId, phase, ProjectIdentity.SYSTEM_ID));
     }
 }
@@ -16,6 +16,8 @@ import dev.tecte.chessWar.piece.domain.model.Piece;
 import dev.tecte.chessWar.piece.domain.model.PieceSpec;
 import dev.tecte.chessWar.piece.domain.model.UnitPiece;
 import dev.tecte.chessWar.team.application.TeamService;
+import dev.tecte.chessWar.team.domain.exception.TeamException;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
@@ -47,7 +49,7 @@ public class PieceSelectionCoordinator {
      * @param target 대상 엔티티
      */
     public void inspectPiece(@NonNull Player player, @NonNull Entity target) {
-        gameRepository.find()
+        gameRepository.findByPiece(target.getUniqueId())
                 .filter(game -> game.phase() == GamePhase.PIECE_SELECTION)
                 .ifPresent(game -> findSelectableUnit(game, player, target.getUniqueId())
                         .ifPresent(unit -> pieceInfoRenderer.renderInfo(
@@ -59,15 +61,19 @@ public class PieceSelectionCoordinator {
 
     /**
      * 기물을 선택하여 참전합니다.
+     * <p>
+     * 명단에 없던 플레이어는 다른 경기장에 참가 중이 아닐 때만 이 게임에 합류합니다.
      *
      * @param player  참가자
      * @param pieceId 기물 ID
+     * @throws GameException 기물을 찾지 못했거나, 다른 경기장에 참가 중이거나, 선택할 수 없는 기물일 경우
+     * @throws TeamException 명단에 없던 플레이어가 팀에 소속되지 않은 경우
      */
     public void selectPiece(@NonNull Player player, @NonNull UUID pieceId) {
-        Game game = gameRepository.find().orElseThrow(GameException::notFound);
+        Game game = gameRepository.findByPiece(pieceId).orElseThrow(GameException::pieceNotFound);
         Piece piece = game.findPiece(pieceId).orElseThrow(GameException::pieceNotFound);
 
-        game = game.selectPiece(player.getUniqueId(), pieceId);
+        game = joinIfAbsent(game, player).selectPiece(player.getUniqueId(), pieceId);
 
         try {
             gameRepository.save(game);
@@ -76,10 +82,15 @@ public class PieceSelectionCoordinator {
         }
 
         applyPieceStats(player, piece.spec());
-        eventDispatcher.dispatch(PieceSelectedEvent.of(player.getUniqueId(), pieceId, piece.spec()));
-
-        if (game.hasSelectedPiece(teamService.findAllParticipantIds())) {
-            eventDispatcher.dispatch(AllParticipantsSelectedEvent.create());
+        eventDispatcher.dispatch(PieceSelectedEvent.of(
+                game.arenaId(),
+                player.getUniqueId(),
+                pieceId,
+                piece.spec()
+        ));
+
+        if (game.hasAllParticipantsSelected()) {
+            eventDispatcher.dispatch(AllParticipantsSelectedEvent.of(game.arenaId()));
         }
     }
 
@@ -105,6 +116,22 @@ public class PieceSelectionCoordinator {
         restoreFullHealth(player);
     }
 
+    private Game joinIfAbsent(Game game, Player player) {
+        UUID playerId = player.getUniqueId();
+
+        if (game.isParticipant(playerId)) {
+            return game;
+        }
+
+        gameRepository.findByParticipant(playerId).ifPresent(other -> {
+            throw GameException.participatingInOtherArena(other.arenaId());
+        });
+
+        TeamColor team = teamService.findTeam(player).orElseThrow(TeamException::notInTeam);
+
+        return game.joined(playerId, team);
+    }
+
     private Optional<UnitPiece> findSelectableUnit(Game game, Player player, UUID targetId) {
         return game.findPiece(targetId)
                 .filter(piece -> piece instanceof UnitPiece)
@@ -0,0 +1,240 @@
+package dev.tecte.chessWar.game.application;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.common.event.DomainEventDispatcher;
+import dev.tecte.chessWar.common.identity.ProjectIdentity;
+import dev.tecte.chessWar.game.application.port.GameExecutors;
+import dev.tecte.chessWar.game.application.port.GameRepository;
+import dev.tecte.chessWar.game.domain.event.PieceMovedEvent;
+import dev.tecte.chessWar.game.domain.exception.GameException;
+import dev.tecte.chessWar.game.domain.exception.GameSystemException;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
+import dev.tecte.chessWar.game.domain.model.Game;
+import dev.tecte.chessWar.game.domain.model.GamePhase;
+import dev.tecte.chessWar.game.domain.model.phase.BattleState;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.game.domain.model.position.SquareReservations;
+import dev.tecte.chessWar.game.domain.service.AttackMapService;
+import dev.tecte.chessWar.infrastructure.persistence.exception.PersistenceException;
+import dev.tecte.chessWar.piece.domain.model.Piece;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모든 팀이 동시에 수를 두는 실시간 전투의 이동 요청을 처리합니다.
+ * <p>
+ * 요청은 출발 칸과 도착 칸을 {@link SquareReservations}에 CAS로 예약한 것만 받아들이고,
+ * 합법성 검증은 작업 스레드에서 수행합니다. 검증을 통과한 수만 메인 스레드에서 게임에 반영하므로,
+ * 동시에 몰린 요청이 저장소 저장을 기다리며 메인 스레드에서 줄을 서지 않습니다.
+ * 심판의 되돌리기는 예약을 거치지 않으므로, 반영 직전에 출발 칸의 기물을 행위자가 움직일 수 있는지 다시 확인합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class RealTimeBattleCoordinator {
+    private final GameRepository gameRepository;
+    private final AttackMapService attackMapService;
+    private final GameExecutors executors;
+    private final DomainEventDispatcher eventDispatcher;
+    private final ExceptionDispatcher exceptionDispatcher;
+
+    // 경기장별 예약 표
+    private final Map<String, SquareReservations> reservations = new ConcurrentHashMap<>();
+
+    /**
+     * 기물 이동을 요청합니다.
+     * <p>
+     * 폰이 마지막 행에 도달하면 퀸으로 승급합니다.
+     * 검증이나 반영 중 발생한 예외는 요청한 플레이어에게 알립니다.
+     *
+     * @param player 이동을 요청한 참가자
+     * @param from   출발 칸
+     * @param to     도착 칸
+     * @throws GameException 참가 중인 게임이 없거나, 실시간 전투 중이 아니거나, 칸이 체스판을 벗어나거나,
+     *                       출발 칸에 조종하는 기물이 없거나, 다른 요청이 이미 칸을 예약한 경우
+     */
+    public void requestMove(@NonNull Player player, @NonNull Coordinate from, @NonNull Coordinate to) {
+        UUID playerId = player.getUniqueId();
+        Game game = gameRepository.findByParticipant(playerId).orElseThrow(GameException::notFound);
+        BattleState battle = requireRealTimeBattle(game);
+        GridSpec gridSpec = game.board().squareGrid().gridSpec();
+
+        if (!gridSpec.contains(from) || !gridSpec.contains(to)) {
+            throw GameException.invalidSquare((gridSpec.contains(from) ? to : from).toNotation());
+        }
+
+        Piece piece = game.pieces().get(from);
+
+        if (piece == null || !battle.controls(playerId, piece.id())) {
+            throw GameException.pieceNotControlled(from);
+        }
+
+        submitMove(game, playerId, game.participants().get(playerId), moveOf(game, from, to))
+                .exceptionally(throwable -> {
+                    if (throwable.getCause() instanceof Exception cause) {
+                        exceptionDispatcher.dispatch(cause, player, "Real-Time Move");
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * 칸을 예약한 뒤 수를 검증하고 반영합니다.
+     * <p>
+     * 검증은 작업 스레드에서, 반영은 메인 스레드에서 수행하며 완료되면 예약을 해제합니다.
+     * 검증이나 반영 중 발생한 예외는 반환된 작업을 예외로 완료시킵니다.
+     *
+     * @param game    대상 게임
+     * @param actorId 수를 둔 행위자 ID
+     * @param team    수를 둘 팀
+     * @param move    둘 수
+     * @return 반영이 끝나면 완료되는 작업
+     * @throws GameException 실시간 전투 중이 아니거나, 다른 요청이 이미 칸을 예약한 경우
+     */
+    @NonNull
+    public CompletableFuture<Void> submitMove(
+            @NonNull Game game,
+            @NonNull UUID actorId,
+            @NonNull TeamColor team,
+            @NonNull Move move
+    ) {
+        requireRealTimeBattle(game);
+
+        SquareReservations squares = reservationsOf(game);
+
+        if (!squares.tryReserve(move)) {
+            throw GameException.squareReserved();
+        }
+
+        Position snapshot = game.position();
+        CompletableFuture<Boolean> validation;
+
+        try {
+            validation = CompletableFuture.supplyAsync(
+                    () -> attackMapService.isLegal(snapshot, team, move),
+                    executors.worker()
+            );
+        } catch (RuntimeException e) {
+            // 작업 스레드가 작업을 거부하면 예약을 해제할 후속 단계가 없으므로 여기서 해제
+            squares.release(move);
+
+            throw e;
+        }
+
+        return validation
+                .thenAcceptAsync(
+                        legal -> commitMove(game.arenaId(), actorId, team, move, snapshot, legal),
+                        executors.mainThread()
+                )
+                .whenComplete((ignored, throwable) -> squares.release(move));
+    }
+
+    /**
+     * 경기장의 칸 예약 표를 버립니다.
+     * <p>
+     * 진행 중이던 요청은 떨어져 나간 예약 표에서 해제되므로, 다음 게임은 빈 예약 표로 시작합니다.
+     *
+     * @param arenaId 경기장 ID
+     */
+    public void clearReservations(@NonNull String arenaId) {
+        reservations.remove(arenaId);
+    }
+
+    private void commitMove(
+            String arenaId,
+            UUID actorId,
+            TeamColor team,
+            Move move,
+            Position snapshot,
+            boolean legal
+    ) {
+        if (!legal) {
+            throw GameException.illegalMove();
+        }
+
+        Game game = gameRepository.find(arenaId)
+                .orElseThrow(() -> GameSystemException.gameNotFound(GamePhase.BATTLE));
+
+        BattleState battle = requireRealTimeBattle(game);
+        Piece piece = game.pieces().get(move.from());
+
+        // 검증하는 동안 수가 되돌려졌다면 출발 칸의 기물이 바뀌었을 수 있으므로 조종 권한을 다시 확인
+        if (piece == null || !mayMove(battle, actorId, team, piece)) {
+            throw GameException.pieceNotControlled(move.from());
+        }
+
+        Position current = game.position();
+
+        // 검증하는 동안 다른 칸의 수가 먼저 반영되었다면 바뀐 국면에서 킹의 안전을 다시 확인
+        if (current.zobristHash() != snapshot.zobristHash() && !attackMapService.isLegal(current, team, move)) {
+            throw GameException.illegalMove();
+        }
+
+        Game moved = game.move(move);
+
+        try {
+            gameRepository.save(moved);
+        } catch (PersistenceException e) {
+            throw GameSystemException.pieceMoveFailed(move, e);
+        }
+
+        attackMapService.afterMove(current, move);
+        eventDispatcher.dispatch(PieceMovedEvent.of(
+                arenaId,
+                moved.board(),
+                actorId,
+                moved.lastMove().orElseThrow()
+        ));
+    }
+
+    // 인공지능은 참가자가 조종하지 않는 자기 팀 기물만, 참가자는 자신이 조종하는 기물만 움직일 수 있음
+    private boolean mayMove(BattleState battle, UUID actorId, TeamColor team, Piece piece) {
+        if (ProjectIdentity.SYSTEM_ID.equals(actorId)) {
+            return piece.isTeam(team) && !battle.isSelected(piece.id());
+        }
+
+        return battle.controls(actorId, piece.id());
+    }
+
+    private BattleState requireRealTimeBattle(Game game) {
+        if (!(game.state() instanceof BattleState battle)) {
+            throw GameException.phaseMismatch(GamePhase.BATTLE, game.phase());
+        }
+
+        if (!battle.isRealTime()) {
+            throw GameException.battleModeMismatch(BattleMode.REAL_TIME, battle.mode());
+        }
+
+        return battle;
+    }
+
+    private Move moveOf(Game game, Coordinate from, Coordinate to) {
+        Piece piece = game.pieces().get(from);
+        int lastRow = game.board().squareGrid().gridSpec().rowCount() - 1;
+        boolean promotes = piece != null
+                && piece.spec().type() == PieceType.PAWN
+                && (to.row() == 0 || to.row() == lastRow);
+
+        return promotes ? Move.promoting(from, to, PieceType.QUEEN) : Move.of(from, to);
+    }
+
+    private SquareReservations reservationsOf(Game game) {
+        GridSpec gridSpec = game.board().squareGrid().gridSpec();
+
+        return reservations.compute(game.arenaId(), (arenaId, current) ->
+                current != null && current.gridSpec().equals(gridSpec) ? current : SquareReservations.of(gridSpec));
+    }
+}
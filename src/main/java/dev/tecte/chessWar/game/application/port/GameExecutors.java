@@ -0,0 +1,35 @@
+package dev.tecte.chessWar.game.application.port;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 게임 작업을 실행할 스레드를 제공합니다.
+ */
+public interface GameExecutors {
+    /**
+     * 메인 스레드를 막지 않아야 하는 계산을 실행할 작업 스레드 실행기를 제공합니다.
+     *
+     * @return 작업 스레드 실행기
+     */
+    @NonNull
+    Executor worker();
+
+    /**
+     * 게임 상태 반영처럼 메인 스레드에서 실행해야 하는 작업의 실행기를 제공합니다.
+     *
+     * @return 메인 스레드 실행기
+     */
+    @NonNull
+    Executor mainThread();
+
+    /**
+     * 수읽기처럼 작업을 잘게 나누어 병렬로 처리하는 계산의 포크-조인 풀을 제공합니다.
+     *
+     * @return 탐색 포크-조인 풀
+     */
+    @NonNull
+    ForkJoinPool search();
+}
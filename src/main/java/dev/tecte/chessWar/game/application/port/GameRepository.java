@@ -3,26 +3,56 @@ package dev.tecte.chessWar.game.application.port;
 import dev.tecte.chessWar.game.domain.model.Game;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
- * 게임의 영속성을 관리합니다.
+ * 경기장별 게임의 영속성을 관리합니다.
  */
 public interface GameRepository {
     /**
-     * 현재 진행 중인 게임을 찾습니다.
+     * 경기장에서 진행 중인 게임을 찾습니다.
      *
+     * @param arenaId 경기장 ID
      * @return 찾은 게임
      */
     @NonNull
-    Optional<Game> find();
+    Optional<Game> find(@NonNull String arenaId);
 
     /**
-     * 현재 게임이 진행 중인지 확인합니다.
+     * 진행 중인 모든 게임을 반환합니다.
      *
+     * @return 게임 목록
+     */
+    @NonNull
+    List<Game> findAll();
+
+    /**
+     * 기물이 속한 게임을 찾습니다.
+     *
+     * @param pieceId 기물 ID
+     * @return 찾은 게임
+     */
+    @NonNull
+    Optional<Game> findByPiece(@NonNull UUID pieceId);
+
+    /**
+     * 참가자 명단에 플레이어가 오른 게임을 찾습니다.
+     *
+     * @param participantId 참가자 ID
+     * @return 찾은 게임
+     */
+    @NonNull
+    Optional<Game> findByParticipant(@NonNull UUID participantId);
+
+    /**
+     * 경기장에서 게임이 진행 중인지 확인합니다.
+     *
+     * @param arenaId 경기장 ID
      * @return 게임 진행 여부
      */
-    boolean isGameInProgress();
+    boolean isGameInProgress(@NonNull String arenaId);
 
     /**
      * 게임을 저장하거나 업데이트합니다.
@@ -32,7 +62,9 @@ public interface GameRepository {
     void save(@NonNull Game game);
 
     /**
-     * 현재 게임을 삭제합니다.
+     * 경기장의 게임을 삭제합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    void delete();
+    void delete(@NonNull String arenaId);
 }
@@ -4,17 +4,21 @@ import dev.tecte.chessWar.game.application.GameTaskType;
 import lombok.NonNull;
 
 /**
- * 게임 도메인 특화 태스크를 관리합니다.
+ * 게임 도메인 특화 태스크를 경기장별로 관리합니다.
+ * <p>
+ * 같은 타입의 태스크라도 경기장이 다르면 서로 독립적으로 실행되고 중단됩니다.
  */
 public interface GameTaskManager {
     /**
      * 태스크를 1회 실행합니다.
      *
-     * @param type   태스크 타입
-     * @param action 실행할 태스크
-     * @param delay  지연 시간
+     * @param arenaId 경기장 ID
+     * @param type    태스크 타입
+     * @param action  실행할 태스크
+     * @param delay   지연 시간
      */
     void runOnce(
+            @NonNull String arenaId,
             @NonNull GameTaskType type,
             @NonNull Runnable action,
             long delay
@@ -23,12 +27,14 @@ public interface GameTaskManager {
     /**
      * 태스크를 반복 실행합니다.
      *
-     * @param type   태스크 타입
-     * @param action 실행할 태스크
-     * @param delay  초기 지연 시간
-     * @param period 반복 주기
+     * @param arenaId 경기장 ID
+     * @param type    태스크 타입
+     * @param action  실행할 태스크
+     * @param delay   초기 지연 시간
+     * @param period  반복 주기
      */
     void runRepeating(
+            @NonNull String arenaId,
             @NonNull GameTaskType type,
             @NonNull Runnable action,
             long delay,
@@ -38,12 +44,15 @@ public interface GameTaskManager {
     /**
      * 진행 중인 태스크를 중단합니다.
      *
-     * @param type 중단할 태스크 타입
+     * @param arenaId 경기장 ID
+     * @param type    중단할 태스크 타입
      */
-    void cancel(@NonNull GameTaskType type);
+    void cancel(@NonNull String arenaId, @NonNull GameTaskType type);
 
     /**
-     * 모든 게임 태스크를 종료합니다.
+     * 경기장의 모든 게임 태스크를 종료합니다.
+     *
+     * @param arenaId 경기장 ID
      */
-    void shutdown();
+    void shutdown(@NonNull String arenaId);
 }
@@ -17,17 +17,20 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class AllParticipantsSelectedEvent extends DomainEvent {
+public class AllParticipantsSelectedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
+    private final String arenaId;
+
     /**
      * 모든 참가자의 기물 선택 완료 이벤트를 생성합니다.
      *
+     * @param arenaId 경기장 ID
      * @return 기물 선택 완료 이벤트
      */
     @NonNull
-    public static AllParticipantsSelectedEvent create() {
-        return new AllParticipantsSelectedEvent();
+    public static AllParticipantsSelectedEvent of(@NonNull String arenaId) {
+        return new AllParticipantsSelectedEvent(arenaId);
     }
 
     @NonNull
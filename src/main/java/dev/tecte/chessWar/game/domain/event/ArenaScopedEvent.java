@@ -0,0 +1,16 @@
+package dev.tecte.chessWar.game.domain.event;
+
+import lombok.NonNull;
+
+/**
+ * 특정 경기장에서 일어난 사건의 경기장 정보를 정의합니다.
+ */
+public interface ArenaScopedEvent {
+    /**
+     * 사건이 일어난 경기장 ID를 제공합니다.
+     *
+     * @return 경기장 ID
+     */
+    @NonNull
+    String arenaId();
+}
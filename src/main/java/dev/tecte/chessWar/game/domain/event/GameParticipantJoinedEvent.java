@@ -1,6 +1,6 @@
 package dev.tecte.chessWar.game.domain.event;
 
-import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import dev.tecte.chessWar.common.event.DomainEvent;
 import dev.tecte.chessWar.piece.domain.model.UnitPiece;
 import dev.tecte.chessWar.team.domain.model.TeamColor;
@@ -11,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import org.bukkit.event.HandlerList;
 
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -20,16 +19,18 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class GameParticipantJoinedEvent extends DomainEvent {
+public class GameParticipantJoinedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
+    private final String arenaId;
     private final UUID playerId;
     private final TeamColor playerTeam;
-    private final Map<Coordinate, UnitPiece> unitPlacements;
+    private final CoordinateMap<UnitPiece> unitPlacements;
 
     /**
      * 참여자 복귀 이벤트를 생성합니다.
      *
+     * @param arenaId        경기장 ID
      * @param playerId       플레이어 ID
      * @param playerTeam     참여 팀
      * @param unitPlacements 기물 배치 현황
@@ -37,11 +38,12 @@ public class GameParticipantJoinedEvent extends DomainEvent {
      */
     @NonNull
     public static GameParticipantJoinedEvent of(
+            @NonNull String arenaId,
             @NonNull UUID playerId,
             @NonNull TeamColor playerTeam,
-            @NonNull Map<Coordinate, UnitPiece> unitPlacements
+            @NonNull CoordinateMap<UnitPiece> unitPlacements
     ) {
-        return new GameParticipantJoinedEvent(playerId, playerTeam, Map.copyOf(unitPlacements));
+        return new GameParticipantJoinedEvent(arenaId, playerId, playerTeam, unitPlacements);
     }
 
     @NonNull
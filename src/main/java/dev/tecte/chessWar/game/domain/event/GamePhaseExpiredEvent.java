@@ -17,22 +17,28 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class GamePhaseExpiredEvent extends DomainEvent {
+public class GamePhaseExpiredEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
+    private final String arenaId;
     private final GamePhase expiredPhase;
     private final UUID senderId;
 
     /**
      * 단계 만료 이벤트를 생성합니다.
      *
+     * @param arenaId      경기장 ID
      * @param expiredPhase 만료된 단계
      * @param senderId     행위자 ID
      * @return 단계 만료 이벤트
      */
     @NonNull
-    public static GamePhaseExpiredEvent of(@NonNull GamePhase expiredPhase, @NonNull UUID senderId) {
-        return new GamePhaseExpiredEvent(expiredPhase, senderId);
+    public static GamePhaseExpiredEvent of(
+            @NonNull String arenaId,
+            @NonNull GamePhase expiredPhase,
+            @NonNull UUID senderId
+    ) {
+        return new GamePhaseExpiredEvent(arenaId, expiredPhase, senderId);
     }
 
     @NonNull
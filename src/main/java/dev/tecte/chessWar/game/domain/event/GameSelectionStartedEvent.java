@@ -19,7 +19,7 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class GameSelectionStartedEvent extends DomainEvent {
+public class GameSelectionStartedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
     private final Game game;
@@ -43,6 +43,12 @@ public class GameSelectionStartedEvent extends DomainEvent {
         return new GameSelectionStartedEvent(game, participants, senderId);
     }
 
+    @NonNull
+    @Override
+    public String arenaId() {
+        return game.arenaId();
+    }
+
     @NonNull
     @Override
     public UUID senderId() {
@@ -17,7 +17,7 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class GameStartedEvent extends DomainEvent {
+public class GameStartedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
     private final Game game;
@@ -35,6 +35,12 @@ public class GameStartedEvent extends DomainEvent {
         return new GameStartedEvent(game, senderId);
     }
 
+    @NonNull
+    @Override
+    public String arenaId() {
+        return game.arenaId();
+    }
+
     @NonNull
     @Override
     public UUID senderId() {
@@ -18,22 +18,28 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class GameStoppedEvent extends DomainEvent {
+public class GameStoppedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
+    private final String arenaId;
     private final List<UnitPiece> units;
     private final UUID stopperId;
 
     /**
      * 게임 중단 이벤트를 생성합니다.
      *
-     * @param units     중단 당시 기물 목록
+     * @param arenaId   경기장 ID
+     * @param units     중단 당시 체스판의 기물과 잡힌 기물 목록
      * @param stopperId 중단 행위자 ID
      * @return 게임 중단 이벤트
      */
     @NonNull
-    public static GameStoppedEvent of(@NonNull List<UnitPiece> units, @NonNull UUID stopperId) {
-        return new GameStoppedEvent(List.copyOf(units), stopperId);
+    public static GameStoppedEvent of(
+            @NonNull String arenaId,
+            @NonNull List<UnitPiece> units,
+            @NonNull UUID stopperId
+    ) {
+        return new GameStoppedEvent(arenaId, List.copyOf(units), stopperId);
     }
 
     @NonNull
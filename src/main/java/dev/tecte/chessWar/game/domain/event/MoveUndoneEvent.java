@@ -0,0 +1,75 @@
+package dev.tecte.chessWar.game.domain.event;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.common.event.DomainEvent;
+import dev.tecte.chessWar.game.domain.model.history.PlayedMove;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.bukkit.event.HandlerList;
+
+import java.util.UUID;
+
+/**
+ * 수 되돌리기를 기록합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MoveUndoneEvent extends DomainEvent implements ArenaScopedEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final String arenaId;
+    private final Board board;
+    private final PlayedMove played;
+    private final UUID senderId;
+
+    /**
+     * 수 되돌리기 이벤트를 생성합니다.
+     *
+     * @param arenaId  경기장 ID
+     * @param board    체스판
+     * @param played   되돌린 수의 기록
+     * @param senderId 행위자 ID
+     * @return 수 되돌리기 이벤트
+     */
+    @NonNull
+    public static MoveUndoneEvent of(
+            @NonNull String arenaId,
+            @NonNull Board board,
+            @NonNull PlayedMove played,
+            @NonNull UUID senderId
+    ) {
+        return new MoveUndoneEvent(arenaId, board, played, senderId);
+    }
+
+    /**
+     * 되돌린 수를 제공합니다.
+     *
+     * @return 되돌린 수
+     */
+    @NonNull
+    public Move move() {
+        return played.move();
+    }
+
+    @NonNull
+    @Override
+    public UUID senderId() {
+        return senderId;
+    }
+
+    @NonNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NonNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,86 @@
+package dev.tecte.chessWar.game.domain.event;
+
+import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.common.event.DomainEvent;
+import dev.tecte.chessWar.game.domain.model.history.PlayedMove;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.bukkit.event.HandlerList;
+
+import java.util.UUID;
+
+/**
+ * 전투 중 기물의 이동을 기록합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PieceMovedEvent extends DomainEvent implements ArenaScopedEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final String arenaId;
+    private final Board board;
+    private final UUID playerId;
+    private final PlayedMove played;
+
+    /**
+     * 기물 이동 이벤트를 생성합니다.
+     *
+     * @param arenaId  경기장 ID
+     * @param board    체스판
+     * @param playerId 이동을 요청한 플레이어 ID, 인공지능이 둔 수이면 시스템 ID
+     * @param played   반영된 수의 기록
+     * @return 기물 이동 이벤트
+     */
+    @NonNull
+    public static PieceMovedEvent of(
+            @NonNull String arenaId,
+            @NonNull Board board,
+            @NonNull UUID playerId,
+            @NonNull PlayedMove played
+    ) {
+        return new PieceMovedEvent(arenaId, board, playerId, played);
+    }
+
+    /**
+     * 반영된 수를 제공합니다.
+     *
+     * @return 반영된 수
+     */
+    @NonNull
+    public Move move() {
+        return played.move();
+    }
+
+    /**
+     * 이동한 기물의 명세를 제공합니다.
+     *
+     * @return 이동한 기물의 명세
+     */
+    @NonNull
+    public PieceSpec pieceSpec() {
+        return played.piece().spec();
+    }
+
+    @NonNull
+    @Override
+    public UUID senderId() {
+        return playerId;
+    }
+
+    @NonNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NonNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
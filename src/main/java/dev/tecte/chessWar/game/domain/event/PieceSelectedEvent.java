@@ -17,9 +17,10 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class PieceSelectedEvent extends DomainEvent {
+public class PieceSelectedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
+    private final String arenaId;
     private final UUID playerId;
     private final UUID pieceId;
     private final PieceSpec pieceSpec;
@@ -27,6 +28,7 @@ public class PieceSelectedEvent extends DomainEvent {
     /**
      * 기물 선택 이벤트를 생성합니다.
      *
+     * @param arenaId   경기장 ID
      * @param playerId  플레이어 ID
      * @param pieceId   기물 ID
      * @param pieceSpec 기물 명세
@@ -34,11 +36,12 @@ public class PieceSelectedEvent extends DomainEvent {
      */
     @NonNull
     public static PieceSelectedEvent of(
+            @NonNull String arenaId,
             @NonNull UUID playerId,
             @NonNull UUID pieceId,
             @NonNull PieceSpec pieceSpec
     ) {
-        return new PieceSelectedEvent(playerId, pieceId, pieceSpec);
+        return new PieceSelectedEvent(arenaId, playerId, pieceId, pieceSpec);
     }
 
     @NonNull
@@ -1,7 +1,7 @@
 package dev.tecte.chessWar.game.domain.event;
 
 import dev.tecte.chessWar.board.domain.model.Board;
-import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import dev.tecte.chessWar.common.event.DomainEvent;
 import dev.tecte.chessWar.piece.domain.model.UnitPiece;
 import dev.tecte.chessWar.team.domain.model.TeamColor;
@@ -21,11 +21,11 @@ import java.util.UUID;
 @Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class PiecesSpawnedEvent extends DomainEvent {
+public class PiecesSpawnedEvent extends DomainEvent implements ArenaScopedEvent {
     private static final HandlerList HANDLERS = new HandlerList();
 
     private final Board board;
-    private final Map<Coordinate, UnitPiece> unitPlacements;
+    private final CoordinateMap<UnitPiece> unitPlacements;
     private final Map<UUID, TeamColor> participants;
     private final UUID starterId;
 
@@ -41,11 +41,17 @@ public class PiecesSpawnedEvent extends DomainEvent {
     @NonNull
     public static PiecesSpawnedEvent of(
             @NonNull Board board,
-            @NonNull Map<Coordinate, UnitPiece> unitPlacements,
+            @NonNull CoordinateMap<UnitPiece> unitPlacements,
             @NonNull Map<UUID, TeamColor> participants,
             @NonNull UUID starterId
     ) {
-        return new PiecesSpawnedEvent(board, Map.copyOf(unitPlacements), Map.copyOf(participants), starterId);
+        return new PiecesSpawnedEvent(board, unitPlacements, Map.copyOf(participants), starterId);
+    }
+
+    @NonNull
+    @Override
+    public String arenaId() {
+        return board.name();
     }
 
     @NonNull
@@ -1,6 +1,8 @@
 package dev.tecte.chessWar.game.domain.exception;
 
+import dev.tecte.chessWar.board.domain.model.Coordinate;
 import dev.tecte.chessWar.common.exception.BusinessException;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
 import dev.tecte.chessWar.game.domain.model.GamePhase;
 import dev.tecte.chessWar.piece.domain.model.PieceType;
 import lombok.NonNull;
@@ -16,13 +18,14 @@ public class GameException extends BusinessException {
     }
 
     /**
-     * 이미 진행 중인 게임이 있을 때 발생합니다.
+     * 경기장에 이미 진행 중인 게임이 있을 때 발생합니다.
      *
+     * @param arenaId 경기장 ID
      * @return 생성된 예외
      */
     @NonNull
-    public static GameException alreadyInProgress() {
-        return new GameException("게임이 이미 진행 중입니다.");
+    public static GameException alreadyInProgress(@NonNull String arenaId) {
+        return new GameException("경기장 '%s'에서 게임이 이미 진행 중입니다.".formatted(arenaId));
     }
 
     /**
@@ -38,11 +41,12 @@ public class GameException extends BusinessException {
     /**
      * 체스판이 존재하지 않을 때 발생합니다.
      *
+     * @param boardName 체스판 이름
      * @return 생성된 예외
      */
     @NonNull
-    public static GameException boardNotSetup() {
-        return new GameException("체스판이 존재하지 않습니다. 체스판을 먼저 생성해 주세요.");
+    public static GameException boardNotSetup(@NonNull String boardName) {
+        return new GameException("체스판 '%s'이(가) 존재하지 않습니다. 체스판을 먼저 생성해 주세요.".formatted(boardName));
     }
 
     /**
@@ -89,6 +93,17 @@ public class GameException extends BusinessException {
         return new GameException("이미 참전 중인 기물입니다.");
     }
 
+    /**
+     * 다른 경기장의 게임에 이미 참가 중일 때 발생합니다.
+     *
+     * @param arenaId 참가 중인 경기장 ID
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException participatingInOtherArena(@NonNull String arenaId) {
+        return new GameException("이미 경기장 '%s'의 게임에 참가 중입니다.".formatted(arenaId));
+    }
+
     /**
      * 참전이 불가능한 기물 타입일 때 발생합니다.
      *
@@ -99,4 +114,79 @@ public class GameException extends BusinessException {
     public static GameException unselectablePieceType(@NonNull PieceType type) {
         return new GameException("%s 기물로는 참전할 수 없습니다.".formatted(type.displayName()));
     }
+
+    /**
+     * 현재 전투 방식에서 허용되지 않는 작업일 때 발생합니다.
+     *
+     * @param required 필요한 전투 방식
+     * @param current  현재 전투 방식
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException battleModeMismatch(@NonNull BattleMode required, @NonNull BattleMode current) {
+        return new GameException("해당 작업은 '%s' 전투에서만 가능합니다. (현재 방식: %s)"
+                .formatted(required.displayName(), current.displayName()));
+    }
+
+    /**
+     * 규칙상 둘 수 없는 수일 때 발생합니다.
+     *
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException illegalMove() {
+        return new GameException("둘 수 없는 수입니다.");
+    }
+
+    /**
+     * 참가자가 조종하지 않는 기물을 움직이려 할 때 발생합니다.
+     *
+     * @param from 출발 칸
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException pieceNotControlled(@NonNull Coordinate from) {
+        return new GameException("%s 칸에 직접 조종하는 기물이 없습니다.".formatted(from.toNotation()));
+    }
+
+    /**
+     * 다른 수가 먼저 칸을 차지하여 처리 중일 때 발생합니다.
+     *
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException squareReserved() {
+        return new GameException("다른 기물의 이동이 먼저 처리되고 있는 칸입니다.");
+    }
+
+    /**
+     * 좌표 표기가 올바르지 않을 때 발생합니다.
+     *
+     * @param notation 입력된 좌표 표기
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException invalidSquare(@NonNull String notation) {
+        return new GameException("'%s'은(는) 올바른 칸이 아닙니다.".formatted(notation));
+    }
+
+    /**
+     * 되돌릴 수가 없을 때 발생합니다.
+     *
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException nothingToUndo() {
+        return new GameException("되돌릴 수가 없습니다.");
+    }
+
+    /**
+     * 되돌린 수가 없어 다시 둘 수 없을 때 발생합니다.
+     *
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameException nothingToRedo() {
+        return new GameException("다시 둘 수가 없습니다.");
+    }
 }
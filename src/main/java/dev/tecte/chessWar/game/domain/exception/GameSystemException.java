@@ -2,6 +2,7 @@ package dev.tecte.chessWar.game.domain.exception;
 
 import dev.tecte.chessWar.common.exception.NotifiableSystemException;
 import dev.tecte.chessWar.game.domain.model.GamePhase;
+import dev.tecte.chessWar.game.domain.model.position.Move;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -69,4 +70,20 @@ public class GameSystemException extends NotifiableSystemException {
                 cause
         );
     }
+
+    /**
+     * 기물 이동 반영에 실패했을 때 발생합니다.
+     *
+     * @param move  반영하려던 수
+     * @param cause 실패 원인
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static GameSystemException pieceMoveFailed(@NonNull Move move, @NonNull Throwable cause) {
+        return new GameSystemException(
+                "Failed to move piece [From: %s, To: %s]".formatted(move.from().toNotation(), move.to().toNotation()),
+                "시스템 오류로 기물을 이동하는 데 실패했습니다.",
+                cause
+        );
+    }
 }
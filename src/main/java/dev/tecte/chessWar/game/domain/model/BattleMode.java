@@ -0,0 +1,39 @@
+package dev.tecte.chessWar.game.domain.model;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전투 단계의 진행 방식을 정의합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor
+public enum BattleMode {
+    TURN_BASED("턴제"),
+    REAL_TIME("실시간");
+
+    private final String displayName;
+
+    private static final Map<String, BattleMode> LOOKUP = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(BattleMode::name, Function.identity()));
+
+    /**
+     * 이름 기반으로 전투 방식을 검색합니다.
+     *
+     * @param name 전투 방식 이름
+     * @return 찾은 전투 방식
+     */
+    @NonNull
+    public static Optional<BattleMode> from(@NonNull String name) {
+        return Optional.ofNullable(LOOKUP.get(name.toUpperCase()));
+    }
+}
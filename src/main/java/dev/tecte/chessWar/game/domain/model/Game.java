@@ -2,71 +2,141 @@ package dev.tecte.chessWar.game.domain.model;
 
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.common.collection.PersistentHashMap;
 import dev.tecte.chessWar.game.domain.exception.GameException;
+import dev.tecte.chessWar.game.domain.model.history.MoveHistory;
+import dev.tecte.chessWar.game.domain.model.history.PlayedMove;
+import dev.tecte.chessWar.game.domain.model.phase.BattleState;
 import dev.tecte.chessWar.game.domain.model.phase.PhaseState;
+import dev.tecte.chessWar.game.domain.model.phase.PieceSelections;
 import dev.tecte.chessWar.game.domain.model.phase.SelectionState;
 import dev.tecte.chessWar.game.domain.model.phase.SetupState;
 import dev.tecte.chessWar.game.domain.model.phase.TimedState;
+import dev.tecte.chessWar.game.domain.model.phase.TurnOrderState;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
 import dev.tecte.chessWar.piece.domain.model.Piece;
 import dev.tecte.chessWar.piece.domain.model.UnitPiece;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 게임의 진행 상태와 단계 전이를 관리하는 애그리거트 루트입니다.
- *
- * @param board  체스판
- * @param pieces 기물 배치
- * @param state  단계별 상태
+ * <p>
+ * 기물 배치는 칸 순번으로 색인된 불변 좌표 맵으로 보관하며, 배치를 그대로 유지하는 단계 전이에서는 공유합니다.
+ * 기물 ID 색인, 일반 기물 목록, 비트보드 국면 같은 파생 정보는 기물 배치가 바뀔 때만 새로 만들고,
+ * 배치를 그대로 유지하는 단계 전이에서는 이전 게임의 것을 공유합니다.
+ * 파생 정보는 동등성 비교와 직렬화에 포함되지 않습니다.
+ * 참가자 명단은 게임을 시작할 때 정해지며, 이후에는 명단에 없던 플레이어가 합류할 때만 늘어납니다.
  */
-public record Game(
-        Board board,
-        Map<Coordinate, Piece> pieces,
-        PhaseState state
-) {
-    public Game {
-        Objects.requireNonNull(board, "Board cannot be null");
-        Objects.requireNonNull(pieces, "Pieces map cannot be null");
+@Getter
+@Accessors(fluent = true)
+@EqualsAndHashCode(exclude = "views", doNotUseGetters = true)
+@ToString(exclude = "views", doNotUseGetters = true)
+public final class Game {
+    private final Board board;
+    private final CoordinateMap<Piece> pieces;
+    private final PhaseState state;
+    private final Map<UUID, TeamColor> participants;
+
+    @Getter(AccessLevel.NONE)
+    private final PlacementViews views;
+
+    /**
+     * 게임을 생성합니다.
+     *
+     * @param board        체스판
+     * @param pieces       기물 배치
+     * @param state        단계별 상태
+     * @param participants 참가자별 소속 팀
+     */
+    public Game(Board board, Map<Coordinate, Piece> pieces, PhaseState state, Map<UUID, TeamColor> participants) {
+        this(
+                Objects.requireNonNull(board, "Board cannot be null"),
+                CoordinateMap.copyOf(
+                        board.squareGrid().gridSpec(),
+                        Objects.requireNonNull(pieces, "Pieces map cannot be null")
+                ),
+                state,
+                Map.copyOf(Objects.requireNonNull(participants, "Participants cannot be null")),
+                null
+        );
+    }
+
+    /**
+     * 불변 기물 배치로 게임을 생성합니다.
+     *
+     * @param board        체스판
+     * @param pieces       불변 기물 배치
+     * @param state        단계별 상태
+     * @param participants 불변 참가자 명단
+     * @param views        공유할 파생 정보 (없으면 새로 생성)
+     */
+    private Game(
+            Board board,
+            CoordinateMap<Piece> pieces,
+            PhaseState state,
+            Map<UUID, TeamColor> participants,
+            @Nullable PlacementViews views
+    ) {
         Objects.requireNonNull(state, "Phase state cannot be null");
 
-        pieces = Map.copyOf(pieces);
+        this.board = board;
+        this.pieces = pieces;
+        this.state = state;
+        this.participants = participants;
+        this.views = views != null ? views : new PlacementViews(pieces);
     }
 
     /**
      * 초기 준비 상태의 게임을 생성합니다.
      *
-     * @param board 체스판
+     * @param board        체스판
+     * @param participants 참가자별 소속 팀
      * @return 게임
      */
     @NonNull
-    public static Game create(@NonNull Board board) {
-        return new Game(board, new HashMap<>(), SetupState.initial());
+    public static Game create(@NonNull Board board, @NonNull Map<UUID, TeamColor> participants) {
+        return new Game(
+                board,
+                CoordinateMap.empty(board.squareGrid().gridSpec()),
+                SetupState.initial(),
+                participants
+        );
     }
 
     /**
      * 게임을 생성합니다.
      *
-     * @param board  체스판
-     * @param pieces 기물 배치
-     * @param state  단계별 상태
+     * @param board        체스판
+     * @param pieces       기물 배치
+     * @param state        단계별 상태
+     * @param participants 참가자별 소속 팀
      * @return 게임
      */
     @NonNull
     public static Game of(
             @NonNull Board board,
             @NonNull Map<Coordinate, Piece> pieces,
-            @NonNull PhaseState state
+            @NonNull PhaseState state,
+            @NonNull Map<UUID, TeamColor> participants
     ) {
-        return new Game(board, pieces, state);
+        return new Game(board, pieces, state, participants);
     }
 
     /**
@@ -86,11 +156,33 @@ public record Game(
             throw GameException.phaseMismatch(GamePhase.SETUP, phase());
         }
 
-        Map<Coordinate, Piece> newPieces = new HashMap<>(pieces);
+        return new Game(
+                board,
+                pieces.plusAll(initialPlacements),
+                SelectionState.initial(timerSettings),
+                participants,
+                null
+        );
+    }
+
+    /**
+     * 플레이어를 참가자 명단에 합류시킵니다.
+     *
+     * @param participantId 합류할 플레이어 ID
+     * @param team          소속 팀
+     * @return 업데이트된 게임, 이미 참가자이면 이 게임
+     */
+    @NonNull
+    public Game joined(@NonNull UUID participantId, @NonNull TeamColor team) {
+        if (isParticipant(participantId)) {
+            return this;
+        }
+
+        Map<UUID, TeamColor> nextParticipants = new HashMap<>(participants);
 
-        newPieces.putAll(initialPlacements);
+        nextParticipants.put(participantId, team);
 
-        return new Game(board, newPieces, SelectionState.initial(timerSettings));
+        return new Game(board, pieces, state, Map.copyOf(nextParticipants), views);
     }
 
     /**
@@ -120,6 +212,99 @@ public record Game(
         return atState(selection.select(participantId, pieceId));
     }
 
+    /**
+     * 전투 단계를 시작합니다.
+     * <p>
+     * 실시간 전투는 턴 순서가 필요 없으므로 기물 선택 단계에서 바로 시작할 수 있으며, 이때 선택 현황을 이어받습니다.
+     *
+     * @param mode 전투 방식
+     * @return 업데이트된 게임
+     * @throws GameException 전투를 시작할 수 있는 단계가 아닐 경우
+     */
+    @NonNull
+    public Game startBattle(@NonNull BattleMode mode) {
+        boolean realTime = mode == BattleMode.REAL_TIME;
+
+        if (!(state instanceof TurnOrderState) && !(realTime && state instanceof SelectionState)) {
+            throw GameException.phaseMismatch(GamePhase.TURN_ORDER_SELECTION, phase());
+        }
+
+        PieceSelections selections = (state instanceof SelectionState selection)
+                ? selection.selections()
+                : PieceSelections.empty();
+
+        return atState(BattleState.of(mode, selections));
+    }
+
+    /**
+     * 기물을 옮긴 게임을 제공합니다.
+     * <p>
+     * 도착 칸의 기물은 잡히고, 승급 수이면 기물의 종류가 바뀝니다.
+     * 반영한 수는 수 이력에 기록되며, 되돌렸던 수는 더 이상 다시 둘 수 없습니다.
+     * 수의 합법성은 호출자가 검증해야 합니다.
+     *
+     * @param move 둘 수
+     * @return 업데이트된 게임
+     * @throws GameException 전투 단계가 아니거나 출발 칸에 기물이 없을 경우
+     */
+    @NonNull
+    public Game move(@NonNull Move move) {
+        BattleState battle = requireBattle();
+        Piece piece = pieces.get(move.from());
+
+        if (piece == null) {
+            throw GameException.pieceNotFound();
+        }
+
+        PlayedMove played = PlayedMove.of(move, piece, pieces.get(move.to()));
+
+        return replayed(played, battle.recorded(played));
+    }
+
+    /**
+     * 마지막 수를 되돌린 게임을 제공합니다.
+     * <p>
+     * 수 이력에 기록된 두 칸의 기물만 되돌리므로, 저장소를 다시 읽지 않고 즉시 이전 배치를 얻습니다.
+     *
+     * @return 업데이트된 게임
+     * @throws GameException 전투 단계가 아니거나 되돌릴 수가 없을 경우
+     */
+    @NonNull
+    public Game undo() {
+        BattleState battle = requireBattle();
+        MoveHistory history = battle.history();
+        PlayedMove last = history.lastPlayed().orElseThrow(GameException::nothingToUndo);
+        Move move = last.move();
+        CoordinateMap<Piece> previousPieces = pieces.minus(move.to()).plus(move.from(), last.piece());
+
+        if (last.captured() != null) {
+            previousPieces = previousPieces.plus(move.to(), last.captured());
+        }
+
+        return new Game(
+                board,
+                previousPieces,
+                battle.withHistory(history.undone()),
+                participants,
+                views.reverted(previousPieces, last)
+        );
+    }
+
+    /**
+     * 마지막으로 되돌린 수를 다시 둔 게임을 제공합니다.
+     *
+     * @return 업데이트된 게임
+     * @throws GameException 전투 단계가 아니거나 다시 둘 수가 없을 경우
+     */
+    @NonNull
+    public Game redo() {
+        BattleState battle = requireBattle();
+        MoveHistory history = battle.history();
+        PlayedMove next = history.nextUndone().orElseThrow(GameException::nothingToRedo);
+
+        return replayed(next, battle.withHistory(history.redone()));
+    }
+
     /**
      * 남은 시간이 업데이트된 게임을 제공합니다.
      *
@@ -133,6 +318,18 @@ public record Game(
                 : this;
     }
 
+    /**
+     * 경기장 ID를 제공합니다.
+     * <p>
+     * 체스판 하나에서는 게임이 하나만 진행되므로 체스판 이름을 경기장 ID로 사용합니다.
+     *
+     * @return 경기장 ID
+     */
+    @NonNull
+    public String arenaId() {
+        return board.name();
+    }
+
     /**
      * 현재 단계를 제공합니다.
      *
@@ -171,19 +368,36 @@ public record Game(
      */
     @NonNull
     public Optional<Piece> findPiece(@NonNull UUID pieceId) {
-        return pieces.values().stream()
-                .filter(piece -> piece.id().equals(pieceId))
-                .findFirst();
+        Coordinate coordinate = views.pieceIndex.get(pieceId);
+
+        return coordinate == null ? Optional.empty() : Optional.of(pieces.get(coordinate));
+    }
+
+    /**
+     * ID로 기물의 좌표를 검색합니다.
+     *
+     * @param pieceId 기물 ID
+     * @return 기물의 좌표
+     */
+    @NonNull
+    public Optional<Coordinate> findCoordinateOf(@NonNull UUID pieceId) {
+        return Optional.ofNullable(views.pieceIndex.get(pieceId));
     }
 
     /**
      * 기물이 이미 선택되었는지 확인합니다.
+     * <p>
+     * 전투 단계에서는 참가자가 조종하는 기물인지를 뜻합니다.
      *
      * @param pieceId 기물 ID
      * @return 기물 선택 여부
      */
     public boolean isAlreadySelected(@NonNull UUID pieceId) {
-        return (state instanceof SelectionState selection) && selection.isSelected(pieceId);
+        return switch (state) {
+            case SelectionState selection -> selection.isSelected(pieceId);
+            case BattleState battle -> battle.isSelected(pieceId);
+            default -> false;
+        };
     }
 
     /**
@@ -193,49 +407,244 @@ public record Game(
      * @return 선택 완료 여부
      */
     public boolean hasSelectedPiece(@NonNull UUID participantId) {
-        return (state instanceof SelectionState selection) && selection.hasSelectionFor(participantId);
+        return switch (state) {
+            case SelectionState selection -> selection.hasSelectionFor(participantId);
+            case BattleState battle -> battle.hasSelectionFor(participantId);
+            default -> false;
+        };
+    }
+
+    /**
+     * 명단의 모든 참가자가 기물을 선택했는지 확인합니다.
+     *
+     * @return 모든 참가자 선택 완료 여부
+     */
+    public boolean hasAllParticipantsSelected() {
+        return (state instanceof SelectionState selection) && selection.hasSelectionFor(participants.keySet());
+    }
+
+    /**
+     * 플레이어가 이 게임의 참가자인지 확인합니다.
+     *
+     * @param playerId 플레이어 ID
+     * @return 참가자 여부
+     */
+    public boolean isParticipant(@NonNull UUID playerId) {
+        return participants.containsKey(playerId);
     }
 
     /**
-     * 모든 참가자의 기물 선택 완료 여부를 확인합니다.
+     * 마지막으로 반영된 수를 제공합니다.
      *
-     * @param participantIds 참가자 ID 목록
-     * @return 모든 참여자 선택 완료 여부
+     * @return 마지막 수, 전투 단계가 아니거나 둔 수가 없으면 빈 값
      */
-    public boolean hasSelectedPiece(@NonNull Collection<UUID> participantIds) {
-        return (state instanceof SelectionState selection) && selection.hasSelectionFor(participantIds);
+    @NonNull
+    public Optional<PlayedMove> lastMove() {
+        return (state instanceof BattleState battle) ? battle.history().lastPlayed() : Optional.empty();
     }
 
     /**
-     * 일반 기물 목록을 산출합니다.
+     * 일반 기물 목록을 제공합니다.
+     * <p>
+     * 처음 요청될 때 한 번만 산출하고, 같은 기물 배치를 공유하는 게임끼리 재사용합니다.
      *
      * @return 일반 기물 목록
      */
     @NonNull
     public List<UnitPiece> units() {
-        return pieces.values().stream()
-                .filter(piece -> piece instanceof UnitPiece)
-                .map(piece -> (UnitPiece) piece)
+        return views.units();
+    }
+
+    /**
+     * 지금까지 잡힌 일반 기물 목록을 제공합니다.
+     * <p>
+     * 되돌린 수에서 잡혔던 기물은 체스판으로 돌아왔으므로 포함하지 않습니다.
+     *
+     * @return 잡힌 일반 기물 목록, 전투 단계가 아니면 빈 목록
+     */
+    @NonNull
+    public List<UnitPiece> capturedUnits() {
+        if (!(state instanceof BattleState battle)) {
+            return List.of();
+        }
+
+        return battle.history().playedMoves().stream()
+                .map(PlayedMove::captured)
+                .filter(UnitPiece.class::isInstance)
+                .map(UnitPiece.class::cast)
                 .toList();
     }
 
     /**
-     * 일반 기물 배치 현황을 산출합니다.
+     * 일반 기물 배치 현황을 제공합니다.
+     * <p>
+     * 처음 요청될 때 한 번만 산출하고, 같은 기물 배치를 공유하는 게임끼리 재사용합니다.
      *
      * @return 기물 배치 현황
      */
     @NonNull
-    public Map<Coordinate, UnitPiece> unitPlacements() {
-        return pieces.entrySet().stream()
-                .filter(entry -> entry.getValue() instanceof UnitPiece)
-                .collect(Collectors.toUnmodifiableMap(
-                        Map.Entry::getKey,
-                        entry -> (UnitPiece) entry.getValue())
-                );
+    public CoordinateMap<UnitPiece> unitPlacements() {
+        return views.unitPlacements();
+    }
+
+    /**
+     * 기물 배치를 비트보드로 표현한 국면을 제공합니다.
+     * <p>
+     * 기물 배치에서 파생되므로 모든 단계 전이에서 배치와 항상 일치합니다.
+     *
+     * @return 국면
+     */
+    @NonNull
+    public Position position() {
+        return views.position();
+    }
+
+    /**
+     * 국면의 Zobrist 해시를 제공합니다.
+     * <p>
+     * 국면 캐시의 키로 사용하며, 배치가 같은 게임은 단계와 관계없이 같은 값을 가집니다.
+     *
+     * @return 국면 해시
+     */
+    public long positionHash() {
+        return views.position().zobristHash();
+    }
+
+    @NonNull
+    private BattleState requireBattle() {
+        if (!(state instanceof BattleState battle)) {
+            throw GameException.phaseMismatch(GamePhase.BATTLE, phase());
+        }
+
+        return battle;
+    }
+
+    @NonNull
+    private Game replayed(@NonNull PlayedMove played, @NonNull BattleState nextState) {
+        Move move = played.move();
+        CoordinateMap<Piece> nextPieces = pieces.minus(move.from()).plus(move.to(), played.movedPiece());
+
+        return new Game(board, nextPieces, nextState, participants, views.moved(nextPieces, played));
     }
 
     @NonNull
     private Game atState(@NonNull PhaseState nextState) {
-        return new Game(board, pieces, nextState);
+        // 기물 배치가 그대로이므로 배치와 파생 정보를 그대로 공유
+        return new Game(board, pieces, nextState, participants, views);
+    }
+
+    /**
+     * 기물 배치에서 파생되는 조회용 정보입니다.
+     * <p>
+     * 기물 ID 색인은 즉시 만들되 수를 두거나 되돌릴 때는 바뀐 두 칸의 항목만 고치고, 나머지는 처음 요청될 때 만듭니다.
+     * 산출 결과가 불변이므로 경쟁 상태에서 중복 계산되더라도 결과는 같습니다.
+     */
+    private static final class PlacementViews {
+        private final CoordinateMap<Piece> pieces;
+        private final PersistentHashMap<UUID, Coordinate> pieceIndex;
+
+        private volatile List<UnitPiece> units;
+        private volatile CoordinateMap<UnitPiece> unitPlacements;
+        private volatile Position position;
+
+        private PlacementViews(@NonNull CoordinateMap<Piece> pieces) {
+            Map<UUID, Coordinate> index = new HashMap<>(pieces.size() * 2);
+
+            pieces.forEach((coordinate, piece) -> index.put(piece.id(), coordinate));
+
+            this.pieces = pieces;
+            this.pieceIndex = PersistentHashMap.copyOf(index);
+        }
+
+        private PlacementViews(
+                @NonNull CoordinateMap<Piece> pieces,
+                @NonNull PersistentHashMap<UUID, Coordinate> pieceIndex
+        ) {
+            this.pieces = pieces;
+            this.pieceIndex = pieceIndex;
+        }
+
+        @NonNull
+        private PlacementViews moved(@NonNull CoordinateMap<Piece> nextPieces, @NonNull PlayedMove played) {
+            Move move = played.move();
+
+            // 색인도 바뀐 두 칸의 기물만 고쳐 배치 전체를 다시 훑지 않음
+            PersistentHashMap<UUID, Coordinate> index = pieceIndex.minus(played.piece().id());
+
+            if (played.captured() != null) {
+                index = index.minus(played.captured().id());
+            }
+
+            PlacementViews next = new PlacementViews(nextPieces, index.plus(played.movedPiece().id(), move.to()));
+            Position cached = position;
+
+            // 국면이 이미 만들어졌다면 수만 반영하여 해시까지 O(1)로 갱신
+            if (cached != null) {
+                next.position = cached.applied(move);
+            }
+
+            return next;
+        }
+
+        @NonNull
+        private PlacementViews reverted(@NonNull CoordinateMap<Piece> previousPieces, @NonNull PlayedMove played) {
+            Move move = played.move();
+            PersistentHashMap<UUID, Coordinate> index = pieceIndex.minus(played.movedPiece().id())
+                    .plus(played.piece().id(), move.from());
+
+            if (played.captured() != null) {
+                index = index.plus(played.captured().id(), move.to());
+            }
+
+            PlacementViews previous = new PlacementViews(previousPieces, index);
+            Position cached = position;
+
+            // 바뀐 두 칸만 되돌려 국면과 해시를 처음부터 다시 계산하지 않음
+            if (cached != null) {
+                Position restored = cached.without(move.to()).with(move.from(), played.piece().spec());
+
+                previous.position = played.captured() != null
+                        ? restored.with(move.to(), played.captured().spec())
+                        : restored;
+            }
+
+            return previous;
+        }
+
+        @NonNull
+        private List<UnitPiece> units() {
+            List<UnitPiece> cached = units;
+
+            if (cached == null) {
+                cached = List.copyOf(unitPlacements().values());
+                units = cached;
+            }
+
+            return cached;
+        }
+
+        @NonNull
+        private CoordinateMap<UnitPiece> unitPlacements() {
+            CoordinateMap<UnitPiece> cached = unitPlacements;
+
+            if (cached == null) {
+                cached = pieces.ofType(UnitPiece.class);
+                unitPlacements = cached;
+            }
+
+            return cached;
+        }
+
+        @NonNull
+        private Position position() {
+            Position cached = position;
+
+            if (cached == null) {
+                cached = Position.from(pieces);
+                position = cached;
+            }
+
+            return cached;
+        }
     }
 }
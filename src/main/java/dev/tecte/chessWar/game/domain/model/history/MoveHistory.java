@@ -0,0 +1,131 @@
+package dev.tecte.chessWar.game.domain.model.history;
+
+import dev.tecte.chessWar.common.collection.PersistentStack;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * 전투 중 반영된 수와 되돌린 수를 보관하는 불변 객체입니다.
+ * <p>
+ * 게임 전체를 버전마다 복사하지 않고, 구조를 공유하는 스택 두 개에 수 기록({@link PlayedMove})만 쌓습니다.
+ * 이전 버전의 이력은 새 버전과 노드를 공유하므로 메모리는 수의 개수에만 비례하며,
+ * 되돌리기와 다시 두기는 기록 하나를 반대편 스택으로 옮기는 O(1) 연산입니다.
+ * 새 수를 반영하면 다시 둘 수 있던 수는 버려집니다.
+ * 문자열 표현은 긴 이력을 모두 펼치지 않도록 수의 개수만 담습니다.
+ */
+@EqualsAndHashCode
+public final class MoveHistory {
+    private static final MoveHistory EMPTY = new MoveHistory(PersistentStack.empty(), PersistentStack.empty());
+
+    private final PersistentStack<PlayedMove> played;
+    private final PersistentStack<PlayedMove> undone;
+
+    private MoveHistory(@NonNull PersistentStack<PlayedMove> played, @NonNull PersistentStack<PlayedMove> undone) {
+        this.played = played;
+        this.undone = undone;
+    }
+
+    /**
+     * 기록이 없는 이력을 반환합니다.
+     *
+     * @return 빈 이력
+     */
+    @NonNull
+    public static MoveHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 수를 기록한 이력을 제공합니다.
+     *
+     * @param playedMove 반영된 수
+     * @return 업데이트된 이력
+     */
+    @NonNull
+    public MoveHistory recorded(@NonNull PlayedMove playedMove) {
+        return new MoveHistory(played.pushed(playedMove), PersistentStack.empty());
+    }
+
+    /**
+     * 마지막 수를 되돌린 이력을 제공합니다.
+     *
+     * @return 업데이트된 이력
+     * @throws NoSuchElementException 되돌릴 수가 없을 경우
+     */
+    @NonNull
+    public MoveHistory undone() {
+        PlayedMove last = lastPlayed().orElseThrow();
+
+        return new MoveHistory(played.popped(), undone.pushed(last));
+    }
+
+    /**
+     * 마지막으로 되돌린 수를 다시 둔 이력을 제공합니다.
+     *
+     * @return 업데이트된 이력
+     * @throws NoSuchElementException 다시 둘 수가 없을 경우
+     */
+    @NonNull
+    public MoveHistory redone() {
+        PlayedMove next = nextUndone().orElseThrow();
+
+        return new MoveHistory(played.pushed(next), undone.popped());
+    }
+
+    /**
+     * 마지막으로 반영된 수를 제공합니다.
+     *
+     * @return 마지막 수, 없으면 빈 값
+     */
+    @NonNull
+    public Optional<PlayedMove> lastPlayed() {
+        return played.peek();
+    }
+
+    /**
+     * 다음에 다시 둘 수를 제공합니다.
+     *
+     * @return 마지막으로 되돌린 수, 없으면 빈 값
+     */
+    @NonNull
+    public Optional<PlayedMove> nextUndone() {
+        return undone.peek();
+    }
+
+    /**
+     * 반영된 수를 제공합니다.
+     *
+     * @return 마지막 수부터 순회하는 불변 컬렉션
+     */
+    @NonNull
+    public Collection<PlayedMove> playedMoves() {
+        return played;
+    }
+
+    /**
+     * 반영된 수의 개수를 제공합니다.
+     *
+     * @return 반영된 수의 개수
+     */
+    public int playedCount() {
+        return played.size();
+    }
+
+    /**
+     * 다시 둘 수 있는 수의 개수를 제공합니다.
+     *
+     * @return 되돌린 수의 개수
+     */
+    public int undoneCount() {
+        return undone.size();
+    }
+
+    @Override
+    public String toString() {
+        return "MoveHistory(played=" + playedCount() + ", undone=" + undoneCount() + ")";
+    }
+}
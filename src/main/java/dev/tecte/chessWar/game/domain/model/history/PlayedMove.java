@@ -0,0 +1,47 @@
+package dev.tecte.chessWar.game.domain.model.history;
+
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.piece.domain.model.Piece;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * 반영된 수와 그 수로 바뀐 칸의 이전 기물을 기록하는 불변 객체입니다.
+ * <p>
+ * 바뀐 두 칸의 기물만 담으므로, 체스판 크기와 관계없이 이 기록만으로 수를 되돌리거나 다시 둘 수 있습니다.
+ *
+ * @param move     반영된 수
+ * @param piece    출발 칸에 있던 기물
+ * @param captured 도착 칸에서 잡힌 기물 (잡지 않았으면 {@code null})
+ */
+public record PlayedMove(Move move, Piece piece, @Nullable Piece captured) {
+    public PlayedMove {
+        Objects.requireNonNull(move, "Move cannot be null");
+        Objects.requireNonNull(piece, "Piece cannot be null");
+    }
+
+    /**
+     * 수 기록을 생성합니다.
+     *
+     * @param move     반영된 수
+     * @param piece    출발 칸에 있던 기물
+     * @param captured 도착 칸에서 잡힌 기물
+     * @return 수 기록
+     */
+    @NonNull
+    public static PlayedMove of(@NonNull Move move, @NonNull Piece piece, @Nullable Piece captured) {
+        return new PlayedMove(move, piece, captured);
+    }
+
+    /**
+     * 도착 칸에 놓인 기물을 제공합니다.
+     *
+     * @return 승급 수이면 승급한 기물, 아니면 출발 칸의 기물
+     */
+    @NonNull
+    public Piece movedPiece() {
+        return move.isPromotion() ? piece.promoted(move.promotion()) : piece;
+    }
+}
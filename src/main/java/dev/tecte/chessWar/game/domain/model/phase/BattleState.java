@@ -1,12 +1,116 @@
 package dev.tecte.chessWar.game.domain.model.phase;
 
+import dev.tecte.chessWar.game.domain.model.BattleMode;
 import dev.tecte.chessWar.game.domain.model.GamePhase;
+import dev.tecte.chessWar.game.domain.model.history.MoveHistory;
+import dev.tecte.chessWar.game.domain.model.history.PlayedMove;
 import lombok.NonNull;
 
+import java.util.Objects;
+import java.util.UUID;
+
 /**
  * 전투 단계에서 사용되는 불변 객체입니다.
+ * <p>
+ * 기물 선택 단계의 선택 현황을 이어받아, 참가자가 조종하는 기물과 그렇지 않은 기물을 구분합니다.
+ * 수 이력은 되돌리기를 위해 메모리에만 유지되며 저장되지 않습니다.
+ *
+ * @param mode       전투 방식
+ * @param selections 참가자별 선택 기물
+ * @param history    수 이력
  */
-public record BattleState() implements PhaseState {
+public record BattleState(BattleMode mode, PieceSelections selections, MoveHistory history) implements PhaseState {
+    public BattleState {
+        Objects.requireNonNull(mode, "Battle mode cannot be null");
+        Objects.requireNonNull(selections, "Selections cannot be null");
+        Objects.requireNonNull(history, "History cannot be null");
+    }
+
+    /**
+     * 선택된 기물이 없는 전투 상태를 생성합니다.
+     *
+     * @param mode 전투 방식
+     * @return 전투 상태
+     */
+    @NonNull
+    public static BattleState of(@NonNull BattleMode mode) {
+        return new BattleState(mode, PieceSelections.empty(), MoveHistory.empty());
+    }
+
+    /**
+     * 이력이 없는 전투 상태를 생성합니다.
+     *
+     * @param mode       전투 방식
+     * @param selections 참가자별 선택 기물
+     * @return 전투 상태
+     */
+    @NonNull
+    public static BattleState of(@NonNull BattleMode mode, @NonNull PieceSelections selections) {
+        return new BattleState(mode, selections, MoveHistory.empty());
+    }
+
+    /**
+     * 수를 기록한 전투 상태를 제공합니다.
+     *
+     * @param playedMove 반영된 수
+     * @return 업데이트된 전투 상태
+     */
+    @NonNull
+    public BattleState recorded(@NonNull PlayedMove playedMove) {
+        return new BattleState(mode, selections, history.recorded(playedMove));
+    }
+
+    /**
+     * 수 이력을 교체한 전투 상태를 제공합니다.
+     *
+     * @param history 수 이력
+     * @return 업데이트된 전투 상태
+     */
+    @NonNull
+    public BattleState withHistory(@NonNull MoveHistory history) {
+        return new BattleState(mode, selections, history);
+    }
+
+    /**
+     * 모든 팀이 동시에 수를 두는 실시간 전투인지 확인합니다.
+     *
+     * @return 실시간 전투 여부
+     */
+    public boolean isRealTime() {
+        return mode == BattleMode.REAL_TIME;
+    }
+
+    /**
+     * 기물을 참가자가 조종하는지 확인합니다.
+     *
+     * @param pieceId 기물 ID
+     * @return 참가자 조종 여부
+     */
+    public boolean isSelected(@NonNull UUID pieceId) {
+        return selections.isSelected(pieceId);
+    }
+
+    /**
+     * 참가자가 해당 기물을 조종하는지 확인합니다.
+     *
+     * @param participantId 참가자 ID
+     * @param pieceId       기물 ID
+     * @return 조종 여부
+     */
+    public boolean controls(@NonNull UUID participantId, @NonNull UUID pieceId) {
+        return selections.pieceOf(participantId).filter(pieceId::equals).isPresent();
+    }
+
+    /**
+     * 참가자가 조종하는 기물이 있는지 확인합니다.
+     *
+     * @param participantId 참가자 ID
+     * @return 조종 기물 보유 여부
+     */
+    public boolean hasSelectionFor(@NonNull UUID participantId) {
+        return selections.hasSelectionFor(participantId);
+    }
+
     @NonNull
     @Override
     public GamePhase phase() {
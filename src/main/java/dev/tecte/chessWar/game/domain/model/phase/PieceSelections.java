@@ -0,0 +1,192 @@
+package dev.tecte.chessWar.game.domain.model.phase;
+
+import dev.tecte.chessWar.common.collection.PersistentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 참가자와 선택된 기물의 일대일 대응을 양방향으로 보관하는 불변 객체입니다.
+ * <p>
+ * 참가자로 기물을, 기물로 참가자를 모두 상수 시간에 찾을 수 있습니다.
+ * 두 대응은 구조를 공유하는 불변 맵이므로 선택 하나를 반영해도 전체를 복사하지 않습니다.
+ * 동등성 비교는 참가자 기준의 대응만 사용합니다.
+ */
+@EqualsAndHashCode(of = "pieceByParticipant")
+@ToString(of = "pieceByParticipant")
+public final class PieceSelections {
+    private static final PieceSelections EMPTY = new PieceSelections(
+            PersistentHashMap.empty(),
+            PersistentHashMap.empty()
+    );
+
+    private final PersistentHashMap<UUID, UUID> pieceByParticipant;
+    private final PersistentHashMap<UUID, UUID> participantByPiece;
+
+    private PieceSelections(
+            @NonNull PersistentHashMap<UUID, UUID> pieceByParticipant,
+            @NonNull PersistentHashMap<UUID, UUID> participantByPiece
+    ) {
+        this.pieceByParticipant = pieceByParticipant;
+        this.participantByPiece = participantByPiece;
+    }
+
+    /**
+     * 선택이 없는 상태를 반환합니다.
+     *
+     * @return 빈 선택 현황
+     */
+    @NonNull
+    public static PieceSelections empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 참가자별 선택 기물로부터 선택 현황을 생성합니다.
+     *
+     * @param selections 참가자 ID와 기물 ID의 대응
+     * @return 선택 현황
+     * @throws IllegalArgumentException 한 기물을 여러 참가자가 선택한 경우
+     */
+    @NonNull
+    public static PieceSelections of(@NonNull Map<UUID, UUID> selections) {
+        if (selections.isEmpty()) {
+            return EMPTY;
+        }
+
+        PersistentHashMap<UUID, UUID> pieceByParticipant = PersistentHashMap.copyOf(selections);
+        PersistentHashMap<UUID, UUID> participantByPiece = PersistentHashMap.empty();
+
+        for (Map.Entry<UUID, UUID> entry : pieceByParticipant.entrySet()) {
+            if (participantByPiece.containsKey(entry.getValue())) {
+                throw new IllegalArgumentException(
+                        "Piece " + entry.getValue() + " is selected by more than one participant.");
+            }
+
+            participantByPiece = participantByPiece.plus(entry.getValue(), entry.getKey());
+        }
+
+        return new PieceSelections(pieceByParticipant, participantByPiece);
+    }
+
+    /**
+     * 참가자의 기물 선택을 반영한 새로운 선택 현황을 제공합니다.
+     * <p>
+     * 참가자가 이미 다른 기물을 선택했다면 기존 선택을 대체합니다.
+     *
+     * @param participantId 참가자 ID
+     * @param pieceId       기물 ID
+     * @return 업데이트된 선택 현황
+     * @throws IllegalArgumentException 다른 참가자가 이미 선택한 기물인 경우
+     */
+    @NonNull
+    public PieceSelections select(@NonNull UUID participantId, @NonNull UUID pieceId) {
+        UUID owner = participantByPiece.get(pieceId);
+
+        if (owner != null && !owner.equals(participantId)) {
+            throw new IllegalArgumentException("Piece " + pieceId + " is already selected by another participant.");
+        }
+
+        UUID previousPieceId = pieceByParticipant.get(participantId);
+        PersistentHashMap<UUID, UUID> newParticipantByPiece = previousPieceId == null
+                ? participantByPiece
+                : participantByPiece.minus(previousPieceId);
+
+        return new PieceSelections(
+                pieceByParticipant.plus(participantId, pieceId),
+                newParticipantByPiece.plus(pieceId, participantId)
+        );
+    }
+
+    /**
+     * 참가자가 선택한 기물을 찾습니다.
+     *
+     * @param participantId 참가자 ID
+     * @return 선택한 기물 ID
+     */
+    @NonNull
+    public Optional<UUID> pieceOf(@NonNull UUID participantId) {
+        return Optional.ofNullable(pieceByParticipant.get(participantId));
+    }
+
+    /**
+     * 기물을 선택한 참가자를 찾습니다.
+     *
+     * @param pieceId 기물 ID
+     * @return 선택한 참가자 ID
+     */
+    @NonNull
+    public Optional<UUID> participantOf(@NonNull UUID pieceId) {
+        return Optional.ofNullable(participantByPiece.get(pieceId));
+    }
+
+    /**
+     * 기물이 선택되었는지 확인합니다.
+     *
+     * @param pieceId 기물 ID
+     * @return 선택 여부
+     */
+    public boolean isSelected(@NonNull UUID pieceId) {
+        return participantByPiece.containsKey(pieceId);
+    }
+
+    /**
+     * 참가자가 기물을 선택했는지 확인합니다.
+     *
+     * @param participantId 참가자 ID
+     * @return 선택 여부
+     */
+    public boolean hasSelectionFor(@NonNull UUID participantId) {
+        return pieceByParticipant.containsKey(participantId);
+    }
+
+    /**
+     * 주어진 모든 참가자가 기물을 선택했는지 확인합니다.
+     *
+     * @param participantIds 참가자 ID 목록
+     * @return 모두 선택 여부
+     */
+    public boolean hasSelectionFor(@NonNull Collection<UUID> participantIds) {
+        for (UUID participantId : participantIds) {
+            if (!pieceByParticipant.containsKey(participantId)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 선택한 참가자 수를 반환합니다.
+     *
+     * @return 선택 수
+     */
+    public int size() {
+        return pieceByParticipant.size();
+    }
+
+    /**
+     * 모든 선택을 참가자 ID와 기물 ID 쌍으로 방문합니다.
+     *
+     * @param action 방문 동작
+     */
+    public void forEach(@NonNull BiConsumer<UUID, UUID> action) {
+        pieceByParticipant.forEach(action);
+    }
+
+    /**
+     * 참가자 기준의 대응을 읽기 전용 맵으로 제공합니다.
+     *
+     * @return 참가자 ID와 기물 ID의 대응
+     */
+    @NonNull
+    public Map<UUID, UUID> asMap() {
+        return pieceByParticipant;
+    }
+}
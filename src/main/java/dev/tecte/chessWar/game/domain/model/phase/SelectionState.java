@@ -6,8 +6,6 @@ import lombok.NonNull;
 
 import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -15,12 +13,12 @@ import java.util.UUID;
 /**
  * 기물 선택 단계의 진행 상태입니다.
  *
- * @param selections    참가자와 기물의 선택 현황
+ * @param selections    참가자와 기물의 양방향 선택 현황
  * @param timerSettings 타이머 설정
  * @param remainingTime 남은 시간
  */
 public record SelectionState(
-        Map<UUID, UUID> selections,
+        PieceSelections selections,
         PhaseTimerSettings timerSettings,
         Duration remainingTime
 ) implements TimedState {
@@ -28,8 +26,6 @@ public record SelectionState(
         Objects.requireNonNull(selections, "Selections map cannot be null");
         Objects.requireNonNull(timerSettings, "Settings cannot be null");
         Objects.requireNonNull(remainingTime, "Remaining time cannot be null");
-
-        selections = Map.copyOf(selections);
     }
 
     /**
@@ -46,7 +42,7 @@ public record SelectionState(
             @NonNull PhaseTimerSettings timerSettings,
             @NonNull Duration remainingTime
     ) {
-        return new SelectionState(selections, timerSettings, remainingTime);
+        return new SelectionState(PieceSelections.of(selections), timerSettings, remainingTime);
     }
 
     /**
@@ -57,7 +53,7 @@ public record SelectionState(
      */
     @NonNull
     public static SelectionState initial(@NonNull PhaseTimerSettings timerSettings) {
-        return new SelectionState(Collections.emptyMap(), timerSettings, timerSettings.initialDuration());
+        return new SelectionState(PieceSelections.empty(), timerSettings, timerSettings.initialDuration());
     }
 
     /**
@@ -69,11 +65,7 @@ public record SelectionState(
      */
     @NonNull
     public SelectionState select(@NonNull UUID participantId, @NonNull UUID pieceId) {
-        Map<UUID, UUID> newSelections = new HashMap<>(selections);
-
-        newSelections.put(participantId, pieceId);
-
-        return new SelectionState(newSelections, timerSettings, remainingTime);
+        return new SelectionState(selections.select(participantId, pieceId), timerSettings, remainingTime);
     }
 
     @NonNull
@@ -89,7 +81,7 @@ public record SelectionState(
      * @return 기물 선택 여부
      */
     public boolean isSelected(@NonNull UUID pieceId) {
-        return selections.containsValue(pieceId);
+        return selections.isSelected(pieceId);
     }
 
     /**
@@ -99,7 +91,7 @@ public record SelectionState(
      * @return 선택 완료 여부
      */
     public boolean hasSelectionFor(@NonNull UUID participantId) {
-        return selections.containsKey(participantId);
+        return selections.hasSelectionFor(participantId);
     }
 
     /**
@@ -109,7 +101,7 @@ public record SelectionState(
      * @return 모두 선택 완료 여부
      */
     public boolean hasSelectionFor(@NonNull Collection<UUID> participantIds) {
-        return selections.keySet().containsAll(participantIds);
+        return selections.hasSelectionFor(participantIds);
     }
 
     @NonNull
@@ -0,0 +1,640 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * 국면에서 팀별로 공격받는 칸, 킹을 체크하는 기물, 고정(pin)된 기물을 함께 유지하는 불변 공격 지도입니다.
+ * <p>
+ * 칸마다 그 칸을 공격하는 기물 수를 팀별로 세어 두고, 수를 두면 출발·도착 칸의 기물과
+ * 두 칸에 닿는 이동 기물의 공격 범위만 빼고 다시 더해 갱신합니다.
+ * 체크하는 기물과 고정된 기물은 갱신 후 킹을 지나는 네 줄만 살펴 다시 구하므로,
+ * 갱신 비용은 판 위의 기물 수와 무관하고 체크 여부와 수의 킹 안전 여부는 배열 조회 몇 번으로 판정됩니다.
+ * <p>
+ * 킹이 둘 이상인 팀은 체크하는 기물과 고정된 기물을 추적하지 않습니다.
+ */
+public final class AttackMap {
+    private static final TeamColor[] TEAMS = TeamColor.values();
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final int INDEX_SHIFT = 6;
+    private static final int INDEX_MASK = Coordinate.MAX_DIMENSION - 1;
+    private static final int NO_KING = -1;
+    private static final int MULTIPLE_KINGS = -2;
+    private static final int[] NO_CHECKERS = new int[0];
+    // 한 칸을 공격하는 한 팀의 기물 수 상한 (나이트 8, 킹 8, 폰 2, 방향별 첫 기물 8을 겹침 없이 더한 값)
+    // 승급으로 같은 종류가 몇 개든 생길 수 있는 실시간 전투에서도 넘지 않으며, 공격 수는 byte로 충분
+    private static final int MAX_ATTACKERS = 8 + 8 + 2 + 8;
+    // 출발·도착 칸과, 수 전후로 두 칸에 닿는 이동 기물(칸마다 최대 8개)
+    private static final int MAX_AFFECTED = 2 + 2 * 2 * 8;
+    // 칸을 지나는 줄의 종류 (앞의 둘은 직선, 뒤의 둘은 대각선)
+    private static final int ROW = 0;
+    private static final int COLUMN = 1;
+    private static final int DIAGONAL = 2;
+    private static final int ANTI_DIAGONAL = 3;
+    private static final int LINE_TYPES = 4;
+
+    private final Position position;
+    private final AttackTables attackTables;
+    // [팀 x 칸 순번]
+    private final byte[] attackCounts;
+    // 팀별 킹의 압축 색인
+    private final int[] kingIndices;
+    // 팀별 체크하는 기물의 압축 색인
+    private final int[][] checkers;
+    private final Bitboard[] pinned;
+    private final boolean[] inCheck;
+
+    private AttackMap(Position position, AttackTables attackTables, byte[] attackCounts, int[] kingIndices) {
+        this.position = position;
+        this.attackTables = attackTables;
+        this.attackCounts = attackCounts;
+        this.kingIndices = kingIndices;
+        this.checkers = new int[TEAMS.length][];
+        this.pinned = new Bitboard[TEAMS.length];
+        this.inCheck = new boolean[TEAMS.length];
+
+        for (TeamColor team : TEAMS) {
+            int slot = team.ordinal();
+            int king = kingIndices[slot];
+
+            checkers[slot] = king >= 0 ? findCheckers(team, king) : NO_CHECKERS;
+            pinned[slot] = king >= 0 ? findPinned(team, king) : Bitboard.EMPTY;
+            inCheck[slot] = king == MULTIPLE_KINGS ? isAnyKingAttacked(team) : checkers[slot].length > 0;
+        }
+    }
+
+    /**
+     * 국면의 공격 지도를 처음부터 계산합니다.
+     *
+     * @param position     국면
+     * @param attackTables 국면 격자의 공격 범위 테이블
+     * @return 공격 지도
+     * @throws IllegalArgumentException 테이블의 격자가 국면과 다를 경우
+     */
+    @NonNull
+    public static AttackMap of(@NonNull Position position, @NonNull AttackTables attackTables) {
+        GridSpec gridSpec = position.gridSpec();
+
+        if (!gridSpec.equals(attackTables.gridSpec())) {
+            throw new IllegalArgumentException("Attack tables must match the grid of the position.");
+        }
+
+        byte[] attackCounts = new byte[TEAMS.length * gridSpec.squareCount()];
+        int[] kingIndices = new int[TEAMS.length];
+
+        for (TeamColor team : TEAMS) {
+            for (PieceType type : TYPES) {
+                for (int row = 0; row < gridSpec.rowCount(); row++) {
+                    long bits = position.piecesRow(team, type, row);
+
+                    while (bits != 0) {
+                        int col = Long.numberOfTrailingZeros(bits);
+
+                        accumulate(position, attackTables, attackCounts, team, type, row, col, 1);
+                        bits &= bits - 1;
+                    }
+                }
+            }
+
+            kingIndices[team.ordinal()] = kingIndexOf(position, team);
+        }
+
+        return new AttackMap(position, attackTables, attackCounts, kingIndices);
+    }
+
+    /**
+     * 수를 둔 뒤의 공격 지도를 제공합니다.
+     * <p>
+     * 공격 범위가 바뀔 수 있는 기물만 다시 계산하며, 수의 합법성은 검증하지 않습니다.
+     *
+     * @param move 둘 수
+     * @return 갱신된 공격 지도
+     */
+    @NonNull
+    public AttackMap after(@NonNull Move move) {
+        Position next = position.applied(move);
+        byte[] nextCounts = attackCounts.clone();
+        int[] affected = new int[MAX_AFFECTED];
+        int count = 0;
+
+        affected[count++] = move.from().index();
+        affected[count++] = move.to().index();
+        count = collectSliders(position, move.from(), affected, count);
+        count = collectSliders(position, move.to(), affected, count);
+        count = collectSliders(next, move.from(), affected, count);
+        count = collectSliders(next, move.to(), affected, count);
+
+        for (int i = 0; i < count; i++) {
+            int row = rowOf(affected[i]);
+            int col = colOf(affected[i]);
+
+            for (TeamColor team : TEAMS) {
+                PieceType before = position.typeAt(team, row, col);
+                PieceType after = next.typeAt(team, row, col);
+
+                if (before != null) {
+                    accumulate(position, attackTables, nextCounts, team, before, row, col, -1);
+                }
+
+                if (after != null) {
+                    accumulate(next, attackTables, nextCounts, team, after, row, col, 1);
+                }
+            }
+        }
+
+        return new AttackMap(next, attackTables, nextCounts, nextKingIndices(next, move));
+    }
+
+    /**
+     * 공격 지도의 국면을 반환합니다.
+     *
+     * @return 국면
+     */
+    @NonNull
+    public Position position() {
+        return position;
+    }
+
+    /**
+     * 칸을 공격하는 팀의 기물 수를 반환합니다.
+     *
+     * @param coordinate 칸
+     * @param attacker   공격하는 팀
+     * @return 공격하는 기물 수
+     */
+    public int attackCount(@NonNull Coordinate coordinate, @NonNull TeamColor attacker) {
+        return attackCounts[slotOf(attacker, coordinate.index())];
+    }
+
+    /**
+     * 칸이 팀의 기물에게 공격받고 있는지 확인합니다.
+     *
+     * @param coordinate 칸
+     * @param attacker   공격하는 팀
+     * @return 공격 여부
+     */
+    public boolean isAttacked(@NonNull Coordinate coordinate, @NonNull TeamColor attacker) {
+        return attackCount(coordinate, attacker) > 0;
+    }
+
+    /**
+     * 팀의 기물이 공격하는 모든 칸을 반환합니다.
+     *
+     * @param attacker 공격하는 팀
+     * @return 공격받는 칸의 비트보드
+     */
+    @NonNull
+    public Bitboard attacked(@NonNull TeamColor attacker) {
+        GridSpec gridSpec = position.gridSpec();
+        int base = attacker.ordinal() * gridSpec.squareCount();
+        Bitboard.Builder builder = Bitboard.builder();
+
+        for (int ordinal = 0; ordinal < gridSpec.squareCount(); ordinal++) {
+            if (attackCounts[base + ordinal] > 0) {
+                builder.add(Coordinate.of(ordinal / gridSpec.colCount(), ordinal % gridSpec.colCount()));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 팀의 킹이 공격받고 있는지 확인합니다.
+     *
+     * @param team 확인할 팀
+     * @return 체크 여부
+     */
+    public boolean isInCheck(@NonNull TeamColor team) {
+        return inCheck[team.ordinal()];
+    }
+
+    /**
+     * 팀의 킹을 체크하고 있는 기물의 칸을 반환합니다.
+     *
+     * @param team 체크받는 팀
+     * @return 체크하는 기물의 비트보드 (킹이 하나가 아니면 비어 있음)
+     */
+    @NonNull
+    public Bitboard checkers(@NonNull TeamColor team) {
+        Bitboard.Builder builder = Bitboard.builder();
+
+        for (int checker : checkers[team.ordinal()]) {
+            builder.add(Coordinate.fromIndex(checker));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 팀의 킹 앞을 가로막고 있어 그 줄을 벗어날 수 없는 기물의 칸을 반환합니다.
+     *
+     * @param team 기물의 팀
+     * @return 고정된 기물의 비트보드 (킹이 하나가 아니면 비어 있음)
+     */
+    @NonNull
+    public Bitboard pinned(@NonNull TeamColor team) {
+        return pinned[team.ordinal()];
+    }
+
+    /**
+     * 팀의 체크와 고정 관계를 추적하고 있는지 확인합니다.
+     * <p>
+     * 킹이 둘 이상인 팀은 추적하지 않으므로 {@link #isKingSafeAfter}로 판정할 수 없습니다.
+     *
+     * @param team 확인할 팀
+     * @return 추적 여부
+     */
+    public boolean tracksKing(@NonNull TeamColor team) {
+        return kingIndices[team.ordinal()] != MULTIPLE_KINGS;
+    }
+
+    /**
+     * 수를 둔 뒤 팀의 킹이 안전한지 확인합니다.
+     * <p>
+     * 수는 기물의 이동 규칙을 충족한다고 가정하며, 체크하는 기물과 고정된 기물만으로 판정합니다.
+     *
+     * @param team 수를 둘 팀
+     * @param move 이동 규칙을 충족하는 수
+     * @return 킹의 안전 여부
+     * @throws IllegalStateException 팀의 킹이 둘 이상일 경우
+     */
+    public boolean isKingSafeAfter(@NonNull TeamColor team, @NonNull Move move) {
+        int king = kingIndices[team.ordinal()];
+
+        if (king == NO_KING) {
+            return true;
+        }
+
+        if (king == MULTIPLE_KINGS) {
+            throw new IllegalStateException("King safety is not tracked for a team with multiple kings.");
+        }
+
+        int from = move.from().index();
+        int to = move.to().index();
+        int[] teamCheckers = checkers[team.ordinal()];
+
+        if (from == king) {
+            return attackCounts[slotOf(team.opposite(), to)] == 0 && !isBehindKing(teamCheckers, king, to);
+        }
+
+        if (pinned[team.ordinal()].contains(from) && !isAligned(king, from, to)) {
+            return false;
+        }
+
+        return switch (teamCheckers.length) {
+            case 0 -> true;
+            // 체크하는 기물을 잡거나 킹과의 사이를 막아야 함
+            case 1 -> to == teamCheckers[0] || isBetween(king, teamCheckers[0], to);
+            default -> false;
+        };
+    }
+
+    // 이동 기물의 공격은 킹에서 막혀 있으므로, 킹이 같은 줄을 따라 물러나는 칸은 공격 수에 아직 잡히지 않음
+    private boolean isBehindKing(int[] teamCheckers, int king, int to) {
+        for (int checker : teamCheckers) {
+            int rowStep = Integer.signum(rowOf(king) - rowOf(checker));
+            int colStep = Integer.signum(colOf(king) - colOf(checker));
+            boolean behind = rowOf(to) - rowOf(king) == rowStep && colOf(to) - colOf(king) == colStep;
+
+            if (behind && isSlider(typeAt(position, checker))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private int[] findCheckers(TeamColor team, int king) {
+        TeamColor enemy = team.opposite();
+        int row = rowOf(king);
+        int col = colOf(king);
+        int ordinal = row * position.gridSpec().colCount() + col;
+        int[] found = new int[MAX_ATTACKERS];
+        int count = 0;
+
+        count = collectPieces(enemy, PieceType.KNIGHT, attackTables.knightTargets(ordinal), found, count);
+        count = collectPieces(enemy, PieceType.KING, attackTables.kingTargets(ordinal), found, count);
+        // 폰의 공격 칸은 진행 방향만 반대인 대칭 관계이므로 킹 팀 기준 테이블로 역추적
+        count = collectPieces(enemy, PieceType.PAWN, attackTables.pawnCaptures(team, ordinal), found, count);
+
+        for (int line = 0; line < LINE_TYPES; line++) {
+            long blockers = lineAttacksFrom(position, attackTables, line, row, col)
+                    & lineOccupancy(position, line, row, col);
+
+            while (blockers != 0) {
+                int blocker = squareOn(line, row, col, Long.numberOfTrailingZeros(blockers));
+
+                if (slidesAlong(typeAt(position, enemy, blocker), line)) {
+                    found[count++] = blocker;
+                }
+
+                blockers &= blockers - 1;
+            }
+        }
+
+        return count == 0 ? NO_CHECKERS : Arrays.copyOf(found, count);
+    }
+
+    private int collectPieces(TeamColor team, PieceType type, int[] sources, int[] found, int count) {
+        for (int source : sources) {
+            if (typeAt(position, team, source) == type) {
+                found[count++] = source;
+            }
+        }
+
+        return count;
+    }
+
+    private Bitboard findPinned(TeamColor team, int king) {
+        TeamColor enemy = team.opposite();
+        int row = rowOf(king);
+        int col = colOf(king);
+        Bitboard.Builder builder = Bitboard.builder();
+
+        for (int line = 0; line < LINE_TYPES; line++) {
+            long occupancy = lineOccupancy(position, line, row, col);
+            int kingPosition = bitOn(line, row, col);
+            long kingBit = 1L << kingPosition;
+            long mask = lineMask(attackTables, line, row, col);
+            long blockers = AttackTables.lineAttacks(occupancy, kingBit, mask) & occupancy;
+            long ownBlockers = 0;
+
+            for (long bits = blockers; bits != 0; bits &= bits - 1) {
+                if (typeAt(position, team, squareOn(line, row, col, Long.numberOfTrailingZeros(bits))) != null) {
+                    ownBlockers |= Long.lowestOneBit(bits);
+                }
+            }
+
+            if (ownBlockers == 0) {
+                continue;
+            }
+
+            // 아군 기물을 치웠을 때 새로 드러나는 적 이동 기물이 킹과 같은 쪽의 아군 기물을 고정하고 있음
+            long revealed = AttackTables.lineAttacks(occupancy & ~ownBlockers, kingBit, mask) & occupancy & ~blockers;
+
+            while (revealed != 0) {
+                int pinnerBit = Long.numberOfTrailingZeros(revealed);
+
+                if (slidesAlong(typeAt(position, enemy, squareOn(line, row, col, pinnerBit)), line)) {
+                    long sameSide = pinnerBit > kingPosition ? ownBlockers & -kingBit : ownBlockers & (kingBit - 1);
+
+                    builder.add(Coordinate.fromIndex(squareOn(line, row, col, Long.numberOfTrailingZeros(sameSide))));
+                }
+
+                revealed &= revealed - 1;
+            }
+        }
+
+        return builder.build();
+    }
+
+    private boolean isAnyKingAttacked(TeamColor team) {
+        TeamColor enemy = team.opposite();
+
+        for (int row = 0; row < position.gridSpec().rowCount(); row++) {
+            long kings = position.piecesRow(team, PieceType.KING, row);
+
+            while (kings != 0) {
+                int king = Coordinate.indexOf(row, Long.numberOfTrailingZeros(kings));
+
+                if (attackCounts[slotOf(enemy, king)] > 0) {
+                    return true;
+                }
+
+                kings &= kings - 1;
+            }
+        }
+
+        return false;
+    }
+
+    private int[] nextKingIndices(Position next, Move move) {
+        int[] nextIndices = kingIndices.clone();
+        Coordinate from = move.from();
+        Coordinate to = move.to();
+
+        for (TeamColor team : TEAMS) {
+            int slot = team.ordinal();
+            boolean kingTouched = position.typeAt(team, from.row(), from.col()) == PieceType.KING
+                    || position.typeAt(team, to.row(), to.col()) == PieceType.KING
+                    || next.typeAt(team, to.row(), to.col()) == PieceType.KING;
+
+            if (!kingTouched) {
+                continue;
+            }
+
+            // 유일한 킹이 그대로 옮겨간 경우가 대부분이므로 판 전체를 다시 훑지 않음
+            boolean kingMoved = kingIndices[slot] == from.index()
+                    && next.typeAt(team, to.row(), to.col()) == PieceType.KING;
+
+            nextIndices[slot] = kingMoved ? to.index() : kingIndexOf(next, team);
+        }
+
+        return nextIndices;
+    }
+
+    private int collectSliders(Position target, Coordinate coordinate, int[] affected, int count) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+
+        for (int line = 0; line < LINE_TYPES; line++) {
+            long blockers = lineAttacksFrom(target, attackTables, line, row, col)
+                    & lineOccupancy(target, line, row, col);
+
+            while (blockers != 0) {
+                int blocker = squareOn(line, row, col, Long.numberOfTrailingZeros(blockers));
+
+                if (slidesAlong(typeAt(target, blocker), line) && !contains(affected, count, blocker)) {
+                    affected[count++] = blocker;
+                }
+
+                blockers &= blockers - 1;
+            }
+        }
+
+        return count;
+    }
+
+    private int slotOf(TeamColor team, int index) {
+        GridSpec gridSpec = position.gridSpec();
+
+        return team.ordinal() * gridSpec.squareCount() + rowOf(index) * gridSpec.colCount() + colOf(index);
+    }
+
+    private static void accumulate(
+            Position position,
+            AttackTables attackTables,
+            byte[] attackCounts,
+            TeamColor team,
+            PieceType type,
+            int row,
+            int col,
+            int delta
+    ) {
+        GridSpec gridSpec = position.gridSpec();
+        int colCount = gridSpec.colCount();
+        int base = team.ordinal() * gridSpec.squareCount();
+        int ordinal = row * colCount + col;
+        int[] targets = switch (type) {
+            case PAWN -> attackTables.pawnCaptures(team, ordinal);
+            case KNIGHT -> attackTables.knightTargets(ordinal);
+            case KING -> attackTables.kingTargets(ordinal);
+            default -> null;
+        };
+
+        if (targets != null) {
+            for (int target : targets) {
+                attackCounts[base + rowOf(target) * colCount + colOf(target)] += (byte) delta;
+            }
+
+            return;
+        }
+
+        for (int line = 0; line < LINE_TYPES; line++) {
+            if (!slidesAlong(type, line)) {
+                continue;
+            }
+
+            long bits = lineAttacksFrom(position, attackTables, line, row, col);
+
+            while (bits != 0) {
+                int target = squareOn(line, row, col, Long.numberOfTrailingZeros(bits));
+
+                attackCounts[base + rowOf(target) * colCount + colOf(target)] += (byte) delta;
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private static int kingIndexOf(Position position, TeamColor team) {
+        int found = NO_KING;
+
+        for (int row = 0; row < position.gridSpec().rowCount(); row++) {
+            long kings = position.piecesRow(team, PieceType.KING, row);
+
+            if (kings == 0) {
+                continue;
+            }
+
+            if (found != NO_KING || Long.bitCount(kings) > 1) {
+                return MULTIPLE_KINGS;
+            }
+
+            found = Coordinate.indexOf(row, Long.numberOfTrailingZeros(kings));
+        }
+
+        return found;
+    }
+
+    private static long lineAttacksFrom(Position position, AttackTables attackTables, int line, int row, int col) {
+        return AttackTables.lineAttacks(
+                lineOccupancy(position, line, row, col),
+                1L << bitOn(line, row, col),
+                lineMask(attackTables, line, row, col)
+        );
+    }
+
+    private static long lineOccupancy(Position position, int line, int row, int col) {
+        return switch (line) {
+            case ROW -> position.occupancyRow(row);
+            case COLUMN -> position.occupancyColumn(col);
+            case DIAGONAL -> position.occupancyDiagonal(row - col + position.gridSpec().colCount() - 1);
+            default -> position.occupancyAntiDiagonal(row + col);
+        };
+    }
+
+    private static long lineMask(AttackTables attackTables, int line, int row, int col) {
+        return switch (line) {
+            case ROW -> attackTables.rowMask();
+            case COLUMN -> attackTables.columnMask();
+            case DIAGONAL -> attackTables.diagonalMask(row - col + attackTables.gridSpec().colCount() - 1);
+            default -> attackTables.antiDiagonalMask(row + col);
+        };
+    }
+
+    // 열 워드의 비트 위치만 행이고, 나머지 줄은 열
+    private static int bitOn(int line, int row, int col) {
+        return line == COLUMN ? row : col;
+    }
+
+    private static int squareOn(int line, int row, int col, int bit) {
+        return switch (line) {
+            case ROW -> Coordinate.indexOf(row, bit);
+            case COLUMN -> Coordinate.indexOf(bit, col);
+            case DIAGONAL -> Coordinate.indexOf(bit + row - col, bit);
+            default -> Coordinate.indexOf(row + col - bit, bit);
+        };
+    }
+
+    private static boolean slidesAlong(@Nullable PieceType type, int line) {
+        return type == PieceType.QUEEN || type == (line < DIAGONAL ? PieceType.ROOK : PieceType.BISHOP);
+    }
+
+    private static boolean isSlider(@Nullable PieceType type) {
+        return type == PieceType.QUEEN || type == PieceType.ROOK || type == PieceType.BISHOP;
+    }
+
+    @Nullable
+    private static PieceType typeAt(Position position, TeamColor team, int index) {
+        return position.typeAt(team, rowOf(index), colOf(index));
+    }
+
+    @Nullable
+    private static PieceType typeAt(Position position, int index) {
+        PieceType white = typeAt(position, TeamColor.WHITE, index);
+
+        return white != null ? white : typeAt(position, TeamColor.BLACK, index);
+    }
+
+    // 킹에서 출발 칸을 지나는 줄 위에 도착 칸이 있는지 확인
+    private static boolean isAligned(int king, int from, int to) {
+        int fromRow = rowOf(from) - rowOf(king);
+        int fromCol = colOf(from) - colOf(king);
+        int toRow = rowOf(to) - rowOf(king);
+        int toCol = colOf(to) - colOf(king);
+
+        return fromRow * toCol == fromCol * toRow;
+    }
+
+    // 두 칸 사이의 직선·대각선 위에 칸이 놓여 있는지 확인 (양 끝 제외)
+    private static boolean isBetween(int start, int end, int square) {
+        int rowDistance = rowOf(end) - rowOf(start);
+        int colDistance = colOf(end) - colOf(start);
+
+        if (rowDistance != 0 && colDistance != 0 && Math.abs(rowDistance) != Math.abs(colDistance)) {
+            return false;
+        }
+
+        int steps = Math.max(Math.abs(rowDistance), Math.abs(colDistance));
+        int step = Math.max(Math.abs(rowOf(square) - rowOf(start)), Math.abs(colOf(square) - colOf(start)));
+
+        return step > 0 && step < steps
+                && rowOf(square) - rowOf(start) == Integer.signum(rowDistance) * step
+                && colOf(square) - colOf(start) == Integer.signum(colDistance) * step;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int rowOf(int index) {
+        return index >>> INDEX_SHIFT;
+    }
+
+    private static int colOf(int index) {
+        return index & INDEX_MASK;
+    }
+}
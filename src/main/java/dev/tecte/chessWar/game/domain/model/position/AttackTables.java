@@ -0,0 +1,214 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * 격자 크기별로 미리 계산해 둔 기물 공격 범위 테이블입니다.
+ * <p>
+ * 킹, 나이트, 폰의 공격 칸은 칸 순번({@code row * colCount + col})마다 도착 칸의 압축 색인 배열로 저장하고,
+ * 직선·대각선 이동에는 행, 열, 대각선, 반대각선별 유효 비트 마스크를 제공합니다.
+ * 조회는 배열 접근 한 번으로 끝나며 객체를 생성하지 않습니다.
+ */
+public final class AttackTables {
+    private static final int[][] KNIGHT_STEPS = {
+            {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+    private static final int[][] KING_STEPS = {
+            {1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}
+    };
+
+    private final GridSpec gridSpec;
+    private final int[][] knightTargets;
+    private final int[][] kingTargets;
+    // [팀][칸 순번]
+    private final int[][][] pawnCaptures;
+    private final long rowMask;
+    private final long columnMask;
+    private final long[] diagonalMasks;
+    private final long[] antiDiagonalMasks;
+
+    private AttackTables(@NonNull GridSpec gridSpec) {
+        int squareCount = gridSpec.squareCount();
+        int lineCount = Position.lineCountOf(gridSpec);
+
+        this.gridSpec = gridSpec;
+        this.knightTargets = new int[squareCount][];
+        this.kingTargets = new int[squareCount][];
+        this.pawnCaptures = new int[TeamColor.values().length][squareCount][];
+        this.rowMask = Bitboard.maskOfColumns(gridSpec.colCount());
+        this.columnMask = Bitboard.maskOfColumns(gridSpec.rowCount());
+        this.diagonalMasks = new long[lineCount];
+        this.antiDiagonalMasks = new long[lineCount];
+    }
+
+    /**
+     * 격자의 공격 범위 테이블을 계산합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 공격 범위 테이블
+     */
+    @NonNull
+    public static AttackTables of(@NonNull GridSpec gridSpec) {
+        AttackTables tables = new AttackTables(gridSpec);
+        int rowCount = gridSpec.rowCount();
+        int colCount = gridSpec.colCount();
+
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                int ordinal = row * colCount + col;
+
+                tables.knightTargets[ordinal] = tables.targetsOf(row, col, KNIGHT_STEPS);
+                tables.kingTargets[ordinal] = tables.targetsOf(row, col, KING_STEPS);
+
+                for (TeamColor team : TeamColor.values()) {
+                    int forward = forwardOf(team);
+
+                    tables.pawnCaptures[team.ordinal()][ordinal] = tables.targetsOf(
+                            row,
+                            col,
+                            new int[][]{{forward, -1}, {forward, 1}}
+                    );
+                }
+
+                tables.diagonalMasks[row - col + colCount - 1] |= 1L << col;
+                tables.antiDiagonalMasks[row + col] |= 1L << col;
+            }
+        }
+
+        return tables;
+    }
+
+    /**
+     * 팀의 폰이 전진하는 행 방향을 반환합니다.
+     *
+     * @param team 팀
+     * @return 행 증감량
+     */
+    public static int forwardOf(@NonNull TeamColor team) {
+        return team == TeamColor.WHITE ? 1 : -1;
+    }
+
+    /**
+     * 한 줄 위에서 이동 기물이 닿는 칸을 양방향으로 구합니다.
+     * <p>
+     * 아래쪽 방향은 {@code o - r}의 빌림 전파로, 반대 방향은 비트를 뒤집은 같은 연산으로 구한 뒤 합칩니다.
+     * 첫 번째 막힌 칸(점유 칸)까지 포함합니다.
+     *
+     * @param occupancy 줄의 점유 비트
+     * @param slider    이동 기물의 비트
+     * @param lineMask  줄의 유효 비트 마스크
+     * @return 닿는 칸의 비트
+     */
+    public static long lineAttacks(long occupancy, long slider, long lineMask) {
+        long mask = lineMask & ~slider;
+        long blockers = occupancy & mask;
+        long forward = blockers - slider;
+        long reverse = Long.reverse(Long.reverse(blockers) - Long.reverse(slider));
+
+        return (forward ^ reverse) & mask;
+    }
+
+    /**
+     * 격자 크기 명세를 반환합니다.
+     *
+     * @return 격자 크기 명세
+     */
+    @NonNull
+    public GridSpec gridSpec() {
+        return gridSpec;
+    }
+
+    /**
+     * 칸에서 나이트가 공격하는 칸의 압축 색인을 반환합니다.
+     *
+     * @param ordinal 칸 순번
+     * @return 압축 색인 배열 (수정 금지)
+     */
+    public int[] knightTargets(int ordinal) {
+        return knightTargets[ordinal];
+    }
+
+    /**
+     * 칸에서 킹이 공격하는 칸의 압축 색인을 반환합니다.
+     *
+     * @param ordinal 칸 순번
+     * @return 압축 색인 배열 (수정 금지)
+     */
+    public int[] kingTargets(int ordinal) {
+        return kingTargets[ordinal];
+    }
+
+    /**
+     * 칸에서 팀의 폰이 공격하는 칸의 압축 색인을 반환합니다.
+     *
+     * @param team    폰의 팀
+     * @param ordinal 칸 순번
+     * @return 압축 색인 배열 (수정 금지)
+     */
+    public int[] pawnCaptures(@NonNull TeamColor team, int ordinal) {
+        return pawnCaptures[team.ordinal()][ordinal];
+    }
+
+    /**
+     * 행 워드의 유효 비트 마스크를 반환합니다.
+     *
+     * @return 열 개수만큼의 비트 마스크
+     */
+    public long rowMask() {
+        return rowMask;
+    }
+
+    /**
+     * 열 워드의 유효 비트 마스크를 반환합니다.
+     *
+     * @return 행 개수만큼의 비트 마스크
+     */
+    public long columnMask() {
+        return columnMask;
+    }
+
+    /**
+     * 대각선 워드의 유효 비트 마스크를 반환합니다.
+     *
+     * @param diagonal 대각선 번호
+     * @return 비트 마스크
+     */
+    public long diagonalMask(int diagonal) {
+        return diagonalMasks[diagonal];
+    }
+
+    /**
+     * 반대각선 워드의 유효 비트 마스크를 반환합니다.
+     *
+     * @param antiDiagonal 반대각선 번호
+     * @return 비트 마스크
+     */
+    public long antiDiagonalMask(int antiDiagonal) {
+        return antiDiagonalMasks[antiDiagonal];
+    }
+
+    @NonNull
+    private int[] targetsOf(int row, int col, @NonNull int[][] steps) {
+        int[] targets = new int[steps.length];
+        int count = 0;
+
+        for (int[] step : steps) {
+            int targetRow = row + step[0];
+            int targetCol = col + step[1];
+            boolean inRows = targetRow >= 0 && targetRow < gridSpec.rowCount();
+            boolean inCols = targetCol >= 0 && targetCol < gridSpec.colCount();
+
+            if (inRows && inCols) {
+                targets[count++] = Coordinate.indexOf(targetRow, targetCol);
+            }
+        }
+
+        return Arrays.copyOf(targets, count);
+    }
+}
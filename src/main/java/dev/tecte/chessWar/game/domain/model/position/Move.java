@@ -0,0 +1,103 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * 기물 한 개를 옮기는 수를 나타내는 불변 객체입니다.
+ * <p>
+ * 수 생성기 내부에서는 출발·도착 좌표의 압축 색인과 승급 기물을 하나의 {@code int}로 묶어 다룹니다.
+ *
+ * @param from      출발 좌표
+ * @param to        도착 좌표
+ * @param promotion 승급할 기물 종류 (승급이 아니면 {@code null})
+ */
+public record Move(Coordinate from, Coordinate to, @Nullable PieceType promotion) {
+    private static final int TO_SHIFT = 12;
+    private static final int PROMOTION_SHIFT = 24;
+    private static final int INDEX_MASK = (1 << TO_SHIFT) - 1;
+    private static final PieceType[] TYPES = PieceType.values();
+
+    public Move {
+        Objects.requireNonNull(from, "From coordinate cannot be null");
+        Objects.requireNonNull(to, "To coordinate cannot be null");
+    }
+
+    /**
+     * 일반 수를 생성합니다.
+     *
+     * @param from 출발 좌표
+     * @param to   도착 좌표
+     * @return 수
+     */
+    @NonNull
+    public static Move of(@NonNull Coordinate from, @NonNull Coordinate to) {
+        return new Move(from, to, null);
+    }
+
+    /**
+     * 승급 수를 생성합니다.
+     *
+     * @param from      출발 좌표
+     * @param to        도착 좌표
+     * @param promotion 승급할 기물 종류
+     * @return 수
+     */
+    @NonNull
+    public static Move promoting(@NonNull Coordinate from, @NonNull Coordinate to, @NonNull PieceType promotion) {
+        return new Move(from, to, promotion);
+    }
+
+    /**
+     * 압축된 수를 복원합니다.
+     *
+     * @param encoded 압축된 수
+     * @return 수
+     */
+    @NonNull
+    public static Move decode(int encoded) {
+        int promotion = encoded >>> PROMOTION_SHIFT;
+
+        return new Move(
+                Coordinate.fromIndex(encoded & INDEX_MASK),
+                Coordinate.fromIndex(encoded >>> TO_SHIFT & INDEX_MASK),
+                promotion == 0 ? null : TYPES[promotion - 1]
+        );
+    }
+
+    /**
+     * 좌표 색인으로 수를 압축합니다.
+     *
+     * @param fromIndex 출발 좌표의 압축 색인
+     * @param toIndex   도착 좌표의 압축 색인
+     * @param promotion 승급할 기물 종류 (승급이 아니면 {@code null})
+     * @return 압축된 수
+     */
+    public static int encode(int fromIndex, int toIndex, @Nullable PieceType promotion) {
+        int promotionBits = promotion == null ? 0 : promotion.ordinal() + 1;
+
+        return fromIndex | toIndex << TO_SHIFT | promotionBits << PROMOTION_SHIFT;
+    }
+
+    /**
+     * 수를 하나의 {@code int}로 압축합니다.
+     *
+     * @return 압축된 수
+     */
+    public int encode() {
+        return encode(from.index(), to.index(), promotion);
+    }
+
+    /**
+     * 승급 수인지 확인합니다.
+     *
+     * @return 승급 여부
+     */
+    public boolean isPromotion() {
+        return promotion != null;
+    }
+}
@@ -0,0 +1,506 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.piece.domain.model.Piece;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 기물 배치를 팀과 기물 종류별 비트보드로 표현한 불변 국면입니다.
+ * <p>
+ * 팀과 기물 종류마다 행 단위 비트보드를 두고, 팀별 점유 칸과 전체 점유 칸을 함께 유지합니다.
+ * 직선·대각선 이동 계산을 위해 전체 점유 칸은 열, 대각선, 반대각선 단위로 회전한 워드도 함께 유지하며,
+ * 이들 워드에서 비트 위치는 열 워드일 때 행, 나머지는 열을 뜻합니다.
+ * 모든 워드는 격자 크기에 맞춘 하나의 {@code long[]}에 저장되어,
+ * 국면 갱신은 배열 복사 한 번과 비트 연산 몇 번으로 끝납니다.
+ * 기물의 식별자는 담지 않으므로 맵 형태로 되돌릴 때는 기물 명세만 복원됩니다.
+ * <p>
+ * 국면마다 Zobrist 해시({@link ZobristKeys})를 함께 유지하며, 갱신 시 바뀐 칸의 키만 XOR하므로 O(1)로 계산됩니다.
+ */
+public final class Position {
+    private static final TeamColor[] TEAMS = TeamColor.values();
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final int PIECE_SLOTS = TEAMS.length * TYPES.length;
+    private static final int ALL_SLOT = PIECE_SLOTS + TEAMS.length;
+    private static final int SLOT_COUNT = ALL_SLOT + 1;
+    private static final PieceSpec[] SPECS = new PieceSpec[PIECE_SLOTS];
+
+    static {
+        for (TeamColor team : TEAMS) {
+            for (PieceType type : TYPES) {
+                SPECS[slotOf(team, type)] = PieceSpec.of(type, team);
+            }
+        }
+    }
+
+    private final GridSpec gridSpec;
+    private final int rowCount;
+    private final int colCount;
+    private final int columnBase;
+    private final int diagonalBase;
+    private final int antiDiagonalBase;
+    // [슬롯(팀 x 기물 종류, 팀별 점유, 전체 점유) x 행, 열, 대각선, 반대각선] 순서의 워드
+    private final long[] words;
+    private final long zobristHash;
+
+    private Position(@NonNull GridSpec gridSpec, @NonNull long[] words, long zobristHash) {
+        this.gridSpec = gridSpec;
+        this.rowCount = gridSpec.rowCount();
+        this.colCount = gridSpec.colCount();
+        this.columnBase = SLOT_COUNT * rowCount;
+        this.diagonalBase = columnBase + colCount;
+        this.antiDiagonalBase = diagonalBase + lineCountOf(gridSpec);
+        this.words = words;
+        this.zobristHash = zobristHash;
+    }
+
+    /**
+     * 빈 국면을 생성합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 빈 국면
+     */
+    @NonNull
+    public static Position empty(@NonNull GridSpec gridSpec) {
+        return new Position(gridSpec, new long[wordCountOf(gridSpec)], ZobristKeys.gridKey(gridSpec));
+    }
+
+    /**
+     * 기물 배치로부터 국면을 생성합니다.
+     *
+     * @param pieces 기물 배치
+     * @return 국면
+     */
+    @NonNull
+    public static Position from(@NonNull CoordinateMap<? extends Piece> pieces) {
+        Position empty = empty(pieces.gridSpec());
+        long hash = empty.zobristHash;
+
+        for (var entry : pieces.entrySet()) {
+            hash ^= empty.place(empty.words, entry.getKey(), entry.getValue().spec());
+        }
+
+        return new Position(empty.gridSpec, empty.words, hash);
+    }
+
+    /**
+     * 기물 명세 배치로부터 국면을 생성합니다.
+     *
+     * @param specs 기물 명세 배치
+     * @return 국면
+     */
+    @NonNull
+    public static Position fromSpecs(@NonNull CoordinateMap<PieceSpec> specs) {
+        Position empty = empty(specs.gridSpec());
+        long hash = empty.zobristHash;
+
+        for (var entry : specs.entrySet()) {
+            hash ^= empty.place(empty.words, entry.getKey(), entry.getValue());
+        }
+
+        return new Position(empty.gridSpec, empty.words, hash);
+    }
+
+    /**
+     * 격자의 대각선(또는 반대각선) 개수를 반환합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 대각선 개수
+     */
+    public static int lineCountOf(@NonNull GridSpec gridSpec) {
+        return gridSpec.rowCount() + gridSpec.colCount() - 1;
+    }
+
+    /**
+     * 격자 크기 명세를 반환합니다.
+     *
+     * @return 격자 크기 명세
+     */
+    @NonNull
+    public GridSpec gridSpec() {
+        return gridSpec;
+    }
+
+    /**
+     * 국면의 Zobrist 해시를 반환합니다.
+     * <p>
+     * 격자 크기와 기물 배치가 같은 국면은 같은 해시를 가집니다. 수를 둘 차례는 포함하지 않으므로
+     * 필요하면 {@link ZobristKeys#sideToMove(TeamColor)}를 XOR하여 사용합니다.
+     *
+     * @return Zobrist 해시
+     */
+    public long zobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * 팀의 특정 종류 기물이 놓인 칸을 반환합니다.
+     *
+     * @param team 팀
+     * @param type 기물 종류
+     * @return 칸 집합
+     */
+    @NonNull
+    public Bitboard pieces(@NonNull TeamColor team, @NonNull PieceType type) {
+        return Bitboard.ofRows(words, slotOf(team, type) * rowCount, rowCount);
+    }
+
+    /**
+     * 팀의 기물이 놓인 칸을 반환합니다.
+     *
+     * @param team 팀
+     * @return 칸 집합
+     */
+    @NonNull
+    public Bitboard occupancy(@NonNull TeamColor team) {
+        return Bitboard.ofRows(words, teamSlotOf(team) * rowCount, rowCount);
+    }
+
+    /**
+     * 기물이 놓인 모든 칸을 반환합니다.
+     *
+     * @return 칸 집합
+     */
+    @NonNull
+    public Bitboard occupancy() {
+        return Bitboard.ofRows(words, ALL_SLOT * rowCount, rowCount);
+    }
+
+    /**
+     * 팀의 특정 종류 기물이 놓인 열 비트를 행 단위로 반환합니다.
+     *
+     * @param team 팀
+     * @param type 기물 종류
+     * @param row  행
+     * @return 열 비트
+     */
+    public long piecesRow(@NonNull TeamColor team, @NonNull PieceType type, int row) {
+        return words[slotOf(team, type) * rowCount + row];
+    }
+
+    /**
+     * 팀의 기물이 놓인 열 비트를 행 단위로 반환합니다.
+     *
+     * @param team 팀
+     * @param row  행
+     * @return 열 비트
+     */
+    public long occupancyRow(@NonNull TeamColor team, int row) {
+        return words[teamSlotOf(team) * rowCount + row];
+    }
+
+    /**
+     * 기물이 놓인 열 비트를 행 단위로 반환합니다.
+     *
+     * @param row 행
+     * @return 열 비트
+     */
+    public long occupancyRow(int row) {
+        return words[ALL_SLOT * rowCount + row];
+    }
+
+    /**
+     * 기물이 놓인 행 비트를 열 단위로 반환합니다.
+     *
+     * @param col 열
+     * @return 행 비트
+     */
+    public long occupancyColumn(int col) {
+        return words[columnBase + col];
+    }
+
+    /**
+     * 기물이 놓인 열 비트를 대각선({@code row - col + colCount - 1}) 단위로 반환합니다.
+     *
+     * @param diagonal 대각선 번호
+     * @return 열 비트
+     */
+    public long occupancyDiagonal(int diagonal) {
+        return words[diagonalBase + diagonal];
+    }
+
+    /**
+     * 기물이 놓인 열 비트를 반대각선({@code row + col}) 단위로 반환합니다.
+     *
+     * @param antiDiagonal 반대각선 번호
+     * @return 열 비트
+     */
+    public long occupancyAntiDiagonal(int antiDiagonal) {
+        return words[antiDiagonalBase + antiDiagonal];
+    }
+
+    /**
+     * 칸에 기물이 있는지 확인합니다.
+     *
+     * @param coordinate 좌표
+     * @return 점유 여부
+     */
+    public boolean isOccupied(@NonNull Coordinate coordinate) {
+        return (occupancyRow(coordinate.row()) & bitOf(coordinate)) != 0;
+    }
+
+    /**
+     * 칸에 놓인 기물의 명세를 찾습니다.
+     *
+     * @param coordinate 좌표
+     * @return 기물 명세
+     */
+    @NonNull
+    public Optional<PieceSpec> specAt(@NonNull Coordinate coordinate) {
+        int slot = slotAt(coordinate.row(), coordinate.col());
+
+        return slot < 0 ? Optional.empty() : Optional.of(SPECS[slot]);
+    }
+
+    /**
+     * 칸에 놓인 기물의 종류를 찾습니다.
+     *
+     * @param team 기물의 팀
+     * @param row  행
+     * @param col  열
+     * @return 기물 종류, 팀의 기물이 없으면 {@code null}
+     */
+    @Nullable
+    public PieceType typeAt(@NonNull TeamColor team, int row, int col) {
+        long bit = 1L << col;
+
+        if ((occupancyRow(team, row) & bit) == 0) {
+            return null;
+        }
+
+        for (PieceType type : TYPES) {
+            if ((piecesRow(team, type, row) & bit) != 0) {
+                return type;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 칸에 기물을 놓은 국면을 반환합니다.
+     * <p>
+     * 이미 다른 기물이 있으면 교체합니다.
+     *
+     * @param coordinate 좌표
+     * @param spec       기물 명세
+     * @return 새 국면
+     * @throws IllegalArgumentException 격자 밖의 좌표일 경우
+     */
+    @NonNull
+    public Position with(@NonNull Coordinate coordinate, @NonNull PieceSpec spec) {
+        requireInGrid(coordinate);
+
+        long[] newWords = words.clone();
+        long newHash = zobristHash ^ clear(newWords, coordinate) ^ place(newWords, coordinate, spec);
+
+        return new Position(gridSpec, newWords, newHash);
+    }
+
+    /**
+     * 칸의 기물을 제거한 국면을 반환합니다.
+     *
+     * @param coordinate 좌표
+     * @return 새 국면, 기물이 없으면 현재 국면
+     */
+    @NonNull
+    public Position without(@NonNull Coordinate coordinate) {
+        if (!gridSpec.contains(coordinate) || !isOccupied(coordinate)) {
+            return this;
+        }
+
+        long[] newWords = words.clone();
+        long newHash = zobristHash ^ clear(newWords, coordinate);
+
+        return new Position(gridSpec, newWords, newHash);
+    }
+
+    /**
+     * 기물을 이동한 국면을 반환합니다.
+     * <p>
+     * 도착 칸에 기물이 있으면 잡힌 것으로 보고 제거합니다.
+     *
+     * @param from 출발 좌표
+     * @param to   도착 좌표
+     * @return 새 국면
+     * @throws IllegalArgumentException 격자 밖의 좌표이거나 출발 칸이 비어 있을 경우
+     */
+    @NonNull
+    public Position moved(@NonNull Coordinate from, @NonNull Coordinate to) {
+        return applied(Move.of(from, to));
+    }
+
+    /**
+     * 수를 둔 국면을 반환합니다.
+     * <p>
+     * 도착 칸에 기물이 있으면 잡힌 것으로 보고 제거하며, 승급 수는 승급한 기물로 교체합니다.
+     *
+     * @param move 수
+     * @return 새 국면
+     * @throws IllegalArgumentException 격자 밖의 좌표이거나 출발 칸이 비어 있을 경우
+     */
+    @NonNull
+    public Position applied(@NonNull Move move) {
+        Coordinate from = move.from();
+        Coordinate to = move.to();
+
+        requireInGrid(from);
+        requireInGrid(to);
+
+        int slot = slotAt(from.row(), from.col());
+
+        if (slot < 0) {
+            throw new IllegalArgumentException("No piece at " + from.toNotation() + ".");
+        }
+
+        PieceSpec spec = SPECS[slot];
+        PieceType promotion = move.promotion();
+        PieceSpec placed = promotion == null ? spec : SPECS[slotOf(spec.teamColor(), promotion)];
+        long[] newWords = words.clone();
+        long newHash = zobristHash ^ clear(newWords, from) ^ clear(newWords, to) ^ place(newWords, to, placed);
+
+        return new Position(gridSpec, newWords, newHash);
+    }
+
+    /**
+     * 국면을 기물 명세 배치로 변환합니다.
+     *
+     * @return 기물 명세 배치
+     */
+    @NonNull
+    public CoordinateMap<PieceSpec> toSpecs() {
+        CoordinateMap.Builder<PieceSpec> builder = CoordinateMap.builder(gridSpec);
+
+        for (int slot = 0; slot < PIECE_SLOTS; slot++) {
+            PieceSpec spec = SPECS[slot];
+
+            for (int row = 0; row < rowCount; row++) {
+                long bits = words[slot * rowCount + row];
+
+                while (bits != 0) {
+                    builder.put(Coordinate.of(row, Long.numberOfTrailingZeros(bits)), spec);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 국면이 기물 배치와 일치하는지 확인합니다.
+     *
+     * @param pieces 기물 배치
+     * @return 일치 여부
+     */
+    public boolean matches(@NonNull CoordinateMap<? extends Piece> pieces) {
+        return equals(from(pieces));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Position other
+                && zobristHash == other.zobristHash
+                && gridSpec.equals(other.gridSpec)
+                && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristHash);
+    }
+
+    @Override
+    public String toString() {
+        return "Position[gridSpec=" + gridSpec + ", pieces=" + occupancy().count() + "]";
+    }
+
+    private int slotAt(int row, int col) {
+        long bit = 1L << col;
+
+        if ((words[ALL_SLOT * rowCount + row] & bit) == 0) {
+            return -1;
+        }
+
+        for (int slot = 0; slot < PIECE_SLOTS; slot++) {
+            if ((words[slot * rowCount + row] & bit) != 0) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private void requireInGrid(@NonNull Coordinate coordinate) {
+        if (!gridSpec.contains(coordinate)) {
+            throw new IllegalArgumentException("Coordinate %s is outside the %s grid."
+                    .formatted(coordinate.toNotation(), gridSpec.notationRange()));
+        }
+    }
+
+    // 놓은 기물의 해시 키를 반환
+    private long place(@NonNull long[] target, @NonNull Coordinate coordinate, @NonNull PieceSpec spec) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        long bit = 1L << col;
+
+        target[slotOf(spec.teamColor(), spec.type()) * rowCount + row] |= bit;
+        target[teamSlotOf(spec.teamColor()) * rowCount + row] |= bit;
+        target[ALL_SLOT * rowCount + row] |= bit;
+        target[columnBase + col] |= 1L << row;
+        target[diagonalBase + row - col + colCount - 1] |= bit;
+        target[antiDiagonalBase + row + col] |= bit;
+
+        return ZobristKeys.pieceKey(spec, coordinate);
+    }
+
+    // 제거한 기물의 해시 키를 반환 (빈 칸이면 0)
+    private long clear(@NonNull long[] target, @NonNull Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        long bit = 1L << col;
+        long mask = ~bit;
+        long removedKey = 0L;
+
+        for (int slot = 0; slot < PIECE_SLOTS; slot++) {
+            if ((target[slot * rowCount + row] & bit) != 0) {
+                removedKey ^= ZobristKeys.pieceKey(SPECS[slot], coordinate);
+            }
+        }
+
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            target[slot * rowCount + row] &= mask;
+        }
+
+        target[columnBase + col] &= ~(1L << row);
+        target[diagonalBase + row - col + colCount - 1] &= mask;
+        target[antiDiagonalBase + row + col] &= mask;
+
+        return removedKey;
+    }
+
+    private static long bitOf(@NonNull Coordinate coordinate) {
+        return 1L << coordinate.col();
+    }
+
+    private static int wordCountOf(@NonNull GridSpec gridSpec) {
+        return SLOT_COUNT * gridSpec.rowCount() + gridSpec.colCount() + 2 * lineCountOf(gridSpec);
+    }
+
+    private static int slotOf(@NonNull TeamColor team, @NonNull PieceType type) {
+        return team.ordinal() * TYPES.length + type.ordinal();
+    }
+
+    private static int teamSlotOf(@NonNull TeamColor team) {
+        return PIECE_SLOTS + team.ordinal();
+    }
+}
@@ -0,0 +1,112 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * 국면 해시를 키로 사용하는 고정 크기의 무잠금 캐시입니다.
+ * <p>
+ * 해시의 하위 비트로 고른 슬롯 하나에 항목을 보관하며, 충돌하면 새 항목으로 교체합니다.
+ * 항목은 불변이므로 잠금 없이 여러 스레드에서 동시에 읽고 쓸 수 있고, 메모리 사용량은 용량에 고정됩니다.
+ * 항목은 64비트 해시 전체가 일치할 때만 반환합니다.
+ *
+ * @param <V> 값 타입
+ */
+public final class PositionCache<V> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int mask;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param capacity 최대 항목 수 (2의 거듭제곱으로 올림)
+     * @throws IllegalArgumentException 용량이 양수가 아닐 경우
+     */
+    public PositionCache(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    /**
+     * 해시에 해당하는 값을 찾습니다.
+     *
+     * @param hash 국면 해시
+     * @return 캐시된 값, 없으면 {@code null}
+     */
+    @Nullable
+    public V get(long hash) {
+        Entry<V> entry = slots.getAcquire(indexOf(hash));
+
+        return entry != null && entry.hash == hash ? entry.value : null;
+    }
+
+    /**
+     * 해시에 값을 저장합니다.
+     *
+     * @param hash  국면 해시
+     * @param value 값
+     */
+    public void put(long hash, @NonNull V value) {
+        slots.setRelease(indexOf(hash), new Entry<>(hash, value));
+    }
+
+    /**
+     * 해시에 해당하는 값을 찾고, 없으면 계산하여 저장합니다.
+     * <p>
+     * 동시에 같은 해시를 계산하는 경우 계산이 중복될 수 있으나 결과는 같습니다.
+     *
+     * @param hash     국면 해시
+     * @param computer 값 계산 함수
+     * @return 캐시되었거나 새로 계산한 값
+     */
+    @NonNull
+    public V computeIfAbsent(long hash, @NonNull LongFunction<? extends V> computer) {
+        V cached = get(hash);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        V value = computer.apply(hash);
+
+        put(hash, value);
+
+        return value;
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setRelease(i, null);
+        }
+    }
+
+    /**
+     * 캐시의 슬롯 수를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int indexOf(long hash) {
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    private record Entry<V>(long hash, V value) {
+    }
+}
@@ -0,0 +1,147 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 처리 중인 수가 차지한 칸을 기록하는 무잠금 예약 표입니다.
+ * <p>
+ * 행마다 {@code long} 워드 하나를 두고 열을 비트로 표시하며, 예약은 해당 워드에 대한 CAS로 이루어집니다.
+ * 같은 칸을 두고 경쟁하는 요청 중 CAS에 성공한 하나만 예약을 얻으므로,
+ * 동시에 들어온 수 요청을 메인 스레드에서 줄 세우지 않고도 충돌을 걸러낼 수 있습니다.
+ */
+public final class SquareReservations {
+    private final GridSpec gridSpec;
+    private final AtomicLongArray rows;
+
+    private SquareReservations(GridSpec gridSpec) {
+        this.gridSpec = gridSpec;
+        this.rows = new AtomicLongArray(gridSpec.rowCount());
+    }
+
+    /**
+     * 격자에 맞는 빈 예약 표를 생성합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 예약 표
+     */
+    @NonNull
+    public static SquareReservations of(@NonNull GridSpec gridSpec) {
+        return new SquareReservations(gridSpec);
+    }
+
+    /**
+     * 격자 크기 명세를 반환합니다.
+     *
+     * @return 격자 크기 명세
+     */
+    @NonNull
+    public GridSpec gridSpec() {
+        return gridSpec;
+    }
+
+    /**
+     * 칸을 예약합니다.
+     *
+     * @param coordinate 예약할 칸
+     * @return 예약에 성공하면 {@code true}, 이미 예약된 칸이면 {@code false}
+     * @throws IllegalArgumentException 좌표가 격자를 벗어날 경우
+     */
+    public boolean tryReserve(@NonNull Coordinate coordinate) {
+        requireInGrid(coordinate);
+
+        int row = coordinate.row();
+        long bit = 1L << coordinate.col();
+        long word;
+
+        do {
+            word = rows.get(row);
+
+            if ((word & bit) != 0) {
+                return false;
+            }
+        } while (!rows.compareAndSet(row, word, word | bit));
+
+        return true;
+    }
+
+    /**
+     * 수의 출발 칸과 도착 칸을 함께 예약합니다.
+     * <p>
+     * 두 칸 중 하나라도 이미 예약되어 있으면 먼저 얻은 예약을 되돌리고 실패합니다.
+     *
+     * @param move 예약할 수
+     * @return 두 칸 모두 예약에 성공했는지 여부
+     * @throws IllegalArgumentException 좌표가 격자를 벗어날 경우
+     */
+    public boolean tryReserve(@NonNull Move move) {
+        // 도착 칸이 격자를 벗어나 출발 칸 예약만 남는 일이 없도록 두 칸을 먼저 검사
+        requireInGrid(move.from());
+        requireInGrid(move.to());
+
+        if (!tryReserve(move.from())) {
+            return false;
+        }
+
+        if (!tryReserve(move.to())) {
+            release(move.from());
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 칸의 예약을 해제합니다.
+     *
+     * @param coordinate 해제할 칸
+     * @throws IllegalArgumentException 좌표가 격자를 벗어날 경우
+     */
+    public void release(@NonNull Coordinate coordinate) {
+        requireInGrid(coordinate);
+        rows.accumulateAndGet(coordinate.row(), ~(1L << coordinate.col()), (word, mask) -> word & mask);
+    }
+
+    /**
+     * 수의 출발 칸과 도착 칸의 예약을 해제합니다.
+     *
+     * @param move 해제할 수
+     * @throws IllegalArgumentException 좌표가 격자를 벗어날 경우
+     */
+    public void release(@NonNull Move move) {
+        release(move.from());
+        release(move.to());
+    }
+
+    /**
+     * 칸이 예약되어 있는지 확인합니다.
+     *
+     * @param coordinate 확인할 칸
+     * @return 예약 여부
+     * @throws IllegalArgumentException 좌표가 격자를 벗어날 경우
+     */
+    public boolean isReserved(@NonNull Coordinate coordinate) {
+        requireInGrid(coordinate);
+
+        return (rows.get(coordinate.row()) & 1L << coordinate.col()) != 0;
+    }
+
+    /**
+     * 모든 예약을 해제합니다.
+     */
+    public void clear() {
+        for (int row = 0; row < rows.length(); row++) {
+            rows.set(row, 0L);
+        }
+    }
+
+    private void requireInGrid(Coordinate coordinate) {
+        if (!gridSpec.contains(coordinate)) {
+            throw new IllegalArgumentException("Coordinate %s is outside of the grid.".formatted(coordinate));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.SplittableRandom;
+
+/**
+ * 국면 해시에 쓰이는 Zobrist 난수 키 집합입니다.
+ * <p>
+ * 팀, 기물 종류, 좌표의 압축 색인마다 64비트 키를 하나씩 두며, 국면 해시는 놓인 기물 키의 XOR입니다.
+ * 고정된 시드로 생성하므로 서버를 재시작해도 같은 국면은 같은 해시를 가집니다.
+ */
+@UtilityClass
+public class ZobristKeys {
+    private final long SEED = 0x4357_5A4F_4252_4953L;
+    private final int TYPE_COUNT = PieceType.values().length;
+    private final int PIECE_KEY_COUNT = TeamColor.values().length * TYPE_COUNT * Coordinate.INDEX_SPACE;
+    // [팀 x 기물 종류 x 압축 색인, 차례]
+    private final long[] KEYS = generate();
+
+    /**
+     * 칸에 놓인 기물의 키를 반환합니다.
+     *
+     * @param spec       기물 명세
+     * @param coordinate 좌표
+     * @return 키
+     */
+    public long pieceKey(@NonNull PieceSpec spec, @NonNull Coordinate coordinate) {
+        int slot = spec.teamColor().ordinal() * TYPE_COUNT + spec.type().ordinal();
+
+        return KEYS[slot * Coordinate.INDEX_SPACE + coordinate.index()];
+    }
+
+    /**
+     * 격자 크기의 키를 반환합니다.
+     * <p>
+     * 같은 배치라도 격자 크기가 다르면 둘 수 있는 수가 달라지므로 빈 국면의 해시로 사용합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 키
+     */
+    public long gridKey(@NonNull GridSpec gridSpec) {
+        return new SplittableRandom(SEED ^ (long) gridSpec.rowCount() << 32 ^ gridSpec.colCount()).nextLong();
+    }
+
+    /**
+     * 수를 둘 차례의 키를 반환합니다.
+     *
+     * @param team 수를 둘 팀
+     * @return 키 (백팀은 0)
+     */
+    public long sideToMove(@NonNull TeamColor team) {
+        return team == TeamColor.WHITE ? 0L : KEYS[PIECE_KEY_COUNT];
+    }
+
+    private long[] generate() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] keys = new long[PIECE_KEY_COUNT + 1];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+
+        return keys;
+    }
+}
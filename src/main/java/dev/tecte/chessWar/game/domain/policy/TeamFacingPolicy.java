@@ -1,10 +1,10 @@
 package dev.tecte.chessWar.game.domain.policy;
 
 import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import dev.tecte.chessWar.team.domain.model.TeamColor;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
-import org.bukkit.util.Vector;
 
 /**
  * 팀별 진영 방향을 결정하는 정책을 관리합니다.
@@ -19,7 +19,7 @@ public class TeamFacingPolicy {
      * @return 전진 방향
      */
     @NonNull
-    public Vector forwardFacingOf(@NonNull TeamColor team, @NonNull Board board) {
+    public Vec3 forwardFacingOf(@NonNull TeamColor team, @NonNull Board board) {
         return (team == TeamColor.WHITE) ? board.forwardFacing() : board.backwardFacing();
     }
 
@@ -31,7 +31,7 @@ public class TeamFacingPolicy {
      * @return 아군 진영 방향
      */
     @NonNull
-    public Vector ownCampFacingOf(@NonNull TeamColor team, @NonNull Board board) {
-        return forwardFacingOf(team, board).multiply(-1);
+    public Vec3 ownCampFacingOf(@NonNull TeamColor team, @NonNull Board board) {
+        return forwardFacingOf(team, board).negate();
     }
 }
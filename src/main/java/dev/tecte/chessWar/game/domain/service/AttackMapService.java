@@ -0,0 +1,90 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.game.domain.model.position.AttackMap;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.game.domain.model.position.PositionCache;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 국면별 공격 지도를 유지하며 체크와 수의 합법성을 판정합니다.
+ * <p>
+ * 공격 지도는 국면 해시를 키로 {@link PositionCache}에 보관하고, 수를 두면 직전 지도에서 증분 갱신합니다.
+ * 따라서 여러 게임이 동시에 진행되어도 매 수마다 상대의 공격 범위를 처음부터 다시 계산하지 않습니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class AttackMapService {
+    private static final int ATTACK_MAP_CACHE_CAPACITY = 1 << 12;
+
+    private final MoveGenerator moveGenerator;
+    private final PositionCache<AttackMap> attackMapCache = new PositionCache<>(ATTACK_MAP_CACHE_CAPACITY);
+
+    /**
+     * 국면의 공격 지도를 제공합니다.
+     *
+     * @param position 국면
+     * @return 캐시되었거나 새로 계산한 공격 지도
+     */
+    @NonNull
+    public AttackMap attackMapOf(@NonNull Position position) {
+        return attackMapCache.computeIfAbsent(
+                position.zobristHash(),
+                hash -> AttackMap.of(position, moveGenerator.tablesOf(position.gridSpec()))
+        );
+    }
+
+    /**
+     * 수를 둔 뒤의 공격 지도를 직전 국면의 지도에서 증분 갱신하여 제공합니다.
+     *
+     * @param position 수를 두기 전 국면
+     * @param move     둘 수
+     * @return 수를 둔 뒤의 공격 지도
+     */
+    @NonNull
+    public AttackMap afterMove(@NonNull Position position, @NonNull Move move) {
+        AttackMap next = attackMapOf(position).after(move);
+
+        attackMapCache.put(next.position().zobristHash(), next);
+
+        return next;
+    }
+
+    /**
+     * 팀의 킹이 공격받고 있는지 확인합니다.
+     *
+     * @param position 국면
+     * @param team     확인할 팀
+     * @return 체크 여부
+     */
+    public boolean isInCheck(@NonNull Position position, @NonNull TeamColor team) {
+        return attackMapOf(position).isInCheck(team);
+    }
+
+    /**
+     * 수가 합법인지 검증합니다.
+     * <p>
+     * 기물의 이동 규칙을 확인한 뒤, 공격 지도의 체크·고정 정보로 킹의 안전을 판정합니다.
+     * 킹이 둘 이상인 팀은 수를 둔 국면에서 직접 확인합니다.
+     *
+     * @param position 국면
+     * @param team     수를 둘 팀
+     * @param move     검증할 수
+     * @return 합법 여부
+     */
+    public boolean isLegal(@NonNull Position position, @NonNull TeamColor team, @NonNull Move move) {
+        if (!moveGenerator.isPseudoLegal(position, team, move)) {
+            return false;
+        }
+
+        AttackMap attackMap = attackMapOf(position);
+
+        return attackMap.tracksKing(team)
+                ? attackMap.isKingSafeAfter(team, move)
+                : !moveGenerator.isInCheck(position.applied(move), team);
+    }
+}
@@ -0,0 +1,526 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.model.position.AttackTables;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.game.domain.model.position.PositionCache;
+import dev.tecte.chessWar.game.domain.model.position.ZobristKeys;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 국면에서 둘 수 있는 수를 생성하고 검증합니다.
+ * <p>
+ * 킹, 나이트, 폰은 격자별로 미리 계산한 {@link AttackTables}를 조회하고,
+ * 비숍, 룩, 퀸은 국면이 유지하는 행·열·대각선 점유 워드에 대해
+ * 비트 뺄셈과 비트 반전({@code o ^ (o - 2r)})으로 막힌 지점까지의 칸을 한 번에 구합니다.
+ * 격자가 최대 64x64이므로 8x8 전용인 매직 비트보드 대신, 한 줄이 워드 하나에 담기는 회전 워드를 사용합니다.
+ * 합법 수 목록은 국면 해시와 차례를 키로 {@link PositionCache}에 보관하여 같은 국면에서 다시 생성하지 않습니다.
+ * <p>
+ * 앙파상과 캐슬링은 국면이 이동 이력을 담지 않으므로 지원하지 않으며,
+ * 폰은 마지막 행에 도달하면 퀸, 룩, 비숍, 나이트 중 하나로 승급합니다.
+ */
+@Singleton
+public class MoveGenerator {
+    private static final PieceType[] TYPES = PieceType.values();
+    private static final PieceType[] PROMOTIONS = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+    private static final int INDEX_SHIFT = 6;
+    private static final int INDEX_MASK = Coordinate.MAX_DIMENSION - 1;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int LEGAL_MOVE_CACHE_CAPACITY = 1 << 14;
+
+    // 격자 크기별로 한 번만 계산하여 재사용
+    private final Map<GridSpec, AttackTables> tables = new ConcurrentHashMap<>();
+    private final PositionCache<List<Move>> legalMoveCache = new PositionCache<>(LEGAL_MOVE_CACHE_CAPACITY);
+
+    /**
+     * 팀이 둘 수 있는 모든 합법 수를 생성합니다.
+     *
+     * @param position 국면
+     * @param team     수를 둘 팀
+     * @return 합법 수 목록 (수정 불가)
+     */
+    @NonNull
+    public List<Move> legalMoves(@NonNull Position position, @NonNull TeamColor team) {
+        return legalMoveCache.computeIfAbsent(keyOf(position, team), key -> generateLegal(position, team));
+    }
+
+    /**
+     * 수가 합법인지 검증합니다.
+     * <p>
+     * 같은 국면의 합법 수 목록이 캐시되어 있으면 그 목록에서 찾고,
+     * 없으면 출발 칸의 기물 하나에 대한 수만 생성하므로 전체 수 생성보다 훨씬 저렴합니다.
+     *
+     * @param position 국면
+     * @param team     수를 둘 팀
+     * @param move     검증할 수
+     * @return 합법 여부
+     */
+    public boolean isLegal(@NonNull Position position, @NonNull TeamColor team, @NonNull Move move) {
+        List<Move> cachedMoves = legalMoveCache.get(keyOf(position, team));
+
+        if (cachedMoves != null) {
+            return cachedMoves.contains(move);
+        }
+
+        return isPseudoLegal(position, team, move)
+                && isKingSafeAfter(position.applied(move), team, tablesOf(position.gridSpec()));
+    }
+
+    /**
+     * 킹의 안전을 고려하지 않고, 기물의 이동 규칙만으로 둘 수 있는 수인지 검증합니다.
+     *
+     * @param position 국면
+     * @param team     수를 둘 팀
+     * @param move     검증할 수
+     * @return 이동 규칙 충족 여부
+     */
+    public boolean isPseudoLegal(@NonNull Position position, @NonNull TeamColor team, @NonNull Move move) {
+        GridSpec gridSpec = position.gridSpec();
+        Coordinate from = move.from();
+
+        if (!gridSpec.contains(from) || !gridSpec.contains(move.to())) {
+            return false;
+        }
+
+        PieceType type = position.typeAt(team, from.row(), from.col());
+
+        if (type == null) {
+            return false;
+        }
+
+        MoveBuffer pieceMoves = new MoveBuffer();
+
+        generatePiece(position, team, type, from.row(), from.col(), tablesOf(gridSpec), pieceMoves);
+
+        return pieceMoves.contains(move.encode());
+    }
+
+    /**
+     * 팀의 킹이 공격받고 있는지 확인합니다.
+     *
+     * @param position 국면
+     * @param team     확인할 팀
+     * @return 체크 여부
+     */
+    public boolean isInCheck(@NonNull Position position, @NonNull TeamColor team) {
+        return !isKingSafeAfter(position, team, tablesOf(position.gridSpec()));
+    }
+
+    /**
+     * 칸이 팀의 기물에게 공격받고 있는지 확인합니다.
+     *
+     * @param position   국면
+     * @param coordinate 확인할 칸
+     * @param attacker   공격하는 팀
+     * @return 공격 여부
+     */
+    public boolean isAttacked(@NonNull Position position, @NonNull Coordinate coordinate, @NonNull TeamColor attacker) {
+        return isAttacked(position, coordinate.row(), coordinate.col(), attacker, tablesOf(position.gridSpec()));
+    }
+
+    /**
+     * 주어진 깊이까지 합법 수를 모두 두어 도달하는 말단 국면 수를 셉니다.
+     * <p>
+     * 수 생성기의 정확성과 처리량을 확인하는 표준 지표(perft)입니다.
+     *
+     * @param position 시작 국면
+     * @param team     먼저 둘 팀
+     * @param depth    탐색 깊이
+     * @return 말단 국면 수
+     * @throws IllegalArgumentException 깊이가 음수일 경우
+     */
+    public long perft(@NonNull Position position, @NonNull TeamColor team, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth cannot be negative.");
+        }
+
+        return depth == 0 ? 1 : perft(position, team, depth, tablesOf(position.gridSpec()));
+    }
+
+    /**
+     * 격자의 공격 범위 테이블을 반환합니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 공격 범위 테이블
+     */
+    @NonNull
+    public AttackTables tablesOf(@NonNull GridSpec gridSpec) {
+        return tables.computeIfAbsent(gridSpec, AttackTables::of);
+    }
+
+    private static long keyOf(Position position, TeamColor team) {
+        return position.zobristHash() ^ ZobristKeys.sideToMove(team);
+    }
+
+    private List<Move> generateLegal(Position position, TeamColor team) {
+        AttackTables attackTables = tablesOf(position.gridSpec());
+        MoveBuffer pseudoMoves = new MoveBuffer();
+        List<Move> moves = new ArrayList<>();
+
+        generate(position, team, attackTables, pseudoMoves);
+
+        for (int i = 0; i < pseudoMoves.size; i++) {
+            Move move = Move.decode(pseudoMoves.moves[i]);
+
+            if (isKingSafeAfter(position.applied(move), team, attackTables)) {
+                moves.add(move);
+            }
+        }
+
+        return List.copyOf(moves);
+    }
+
+    private long perft(Position position, TeamColor team, int depth, AttackTables attackTables) {
+        MoveBuffer pseudoMoves = new MoveBuffer();
+        long nodes = 0;
+
+        generate(position, team, attackTables, pseudoMoves);
+
+        for (int i = 0; i < pseudoMoves.size; i++) {
+            Position next = position.applied(Move.decode(pseudoMoves.moves[i]));
+
+            if (!isKingSafeAfter(next, team, attackTables)) {
+                continue;
+            }
+
+            nodes += depth == 1 ? 1 : perft(next, team.opposite(), depth - 1, attackTables);
+        }
+
+        return nodes;
+    }
+
+    private void generate(Position position, TeamColor team, AttackTables attackTables, MoveBuffer out) {
+        int rowCount = position.gridSpec().rowCount();
+
+        for (PieceType type : TYPES) {
+            for (int row = 0; row < rowCount; row++) {
+                long bits = position.piecesRow(team, type, row);
+
+                while (bits != 0) {
+                    generatePiece(position, team, type, row, Long.numberOfTrailingZeros(bits), attackTables, out);
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    private void generatePiece(
+            Position position,
+            TeamColor team,
+            PieceType type,
+            int row,
+            int col,
+            AttackTables attackTables,
+            MoveBuffer out
+    ) {
+        int ordinal = row * position.gridSpec().colCount() + col;
+        int from = Coordinate.indexOf(row, col);
+
+        switch (type) {
+            case PAWN -> generatePawn(position, team, row, col, ordinal, attackTables, out);
+            case KNIGHT -> generateSteps(position, team, from, attackTables.knightTargets(ordinal), out);
+            case KING -> generateSteps(position, team, from, attackTables.kingTargets(ordinal), out);
+            case BISHOP -> generateDiagonals(position, team, row, col, attackTables, out);
+            case ROOK -> generateStraights(position, team, row, col, attackTables, out);
+            case QUEEN -> {
+                generateStraights(position, team, row, col, attackTables, out);
+                generateDiagonals(position, team, row, col, attackTables, out);
+            }
+        }
+    }
+
+    private void generatePawn(
+            Position position,
+            TeamColor team,
+            int row,
+            int col,
+            int ordinal,
+            AttackTables attackTables,
+            MoveBuffer out
+    ) {
+        int rowCount = position.gridSpec().rowCount();
+        int forward = AttackTables.forwardOf(team);
+        int startRow = team == TeamColor.WHITE ? 1 : rowCount - 2;
+        int from = Coordinate.indexOf(row, col);
+        int oneStep = row + forward;
+
+        if (oneStep >= 0 && oneStep < rowCount && !isOccupied(position, oneStep, col)) {
+            addPawnMove(from, oneStep, col, rowCount, out);
+
+            int twoSteps = oneStep + forward;
+
+            if (row == startRow && twoSteps >= 0 && twoSteps < rowCount && !isOccupied(position, twoSteps, col)) {
+                out.add(Move.encode(from, Coordinate.indexOf(twoSteps, col), null));
+            }
+        }
+
+        TeamColor enemy = team.opposite();
+
+        for (int target : attackTables.pawnCaptures(team, ordinal)) {
+            int targetRow = target >>> INDEX_SHIFT;
+            int targetCol = target & INDEX_MASK;
+
+            if ((position.occupancyRow(enemy, targetRow) & 1L << targetCol) != 0) {
+                addPawnMove(from, targetRow, targetCol, rowCount, out);
+            }
+        }
+    }
+
+    private void addPawnMove(int from, int toRow, int toCol, int rowCount, MoveBuffer out) {
+        int to = Coordinate.indexOf(toRow, toCol);
+
+        if (toRow == 0 || toRow == rowCount - 1) {
+            for (PieceType promotion : PROMOTIONS) {
+                out.add(Move.encode(from, to, promotion));
+            }
+
+            return;
+        }
+
+        out.add(Move.encode(from, to, null));
+    }
+
+    private void generateSteps(Position position, TeamColor team, int from, int[] targets, MoveBuffer out) {
+        for (int target : targets) {
+            if ((position.occupancyRow(team, target >>> INDEX_SHIFT) & 1L << (target & INDEX_MASK)) == 0) {
+                out.add(Move.encode(from, target, null));
+            }
+        }
+    }
+
+    private void generateStraights(
+            Position position,
+            TeamColor team,
+            int row,
+            int col,
+            AttackTables attackTables,
+            MoveBuffer out
+    ) {
+        int from = Coordinate.indexOf(row, col);
+        long horizontal = AttackTables.lineAttacks(position.occupancyRow(row), 1L << col, attackTables.rowMask())
+                & ~position.occupancyRow(team, row);
+        long vertical = AttackTables.lineAttacks(position.occupancyColumn(col), 1L << row, attackTables.columnMask());
+
+        while (horizontal != 0) {
+            out.add(Move.encode(from, Coordinate.indexOf(row, Long.numberOfTrailingZeros(horizontal)), null));
+            horizontal &= horizontal - 1;
+        }
+
+        while (vertical != 0) {
+            int targetRow = Long.numberOfTrailingZeros(vertical);
+
+            addIfNotOwn(position, team, from, targetRow, col, out);
+            vertical &= vertical - 1;
+        }
+    }
+
+    private void generateDiagonals(
+            Position position,
+            TeamColor team,
+            int row,
+            int col,
+            AttackTables attackTables,
+            MoveBuffer out
+    ) {
+        int from = Coordinate.indexOf(row, col);
+        int diagonal = row - col + position.gridSpec().colCount() - 1;
+        int antiDiagonal = row + col;
+        long slider = 1L << col;
+        long diagonalTargets = AttackTables.lineAttacks(
+                position.occupancyDiagonal(diagonal),
+                slider,
+                attackTables.diagonalMask(diagonal)
+        );
+        long antiDiagonalTargets = AttackTables.lineAttacks(
+                position.occupancyAntiDiagonal(antiDiagonal),
+                slider,
+                attackTables.antiDiagonalMask(antiDiagonal)
+        );
+
+        while (diagonalTargets != 0) {
+            int targetCol = Long.numberOfTrailingZeros(diagonalTargets);
+
+            addIfNotOwn(position, team, from, targetCol + row - col, targetCol, out);
+            diagonalTargets &= diagonalTargets - 1;
+        }
+
+        while (antiDiagonalTargets != 0) {
+            int targetCol = Long.numberOfTrailingZeros(antiDiagonalTargets);
+
+            addIfNotOwn(position, team, from, antiDiagonal - targetCol, targetCol, out);
+            antiDiagonalTargets &= antiDiagonalTargets - 1;
+        }
+    }
+
+    private void addIfNotOwn(Position position, TeamColor team, int from, int row, int col, MoveBuffer out) {
+        if ((position.occupancyRow(team, row) & 1L << col) == 0) {
+            out.add(Move.encode(from, Coordinate.indexOf(row, col), null));
+        }
+    }
+
+    private boolean isKingSafeAfter(Position position, TeamColor team, AttackTables attackTables) {
+        int rowCount = position.gridSpec().rowCount();
+        TeamColor enemy = team.opposite();
+
+        for (int row = 0; row < rowCount; row++) {
+            long kings = position.piecesRow(team, PieceType.KING, row);
+
+            while (kings != 0) {
+                if (isAttacked(position, row, Long.numberOfTrailingZeros(kings), enemy, attackTables)) {
+                    return false;
+                }
+
+                kings &= kings - 1;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isAttacked(Position position, int row, int col, TeamColor attacker, AttackTables attackTables) {
+        int ordinal = row * position.gridSpec().colCount() + col;
+
+        return isAttackedBySteps(position, attacker, PieceType.KNIGHT, attackTables.knightTargets(ordinal))
+                || isAttackedBySteps(position, attacker, PieceType.KING, attackTables.kingTargets(ordinal))
+                // 폰의 공격 칸은 진행 방향만 반대인 대칭 관계이므로 상대 팀 기준 테이블로 역추적
+                || isAttackedBySteps(
+                        position,
+                        attacker,
+                        PieceType.PAWN,
+                        attackTables.pawnCaptures(attacker.opposite(), ordinal)
+                )
+                || isAttackedByStraights(position, row, col, attacker, attackTables)
+                || isAttackedByDiagonals(position, row, col, attacker, attackTables);
+    }
+
+    private boolean isAttackedBySteps(Position position, TeamColor attacker, PieceType type, int[] sources) {
+        for (int source : sources) {
+            if ((position.piecesRow(attacker, type, source >>> INDEX_SHIFT) & 1L << (source & INDEX_MASK)) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isAttackedByStraights(
+            Position position,
+            int row,
+            int col,
+            TeamColor attacker,
+            AttackTables attackTables
+    ) {
+        long horizontal = AttackTables.lineAttacks(position.occupancyRow(row), 1L << col, attackTables.rowMask());
+
+        if ((horizontal & straightSlidersRow(position, attacker, row)) != 0) {
+            return true;
+        }
+
+        // 막힌 지점(최대 두 칸)만 공격자가 될 수 있음
+        long blockers = AttackTables.lineAttacks(position.occupancyColumn(col), 1L << row, attackTables.columnMask())
+                & position.occupancyColumn(col);
+
+        while (blockers != 0) {
+            if ((straightSlidersRow(position, attacker, Long.numberOfTrailingZeros(blockers)) & 1L << col) != 0) {
+                return true;
+            }
+
+            blockers &= blockers - 1;
+        }
+
+        return false;
+    }
+
+    private boolean isAttackedByDiagonals(
+            Position position,
+            int row,
+            int col,
+            TeamColor attacker,
+            AttackTables attackTables
+    ) {
+        int diagonal = row - col + position.gridSpec().colCount() - 1;
+        int antiDiagonal = row + col;
+        long slider = 1L << col;
+        long diagonalBlockers = AttackTables.lineAttacks(
+                position.occupancyDiagonal(diagonal),
+                slider,
+                attackTables.diagonalMask(diagonal)
+        ) & position.occupancyDiagonal(diagonal);
+        long antiDiagonalBlockers = AttackTables.lineAttacks(
+                position.occupancyAntiDiagonal(antiDiagonal),
+                slider,
+                attackTables.antiDiagonalMask(antiDiagonal)
+        ) & position.occupancyAntiDiagonal(antiDiagonal);
+
+        while (diagonalBlockers != 0) {
+            int blockerCol = Long.numberOfTrailingZeros(diagonalBlockers);
+
+            if ((diagonalSlidersRow(position, attacker, blockerCol + row - col) & 1L << blockerCol) != 0) {
+                return true;
+            }
+
+            diagonalBlockers &= diagonalBlockers - 1;
+        }
+
+        while (antiDiagonalBlockers != 0) {
+            int blockerCol = Long.numberOfTrailingZeros(antiDiagonalBlockers);
+
+            if ((diagonalSlidersRow(position, attacker, antiDiagonal - blockerCol) & 1L << blockerCol) != 0) {
+                return true;
+            }
+
+            antiDiagonalBlockers &= antiDiagonalBlockers - 1;
+        }
+
+        return false;
+    }
+
+    private static long straightSlidersRow(Position position, TeamColor team, int row) {
+        return position.piecesRow(team, PieceType.ROOK, row) | position.piecesRow(team, PieceType.QUEEN, row);
+    }
+
+    private static long diagonalSlidersRow(Position position, TeamColor team, int row) {
+        return position.piecesRow(team, PieceType.BISHOP, row) | position.piecesRow(team, PieceType.QUEEN, row);
+    }
+
+    private static boolean isOccupied(Position position, int row, int col) {
+        return (position.occupancyRow(row) & 1L << col) != 0;
+    }
+
+    /**
+     * 압축된 수를 담는 가변 버퍼입니다.
+     */
+    private static final class MoveBuffer {
+        private int[] moves = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(int move) {
+            if (size == moves.length) {
+                moves = Arrays.copyOf(moves, size * 2);
+            }
+
+            moves[size++] = move;
+        }
+
+        private boolean contains(int move) {
+            for (int i = 0; i < size; i++) {
+                if (moves[i] == move) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
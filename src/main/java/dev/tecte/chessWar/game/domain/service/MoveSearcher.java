@@ -0,0 +1,524 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.game.domain.model.position.PositionCache;
+import dev.tecte.chessWar.game.domain.model.position.ZobristKeys;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 제한 시간 안에 팀이 둘 수를 찾습니다.
+ * <p>
+ * 반복 심화 알파-베타 탐색을 사용합니다. 각 깊이에서 직전 깊이의 최선 수를 먼저 탐색해 알파 값을 얻고,
+ * 나머지 루트 수는 포크-조인 풀에서 그 알파 값을 공유하며 병렬로 탐색합니다.
+ * 탐색 결과는 국면 해시와 차례를 키로 공유 치환표({@link PositionCache})에 보관하여 스레드와 탐색 사이에 재사용합니다.
+ * 제한 시간이 지나면 진행 중인 깊이를 버리고 마지막으로 완료한 깊이의 최선 수를 반환합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class MoveSearcher {
+    private static final int MAX_DEPTH = 64;
+    private static final int QUIESCENCE_DEPTH = 4;
+    private static final int TRANSPOSITION_CAPACITY = 1 << 18;
+    private static final int INFINITY = 1_000_000;
+    private static final int MATE_SCORE = 100_000;
+    private static final int MATE_THRESHOLD = MATE_SCORE - MAX_DEPTH - QUIESCENCE_DEPTH;
+    private static final int DEADLINE_CHECK_MASK = (1 << 8) - 1;
+    private static final int NO_MOVE = -1;
+    // 폰, 나이트, 비숍, 룩, 퀸, 킹 순 (킹은 잡히지 않으므로 0)
+    private static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+    private static final int PAWN_ADVANCE_BONUS = 8;
+    private static final PieceType[] TYPES = PieceType.values();
+
+    private static final byte EXACT = 0;
+    private static final byte LOWER_BOUND = 1;
+    private static final byte UPPER_BOUND = 2;
+
+    private final MoveGenerator moveGenerator;
+    private final PositionCache<Transposition> transpositions = new PositionCache<>(TRANSPOSITION_CAPACITY);
+
+    /**
+     * 제한 시간 안에서 가장 좋은 수를 찾습니다.
+     * <p>
+     * 첫 수는 출발 칸이 {@code movable}에 포함된 기물로만 두며, 이후의 수읽기는 모든 기물을 대상으로 합니다.
+     *
+     * @param position 국면
+     * @param team     수를 둘 팀
+     * @param movable  움직일 수 있는 기물의 칸
+     * @param budget   탐색 제한 시간
+     * @param pool     탐색에 사용할 포크-조인 풀
+     * @return 찾은 수, 둘 수 있는 수가 없으면 빈 값
+     */
+    @NonNull
+    public Optional<Move> search(
+            @NonNull Position position,
+            @NonNull TeamColor team,
+            @NonNull Bitboard movable,
+            @NonNull Duration budget,
+            @NonNull ForkJoinPool pool
+    ) {
+        List<Move> rootMoves = new ArrayList<>();
+
+        for (Move move : moveGenerator.legalMoves(position, team)) {
+            if (movable.contains(move.from().index())) {
+                rootMoves.add(move);
+            }
+        }
+
+        if (rootMoves.size() <= 1) {
+            return rootMoves.stream().findFirst();
+        }
+
+        Deadline deadline = new Deadline(System.nanoTime() + budget.toNanos());
+        Transposition cached = transpositions.get(keyOf(position, team));
+        int[] ordered = order(position, team, rootMoves, cached != null ? cached.move() : NO_MOVE);
+        int best = ordered[0];
+
+        for (int depth = 1; depth <= MAX_DEPTH && !deadline.isExpired(); depth++) {
+            RootResult result = pool.invoke(new RootSearch(position, team, ordered, depth, deadline));
+
+            if (result == null) {
+                break;
+            }
+
+            best = result.move();
+            moveToFront(ordered, best);
+
+            if (Math.abs(result.score()) >= MATE_THRESHOLD) {
+                break;
+            }
+        }
+
+        return Optional.of(Move.decode(best));
+    }
+
+    private int[] order(Position position, TeamColor side, List<Move> moves, int preferred) {
+        long[] keys = new long[moves.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            int encoded = moves.get(i).encode();
+            int priority = encoded == preferred ? INFINITY : priorityOf(position, side, moves.get(i));
+
+            // 우선순위 내림차순 정렬을 위해 부호를 뒤집어 상위 비트에 둠
+            keys[i] = (long) -priority << 32 | encoded & 0xFFFFFFFFL;
+        }
+
+        Arrays.sort(keys);
+
+        int[] ordered = new int[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            ordered[i] = (int) keys[i];
+        }
+
+        return ordered;
+    }
+
+    // 가치가 큰 기물을 가치가 작은 기물로 잡는 수와 승급 수를 먼저 탐색
+    private int priorityOf(Position position, TeamColor side, Move move) {
+        Coordinate from = move.from();
+        Coordinate to = move.to();
+        PieceType victim = position.typeAt(side.opposite(), to.row(), to.col());
+        int priority = move.isPromotion() ? PIECE_VALUES[move.promotion().ordinal()] : 0;
+
+        if (victim != null) {
+            PieceType attacker = position.typeAt(side, from.row(), from.col());
+
+            priority += PIECE_VALUES[victim.ordinal()] * 16 - (attacker != null ? PIECE_VALUES[attacker.ordinal()] : 0);
+        }
+
+        return priority;
+    }
+
+    private boolean isTactical(Position position, TeamColor side, Move move) {
+        Coordinate to = move.to();
+
+        return move.isPromotion() || position.typeAt(side.opposite(), to.row(), to.col()) != null;
+    }
+
+    // 수를 둘 팀의 관점에서 재료와 폰 전진도를 평가
+    private int evaluate(Position position, TeamColor side) {
+        return evaluateTeam(position, side) - evaluateTeam(position, side.opposite());
+    }
+
+    private int evaluateTeam(Position position, TeamColor team) {
+        int rowCount = position.gridSpec().rowCount();
+        int score = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            if (position.occupancyRow(team, row) == 0) {
+                continue;
+            }
+
+            for (PieceType type : TYPES) {
+                score += Long.bitCount(position.piecesRow(team, type, row)) * PIECE_VALUES[type.ordinal()];
+            }
+
+            int advance = team == TeamColor.WHITE ? row - 1 : rowCount - 2 - row;
+
+            if (advance > 0) {
+                score += Long.bitCount(position.piecesRow(team, PieceType.PAWN, row)) * advance * PAWN_ADVANCE_BONUS;
+            }
+        }
+
+        return score;
+    }
+
+    private static void moveToFront(int[] ordered, int move) {
+        for (int i = 0; i < ordered.length; i++) {
+            if (ordered[i] == move) {
+                System.arraycopy(ordered, 0, ordered, 1, i);
+                ordered[0] = move;
+
+                return;
+            }
+        }
+    }
+
+    private static long keyOf(Position position, TeamColor side) {
+        return position.zobristHash() ^ ZobristKeys.sideToMove(side);
+    }
+
+    // 메이트 점수는 현재 노드 기준의 거리로 바꾸어 저장해야 다른 경로에서 재사용해도 정확함
+    private static int toTable(int score, int ply) {
+        if (score >= MATE_THRESHOLD) {
+            return score + ply;
+        }
+
+        return score <= -MATE_THRESHOLD ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE_THRESHOLD) {
+            return score - ply;
+        }
+
+        return score <= -MATE_THRESHOLD ? score + ply : score;
+    }
+
+    /**
+     * 한 깊이의 루트 탐색입니다.
+     * <p>
+     * 첫 수를 순차로 탐색한 뒤 나머지 수를 병렬로 탐색하며, 시간이 초과되면 {@code null}을 반환합니다.
+     */
+    private final class RootSearch extends RecursiveTask<RootResult> {
+        private final Position position;
+        private final TeamColor team;
+        private final int[] moves;
+        private final int depth;
+        private final Deadline deadline;
+
+        private RootSearch(Position position, TeamColor team, int[] moves, int depth, Deadline deadline) {
+            this.position = position;
+            this.team = team;
+            this.moves = moves.clone();
+            this.depth = depth;
+            this.deadline = deadline;
+        }
+
+        @Override
+        @Nullable
+        protected RootResult compute() {
+            int firstScore;
+
+            try {
+                firstScore = -new Context(deadline).negamax(
+                        position.applied(Move.decode(moves[0])),
+                        team.opposite(),
+                        depth - 1,
+                        1,
+                        -INFINITY,
+                        INFINITY
+                );
+            } catch (SearchTimeout e) {
+                return null;
+            }
+
+            AtomicInteger alpha = new AtomicInteger(firstScore);
+            List<SiblingSearch> siblings = new ArrayList<>(moves.length - 1);
+
+            for (int i = 1; i < moves.length; i++) {
+                siblings.add(new SiblingSearch(position, team, moves[i], depth, deadline, alpha));
+            }
+
+            ForkJoinTask.invokeAll(siblings);
+
+            if (deadline.isExpired()) {
+                return null;
+            }
+
+            int bestMove = moves[0];
+            int bestScore = firstScore;
+
+            for (SiblingSearch sibling : siblings) {
+                int score = sibling.join();
+
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = sibling.move;
+                }
+            }
+
+            // 루트는 움직일 수 있는 기물의 수만 보므로, 모든 수를 보는 하위 탐색에는 하한으로만 유효함
+            transpositions.put(
+                    keyOf(position, team),
+                    new Transposition(depth, toTable(bestScore, 0), LOWER_BOUND, bestMove)
+            );
+
+            return new RootResult(bestMove, bestScore);
+        }
+    }
+
+    /**
+     * 루트의 나머지 수 하나에 대한 탐색입니다.
+     * <p>
+     * 공유 알파 값보다 나은 수만 정확한 점수를 얻으므로, 알파 이하의 결과는 최선 수 후보에서 제외합니다.
+     */
+    private final class SiblingSearch extends RecursiveTask<Integer> {
+        private final Position position;
+        private final TeamColor team;
+        private final int move;
+        private final int depth;
+        private final Deadline deadline;
+        private final AtomicInteger alpha;
+
+        private SiblingSearch(
+                Position position,
+                TeamColor team,
+                int move,
+                int depth,
+                Deadline deadline,
+                AtomicInteger alpha
+        ) {
+            this.position = position;
+            this.team = team;
+            this.move = move;
+            this.depth = depth;
+            this.deadline = deadline;
+            this.alpha = alpha;
+        }
+
+        @Override
+        protected Integer compute() {
+            // 노드 수가 검사 주기에 못 미치는 형제 탐색도 제한 시간을 넘기지 않도록 시작 전에 확인
+            if (deadline.check()) {
+                return -INFINITY;
+            }
+
+            int window = alpha.get();
+
+            try {
+                int score = -new Context(deadline).negamax(
+                        position.applied(Move.decode(move)),
+                        team.opposite(),
+                        depth - 1,
+                        1,
+                        -INFINITY,
+                        -window
+                );
+
+                if (score <= window) {
+                    return -INFINITY;
+                }
+
+                alpha.accumulateAndGet(score, Math::max);
+
+                return score;
+            } catch (SearchTimeout e) {
+                return -INFINITY;
+            }
+        }
+    }
+
+    /**
+     * 스레드 하나가 사용하는 탐색 문맥입니다.
+     */
+    private final class Context {
+        private final Deadline deadline;
+        private int nodes;
+
+        private Context(Deadline deadline) {
+            this.deadline = deadline;
+        }
+
+        private int negamax(Position position, TeamColor side, int depth, int ply, int alpha, int beta) {
+            visit();
+
+            if (depth <= 0) {
+                return quiescence(position, side, QUIESCENCE_DEPTH, alpha, beta);
+            }
+
+            long key = keyOf(position, side);
+            int originalAlpha = alpha;
+            int preferred = NO_MOVE;
+            Transposition entry = transpositions.get(key);
+
+            if (entry != null) {
+                preferred = entry.move();
+
+                if (entry.depth() >= depth) {
+                    int score = fromTable(entry.score(), ply);
+
+                    switch (entry.bound()) {
+                        case EXACT -> {
+                            return score;
+                        }
+                        case LOWER_BOUND -> alpha = Math.max(alpha, score);
+                        default -> beta = Math.min(beta, score);
+                    }
+
+                    if (alpha >= beta) {
+                        return score;
+                    }
+                }
+            }
+
+            List<Move> moves = moveGenerator.legalMoves(position, side);
+
+            if (moves.isEmpty()) {
+                return moveGenerator.isInCheck(position, side) ? -MATE_SCORE + ply : 0;
+            }
+
+            int[] ordered = order(position, side, moves, preferred);
+            int bestScore = -INFINITY;
+            int bestMove = ordered[0];
+
+            for (int move : ordered) {
+                int score = -negamax(
+                        position.applied(Move.decode(move)),
+                        side.opposite(),
+                        depth - 1,
+                        ply + 1,
+                        -beta,
+                        -alpha
+                );
+
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = move;
+                }
+
+                alpha = Math.max(alpha, score);
+
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+
+            byte bound = bestScore <= originalAlpha ? UPPER_BOUND : bestScore >= beta ? LOWER_BOUND : EXACT;
+
+            transpositions.put(key, new Transposition(depth, toTable(bestScore, ply), bound, bestMove));
+
+            return bestScore;
+        }
+
+        // 잡기와 승급만 이어서 읽어, 깊이 한계에서 기물을 잃는 수를 놓치지 않도록 함
+        private int quiescence(Position position, TeamColor side, int depth, int alpha, int beta) {
+            visit();
+
+            int standPat = evaluate(position, side);
+
+            if (depth == 0 || standPat >= beta) {
+                return standPat;
+            }
+
+            int bestScore = standPat;
+
+            alpha = Math.max(alpha, standPat);
+
+            List<Move> tactical = new ArrayList<>();
+
+            for (Move move : moveGenerator.legalMoves(position, side)) {
+                if (isTactical(position, side, move)) {
+                    tactical.add(move);
+                }
+            }
+
+            for (int move : order(position, side, tactical, NO_MOVE)) {
+                int score = -quiescence(
+                        position.applied(Move.decode(move)),
+                        side.opposite(),
+                        depth - 1,
+                        -beta,
+                        -alpha
+                );
+
+                if (score >= beta) {
+                    return score;
+                }
+
+                bestScore = Math.max(bestScore, score);
+                alpha = Math.max(alpha, score);
+            }
+
+            return bestScore;
+        }
+
+        private void visit() {
+            if ((++nodes & DEADLINE_CHECK_MASK) == 0 && deadline.check()) {
+                throw SearchTimeout.INSTANCE;
+            }
+        }
+    }
+
+    /**
+     * 모든 탐색 스레드가 공유하는 제한 시각입니다.
+     */
+    private static final class Deadline {
+        private final long nanos;
+        private volatile boolean expired;
+
+        private Deadline(long nanos) {
+            this.nanos = nanos;
+        }
+
+        private boolean check() {
+            if (!expired && System.nanoTime() - nanos >= 0) {
+                expired = true;
+            }
+
+            return expired;
+        }
+
+        private boolean isExpired() {
+            return check();
+        }
+    }
+
+    /**
+     * 제한 시간 초과로 탐색을 중단할 때 사용하는 예외입니다.
+     * <p>
+     * 흐름 제어에만 쓰이므로 스택 추적을 기록하지 않고 하나의 인스턴스를 재사용합니다.
+     */
+    private static final class SearchTimeout extends RuntimeException {
+        private static final SearchTimeout INSTANCE = new SearchTimeout();
+
+        private SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+
+    private record RootResult(int move, int score) {
+    }
+
+    private record Transposition(int depth, int score, byte bound, int move) {
+    }
+}
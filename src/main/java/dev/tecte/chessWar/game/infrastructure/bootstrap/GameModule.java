@@ -4,22 +4,28 @@ import co.aikar.commands.BaseCommand;
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
 import dev.tecte.chessWar.common.persistence.PersistableState;
+import dev.tecte.chessWar.game.application.BattleAiCoordinator;
 import dev.tecte.chessWar.game.application.GameAnnouncer;
 import dev.tecte.chessWar.game.application.GameFlowCoordinator;
 import dev.tecte.chessWar.game.application.GameTimerService;
+import dev.tecte.chessWar.game.application.port.GameExecutors;
 import dev.tecte.chessWar.game.application.port.GameRepository;
 import dev.tecte.chessWar.game.application.port.GameTaskManager;
 import dev.tecte.chessWar.game.application.port.GameTimerDisplay;
 import dev.tecte.chessWar.game.domain.policy.GamePhaseTimerPolicy;
+import dev.tecte.chessWar.game.infrastructure.bukkit.BukkitGameExecutors;
 import dev.tecte.chessWar.game.infrastructure.bukkit.BukkitGameTaskManager;
 import dev.tecte.chessWar.game.infrastructure.bukkit.BukkitGameTimerDisplay;
 import dev.tecte.chessWar.game.infrastructure.command.GameCommand;
+import dev.tecte.chessWar.game.infrastructure.command.GameCompletions;
+import dev.tecte.chessWar.game.infrastructure.listener.BattleAiInitiator;
 import dev.tecte.chessWar.game.infrastructure.listener.GameSelectionPhaseInitiator;
 import dev.tecte.chessWar.game.infrastructure.listener.GameSelectionStartAnnouncer;
 import dev.tecte.chessWar.game.infrastructure.listener.GameStartBattlefieldSetupInitiator;
 import dev.tecte.chessWar.game.infrastructure.listener.GameStopAnnounceListener;
 import dev.tecte.chessWar.game.infrastructure.listener.GameStopTaskCleanupListener;
 import dev.tecte.chessWar.game.infrastructure.listener.GameTimerInitiator;
+import dev.tecte.chessWar.game.infrastructure.listener.MoveHistoryAnnounceListener;
 import dev.tecte.chessWar.game.infrastructure.listener.PieceInspectionInitiator;
 import dev.tecte.chessWar.game.infrastructure.listener.PieceSelectionAnnounceListener;
 import dev.tecte.chessWar.game.infrastructure.listener.PlayerJoinInitiator;
@@ -27,6 +33,7 @@ import dev.tecte.chessWar.game.infrastructure.listener.SelectionCompletionAnnoun
 import dev.tecte.chessWar.game.infrastructure.listener.SelectionTimerAccelerator;
 import dev.tecte.chessWar.game.infrastructure.persistence.YmlGameRepository;
 import dev.tecte.chessWar.game.infrastructure.policy.DefaultGamePhaseTimerPolicy;
+import dev.tecte.chessWar.infrastructure.command.CommandConfigurer;
 import org.bukkit.event.Listener;
 
 /**
@@ -41,12 +48,15 @@ public class GameModule extends AbstractModule {
         bind(GameRepository.class).to(YmlGameRepository.class);
         bind(GameTaskManager.class).to(BukkitGameTaskManager.class);
         bind(GameTimerDisplay.class).to(BukkitGameTimerDisplay.class);
+        bind(GameExecutors.class).to(BukkitGameExecutors.class);
 
         bind(GameFlowCoordinator.class).asEagerSingleton();
         bind(GameAnnouncer.class).asEagerSingleton();
         bind(GameTimerService.class).asEagerSingleton();
+        bind(BattleAiCoordinator.class).asEagerSingleton();
 
         Multibinder.newSetBinder(binder(), BaseCommand.class).addBinding().to(GameCommand.class);
+        Multibinder.newSetBinder(binder(), CommandConfigurer.class).addBinding().to(GameCompletions.class);
 
         Multibinder<Listener> listenerBinder = Multibinder.newSetBinder(binder(), Listener.class);
 
@@ -61,6 +71,8 @@ public class GameModule extends AbstractModule {
         listenerBinder.addBinding().to(GameStopAnnounceListener.class);
         listenerBinder.addBinding().to(GameStopTaskCleanupListener.class);
         listenerBinder.addBinding().to(GameTimerInitiator.class);
+        listenerBinder.addBinding().to(BattleAiInitiator.class);
+        listenerBinder.addBinding().to(MoveHistoryAnnounceListener.class);
 
         Multibinder.newSetBinder(binder(), PersistableState.class).addBinding().to(YmlGameRepository.class);
     }
@@ -0,0 +1,70 @@
+package dev.tecte.chessWar.game.infrastructure.bukkit;
+
+import dev.tecte.chessWar.game.application.port.GameExecutors;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bukkit 스케줄러와 전용 작업 스레드 풀, 탐색 포크-조인 풀로 게임 작업의 실행 스레드를 제공합니다.
+ */
+@Singleton
+public class BukkitGameExecutors implements GameExecutors {
+    private final Executor mainThread;
+    private final ExecutorService worker;
+    private final ForkJoinPool search;
+
+    @Inject
+    public BukkitGameExecutors(@NonNull BukkitScheduler scheduler, @NonNull JavaPlugin plugin) {
+        AtomicInteger sequence = new AtomicInteger();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+        this.mainThread = scheduler.getMainThreadExecutor(plugin);
+        this.worker = Executors.newFixedThreadPool(threads, r -> {
+            var thread = new Thread(r, "ChessWar-Game-Worker-" + sequence.incrementAndGet());
+
+            // 안전장치: 서버 종료 시 작업 스레드가 프로세스 종료를 막지 않도록 데몬으로 설정
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        AtomicInteger searchSequence = new AtomicInteger();
+
+        // 포크-조인 작업 스레드는 기본적으로 데몬이므로 이름만 지정
+        this.search = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+            thread.setName("ChessWar-Game-Search-" + searchSequence.incrementAndGet());
+
+            return thread;
+        }, null, false);
+    }
+
+    @NonNull
+    @Override
+    public Executor worker() {
+        return worker;
+    }
+
+    @NonNull
+    @Override
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    @NonNull
+    @Override
+    public ForkJoinPool search() {
+        return search;
+    }
+}
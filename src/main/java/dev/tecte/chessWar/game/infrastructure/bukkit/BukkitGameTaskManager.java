@@ -9,11 +9,14 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Bukkit 기반으로 게임 태스크를 관리합니다.
+ * <p>
+ * 경기장마다 태스크 표를 따로 두며, 경기장의 마지막 태스크가 끝나면 표도 함께 회수합니다.
  */
 @Slf4j(topic = "ChessWar")
 @Singleton
@@ -21,49 +24,71 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BukkitGameTaskManager implements GameTaskManager {
     private final TaskRunner taskRunner;
 
-    private final Map<GameTaskType, Integer> activeTasks = new ConcurrentHashMap<>();
+    private final Map<String, Map<GameTaskType, Integer>> activeTasks = new ConcurrentHashMap<>();
 
     @Override
-    public void runOnce(@NonNull GameTaskType type, @NonNull Runnable action, long delay) {
-        cancel(type);
+    public void runOnce(@NonNull String arenaId, @NonNull GameTaskType type, @NonNull Runnable action, long delay) {
+        cancel(arenaId, type);
 
-        int taskId = taskRunner.runOnce(action, delay, null, "Game Task: " + type);
+        int taskId = taskRunner.runOnce(action, delay, null, taskName(arenaId, type));
 
-        activeTasks.put(type, taskId);
+        register(arenaId, type, taskId);
     }
 
     @Override
     public void runRepeating(
+            @NonNull String arenaId,
             @NonNull GameTaskType type,
             @NonNull Runnable action,
             long delay,
             long period
     ) {
-        cancel(type);
+        cancel(arenaId, type);
 
         int taskId = taskRunner.runRepeating(
                 action,
                 delay,
                 period,
                 null,
-                "Game Task: " + type
+                taskName(arenaId, type)
         );
 
-        activeTasks.put(type, taskId);
+        register(arenaId, type, taskId);
     }
 
     @Override
-    public void cancel(@NonNull GameTaskType type) {
-        Integer taskId = activeTasks.remove(type);
+    public void cancel(@NonNull String arenaId, @NonNull GameTaskType type) {
+        activeTasks.computeIfPresent(arenaId, (id, tasks) -> {
+            Integer taskId = tasks.remove(type);
 
-        if (taskId != null) {
-            taskRunner.cancel(taskId);
-        }
+            if (taskId != null) {
+                taskRunner.cancel(taskId);
+            }
+
+            return tasks.isEmpty() ? null : tasks;
+        });
     }
 
     @Override
-    public void shutdown() {
-        activeTasks.values().forEach(taskRunner::cancel);
-        activeTasks.clear();
+    public void shutdown(@NonNull String arenaId) {
+        Map<GameTaskType, Integer> tasks = activeTasks.remove(arenaId);
+
+        if (tasks != null) {
+            tasks.values().forEach(taskRunner::cancel);
+        }
+    }
+
+    private void register(String arenaId, GameTaskType type, int taskId) {
+        activeTasks.compute(arenaId, (id, tasks) -> {
+            Map<GameTaskType, Integer> arenaTasks = tasks != null ? tasks : new EnumMap<>(GameTaskType.class);
+
+            arenaTasks.put(type, taskId);
+
+            return arenaTasks;
+        });
+    }
+
+    private String taskName(String arenaId, GameTaskType type) {
+        return "Game Task: " + type + " @ " + arenaId;
     }
 }
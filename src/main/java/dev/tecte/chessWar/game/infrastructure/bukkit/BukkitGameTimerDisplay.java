@@ -13,6 +13,8 @@ import java.util.UUID;
 
 /**
  * 보스바를 활용하여 게임 타이머의 표시를 관리합니다.
+ * <p>
+ * 경기장 ID를 보스바 채널로 사용합니다.
  */
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -20,23 +22,28 @@ public class BukkitGameTimerDisplay implements GameTimerDisplay {
     private final BukkitBossBarManager bossBarManager;
 
     @Override
-    public void show(@NonNull Collection<UUID> targetIds, @NonNull Component title, double progress) {
-        bossBarManager.update(title, progress);
-        bossBarManager.show(targetIds);
+    public void show(
+            @NonNull String arenaId,
+            @NonNull Collection<UUID> targetIds,
+            @NonNull Component title,
+            double progress
+    ) {
+        bossBarManager.update(arenaId, title, progress);
+        bossBarManager.show(arenaId, targetIds);
     }
 
     @Override
-    public void show(@NonNull UUID playerId) {
-        bossBarManager.show(playerId);
+    public void show(@NonNull String arenaId, @NonNull UUID playerId) {
+        bossBarManager.show(arenaId, playerId);
     }
 
     @Override
-    public void update(@NonNull Component title, double progress) {
-        bossBarManager.update(title, progress);
+    public void update(@NonNull String arenaId, @NonNull Component title, double progress) {
+        bossBarManager.update(arenaId, title, progress);
     }
 
     @Override
-    public void hide() {
-        bossBarManager.hide();
+    public void hide(@NonNull String arenaId) {
+        bossBarManager.hide(arenaId);
     }
 }
@@ -2,15 +2,25 @@ package dev.tecte.chessWar.game.infrastructure.command;
 
 import co.aikar.commands.BaseCommand;
 import co.aikar.commands.annotation.CommandAlias;
+import co.aikar.commands.annotation.CommandCompletion;
+import co.aikar.commands.annotation.CommandPermission;
 import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Single;
 import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.infrastructure.command.BoardCompletions;
 import dev.tecte.chessWar.game.application.GameFlowCoordinator;
+import dev.tecte.chessWar.game.application.RealTimeBattleCoordinator;
+import dev.tecte.chessWar.game.domain.exception.GameException;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
 import dev.tecte.chessWar.infrastructure.command.CommandRouting;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
 /**
  * 게임 진행 관련 명령어를 처리합니다.
@@ -22,26 +32,100 @@ import org.bukkit.command.CommandSender;
 @SuppressWarnings("unused")
 public class GameCommand extends BaseCommand {
     private final GameFlowCoordinator gameFlowCoordinator;
+    private final RealTimeBattleCoordinator realTimeBattleCoordinator;
 
     /**
      * 게임을 시작합니다.
      *
-     * @param sender 행위자
+     * @param sender    행위자
+     * @param boardName 게임을 진행할 체스판 이름
      */
     @Subcommand("start")
+    @Syntax("<체스판>")
+    @CommandCompletion(BoardCompletions.BOARDS)
     @Description("게임을 시작합니다.")
-    public void start(@NonNull CommandSender sender) {
-        gameFlowCoordinator.startGame(sender);
+    public void start(@NonNull CommandSender sender, @Single @NonNull String boardName) {
+        gameFlowCoordinator.startGame(sender, boardName);
     }
 
     /**
-     * 진행 중인 게임을 중단합니다.
+     * 경기장에서 진행 중인 게임을 중단합니다.
      *
-     * @param sender 행위자
+     * @param sender  행위자
+     * @param arenaId 게임을 중단할 경기장 ID
      */
     @Subcommand("stop")
-    @Description("진행 중인 게임을 중단합니다.")
-    public void stop(@NonNull CommandSender sender) {
-        gameFlowCoordinator.stopGame(sender);
+    @Syntax("<경기장>")
+    @CommandCompletion(GameCompletions.ARENAS)
+    @Description("경기장에서 진행 중인 게임을 중단합니다.")
+    public void stop(@NonNull CommandSender sender, @Single @NonNull String arenaId) {
+        gameFlowCoordinator.stopGame(sender, arenaId);
+    }
+
+    /**
+     * 경기장의 전투 단계를 시작합니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 전투를 시작할 경기장 ID
+     * @param mode    전투 방식
+     */
+    @Subcommand("battle")
+    @Syntax("<경기장> <방식>")
+    @CommandCompletion(GameCompletions.ARENAS + " " + GameCompletions.BATTLE_MODES)
+    @Description("경기장의 전투 단계를 시작합니다.")
+    public void battle(@NonNull CommandSender sender, @Single @NonNull String arenaId, @NonNull BattleMode mode) {
+        gameFlowCoordinator.startBattle(sender, arenaId, mode);
+    }
+
+    /**
+     * 경기장의 마지막 수를 되돌립니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 수를 되돌릴 경기장 ID
+     */
+    @Subcommand("undo")
+    @Syntax("<경기장>")
+    @CommandCompletion(GameCompletions.ARENAS)
+    @CommandPermission(CommandRouting.REFEREE_PERMISSION)
+    @Description("경기장의 마지막 수를 되돌립니다.")
+    public void undo(@NonNull CommandSender sender, @Single @NonNull String arenaId) {
+        gameFlowCoordinator.undoMove(sender, arenaId);
+    }
+
+    /**
+     * 경기장에서 마지막으로 되돌린 수를 다시 둡니다.
+     *
+     * @param sender  행위자
+     * @param arenaId 수를 다시 둘 경기장 ID
+     */
+    @Subcommand("redo")
+    @Syntax("<경기장>")
+    @CommandCompletion(GameCompletions.ARENAS)
+    @CommandPermission(CommandRouting.REFEREE_PERMISSION)
+    @Description("경기장에서 마지막으로 되돌린 수를 다시 둡니다.")
+    public void redo(@NonNull CommandSender sender, @Single @NonNull String arenaId) {
+        gameFlowCoordinator.redoMove(sender, arenaId);
+    }
+
+    /**
+     * 실시간 전투에서 기물을 이동합니다.
+     *
+     * @param player 참가자
+     * @param from   출발 칸
+     * @param to     도착 칸
+     */
+    @Subcommand("move")
+    @Syntax("<출발 칸> <도착 칸>")
+    @Description("실시간 전투에서 기물을 이동합니다.")
+    public void move(@NonNull Player player, @Single @NonNull String from, @Single @NonNull String to) {
+        realTimeBattleCoordinator.requestMove(player, parseSquare(from), parseSquare(to));
+    }
+
+    private Coordinate parseSquare(String notation) {
+        try {
+            return Coordinate.from(notation);
+        } catch (IllegalArgumentException e) {
+            throw GameException.invalidSquare(notation);
+        }
     }
 }
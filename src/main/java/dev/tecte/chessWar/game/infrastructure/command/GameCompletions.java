@@ -0,0 +1,44 @@
+package dev.tecte.chessWar.game.infrastructure.command;
+
+import co.aikar.commands.InvalidCommandArgument;
+import co.aikar.commands.PaperCommandManager;
+import dev.tecte.chessWar.game.application.GameFlowCoordinator;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
+import dev.tecte.chessWar.infrastructure.command.CommandConfigurer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 게임이 진행 중인 경기장 ID와 전투 방식의 자동 완성, 전투 방식 컨텍스트 리졸버를 등록합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class GameCompletions implements CommandConfigurer {
+    private static final String ARENAS_ID = "arenas";
+    public static final String ARENAS = "@" + ARENAS_ID;
+    private static final String BATTLE_MODES_ID = "battlemodes";
+    public static final String BATTLE_MODES = "@" + BATTLE_MODES_ID;
+
+    private final GameFlowCoordinator gameFlowCoordinator;
+
+    @Override
+    public void configure(@NonNull PaperCommandManager commandManager) {
+        commandManager.getCommandCompletions()
+                .registerAsyncCompletion(ARENAS_ID, context -> gameFlowCoordinator.findActiveArenaIds());
+        commandManager.getCommandCompletions().registerCompletion(BATTLE_MODES_ID, context ->
+                Arrays.stream(BattleMode.values())
+                        .map(Enum::name)
+                        .map(String::toLowerCase)
+                        .toList());
+        commandManager.getCommandContexts().registerContext(BattleMode.class, c -> {
+            String value = c.popFirstArg();
+
+            return BattleMode.from(value)
+                    .orElseThrow(() -> new InvalidCommandArgument("유효하지 않은 전투 방식입니다: " + value));
+        });
+    }
+}
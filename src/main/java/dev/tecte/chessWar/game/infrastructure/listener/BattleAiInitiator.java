@@ -0,0 +1,48 @@
+package dev.tecte.chessWar.game.infrastructure.listener;
+
+import dev.tecte.chessWar.common.event.ChessWarStartedEvent;
+import dev.tecte.chessWar.game.application.BattleAiCoordinator;
+import dev.tecte.chessWar.game.application.GameAnnouncer;
+import dev.tecte.chessWar.game.domain.event.BattleStartedEvent;
+import dev.tecte.chessWar.game.domain.model.phase.BattleState;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * 전투 시작과 서버 시작에 맞춰 참가자가 조종하지 않는 기물의 인공지능을 가동합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BattleAiInitiator implements Listener {
+    private final BattleAiCoordinator aiCoordinator;
+    private final GameAnnouncer gameAnnouncer;
+
+    /**
+     * 진행 중인 실시간 전투의 인공지능을 재개합니다.
+     *
+     * @param event 서버 시작 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void resumeOnStart(@NonNull ChessWarStartedEvent event) {
+        aiCoordinator.resumeAll();
+    }
+
+    /**
+     * 기물 선택 가이드를 중단하고, 실시간 전투이면 인공지능을 시작합니다.
+     *
+     * @param event 전투 시작 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBattleStarted(@NonNull BattleStartedEvent event) {
+        gameAnnouncer.stopGuidance(event.arenaId());
+
+        if (event.game().state() instanceof BattleState battle && battle.isRealTime()) {
+            aiCoordinator.start(event.arenaId());
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class GameSelectionPhaseInitiator implements Listener {
     @EventHandler(priority = EventPriority.NORMAL)
     public void onPiecesSpawned(@NonNull PiecesSpawnedEvent event) {
         gameFlowCoordinator.startSelectionPhase(
+                event.arenaId(),
                 event.unitPlacements(),
                 event.participants(),
                 event.senderId()
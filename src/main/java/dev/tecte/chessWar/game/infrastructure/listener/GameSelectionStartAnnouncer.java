@@ -66,6 +66,6 @@ public class GameSelectionStartAnnouncer implements Listener {
                 .collect(Collectors.toSet());
 
         gameAnnouncer.announceSelectionStart(targets);
-        gameAnnouncer.startSelectionGuidance();
+        gameAnnouncer.startSelectionGuidance(event.arenaId());
     }
 }
@@ -25,6 +25,6 @@ public class GameStartBattlefieldSetupInitiator implements Listener {
      */
     @EventHandler(priority = EventPriority.NORMAL)
     public void onGameStarted(@NonNull GameStartedEvent event) {
-        gameFlowCoordinator.prepareBattlefield(event.game().board(), event.senderId());
+        gameFlowCoordinator.prepareBattlefield(event.game(), event.senderId());
     }
 }
@@ -27,7 +27,7 @@ public class GameStopAnnounceListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onGameStopped(@NonNull GameStoppedEvent event) {
-        gameAnnouncer.stopGuidance();
+        gameAnnouncer.stopGuidance(event.arenaId());
         gameAnnouncer.notifyGameStop(userResolver.resolveSender(event.senderId()));
     }
 }
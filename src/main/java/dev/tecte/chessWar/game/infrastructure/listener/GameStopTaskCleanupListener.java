@@ -1,5 +1,7 @@
 package dev.tecte.chessWar.game.infrastructure.listener;
 
+import dev.tecte.chessWar.game.application.GameTimerService;
+import dev.tecte.chessWar.game.application.RealTimeBattleCoordinator;
 import dev.tecte.chessWar.game.application.port.GameTaskManager;
 import dev.tecte.chessWar.game.domain.event.GameStoppedEvent;
 import jakarta.inject.Inject;
@@ -16,15 +18,21 @@ import org.bukkit.event.Listener;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class GameStopTaskCleanupListener implements Listener {
+    private final GameTimerService timerService;
     private final GameTaskManager gameTaskManager;
+    private final RealTimeBattleCoordinator battleCoordinator;
 
     /**
-     * 진행 중인 모든 비동기 작업을 중단하여 추가적인 상태 변화를 방지합니다.
+     * 중단된 경기장의 타이머와 비동기 작업을 모두 중단하고 칸 예약 표를 버려 추가적인 상태 변화를 방지합니다.
+     * <p>
+     * 다른 경기장의 작업과 예약은 그대로 유지됩니다.
      *
      * @param event 게임 중단 이벤트
      */
     @EventHandler(priority = EventPriority.LOWEST)
     public void onGameStopped(@NonNull GameStoppedEvent event) {
-        gameTaskManager.shutdown();
+        timerService.stop(event.arenaId());
+        gameTaskManager.shutdown(event.arenaId());
+        battleCoordinator.clearReservations(event.arenaId());
     }
 }
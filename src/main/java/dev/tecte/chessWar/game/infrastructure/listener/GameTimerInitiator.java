@@ -29,7 +29,7 @@ public class GameTimerInitiator implements Listener {
      */
     @EventHandler(priority = EventPriority.LOWEST)
     public void resumeTimersOnStart(@NonNull ChessWarStartedEvent event) {
-        flowCoordinator.resumeActiveGameTimer();
+        flowCoordinator.resumeActiveGameTimers();
     }
 
     /**
@@ -49,6 +49,6 @@ public class GameTimerInitiator implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void restoreTimerForParticipant(@NonNull GameParticipantJoinedEvent event) {
-        timerService.restore(event.playerId());
+        timerService.restore(event.arenaId(), event.playerId());
     }
 }
@@ -0,0 +1,43 @@
+package dev.tecte.chessWar.game.infrastructure.listener;
+
+import dev.tecte.chessWar.game.application.GameAnnouncer;
+import dev.tecte.chessWar.game.domain.event.MoveRedoneEvent;
+import dev.tecte.chessWar.game.domain.event.MoveUndoneEvent;
+import dev.tecte.chessWar.port.UserResolver;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * 수 되돌리기와 다시 두기의 결과를 행위자에게 알립니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class MoveHistoryAnnounceListener implements Listener {
+    private final GameAnnouncer gameAnnouncer;
+    private final UserResolver userResolver;
+
+    /**
+     * 되돌린 수를 알립니다.
+     *
+     * @param event 수 되돌리기 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMoveUndone(@NonNull MoveUndoneEvent event) {
+        gameAnnouncer.notifyMoveUndone(userResolver.resolveSender(event.senderId()), event.move());
+    }
+
+    /**
+     * 다시 둔 수를 알립니다.
+     *
+     * @param event 수 다시 두기 이벤트
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMoveRedone(@NonNull MoveRedoneEvent event) {
+        gameAnnouncer.notifyMoveRedone(userResolver.resolveSender(event.senderId()), event.move());
+    }
+}
@@ -25,6 +25,6 @@ public class SelectionCompletionAnnouncer implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onAllParticipantsSelected(@NonNull AllParticipantsSelectedEvent event) {
-        gameAnnouncer.announceSelectionCompletion();
+        gameAnnouncer.announceSelectionCompletion(event.arenaId());
     }
 }
@@ -25,6 +25,6 @@ public class SelectionTimerAccelerator implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onAllParticipantsSelected(@NonNull AllParticipantsSelectedEvent event) {
-        flowCoordinator.accelerateSelectionTimer();
+        flowCoordinator.accelerateSelectionTimer(event.arenaId());
     }
 }
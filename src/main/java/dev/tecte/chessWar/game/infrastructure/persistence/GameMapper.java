@@ -2,12 +2,17 @@ package dev.tecte.chessWar.game.infrastructure.persistence;
 
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.board.infrastructure.persistence.BoardPersistenceConstants;
+import dev.tecte.chessWar.game.domain.model.BattleMode;
 import dev.tecte.chessWar.game.domain.model.Game;
 import dev.tecte.chessWar.game.domain.model.GamePhase;
 import dev.tecte.chessWar.game.domain.model.PhaseTimerSettings;
 import dev.tecte.chessWar.game.domain.model.phase.BattleState;
 import dev.tecte.chessWar.game.domain.model.phase.EndedState;
 import dev.tecte.chessWar.game.domain.model.phase.PhaseState;
+import dev.tecte.chessWar.game.domain.model.phase.PieceSelections;
 import dev.tecte.chessWar.game.domain.model.phase.SelectionState;
 import dev.tecte.chessWar.game.domain.model.phase.SetupState;
 import dev.tecte.chessWar.game.domain.model.phase.TimedState;
@@ -18,6 +23,7 @@ import dev.tecte.chessWar.infrastructure.persistence.YmlParser;
 import dev.tecte.chessWar.infrastructure.persistence.exception.YmlMappingException;
 import dev.tecte.chessWar.piece.domain.model.Piece;
 import dev.tecte.chessWar.piece.infrastructure.persistence.PieceMapper;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
@@ -52,14 +58,32 @@ public class GameMapper {
     public Map<String, Object> toMap(@NonNull Game game) {
         Map<String, Object> map = new HashMap<>();
 
+        map.put(Keys.BOARD, game.board().name());
         map.put(Keys.PIECES, toMapPieces(game.pieces()));
         map.put(Keys.PHASE, toMapPhaseState(game.state()));
+        map.put(Keys.PARTICIPANTS, toMapParticipants(game.participants()));
 
         return map;
     }
 
+    /**
+     * 데이터 섹션에서 게임이 진행 중인 체스판의 이름을 읽습니다.
+     * <p>
+     * 체스판 이름이 없는 이전 데이터는 단일 체스판을 옮겨 온 이름으로 간주합니다.
+     *
+     * @param section 데이터 섹션
+     * @return 체스판 이름
+     */
+    @NonNull
+    public String boardNameOf(@NonNull ConfigurationSection section) {
+        return parser.findValue(section, Keys.BOARD, String.class)
+                .orElse(BoardPersistenceConstants.LEGACY_BOARD_NAME);
+    }
+
     /**
      * 데이터 섹션으로부터 게임을 복원합니다.
+     * <p>
+     * 참가자 명단이 없는 이전 데이터는 기물을 선택한 참가자를 선택한 기물의 팀으로 명단에 올립니다.
      *
      * @param section 데이터 섹션
      * @param board   체스판
@@ -67,10 +91,16 @@ public class GameMapper {
      */
     @NonNull
     public Game fromSection(@NonNull ConfigurationSection section, @NonNull Board board) {
-        Map<Coordinate, Piece> pieces = fromSectionPieces(parser.requireSection(section, Keys.PIECES));
+        CoordinateMap<Piece> pieces = fromSectionPieces(
+                parser.requireSection(section, Keys.PIECES),
+                board.squareGrid().gridSpec()
+        );
         PhaseState state = fromSectionPhaseState(parser.requireSection(section, Keys.PHASE));
+        Map<UUID, TeamColor> participants = parser.findSection(section, Keys.PARTICIPANTS)
+                .map(this::parseParticipantMap)
+                .orElseGet(() -> legacyParticipantsOf(pieces, state));
 
-        return Game.of(board, pieces, state);
+        return Game.of(board, pieces, state, participants);
     }
 
     @NonNull
@@ -83,6 +113,15 @@ public class GameMapper {
         return map;
     }
 
+    @NonNull
+    private Map<String, String> toMapParticipants(@NonNull Map<UUID, TeamColor> participants) {
+        Map<String, String> map = new HashMap<>();
+
+        participants.forEach((playerId, team) -> map.put(playerId.toString(), team.name()));
+
+        return map;
+    }
+
     @NonNull
     private Map<String, Object> toMapPhaseState(@NonNull PhaseState state) {
         Map<String, Object> map = new HashMap<>();
@@ -94,12 +133,14 @@ public class GameMapper {
         }
 
         switch (state) {
-            case SelectionState selection -> map.put(Keys.SELECTIONS, toMapSelections(selection));
+            case SelectionState selection -> map.put(Keys.SELECTIONS, toMapSelections(selection.selections()));
             case SetupState ignored -> {
             }
             case TurnOrderState ignored -> {
             }
-            case BattleState ignored -> {
+            case BattleState battle -> {
+                map.put(Keys.BATTLE_MODE, battle.mode().name());
+                map.put(Keys.SELECTIONS, toMapSelections(battle.selections()));
             }
             case EndedState ignored -> {
             }
@@ -109,18 +150,21 @@ public class GameMapper {
     }
 
     @NonNull
-    private Map<String, String> toMapSelections(@NonNull SelectionState state) {
+    private Map<String, String> toMapSelections(@NonNull PieceSelections selections) {
         Map<String, String> map = new HashMap<>();
 
-        state.selections().forEach((playerId, pieceId) ->
+        selections.forEach((playerId, pieceId) ->
                 map.put(playerId.toString(), pieceId.toString()));
 
         return map;
     }
 
     @NonNull
-    private Map<Coordinate, Piece> fromSectionPieces(@NonNull ConfigurationSection section) {
-        Map<Coordinate, Piece> pieces = new HashMap<>();
+    private CoordinateMap<Piece> fromSectionPieces(
+            @NonNull ConfigurationSection section,
+            @NonNull GridSpec gridSpec
+    ) {
+        CoordinateMap.Builder<Piece> pieces = CoordinateMap.builder(gridSpec);
 
         for (String key : section.getKeys(false)) {
             Coordinate coordinate;
@@ -128,11 +172,15 @@ public class GameMapper {
             try {
                 coordinate = Coordinate.from(key);
             } catch (IllegalArgumentException e) {
+                throw YmlMappingException.forInvalidFormat(key, section.getCurrentPath(), gridSpec.notationRange(), e);
+            }
+
+            if (!gridSpec.contains(coordinate)) {
                 throw YmlMappingException.forInvalidFormat(
                         key,
                         section.getCurrentPath(),
-                        Coordinate.NOTATION_RANGE,
-                        e
+                        gridSpec.notationRange(),
+                        null
                 );
             }
 
@@ -141,7 +189,7 @@ public class GameMapper {
             pieces.put(coordinate, piece);
         }
 
-        return pieces;
+        return pieces.build();
     }
 
     @NonNull
@@ -159,7 +207,12 @@ public class GameMapper {
                 yield fromSectionSelectionState(section, timerSettings, time);
             }
             case TURN_ORDER_SELECTION -> new TurnOrderState();
-            case BATTLE -> new BattleState();
+            case BATTLE -> BattleState.of(
+                    parser.findValue(section, Keys.BATTLE_MODE, String.class)
+                            .flatMap(BattleMode::from)
+                            .orElse(BattleMode.TURN_BASED),
+                    PieceSelections.of(parseSelections(section))
+            );
             case ENDED -> new EndedState();
         };
     }
@@ -180,11 +233,14 @@ public class GameMapper {
             @NonNull PhaseTimerSettings timerSettings,
             @NonNull Duration remainingTime
     ) {
-        Map<UUID, UUID> selections = parser.findSection(section, Keys.SELECTIONS)
+        return SelectionState.of(parseSelections(section), timerSettings, remainingTime);
+    }
+
+    @NonNull
+    private Map<UUID, UUID> parseSelections(@NonNull ConfigurationSection section) {
+        return parser.findSection(section, Keys.SELECTIONS)
                 .map(this::parseSelectionMap)
                 .orElseGet(Collections::emptyMap);
-
-        return SelectionState.of(selections, timerSettings, remainingTime);
     }
 
     @NonNull
@@ -200,4 +256,43 @@ public class GameMapper {
 
         return selections;
     }
+
+    @NonNull
+    private Map<UUID, TeamColor> parseParticipantMap(@NonNull ConfigurationSection section) {
+        Map<UUID, TeamColor> participants = new HashMap<>();
+
+        section.getKeys(false).forEach(key -> {
+            UUID playerId = parser.parseKeyAsUUID(section, key);
+            TeamColor team = parser.requireEnum(section, key, TeamColor::from);
+
+            participants.put(playerId, team);
+        });
+
+        return participants;
+    }
+
+    @NonNull
+    private Map<UUID, TeamColor> legacyParticipantsOf(
+            @NonNull CoordinateMap<Piece> pieces,
+            @NonNull PhaseState state
+    ) {
+        PieceSelections selections = switch (state) {
+            case SelectionState selection -> selection.selections();
+            case BattleState battle -> battle.selections();
+            default -> PieceSelections.empty();
+        };
+        Map<UUID, TeamColor> teamByPiece = new HashMap<>();
+        Map<UUID, TeamColor> participants = new HashMap<>();
+
+        pieces.values().forEach(piece -> teamByPiece.put(piece.id(), piece.spec().teamColor()));
+        selections.forEach((playerId, pieceId) -> {
+            TeamColor team = teamByPiece.get(pieceId);
+
+            if (team != null) {
+                participants.put(playerId, team);
+            }
+        });
+
+        return participants;
+    }
 }
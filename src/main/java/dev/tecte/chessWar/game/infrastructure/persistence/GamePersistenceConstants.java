@@ -15,11 +15,15 @@ public class GamePersistenceConstants {
     @UtilityClass
     public class Keys {
         public final String STATE = "state";
+        public final String GAMES = "games";
+        public final String BOARD = "board";
         public final String PIECES = "pieces";
         public final String PHASE = "phase";
         public final String CURRENT = "current";
         public final String REMAINING_TIME = "remaining-time";
         public final String SELECTIONS = "selections";
+        public final String BATTLE_MODE = "battle-mode";
+        public final String PARTICIPANTS = "participants";
     }
 
     /**
@@ -27,6 +31,8 @@ public class GamePersistenceConstants {
      */
     @UtilityClass
     public class StatePaths {
-        public final String STATE_PATH = ROOT + "." + Keys.STATE;
+        public final String GAMES_PATH = ROOT + "." + Keys.GAMES;
+        // 단일 게임만 지원하던 시절의 저장 경로
+        public final String LEGACY_STATE_PATH = ROOT + "." + Keys.STATE;
     }
 }
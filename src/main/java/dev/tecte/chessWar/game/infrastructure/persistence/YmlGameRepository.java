@@ -7,7 +7,7 @@ import dev.tecte.chessWar.game.application.port.GameRepository;
 import dev.tecte.chessWar.game.domain.model.Game;
 import dev.tecte.chessWar.game.infrastructure.persistence.GamePersistenceConstants.StatePaths;
 import dev.tecte.chessWar.infrastructure.file.YmlFileManager;
-import dev.tecte.chessWar.infrastructure.persistence.AbstractSingleYmlRepository;
+import dev.tecte.chessWar.infrastructure.persistence.AbstractKeyedYmlRepository;
 import dev.tecte.chessWar.infrastructure.persistence.exception.YmlMappingException;
 import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
 import jakarta.inject.Inject;
@@ -16,16 +16,21 @@ import lombok.NonNull;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 
 /**
  * 게임 저장소의 YAML 구현체입니다.
+ * <p>
+ * 게임을 경기장 ID별 하위 키에 저장하므로, 한 경기장의 변경은 다른 경기장의 데이터를 다시 쓰지 않습니다.
  */
 @Singleton
-public class YmlGameRepository extends AbstractSingleYmlRepository<Game> implements GameRepository {
+public class YmlGameRepository extends AbstractKeyedYmlRepository<Game> implements GameRepository {
     private final BoardRepository boardRepository;
     private final GameTimerService timerService;
     private final GameMapper mapper;
+    private final YmlFileManager fileManager;
 
     @Inject
     public YmlGameRepository(
@@ -40,11 +45,34 @@ public class YmlGameRepository extends AbstractSingleYmlRepository<Game> impleme
         this.boardRepository = boardRepository;
         this.timerService = timerService;
         this.mapper = mapper;
+        this.fileManager = fileManager;
     }
 
     @Override
-    public boolean isGameInProgress() {
-        return find().isPresent();
+    public void load() {
+        super.load();
+        migrateLegacyGame();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Game> findByPiece(@NonNull UUID pieceId) {
+        return cachedValues().stream()
+                .filter(game -> game.findPiece(pieceId).isPresent())
+                .findFirst();
+    }
+
+    @NonNull
+    @Override
+    public Optional<Game> findByParticipant(@NonNull UUID participantId) {
+        return cachedValues().stream()
+                .filter(game -> game.isParticipant(participantId))
+                .findFirst();
+    }
+
+    @Override
+    public boolean isGameInProgress(@NonNull String arenaId) {
+        return find(arenaId).isPresent();
     }
 
     @Override
@@ -54,10 +82,14 @@ public class YmlGameRepository extends AbstractSingleYmlRepository<Game> impleme
 
     @NonNull
     @Override
-    protected Game deserialize(@NonNull ConfigurationSection section) {
-        return boardRepository.find()
-                .map(board -> mapper.fromSection(section, board))
-                .orElseThrow(() -> YmlMappingException.forMissingResource(Board.class));
+    protected String keyOf(@NonNull Game entity) {
+        return entity.arenaId();
+    }
+
+    @NonNull
+    @Override
+    protected Game deserialize(@NonNull String key, @NonNull ConfigurationSection section) {
+        return restore(key, section);
     }
 
     @NonNull
@@ -66,16 +98,39 @@ public class YmlGameRepository extends AbstractSingleYmlRepository<Game> impleme
         return mapper.toMap(captureRealTime(game));
     }
 
+    @NonNull
+    @Override
+    protected String getDataPath() {
+        return StatePaths.GAMES_PATH;
+    }
+
+    private Game restore(String boardName, ConfigurationSection section) {
+        return boardRepository.find(boardName)
+                .map(board -> mapper.fromSection(section, board))
+                .orElseThrow(() -> YmlMappingException.forMissingResource(Board.class));
+    }
+
     // 실시간 남은 시간을 반영하여 데이터 정합성 확보
     private Game captureRealTime(Game game) {
-        return timerService.remainingTime()
+        return timerService.remainingTime(game.arenaId())
                 .map(game::remaining)
                 .orElse(game);
     }
 
-    @NonNull
-    @Override
-    protected String getDataPath() {
-        return StatePaths.STATE_PATH;
+    private void migrateLegacyGame() {
+        ConfigurationSection legacy = fileManager.config().getConfigurationSection(StatePaths.LEGACY_STATE_PATH);
+
+        if (legacy == null) {
+            return;
+        }
+
+        Game game = restore(mapper.boardNameOf(legacy), legacy);
+
+        // 이어지는 비동기 저장에 옛 경로의 삭제도 함께 반영되도록 먼저 비움
+        fileManager.set(StatePaths.LEGACY_STATE_PATH, null);
+
+        if (find(game.arenaId()).isEmpty()) {
+            save(game);
+        }
     }
 }
@@ -9,6 +9,7 @@ import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -16,66 +17,68 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Bukkit 기반으로 보스바의 표시를 관리합니다.
+ * <p>
+ * 채널마다 보스바와 시청자 목록을 따로 두어, 여러 경기장의 보스바가 서로의 상태를 덮어쓰지 않습니다.
  */
 @Singleton
 public class BukkitBossBarManager {
     private final UserResolver userResolver;
-    private final BossBar bossBar;
 
-    private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
 
     @Inject
     public BukkitBossBarManager(@NonNull UserResolver userResolver) {
         this.userResolver = userResolver;
-        this.bossBar = BossBar.bossBar(
-                Component.empty(),
-                BossBar.MAX_PROGRESS,
-                BossBar.Color.WHITE,
-                BossBar.Overlay.PROGRESS
-        );
     }
 
     /**
      * 보스바를 보여줍니다.
      *
+     * @param channelId 채널 ID
      * @param playerIds 플레이어 ID 목록
      */
-    public void show(@NonNull Collection<UUID> playerIds) {
-        playerIds.forEach(this::show);
+    public void show(@NonNull String channelId, @NonNull Collection<UUID> playerIds) {
+        playerIds.forEach(playerId -> show(channelId, playerId));
     }
 
     /**
      * 보스바를 보여줍니다.
      *
-     * @param playerId 플레이어 ID
+     * @param channelId 채널 ID
+     * @param playerId  플레이어 ID
      */
-    public void show(@NonNull UUID playerId) {
+    public void show(@NonNull String channelId, @NonNull UUID playerId) {
         Optional<Player> player = userResolver.findPlayer(playerId);
 
         if (player.isEmpty()) {
             return;
         }
 
-        show(player.get());
+        show(channelId, player.get());
     }
 
     /**
      * 보스바를 보여줍니다.
      *
-     * @param player 플레이어
+     * @param channelId 채널 ID
+     * @param player    플레이어
      */
-    public void show(@NonNull Player player) {
-        viewers.add(player.getUniqueId());
-        player.showBossBar(bossBar);
+    public void show(@NonNull String channelId, @NonNull Player player) {
+        Channel channel = channelOf(channelId);
+
+        channel.viewers().add(player.getUniqueId());
+        player.showBossBar(channel.bossBar());
     }
 
     /**
      * 시각적 상태를 업데이트합니다.
      *
-     * @param title    제목
-     * @param progress 진행률
+     * @param channelId 채널 ID
+     * @param title     제목
+     * @param progress  진행률
      */
-    public void update(@NonNull Component title, double progress) {
+    public void update(@NonNull String channelId, @NonNull Component title, double progress) {
+        BossBar bossBar = channelOf(channelId).bossBar();
         float clampedProgress = (float) Math.clamp(progress, BossBar.MIN_PROGRESS, BossBar.MAX_PROGRESS);
 
         bossBar.name(title);
@@ -86,22 +89,49 @@ public class BukkitBossBarManager {
     /**
      * 보스바를 숨깁니다.
      *
-     * @param playerId 플레이어 ID
+     * @param channelId 채널 ID
+     * @param playerId  플레이어 ID
      */
-    public void hide(@NonNull UUID playerId) {
-        hideUI(playerId);
-        viewers.remove(playerId);
+    public void hide(@NonNull String channelId, @NonNull UUID playerId) {
+        Channel channel = channels.get(channelId);
+
+        if (channel == null) {
+            return;
+        }
+
+        hideUI(channel.bossBar(), playerId);
+        channel.viewers().remove(playerId);
     }
 
     /**
-     * 보스바를 숨깁니다.
+     * 채널의 보스바를 모두 숨기고 채널을 회수합니다.
+     *
+     * @param channelId 채널 ID
      */
-    public void hide() {
-        viewers.forEach(this::hideUI);
-        viewers.clear();
+    public void hide(@NonNull String channelId) {
+        Channel channel = channels.remove(channelId);
+
+        if (channel == null) {
+            return;
+        }
+
+        channel.viewers().forEach(viewerId -> hideUI(channel.bossBar(), viewerId));
+        channel.viewers().clear();
     }
 
-    private void hideUI(@NonNull UUID id) {
+    private Channel channelOf(String channelId) {
+        return channels.computeIfAbsent(channelId, id -> new Channel(
+                BossBar.bossBar(
+                        Component.empty(),
+                        BossBar.MAX_PROGRESS,
+                        BossBar.Color.WHITE,
+                        BossBar.Overlay.PROGRESS
+                ),
+                ConcurrentHashMap.newKeySet()
+        ));
+    }
+
+    private void hideUI(@NonNull BossBar bossBar, @NonNull UUID id) {
         userResolver.findPlayer(id)
                 .ifPresent(player -> player.hideBossBar(bossBar));
     }
@@ -116,4 +146,7 @@ public class BukkitBossBarManager {
             return BossBar.Color.RED;
         }
     }
+
+    private record Channel(BossBar bossBar, Set<UUID> viewers) {
+    }
 }
@@ -105,6 +105,11 @@ public class BukkitTaskRunner implements TaskRunner {
         activeTasks.remove(taskId);
     }
 
+    @Override
+    public boolean isActive(int taskId) {
+        return scheduler.isQueued(taskId) || scheduler.isCurrentlyRunning(taskId);
+    }
+
     @Override
     public void shutdown() {
         activeTasks.forEach(taskId -> {
@@ -0,0 +1,48 @@
+package dev.tecte.chessWar.infrastructure.bukkit;
+
+import dev.tecte.chessWar.board.domain.model.Vec3;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+/**
+ * 도메인 벡터와 Bukkit 벡터·위치 사이의 변환을 담당합니다.
+ */
+@UtilityClass
+public class BukkitVectors {
+    /**
+     * Bukkit 벡터를 도메인 벡터로 변환합니다.
+     *
+     * @param vector Bukkit 벡터
+     * @return 도메인 벡터
+     */
+    @NonNull
+    public Vec3 fromVector(@NonNull Vector vector) {
+        return Vec3.of(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * 도메인 벡터를 Bukkit 벡터로 변환합니다.
+     *
+     * @param vec 도메인 벡터
+     * @return Bukkit 벡터
+     */
+    @NonNull
+    public Vector toVector(@NonNull Vec3 vec) {
+        return new Vector(vec.x(), vec.y(), vec.z());
+    }
+
+    /**
+     * 도메인 벡터를 월드 위치로 변환합니다.
+     *
+     * @param vec   도메인 벡터
+     * @param world 대상 월드
+     * @return 위치
+     */
+    @NonNull
+    public Location toLocation(@NonNull Vec3 vec, @NonNull World world) {
+        return new Location(world, vec.x(), vec.y(), vec.z());
+    }
+}
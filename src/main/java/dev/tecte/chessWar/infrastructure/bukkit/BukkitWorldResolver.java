@@ -1,9 +1,11 @@
 package dev.tecte.chessWar.infrastructure.bukkit;
 
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import dev.tecte.chessWar.port.WorldResolver;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
 
 import java.util.function.Function;
@@ -35,4 +37,18 @@ public class BukkitWorldResolver implements WorldResolver {
 
         return world;
     }
+
+    @NonNull
+    @Override
+    public <E extends RuntimeException> Location locate(
+            @NonNull String name,
+            @NonNull Vec3 position,
+            @NonNull Vec3 direction,
+            @NonNull Function<String, E> onFailure
+    ) {
+        Location location = BukkitVectors.toLocation(position, resolve(name, onFailure));
+        location.setDirection(BukkitVectors.toVector(direction));
+
+        return location;
+    }
 }
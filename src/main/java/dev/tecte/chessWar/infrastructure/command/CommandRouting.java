@@ -9,4 +9,6 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class CommandRouting {
     public final String ROOT_ALIAS = ProjectIdentity.NAMESPACE + "|cw";
+    // 진행 중인 경기의 수순을 되돌리거나 다시 두는 심판 권한
+    public final String REFEREE_PERMISSION = ProjectIdentity.NAMESPACE + ".referee";
 }
@@ -0,0 +1,177 @@
+package dev.tecte.chessWar.infrastructure.persistence;
+
+import dev.tecte.chessWar.common.persistence.PersistableState;
+import dev.tecte.chessWar.infrastructure.file.YmlFileManager;
+import dev.tecte.chessWar.infrastructure.persistence.exception.PersistenceException;
+import dev.tecte.chessWar.port.exception.ExceptionDispatcher;
+import jakarta.inject.Inject;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 키로 구분되는 여러 도메인 객체의 영속성을 관리합니다.
+ * <p>
+ * 객체마다 데이터 경로 아래의 하위 키에 저장하며, 변경된 객체만 비동기로 반영합니다.
+ *
+ * @param <V> 관리할 도메인 객체 타입
+ */
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public abstract class AbstractKeyedYmlRepository<V> implements PersistableState {
+    private final ExceptionDispatcher dispatcher;
+    private final YmlFileManager fileManager;
+    private final ExecutorService persistenceExecutor;
+
+    private final Map<String, V> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public void load() {
+        ConfigurationSection root = fileManager.config().getConfigurationSection(getDataPath());
+
+        if (root != null) {
+            for (String key : root.getKeys(false)) {
+                ConfigurationSection section = root.getConfigurationSection(key);
+
+                if (section != null) {
+                    cache.put(key, deserialize(key, section));
+                }
+            }
+        }
+
+        onChanged();
+    }
+
+    /**
+     * 키에 해당하는 도메인 객체를 찾습니다.
+     *
+     * @param key 키
+     * @return 찾은 객체
+     */
+    @NonNull
+    public Optional<V> find(@NonNull String key) {
+        return Optional.ofNullable(cache.get(key));
+    }
+
+    /**
+     * 모든 도메인 객체를 반환합니다.
+     *
+     * @return 객체 목록
+     */
+    @NonNull
+    public List<V> findAll() {
+        return List.copyOf(cache.values());
+    }
+
+    /**
+     * 도메인 객체를 저장하고 비동기적으로 반영합니다.
+     *
+     * @param entity 저장할 객체
+     */
+    public void save(@NonNull V entity) {
+        String key = keyOf(entity);
+
+        cache.put(key, entity);
+        onChanged();
+        persistChangeAsync(key, serialize(entity));
+    }
+
+    /**
+     * 키에 해당하는 도메인 객체를 삭제합니다.
+     *
+     * @param key 키
+     */
+    public void delete(@NonNull String key) {
+        if (cache.remove(key) == null) {
+            return;
+        }
+
+        onChanged();
+        persistChangeAsync(key, null);
+    }
+
+    @Override
+    public void flush() {
+        Map<String, Object> serialized = new HashMap<>();
+
+        cache.forEach((key, entity) -> serialized.put(key, serialize(entity)));
+        fileManager.set(getDataPath(), serialized);
+        fileManager.save();
+    }
+
+    /**
+     * 캐시된 객체 전체를 읽기 전용으로 반환합니다.
+     *
+     * @return 캐시된 객체
+     */
+    @NonNull
+    protected Collection<V> cachedValues() {
+        return cache.values();
+    }
+
+    /**
+     * 캐시 내용이 바뀐 뒤 호출됩니다.
+     * <p>
+     * 파생 색인을 유지해야 하는 하위 클래스가 재정의합니다.
+     */
+    protected void onChanged() {
+    }
+
+    /**
+     * 도메인 객체의 키를 반환합니다.
+     *
+     * @param entity 도메인 객체
+     * @return 키
+     */
+    @NonNull
+    protected abstract String keyOf(@NonNull V entity);
+
+    /**
+     * 도메인 객체를 역직렬화합니다.
+     *
+     * @param key     키
+     * @param section 데이터 섹션
+     * @return 역직렬화된 객체
+     */
+    @NonNull
+    protected abstract V deserialize(@NonNull String key, @NonNull ConfigurationSection section);
+
+    /**
+     * 도메인 객체를 직렬화합니다.
+     *
+     * @param entity 직렬화할 객체
+     * @return 직렬화된 맵
+     */
+    @NonNull
+    protected abstract Map<String, Object> serialize(@NonNull V entity);
+
+    /**
+     * 데이터 저장 경로를 반환합니다.
+     *
+     * @return 데이터 경로
+     */
+    @NonNull
+    protected abstract String getDataPath();
+
+    private void persistChangeAsync(@NonNull String key, @Nullable Object value) {
+        String path = getDataPath() + "." + key;
+
+        // 데이터 무결성(순서 보장)과 메인 스레드 성능 보호를 위해 전용 스레드에서 비동기 실행
+        persistenceExecutor.execute(() -> {
+            try {
+                fileManager.set(path, value);
+                fileManager.save();
+            } catch (PersistenceException e) {
+                dispatcher.dispatch(e, null, "Async Persistence '" + path + "'");
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package dev.tecte.chessWar.infrastructure.persistence;
+
+import dev.tecte.chessWar.infrastructure.persistence.exception.PersistenceException;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 압축된 바이너리 파일을 임시 파일을 거쳐 원자적으로 기록합니다.
+ * <p>
+ * 임시 파일은 기록할 때마다 같은 디렉터리에 고유한 이름으로 만들어지므로,
+ * 종료 시의 즉시 기록과 영속성 스레드의 기록이 겹쳐도 서로의 임시 파일을 덮어쓰지 않습니다.
+ */
+@UtilityClass
+public class AtomicFileWriter {
+    /**
+     * 내용을 압축하여 파일에 기록합니다.
+     *
+     * @param file   대상 파일
+     * @param writer 내용 기록자
+     * @throws PersistenceException 기록에 실패한 경우
+     */
+    public void writeCompressed(@NonNull Path file, @NonNull ContentWriter writer) {
+        String fileName = file.getFileName().toString();
+        Path tmpFile = null;
+
+        try {
+            Files.createDirectories(file.getParent());
+            tmpFile = Files.createTempFile(file.getParent(), fileName + ".", ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmpFile))))) {
+                writer.write(out);
+            }
+
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(tmpFile);
+
+            throw PersistenceException.forSaveFailure(fileName, e);
+        }
+    }
+
+    // 임시 파일 삭제 실패는 무시 (고유한 이름이므로 다음 기록에 영향이 없음)
+    private void deleteQuietly(Path tmpFile) {
+        if (tmpFile == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(tmpFile);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 파일 내용을 기록합니다.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * 스트림에 내용을 기록합니다.
+         *
+         * @param out 출력 스트림
+         * @throws IOException 기록에 실패한 경우
+         */
+        void write(@NonNull DataOutputStream out) throws IOException;
+    }
+}
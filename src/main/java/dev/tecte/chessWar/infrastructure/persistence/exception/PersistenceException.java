@@ -25,4 +25,16 @@ public class PersistenceException extends SystemException {
     public static PersistenceException forSaveFailure(@NonNull String targetName, @Nullable Throwable cause) {
         return new PersistenceException("Failed to save [Target: %s]".formatted(targetName), cause);
     }
+
+    /**
+     * 데이터 로드 실패 시 예외를 생성합니다.
+     *
+     * @param targetName 로드 대상 명칭
+     * @param cause      실패 원인
+     * @return 생성된 예외
+     */
+    @NonNull
+    public static PersistenceException forLoadFailure(@NonNull String targetName, @Nullable Throwable cause) {
+        return new PersistenceException("Failed to load [Target: %s]".formatted(targetName), cause);
+    }
 }
@@ -1,8 +1,12 @@
 package dev.tecte.chessWar.piece.application;
 
 import dev.tecte.chessWar.board.domain.model.Board;
-import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.model.history.PlayedMove;
+import dev.tecte.chessWar.game.domain.model.position.Move;
 import dev.tecte.chessWar.port.EntityResolver;
+import dev.tecte.chessWar.piece.application.port.PieceLayoutLoader;
 import dev.tecte.chessWar.piece.application.port.PieceSpawner;
 import dev.tecte.chessWar.piece.domain.model.Piece;
 import dev.tecte.chessWar.piece.domain.model.PieceLayout;
@@ -23,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +37,14 @@ import java.util.stream.Collectors;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class PieceService {
-    private final PieceLayout pieceLayout;
+    private final PieceLayoutLoader pieceLayoutLoader;
     private final PieceSpawner pieceSpawner;
     private final EntityResolver entityResolver;
     private final JavaPlugin plugin;
 
+    // 격자 크기별로 한 번만 구성하여 재사용
+    private final Map<GridSpec, PieceLayout> layoutCache = new ConcurrentHashMap<>();
+
     /**
      * 체스판 위에 기물을 비동기로 소환합니다.
      *
@@ -45,10 +53,15 @@ public class PieceService {
      * @return 소환된 기물 배치를 포함한 미래
      */
     @NonNull
-    public CompletableFuture<Map<Coordinate, UnitPiece>> spawnPieces(
+    public CompletableFuture<CoordinateMap<UnitPiece>> spawnPieces(
             @NonNull Board board,
             @NonNull CommandSender starter
     ) {
+        PieceLayout pieceLayout = layoutCache.computeIfAbsent(
+                board.squareGrid().gridSpec(),
+                pieceLayoutLoader::load
+        );
+
         return pieceSpawner.spawnAll(board, pieceLayout.pieces(), starter);
     }
 
@@ -61,6 +74,44 @@ public class PieceService {
         pieces.forEach(piece -> pieceSpawner.despawn(piece.id()));
     }
 
+    /**
+     * 반영된 수에 맞춰 기물 엔티티를 옮깁니다.
+     * <p>
+     * 잡힌 기물은 제거하지 않고 물러나게 하여, 되돌리기에서 같은 기물을 복귀시킵니다.
+     *
+     * @param board  체스판
+     * @param played 반영된 수의 기록
+     */
+    public void applyMove(@NonNull Board board, @NonNull PlayedMove played) {
+        Move move = played.move();
+
+        if (played.captured() instanceof UnitPiece captured) {
+            pieceSpawner.withdraw(captured.id());
+        }
+
+        if (played.piece() instanceof UnitPiece mover) {
+            pieceSpawner.relocate(mover.id(), board, move.to());
+        }
+    }
+
+    /**
+     * 되돌린 수에 맞춰 기물 엔티티를 원래 칸으로 돌려놓습니다.
+     *
+     * @param board  체스판
+     * @param played 되돌린 수의 기록
+     */
+    public void revertMove(@NonNull Board board, @NonNull PlayedMove played) {
+        Move move = played.move();
+
+        if (played.piece() instanceof UnitPiece mover) {
+            pieceSpawner.relocate(mover.id(), board, move.from());
+        }
+
+        if (played.captured() instanceof UnitPiece captured) {
+            pieceSpawner.reinstate(captured.id(), board, move.to());
+        }
+    }
+
     /**
      * 적 팀 기물의 가시성을 업데이트합니다.
      *
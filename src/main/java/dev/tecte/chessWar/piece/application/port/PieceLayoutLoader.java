@@ -1,5 +1,6 @@
 package dev.tecte.chessWar.piece.application.port;
 
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.piece.domain.model.PieceLayout;
 import lombok.NonNull;
 
@@ -8,10 +9,11 @@ import lombok.NonNull;
  */
 public interface PieceLayoutLoader {
     /**
-     * 기물 배치 설계도를 로드합니다.
+     * 격자 크기에 맞는 기물 배치 설계도를 로드합니다.
      *
+     * @param gridSpec 격자 크기 명세
      * @return 기물 배치 설계도
      */
     @NonNull
-    PieceLayout load();
+    PieceLayout load(@NonNull GridSpec gridSpec);
 }
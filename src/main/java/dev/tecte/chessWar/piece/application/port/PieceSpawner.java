@@ -2,6 +2,7 @@ package dev.tecte.chessWar.piece.application.port;
 
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import dev.tecte.chessWar.piece.domain.model.PieceSpec;
 import dev.tecte.chessWar.piece.domain.model.UnitPiece;
 import lombok.NonNull;
@@ -9,7 +10,6 @@ import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
 
-import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -36,9 +36,9 @@ public interface PieceSpawner {
      * @return 소환된 기물 배치 현황
      */
     @NonNull
-    CompletableFuture<Map<Coordinate, UnitPiece>> spawnAll(
+    CompletableFuture<CoordinateMap<UnitPiece>> spawnAll(
             @NonNull Board board,
-            @NonNull Map<Coordinate, PieceSpec> pieceLayout,
+            @NonNull CoordinateMap<PieceSpec> pieceLayout,
             @NonNull CommandSender sender
     );
 
@@ -48,4 +48,31 @@ public interface PieceSpawner {
      * @param entityId 기물 ID
      */
     void despawn(@NonNull UUID entityId);
+
+    /**
+     * 기물을 체스판의 칸으로 옮깁니다.
+     *
+     * @param entityId   기물 ID
+     * @param board      체스판
+     * @param coordinate 도착 칸
+     */
+    void relocate(@NonNull UUID entityId, @NonNull Board board, @NonNull Coordinate coordinate);
+
+    /**
+     * 잡힌 기물을 제거하지 않고 전장에서 물러나게 합니다.
+     * <p>
+     * 되돌리기로 같은 기물을 복귀시킬 수 있도록 엔티티를 숨겨 두며, 숨긴 엔티티는 월드에 저장되지 않습니다.
+     *
+     * @param entityId 기물 ID
+     */
+    void withdraw(@NonNull UUID entityId);
+
+    /**
+     * 물러난 기물을 체스판의 칸으로 복귀시킵니다.
+     *
+     * @param entityId   기물 ID
+     * @param board      체스판
+     * @param coordinate 복귀할 칸
+     */
+    void reinstate(@NonNull UUID entityId, @NonNull Board board, @NonNull Coordinate coordinate);
 }
@@ -31,6 +31,12 @@ public record HeroPiece(UUID id, PieceSpec spec) implements Piece {
         return new HeroPiece(id, spec);
     }
 
+    @NonNull
+    @Override
+    public HeroPiece promoted(@NonNull PieceType type) {
+        return of(id, PieceSpec.of(type, spec.teamColor()));
+    }
+
     @NonNull
     @Override
     public PieceRole role() {
@@ -35,6 +35,15 @@ public interface Piece {
     @NonNull
     PieceRole role();
 
+    /**
+     * 같은 식별자와 팀을 유지한 채 다른 종류로 승급한 기물을 반환합니다.
+     *
+     * @param type 승급할 기물 종류
+     * @return 승급한 기물
+     */
+    @NonNull
+    Piece promoted(@NonNull PieceType type);
+
     /**
      * 해당 팀에 소속된 기물인지 확인합니다.
      *
@@ -1,9 +1,8 @@
 package dev.tecte.chessWar.piece.domain.model;
 
-import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import lombok.NonNull;
 
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -11,10 +10,9 @@ import java.util.Objects;
  *
  * @param pieces 좌표에 따라 정리된 기물 설계도의 맵
  */
-public record PieceLayout(Map<Coordinate, PieceSpec> pieces) {
+public record PieceLayout(CoordinateMap<PieceSpec> pieces) {
     public PieceLayout {
         Objects.requireNonNull(pieces, "pieces cannot be null");
-        pieces = Map.copyOf(pieces);
     }
 
     /**
@@ -24,7 +22,7 @@ public record PieceLayout(Map<Coordinate, PieceSpec> pieces) {
      * @return 생성된 {@link PieceLayout} 인스턴스
      */
     @NonNull
-    public static PieceLayout of(@NonNull Map<Coordinate, PieceSpec> pieces) {
+    public static PieceLayout of(@NonNull CoordinateMap<PieceSpec> pieces) {
         return new PieceLayout(pieces);
     }
 }
@@ -29,6 +29,12 @@ public record UnitPiece(UUID id, PieceSpec spec) implements Piece {
         return new UnitPiece(id, spec);
     }
 
+    @NonNull
+    @Override
+    public UnitPiece promoted(@NonNull PieceType type) {
+        return of(id, PieceSpec.of(type, spec.teamColor()));
+    }
+
     @NonNull
     @Override
     public PieceRole role() {
@@ -10,11 +10,11 @@ import dev.tecte.chessWar.piece.application.port.PieceInfoRenderer;
 import dev.tecte.chessWar.piece.application.port.PieceLayoutLoader;
 import dev.tecte.chessWar.piece.application.port.PieceSpawner;
 import dev.tecte.chessWar.piece.application.port.PieceStatProvider;
-import dev.tecte.chessWar.piece.domain.model.PieceLayout;
 import dev.tecte.chessWar.piece.infrastructure.bukkit.BukkitPieceInfoRenderer;
 import dev.tecte.chessWar.piece.infrastructure.command.PieceCommand;
 import dev.tecte.chessWar.piece.infrastructure.listener.GameStopPieceCleanupListener;
 import dev.tecte.chessWar.piece.infrastructure.listener.PieceInteractionListener;
+import dev.tecte.chessWar.piece.infrastructure.listener.PieceMoveSyncListener;
 import dev.tecte.chessWar.piece.infrastructure.listener.PieceVisibilityListener;
 import dev.tecte.chessWar.piece.infrastructure.mythicmobs.MythicMobsPieceIdResolver;
 import dev.tecte.chessWar.piece.infrastructure.mythicmobs.MythicMobsPieceLayoutLoader;
@@ -46,19 +46,7 @@ public class PieceModule extends AbstractModule {
         listenerBinder.addBinding().to(PieceInteractionListener.class);
         listenerBinder.addBinding().to(GameStopPieceCleanupListener.class);
         listenerBinder.addBinding().to(PieceVisibilityListener.class);
-    }
-
-    /**
-     * 기물 배치 정보를 제공합니다.
-     *
-     * @param loader 기물 배치 로더
-     * @return 기물 배치 정보
-     */
-    @NonNull
-    @Provides
-    @Singleton
-    public PieceLayout provideInitialPieceLayout(@NonNull PieceLayoutLoader loader) {
-        return loader.load();
+        listenerBinder.addBinding().to(PieceMoveSyncListener.class);
     }
 
     /**
@@ -0,0 +1,52 @@
+package dev.tecte.chessWar.piece.infrastructure.listener;
+
+import dev.tecte.chessWar.game.domain.event.MoveRedoneEvent;
+import dev.tecte.chessWar.game.domain.event.MoveUndoneEvent;
+import dev.tecte.chessWar.game.domain.event.PieceMovedEvent;
+import dev.tecte.chessWar.piece.application.PieceService;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * 게임의 기물 배치 변화를 전장의 기물 엔티티에 반영합니다.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class PieceMoveSyncListener implements Listener {
+    private final PieceService pieceService;
+
+    /**
+     * 이동한 기물을 도착 칸으로 옮기고 잡힌 기물을 물러나게 합니다.
+     *
+     * @param event 기물 이동 이벤트
+     */
+    @EventHandler(priority = EventPriority.NORMAL)
+    public void onPieceMoved(@NonNull PieceMovedEvent event) {
+        pieceService.applyMove(event.board(), event.played());
+    }
+
+    /**
+     * 되돌린 수의 기물을 출발 칸으로 돌려놓고 잡혔던 기물을 복귀시킵니다.
+     *
+     * @param event 수 되돌리기 이벤트
+     */
+    @EventHandler(priority = EventPriority.NORMAL)
+    public void onMoveUndone(@NonNull MoveUndoneEvent event) {
+        pieceService.revertMove(event.board(), event.played());
+    }
+
+    /**
+     * 다시 둔 수를 기물 이동과 같이 반영합니다.
+     *
+     * @param event 수 다시 두기 이벤트
+     */
+    @EventHandler(priority = EventPriority.NORMAL)
+    public void onMoveRedone(@NonNull MoveRedoneEvent event) {
+        pieceService.applyMove(event.board(), event.played());
+    }
+}
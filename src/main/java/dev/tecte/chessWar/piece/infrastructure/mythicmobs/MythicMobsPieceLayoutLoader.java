@@ -1,6 +1,8 @@
 package dev.tecte.chessWar.piece.infrastructure.mythicmobs;
 
 import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
 import dev.tecte.chessWar.piece.application.port.PieceIdResolver;
 import dev.tecte.chessWar.piece.application.port.PieceLayoutLoader;
 import dev.tecte.chessWar.piece.domain.model.PieceLayout;
@@ -15,7 +17,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -25,39 +27,77 @@ import java.util.Map;
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class MythicMobsPieceLayoutLoader implements PieceLayoutLoader {
+    // 퀸 바깥쪽부터 양 끝까지 반복되는 기물 순서
+    private static final PieceType[] OUTER_PIECES = {PieceType.BISHOP, PieceType.KNIGHT, PieceType.ROOK};
+
     private final PieceIdResolver pieceIdResolver;
     private final MobManager mobManager;
 
     /**
-     * 표준 체스 규칙을 기반으로 양 팀의 기물 배치를 생성합니다.
+     * 표준 체스 규칙을 격자 크기에 맞게 확장하여 양 팀의 기물 배치를 생성합니다.
+     * <p>
+     * 8열에서는 표준 배치와 같고, 더 넓은 격자에서는 중앙의 퀸과 킹을 기준으로
+     * 비숍, 나이트, 룩을 바깥쪽으로 반복해서 채웁니다.
      *
+     * @param gridSpec 격자 크기 명세
      * @return 초기 기물 배치 정보
      */
     @NonNull
     @Override
-    public PieceLayout load() {
-        log.atInfo().log("Loading initial piece layout from MythicMobs...");
-
-        Map<Coordinate, PieceSpec> pieces = new HashMap<>();
-        PieceType[] backRow = {
-                PieceType.ROOK,
-                PieceType.KNIGHT,
-                PieceType.BISHOP,
-                PieceType.QUEEN,
-                PieceType.KING,
-                PieceType.BISHOP,
-                PieceType.KNIGHT,
-                PieceType.ROOK
-        };
-
-        for (int col = 0; col < 8; col++) {
-            pieces.put(new Coordinate(0, col), createPieceFromMythicMob(TeamColor.WHITE, backRow[col]));
-            pieces.put(new Coordinate(1, col), createPieceFromMythicMob(TeamColor.WHITE, PieceType.PAWN));
-            pieces.put(new Coordinate(6, col), createPieceFromMythicMob(TeamColor.BLACK, PieceType.PAWN));
-            pieces.put(new Coordinate(7, col), createPieceFromMythicMob(TeamColor.BLACK, backRow[col]));
+    public PieceLayout load(@NonNull GridSpec gridSpec) {
+        log.atInfo().log("Loading initial piece layout for a {}x{} grid from MythicMobs...",
+                gridSpec.rowCount(), gridSpec.colCount());
+
+        Map<TeamColor, Map<PieceType, PieceSpec>> specs = resolveSpecs();
+        CoordinateMap.Builder<PieceSpec> pieces = CoordinateMap.builder(gridSpec);
+        PieceType[] backRow = backRowOf(gridSpec.colCount());
+        int lastRow = gridSpec.rowCount() - 1;
+
+        for (int col = 0; col < gridSpec.colCount(); col++) {
+            pieces.put(Coordinate.of(0, col), specs.get(TeamColor.WHITE).get(backRow[col]));
+            pieces.put(Coordinate.of(1, col), specs.get(TeamColor.WHITE).get(PieceType.PAWN));
+            pieces.put(Coordinate.of(lastRow - 1, col), specs.get(TeamColor.BLACK).get(PieceType.PAWN));
+            pieces.put(Coordinate.of(lastRow, col), specs.get(TeamColor.BLACK).get(backRow[col]));
+        }
+
+        return PieceLayout.of(pieces.build());
+    }
+
+    @NonNull
+    private PieceType[] backRowOf(int colCount) {
+        PieceType[] backRow = new PieceType[colCount];
+        int kingCol = colCount / 2;
+
+        backRow[kingCol] = PieceType.KING;
+        backRow[kingCol - 1] = PieceType.QUEEN;
+
+        for (int distance = 0; kingCol - 2 - distance >= 0; distance++) {
+            backRow[kingCol - 2 - distance] = OUTER_PIECES[distance % OUTER_PIECES.length];
+        }
+
+        for (int distance = 0; kingCol + 1 + distance < colCount; distance++) {
+            backRow[kingCol + 1 + distance] = OUTER_PIECES[distance % OUTER_PIECES.length];
+        }
+
+        return backRow;
+    }
+
+    // 기물 종류마다 MythicMobs 조회는 한 번만 수행
+    @NonNull
+    private Map<TeamColor, Map<PieceType, PieceSpec>> resolveSpecs() {
+        Map<TeamColor, Map<PieceType, PieceSpec>> specs = new EnumMap<>(TeamColor.class);
+
+        for (TeamColor teamColor : TeamColor.values()) {
+            Map<PieceType, PieceSpec> byType = new EnumMap<>(PieceType.class);
+
+            for (PieceType pieceType : PieceType.values()) {
+                byType.put(pieceType, createPieceFromMythicMob(teamColor, pieceType));
+            }
+
+            specs.put(teamColor, byType);
         }
 
-        return PieceLayout.of(pieces);
+        return specs;
     }
 
     @NonNull
@@ -2,8 +2,10 @@ package dev.tecte.chessWar.piece.infrastructure.mythicmobs;
 
 import dev.tecte.chessWar.board.domain.model.Board;
 import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
 import dev.tecte.chessWar.game.domain.exception.GameException;
 import dev.tecte.chessWar.game.domain.policy.TeamFacingPolicy;
+import dev.tecte.chessWar.infrastructure.bukkit.BukkitVectors;
 import dev.tecte.chessWar.piece.application.port.PieceIdResolver;
 import dev.tecte.chessWar.piece.application.port.PieceSpawner;
 import dev.tecte.chessWar.piece.domain.exception.PieceSystemException;
@@ -25,14 +27,15 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MythicMobs 기반으로 기물 소환을 관리합니다.
@@ -49,26 +52,29 @@ public class MythicMobsPieceSpawner implements PieceSpawner {
     private final TaskRunner taskRunner;
     private final MobManager mobManager;
 
+    // 물러난 기물의 원래 속성 (숨긴 엔티티는 저장되지 않으므로 메모리에만 보관)
+    private final Map<UUID, EntityFlags> withdrawnFlags = new ConcurrentHashMap<>();
+
     @NonNull
     @Override
-    public CompletableFuture<Map<Coordinate, UnitPiece>> spawnAll(
+    public CompletableFuture<CoordinateMap<UnitPiece>> spawnAll(
             @NonNull Board board,
-            @NonNull Map<Coordinate, PieceSpec> pieceLayout,
+            @NonNull CoordinateMap<PieceSpec> pieceLayout,
             @NonNull CommandSender sender
     ) {
         long initialDelay = 0L;
         long periodTicks = 1L;
 
-        CompletableFuture<Map<Coordinate, UnitPiece>> future = new CompletableFuture<>();
+        CompletableFuture<CoordinateMap<UnitPiece>> future = new CompletableFuture<>();
         String worldName = board.worldName();
         World world = worldResolver.resolve(worldName, GameException::worldNotFound);
         var pieceIterator = pieceLayout.entrySet().iterator();
-        Map<Coordinate, UnitPiece> spawnedPieces = new HashMap<>();
+        CoordinateMap.Builder<UnitPiece> spawnedPieces = CoordinateMap.builder(pieceLayout.gridSpec());
 
         taskRunner.runRepeating(
                 task -> {
                     if (spawnBatch(task, pieceIterator, spawnedPieces, board, world)) {
-                        future.complete(spawnedPieces);
+                        future.complete(spawnedPieces.build());
                     }
                 },
                 initialDelay,
@@ -99,15 +105,51 @@ public class MythicMobsPieceSpawner implements PieceSpawner {
     public void despawn(@NonNull UUID entityId) {
         Entity entity = Bukkit.getEntity(entityId);
 
+        withdrawnFlags.remove(entityId);
+
         if (entity != null) {
             entity.remove();
         }
     }
 
+    @Override
+    public void relocate(@NonNull UUID entityId, @NonNull Board board, @NonNull Coordinate coordinate) {
+        Entity entity = Bukkit.getEntity(entityId);
+
+        if (entity != null) {
+            entity.teleport(squareLocationOf(entity, board, coordinate));
+        }
+    }
+
+    @Override
+    public void withdraw(@NonNull UUID entityId) {
+        Entity entity = Bukkit.getEntity(entityId);
+
+        if (entity == null || withdrawnFlags.containsKey(entityId)) {
+            return;
+        }
+
+        withdrawnFlags.put(entityId, EntityFlags.of(entity));
+        EntityFlags.WITHDRAWN.applyTo(entity);
+    }
+
+    @Override
+    public void reinstate(@NonNull UUID entityId, @NonNull Board board, @NonNull Coordinate coordinate) {
+        Entity entity = Bukkit.getEntity(entityId);
+        EntityFlags flags = withdrawnFlags.remove(entityId);
+
+        if (entity == null || flags == null) {
+            return;
+        }
+
+        entity.teleport(squareLocationOf(entity, board, coordinate));
+        flags.applyTo(entity);
+    }
+
     private boolean spawnBatch(
             @NonNull BukkitRunnable task,
             @NonNull Iterator<Map.Entry<Coordinate, PieceSpec>> iterator,
-            @NonNull Map<Coordinate, UnitPiece> spawnedPieces,
+            @NonNull CoordinateMap.Builder<UnitPiece> spawnedPieces,
             @NonNull Board board,
             @NonNull World world
     ) {
@@ -127,10 +169,21 @@ public class MythicMobsPieceSpawner implements PieceSpawner {
         return false;
     }
 
+    // 칸의 중심으로 옮기되 바라보던 방향은 유지
+    private Location squareLocationOf(Entity entity, Board board, Coordinate coordinate) {
+        Location current = entity.getLocation();
+        Location target = BukkitVectors.toLocation(board.spawnPositionOf(coordinate), current.getWorld());
+
+        target.setYaw(current.getYaw());
+        target.setPitch(current.getPitch());
+
+        return target;
+    }
+
     private UnitPiece spawnAtCoordinate(Coordinate coordinate, PieceSpec spec, Board board, World world) {
         try {
-            Location spawnLocation = board.spawnPositionOf(coordinate).toLocation(world);
-            Vector direction = teamFacingPolicy.forwardFacingOf(spec.teamColor(), board);
+            Location spawnLocation = BukkitVectors.toLocation(board.spawnPositionOf(coordinate), world);
+            Vector direction = BukkitVectors.toVector(teamFacingPolicy.forwardFacingOf(spec.teamColor(), board));
 
             spawnLocation.setDirection(direction);
 
@@ -141,4 +194,44 @@ public class MythicMobsPieceSpawner implements PieceSpawner {
             throw PieceSystemException.spawnFailed(spec, e);
         }
     }
+
+    // 물러날 때 바꾸는 엔티티 속성 (생명체가 아니면 인공지능과 충돌 여부는 무시)
+    private record EntityFlags(
+            boolean visible,
+            boolean invulnerable,
+            boolean silent,
+            boolean gravity,
+            boolean persistent,
+            boolean ai,
+            boolean collidable
+    ) {
+        private static final EntityFlags WITHDRAWN = new EntityFlags(false, true, true, false, false, false, false);
+
+        private static EntityFlags of(Entity entity) {
+            LivingEntity living = (entity instanceof LivingEntity livingEntity) ? livingEntity : null;
+
+            return new EntityFlags(
+                    entity.isVisibleByDefault(),
+                    entity.isInvulnerable(),
+                    entity.isSilent(),
+                    entity.hasGravity(),
+                    entity.isPersistent(),
+                    living == null || living.hasAI(),
+                    living == null || living.isCollidable()
+            );
+        }
+
+        private void applyTo(Entity entity) {
+            entity.setVisibleByDefault(visible);
+            entity.setInvulnerable(invulnerable);
+            entity.setSilent(silent);
+            entity.setGravity(gravity);
+            entity.setPersistent(persistent);
+
+            if (entity instanceof LivingEntity living) {
+                living.setAI(ai);
+                living.setCollidable(collidable);
+            }
+        }
+    }
 }
@@ -107,6 +107,16 @@ public interface TaskRunner {
      */
     void cancel(int taskId);
 
+    /**
+     * 태스크가 아직 예약되어 있거나 실행 중인지 확인합니다.
+     * <p>
+     * 외부에서 취소되었거나 플러그인 비활성화로 중단된 태스크는 활성 상태가 아닙니다.
+     *
+     * @param taskId 확인할 태스크 ID
+     * @return 활성 여부
+     */
+    boolean isActive(int taskId);
+
     /**
      * 모든 태스크를 중단하고 자원을 해제합니다.
      */
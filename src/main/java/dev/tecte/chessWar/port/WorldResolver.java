@@ -1,6 +1,8 @@
 package dev.tecte.chessWar.port;
 
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import lombok.NonNull;
+import org.bukkit.Location;
 import org.bukkit.World;
 
 import java.util.function.Function;
@@ -34,4 +36,22 @@ public interface WorldResolver {
             @NonNull String name,
             @NonNull Function<String, E> onFailure
     );
+
+    /**
+     * 월드 안에서 좌표와 바라볼 방향으로 위치를 만듭니다.
+     *
+     * @param name      월드 이름
+     * @param position  좌표
+     * @param direction 바라볼 방향
+     * @param onFailure 실패 시 예외 팩토리
+     * @param <E>       예외 타입
+     * @return 위치
+     */
+    @NonNull
+    <E extends RuntimeException> Location locate(
+            @NonNull String name,
+            @NonNull Vec3 position,
+            @NonNull Vec3 direction,
+            @NonNull Function<String, E> onFailure
+    );
 }
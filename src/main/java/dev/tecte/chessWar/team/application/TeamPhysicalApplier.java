@@ -1,6 +1,7 @@
 package dev.tecte.chessWar.team.application;
 
 import dev.tecte.chessWar.board.domain.model.Board;
+import dev.tecte.chessWar.board.domain.model.Vec3;
 import dev.tecte.chessWar.game.domain.exception.GameException;
 import dev.tecte.chessWar.game.domain.policy.TeamFacingPolicy;
 import dev.tecte.chessWar.port.WorldResolver;
@@ -10,10 +11,8 @@ import jakarta.inject.Singleton;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.util.Vector;
 
 import java.util.Set;
 
@@ -56,13 +55,11 @@ public class TeamPhysicalApplier {
      */
     public void deployTeam(
             @NonNull TeamColor teamColor,
-            @NonNull Vector position,
-            @NonNull Vector direction,
+            @NonNull Vec3 position,
+            @NonNull Vec3 direction,
             @NonNull String worldName
     ) {
-        World world = worldResolver.resolve(worldName, GameException::worldNotFound);
-        Location targetLocation = position.toLocation(world);
-        targetLocation.setDirection(direction);
+        Location targetLocation = worldResolver.locate(worldName, position, direction, GameException::worldNotFound);
 
         teamService.findPlayers(teamColor).forEach(player -> player.teleport(targetLocation));
     }
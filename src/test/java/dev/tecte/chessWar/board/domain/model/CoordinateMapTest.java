@@ -0,0 +1,167 @@
+package dev.tecte.chessWar.board.domain.model;
+
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 좌표 맵을 {@link HashMap}과 같은 연산열로 비교합니다.
+ */
+class CoordinateMapTest {
+    private static final int OPERATIONS = 3_000;
+    private static final String[] VALUES = {"pawn", "rook", "king"};
+
+    @ParameterizedTest
+    @CsvSource({"8, 8, 1", "6, 6, 2", "10, 10, 3", "8, 12, 4", "12, 5, 5", "64, 64, 6"})
+    @DisplayName("무작위 추가와 제거를 거친 모든 버전이 HashMap과 같은 내용을 가진다")
+    void matchesHashMapUnderRandomOperations(int rowCount, int colCount, long seed) {
+        GridSpec gridSpec = GridSpec.of(rowCount, colCount);
+        Random random = new Random(seed);
+        Map<Coordinate, String> expected = new HashMap<>();
+        CoordinateMap<String> actual = CoordinateMap.empty(gridSpec);
+        List<Map<Coordinate, String>> expectedHistory = new ArrayList<>();
+        List<CoordinateMap<String>> actualHistory = new ArrayList<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            Coordinate coordinate = Coordinate.of(random.nextInt(rowCount), random.nextInt(colCount));
+
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    String value = VALUES[random.nextInt(VALUES.length)];
+                    CoordinateMap<String> next = actual.plus(coordinate, value);
+
+                    // plus는 같은 참조의 값일 때만 현재 맵을 그대로 반환함
+                    if (value == expected.put(coordinate, value)) {
+                        assertSame(actual, next, "Unchanged plus must return the same map");
+                    }
+
+                    actual = next;
+                }
+                case 2 -> {
+                    CoordinateMap<String> next = actual.minus(coordinate);
+
+                    if (expected.remove(coordinate) == null) {
+                        assertSame(actual, next, "Removing an absent key must return the same map");
+                    }
+
+                    actual = next;
+                }
+                default -> {
+                    Map<Coordinate, String> batch = new HashMap<>();
+
+                    for (int j = random.nextInt(4); j > 0; j--) {
+                        batch.put(Coordinate.of(random.nextInt(rowCount), random.nextInt(colCount)),
+                                VALUES[random.nextInt(VALUES.length)]);
+                    }
+
+                    expected.putAll(batch);
+                    actual = actual.plusAll(batch);
+                }
+            }
+
+            assertSameContent(gridSpec, expected, actual);
+
+            if (i % 100 == 0) {
+                expectedHistory.add(new HashMap<>(expected));
+                actualHistory.add(actual);
+            }
+        }
+
+        for (int i = 0; i < actualHistory.size(); i++) {
+            assertSameContent(gridSpec, expectedHistory.get(i), actualHistory.get(i));
+        }
+
+        assertEquals(actual, CoordinateMap.copyOf(gridSpec, expected));
+    }
+
+    @Test
+    @DisplayName("순회는 칸 순번 순서를 따른다")
+    void iteratesInOrdinalOrder() {
+        GridSpec gridSpec = GridSpec.of(8, 12);
+        CoordinateMap<String> map = CoordinateMap.<String>builder(gridSpec)
+                .put(Coordinate.of(7, 11), "king")
+                .put(Coordinate.of(0, 3), "rook")
+                .put(Coordinate.of(2, 0), "pawn")
+                .put(Coordinate.of(0, 1), "pawn")
+                .build();
+
+        assertEquals(
+                List.of(Coordinate.of(0, 1), Coordinate.of(0, 3), Coordinate.of(2, 0), Coordinate.of(7, 11)),
+                new ArrayList<>(map.keySet())
+        );
+        assertEquals(List.of("pawn", "rook", "pawn", "king"), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    @DisplayName("격자 밖 좌표는 조회되지 않고 추가할 수 없다")
+    void rejectsOutsideCoordinates() {
+        GridSpec gridSpec = GridSpec.of(6, 6);
+        CoordinateMap<String> map = CoordinateMap.<String>empty(gridSpec).plus(Coordinate.of(5, 5), "king");
+        Coordinate outside = Coordinate.of(6, 0);
+
+        assertNull(map.get(outside));
+        assertNull(map.get("f6"));
+        assertFalse(map.containsKey(outside));
+        assertSame(map, map.minus(outside));
+        assertThrows(IllegalArgumentException.class, () -> map.plus(outside, "pawn"));
+        assertThrows(IllegalArgumentException.class, () -> map.plusAll(Map.of(outside, "pawn")));
+    }
+
+    @Test
+    @DisplayName("타입으로 거른 맵은 해당 타입의 값만 남긴다")
+    void filtersByType() {
+        GridSpec gridSpec = GridSpec.of(8, 8);
+        CoordinateMap<Object> map = CoordinateMap.builder(gridSpec)
+                .put(Coordinate.of(0, 0), "rook")
+                .put(Coordinate.of(1, 1), 7)
+                .put(Coordinate.of(2, 2), "pawn")
+                .build();
+
+        assertEquals(Map.of(Coordinate.of(0, 0), "rook", Coordinate.of(2, 2), "pawn"), map.ofType(String.class));
+        assertEquals(Map.of(Coordinate.of(1, 1), 7), map.ofType(Integer.class));
+    }
+
+    private static void assertSameContent(GridSpec gridSpec, Map<Coordinate, String> expected,
+                                          CoordinateMap<String> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+
+        for (int row = 0; row < gridSpec.rowCount(); row++) {
+            for (int col = 0; col < gridSpec.colCount(); col++) {
+                Coordinate coordinate = Coordinate.of(row, col);
+
+                assertEquals(expected.get(coordinate), actual.get(coordinate), () -> "Mismatch at " + coordinate);
+            }
+        }
+
+        Map<Coordinate, String> iterated = new HashMap<>();
+        Map<Coordinate, String> visited = new HashMap<>();
+
+        for (Map.Entry<Coordinate, String> entry : actual.entrySet()) {
+            assertNull(iterated.put(entry.getKey(), entry.getValue()), () -> "Duplicate entry " + entry);
+        }
+
+        actual.forEach(visited::put);
+
+        assertEquals(expected, iterated);
+        assertEquals(expected, visited);
+        assertEquals(expected.size(), actual.values().size());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+}
@@ -0,0 +1,212 @@
+package dev.tecte.chessWar.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 영속 해시 맵을 {@link HashMap}과 같은 연산열로 비교합니다.
+ * <p>
+ * 키의 트라이 해시를 직접 지정해 해시 전체 충돌, 마지막 단계에서만 갈리는 깊은 경로,
+ * 제거로 인한 노드 병합을 모두 거치도록 합니다.
+ */
+class PersistentHashMapTest {
+    private static final int OPERATIONS = 4_000;
+    private static final int VALUE_RANGE = 4;
+    // 첫 단계, 중간 단계, 마지막 두 단계에서만 갈리는 해시 변형
+    private static final int[] HASH_VARIANT_BITS = {0, 1 << 2, 1 << 17, 1 << 27, 1 << 30, 1 << 31};
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L, 2024L, 0xC0FFEEL})
+    @DisplayName("무작위 추가와 제거를 거친 모든 버전이 HashMap과 같은 내용을 가진다")
+    void matchesHashMapUnderRandomOperations(long seed) {
+        Random random = new Random(seed);
+        List<Key> universe = universe(random);
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentHashMap<Key, Integer> actual = PersistentHashMap.empty();
+        List<Map<Key, Integer>> expectedHistory = new ArrayList<>();
+        List<PersistentHashMap<Key, Integer>> actualHistory = new ArrayList<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            Key key = universe.get(random.nextInt(universe.size()));
+
+            // 제거 비중을 높게 잡아 충돌 노드와 깊은 경로가 반복해서 병합되도록 함
+            if (random.nextInt(5) < 2) {
+                Integer value = random.nextInt(VALUE_RANGE);
+                PersistentHashMap<Key, Integer> next = actual.plus(key, value);
+
+                if (value.equals(expected.put(key, value))) {
+                    assertSame(actual, next, "Unchanged plus must return the same map");
+                }
+
+                actual = next;
+            } else {
+                PersistentHashMap<Key, Integer> next = actual.minus(key);
+
+                if (expected.remove(key) == null) {
+                    assertSame(actual, next, "Removing an absent key must return the same map");
+                }
+
+                actual = next;
+            }
+
+            assertSameContent(expected, actual, universe);
+
+            if (i % 100 == 0) {
+                expectedHistory.add(new HashMap<>(expected));
+                actualHistory.add(actual);
+            }
+        }
+
+        for (int i = 0; i < actualHistory.size(); i++) {
+            assertSameContent(expectedHistory.get(i), actualHistory.get(i), universe);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {3L, 11L, 99L})
+    @DisplayName("모든 키를 무작위 순서로 제거하면 빈 맵과 같아진다")
+    void collapsesToEmpty(long seed) {
+        Random random = new Random(seed);
+        List<Key> universe = universe(random);
+        Map<Key, Integer> expected = new HashMap<>();
+
+        for (Key key : universe) {
+            expected.put(key, random.nextInt(VALUE_RANGE));
+        }
+
+        PersistentHashMap<Key, Integer> actual = PersistentHashMap.copyOf(expected);
+        List<Key> removals = new ArrayList<>(universe);
+
+        Collections.shuffle(removals, random);
+        assertSameContent(expected, actual, universe);
+
+        for (Key key : removals) {
+            expected.remove(key);
+            actual = actual.minus(key);
+            assertSameContent(expected, actual, universe);
+        }
+
+        assertTrue(actual.isEmpty());
+        assertEquals(PersistentHashMap.empty(), actual);
+    }
+
+    @Test
+    @DisplayName("해시가 완전히 같은 키들은 하나만 남을 때까지 제거해도 모두 찾을 수 있다")
+    void keepsCollidingKeysReachable() {
+        Key first = new Key(1, 0x7FFF_FFFF);
+        Key second = new Key(2, 0x7FFF_FFFF);
+        Key third = new Key(3, 0x7FFF_FFFF);
+        Key neighbour = new Key(4, 0xFFFF_FFFF);
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.<Key, Integer>empty()
+                .plus(first, 1)
+                .plus(second, 2)
+                .plus(third, 3)
+                .plus(neighbour, 4);
+
+        PersistentHashMap<Key, Integer> collapsed = map.minus(second).minus(third);
+
+        assertEquals(4, map.size());
+        assertEquals(2, map.get(second));
+        assertEquals(Map.of(first, 1, neighbour, 4), collapsed);
+        assertNull(collapsed.get(second));
+        assertEquals(Map.of(neighbour, 4), collapsed.minus(first));
+    }
+
+    @Test
+    @DisplayName("순회가 끝난 반복자는 더 이상 항목을 제공하지 않는다")
+    void exhaustedIteratorThrows() {
+        Iterator<Map.Entry<Key, Integer>> iterator = PersistentHashMap.<Key, Integer>empty()
+                .plus(new Key(1, 5), 1)
+                .entrySet()
+                .iterator();
+
+        iterator.next();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static void assertSameContent(Map<Key, Integer> expected, PersistentHashMap<Key, Integer> actual,
+                                          List<Key> universe) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+
+        for (Key key : universe) {
+            assertEquals(expected.get(key), actual.get(key), () -> "Value mismatch for " + key);
+            assertEquals(expected.containsKey(key), actual.containsKey(key), () -> "Presence mismatch for " + key);
+        }
+
+        Map<Key, Integer> iterated = new HashMap<>();
+
+        for (Map.Entry<Key, Integer> entry : actual.entrySet()) {
+            assertNull(iterated.put(entry.getKey(), entry.getValue()), () -> "Duplicate entry " + entry);
+        }
+
+        Map<Key, Integer> visited = new HashMap<>();
+
+        actual.forEach(visited::put);
+
+        assertEquals(expected, iterated);
+        assertEquals(expected, visited);
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    // 무작위 기준 해시마다 몇 비트만 바꾼 변형을 만들고, 변형 하나에 키를 여럿 두어 완전 충돌도 만듦
+    private static List<Key> universe(Random random) {
+        List<Key> keys = new ArrayList<>();
+        int id = 0;
+
+        for (int group = 0; group < 6; group++) {
+            int base = random.nextInt();
+
+            for (int bit : HASH_VARIANT_BITS) {
+                int keysPerHash = 1 + random.nextInt(3);
+
+                for (int i = 0; i < keysPerHash; i++) {
+                    keys.add(new Key(id++, base ^ bit));
+                }
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * 트라이 안의 경로를 직접 지정할 수 있는 키입니다.
+     *
+     * @param id       동등성 식별자
+     * @param trieHash 맵 내부에서 사용될 해시값
+     */
+    private record Key(int id, int trieHash) {
+        @Override
+        public int hashCode() {
+            // 맵의 해시 분산(h ^ h >>> 16)은 자기 역함수이므로 미리 적용해 두면 trieHash가 그대로 쓰임
+            return trieHash ^ (trieHash >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.id == id;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.service.MoveGenerator;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static dev.tecte.chessWar.game.domain.model.position.PositionFixtures.startingPosition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공격 지도의 증분 갱신이 처음부터 계산한 결과와 같은지 검증합니다.
+ * <p>
+ * 실시간 전투처럼 매 수 두는 팀을 무작위로 골라 두면서, 수마다 두 지도를 비교합니다.
+ */
+class AttackMapTest {
+    private static final int PLIES = 300;
+    private static final long SEED = 20_241_018L;
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @CsvSource({"8, 8", "6, 6", "10, 10", "8, 12", "12, 5"})
+    @DisplayName("시작 국면에서 무작위로 둔 수마다 증분 갱신한 지도가 새로 계산한 지도와 같다")
+    void incrementalUpdateMatchesRebuild(int rowCount, int colCount) {
+        playOut(startingPosition(GridSpec.of(rowCount, colCount)), new Random(SEED + rowCount * 31L + colCount));
+    }
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @CsvSource({"8, 8", "10, 10"})
+    @DisplayName("폰이 모두 승급한 것 같은 밀집 국면에서도 증분 갱신한 지도가 새로 계산한 지도와 같다")
+    void incrementalUpdateMatchesRebuildInPromotedPosition(int rowCount, int colCount) {
+        GridSpec gridSpec = GridSpec.of(rowCount, colCount);
+        Position position = startingPosition(gridSpec);
+
+        // 폰 자리를 나이트와 퀸으로 번갈아 채움
+        for (int col = 0; col < colCount; col++) {
+            PieceType promoted = col % 2 == 0 ? PieceType.KNIGHT : PieceType.QUEEN;
+
+            position = position
+                    .with(Coordinate.of(1, col), PieceSpec.of(promoted, TeamColor.WHITE))
+                    .with(Coordinate.of(rowCount - 2, col), PieceSpec.of(promoted, TeamColor.BLACK));
+        }
+
+        playOut(position, new Random(SEED ^ rowCount));
+    }
+
+    @Test
+    @DisplayName("나이트 칸과 여덟 방향 모두에서 체크하는 기물을 빠짐없이 찾는다")
+    void findsCheckersFromEverySquareAndLine() {
+        GridSpec gridSpec = GridSpec.of(11, 11);
+        int center = 5;
+        Position position = Position.empty(gridSpec)
+                .with(Coordinate.of(center, center), PieceSpec.of(PieceType.KING, TeamColor.WHITE))
+                .with(Coordinate.of(0, 0), PieceSpec.of(PieceType.KING, TeamColor.BLACK));
+        int[][] knightSteps = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}};
+        int[][] lineSteps = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}};
+
+        for (int[] step : knightSteps) {
+            position = position.with(
+                    Coordinate.of(center + step[0], center + step[1]),
+                    PieceSpec.of(PieceType.KNIGHT, TeamColor.BLACK)
+            );
+        }
+
+        for (int[] step : lineSteps) {
+            position = position.with(
+                    Coordinate.of(center + 2 * step[0], center + 2 * step[1]),
+                    PieceSpec.of(PieceType.QUEEN, TeamColor.BLACK)
+            );
+        }
+
+        AttackMap attackMap = AttackMap.of(position, moveGenerator.tablesOf(gridSpec));
+
+        assertTrue(attackMap.isInCheck(TeamColor.WHITE));
+        assertEquals(16, attackMap.checkers(TeamColor.WHITE).count());
+    }
+
+    private void playOut(Position start, Random random) {
+        AttackTables tables = moveGenerator.tablesOf(start.gridSpec());
+        AttackMap incremental = AttackMap.of(start, tables);
+
+        for (int ply = 0; ply < PLIES; ply++) {
+            Position position = incremental.position();
+            TeamColor team = random.nextBoolean() ? TeamColor.WHITE : TeamColor.BLACK;
+            List<Move> moves = moveGenerator.legalMoves(position, team);
+
+            if (moves.isEmpty()) {
+                team = team.opposite();
+                moves = moveGenerator.legalMoves(position, team);
+            }
+
+            if (moves.isEmpty()) {
+                return;
+            }
+
+            Move move = moves.get(random.nextInt(moves.size()));
+
+            incremental = incremental.after(move);
+            assertSameAttacks(AttackMap.of(position.applied(move), tables), incremental, ply + ": " + move);
+        }
+    }
+
+    private void assertSameAttacks(AttackMap expected, AttackMap actual, String context) {
+        GridSpec gridSpec = expected.position().gridSpec();
+
+        assertEquals(expected.position(), actual.position(), context);
+
+        for (TeamColor team : TeamColor.values()) {
+            for (int row = 0; row < gridSpec.rowCount(); row++) {
+                for (int col = 0; col < gridSpec.colCount(); col++) {
+                    Coordinate coordinate = Coordinate.of(row, col);
+
+                    assertEquals(
+                            expected.attackCount(coordinate, team),
+                            actual.attackCount(coordinate, team),
+                            context + " " + team + " " + coordinate
+                    );
+                }
+            }
+
+            assertEquals(expected.isInCheck(team), actual.isInCheck(team), context);
+            assertEquals(expected.tracksKing(team), actual.tracksKing(team), context);
+            assertEquals(expected.checkers(team), actual.checkers(team), context);
+            assertEquals(expected.pinned(team), actual.pinned(team), context);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 국면 캐시의 슬롯 교체와 해시 일치 조건을 검증합니다.
+ */
+class PositionCacheTest {
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림한다")
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(1, new PositionCache<String>(1).capacity());
+        assertEquals(64, new PositionCache<String>(64).capacity());
+        assertEquals(128, new PositionCache<String>(65).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new PositionCache<String>(0));
+    }
+
+    @Test
+    @DisplayName("같은 슬롯을 쓰는 다른 해시는 값을 돌려받지 못하고 나중 항목이 앞 항목을 교체한다")
+    void replacesOnSlotCollision() {
+        PositionCache<String> cache = new PositionCache<>(16);
+        long first = 0x1234_0000_0000_0005L;
+        // 슬롯은 상위와 하위 32비트를 XOR한 하위 비트로 고르므로 상위 비트만 다른 두 해시는 같은 슬롯을 씀
+        long second = first ^ (1L << 36) ^ (1L << 4);
+
+        cache.put(first, "first");
+
+        assertEquals("first", cache.get(first));
+        assertNull(cache.get(second));
+
+        cache.put(second, "second");
+
+        assertEquals("second", cache.get(second));
+        assertNull(cache.get(first));
+    }
+
+    @Test
+    @DisplayName("값이 없을 때만 계산하고 비운 뒤에는 다시 계산한다")
+    void computesOnlyWhenAbsent() {
+        PositionCache<String> cache = new PositionCache<>(8);
+        int[] calls = {0};
+        LongFunction<String> computer = hash -> {
+            calls[0]++;
+
+            return Long.toString(hash);
+        };
+
+        assertEquals("7", cache.computeIfAbsent(7L, computer));
+        assertEquals("7", cache.computeIfAbsent(7L, computer));
+        assertEquals(1, calls[0]);
+
+        cache.clear();
+
+        assertNull(cache.get(7L));
+        assertEquals("7", cache.computeIfAbsent(7L, computer));
+        assertEquals(2, calls[0]);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+
+/**
+ * 테스트에서 공유하는 국면 구성입니다.
+ */
+public final class PositionFixtures {
+    private PositionFixtures() {
+    }
+
+    /**
+     * 격자 크기에 맞춘 시작 국면을 구성합니다.
+     * <p>
+     * 백은 0행, 흑은 마지막 행에 뒷줄 기물을 두고 그 앞 행을 폰으로 채웁니다.
+     *
+     * @param gridSpec 격자 크기 명세
+     * @return 시작 국면
+     */
+    public static Position startingPosition(GridSpec gridSpec) {
+        int rowCount = gridSpec.rowCount();
+        int colCount = gridSpec.colCount();
+        Position position = Position.empty(gridSpec);
+
+        for (int col = 0; col < colCount; col++) {
+            PieceType backRank = backRankTypeAt(col, colCount);
+
+            position = position
+                    .with(Coordinate.of(0, col), PieceSpec.of(backRank, TeamColor.WHITE))
+                    .with(Coordinate.of(1, col), PieceSpec.of(PieceType.PAWN, TeamColor.WHITE))
+                    .with(Coordinate.of(rowCount - 2, col), PieceSpec.of(PieceType.PAWN, TeamColor.BLACK))
+                    .with(Coordinate.of(rowCount - 1, col), PieceSpec.of(backRank, TeamColor.BLACK));
+        }
+
+        return position;
+    }
+
+    /**
+     * 뒷줄의 열에 둘 기물 종류를 반환합니다.
+     * <p>
+     * 양 끝에서부터 룩, 나이트, 비숍 순으로 두고 가운데에 퀸과 킹을 둡니다 (8열이면 표준 배치와 같음).
+     *
+     * @param col      열
+     * @param colCount 열 개수
+     * @return 기물 종류
+     */
+    public static PieceType backRankTypeAt(int col, int colCount) {
+        int king = colCount / 2;
+
+        if (col == king) {
+            return PieceType.KING;
+        }
+
+        if (col == king - 1) {
+            return PieceType.QUEEN;
+        }
+
+        return switch (Math.min(col, colCount - 1 - col)) {
+            case 0 -> PieceType.ROOK;
+            case 1 -> PieceType.KNIGHT;
+            default -> PieceType.BISHOP;
+        };
+    }
+}
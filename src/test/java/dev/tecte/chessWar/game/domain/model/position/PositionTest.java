@@ -0,0 +1,230 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.CoordinateMap;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static dev.tecte.chessWar.game.domain.model.position.PositionFixtures.startingPosition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 국면의 증분 갱신이 같은 배치로 새로 만든 국면과 같은지 검증합니다.
+ * <p>
+ * {@code with}, {@code without}, {@code applied}를 무작위로 섞어 두면서 기물 명세 배치를 함께 갱신하고,
+ * 수마다 모든 비트보드 워드와 Zobrist 해시를 배치로부터 직접 계산한 값과 비교합니다.
+ */
+class PositionTest {
+    private static final int OPERATIONS = 1_500;
+    private static final long SEED = 0xB17B0A2DL;
+    private static final TeamColor[] TEAMS = TeamColor.values();
+    private static final PieceType[] TYPES = PieceType.values();
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @CsvSource({"8, 8", "6, 6", "10, 10", "8, 12", "12, 5", "64, 64"})
+    @DisplayName("무작위로 갱신한 국면이 같은 배치로 새로 만든 국면과 같다")
+    void incrementalUpdateMatchesRebuild(int rowCount, int colCount) {
+        GridSpec gridSpec = GridSpec.of(rowCount, colCount);
+        Random random = new Random(SEED + rowCount * 64L + colCount);
+        Position position = startingPosition(gridSpec);
+        CoordinateMap<PieceSpec> specs = position.toSpecs();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            Coordinate target = randomSquare(random, gridSpec);
+
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    PieceSpec spec = PieceSpec.of(TYPES[random.nextInt(TYPES.length)], TEAMS[random.nextInt(2)]);
+
+                    position = position.with(target, spec);
+                    specs = specs.plus(target, spec);
+                }
+                case 1 -> {
+                    Position next = position.without(target);
+
+                    if (!specs.containsKey(target)) {
+                        assertSame(position, next, "Clearing an empty square must return the same position");
+                    }
+
+                    position = next;
+                    specs = specs.minus(target);
+                }
+                default -> {
+                    if (specs.isEmpty()) {
+                        continue;
+                    }
+
+                    Move move = randomMove(random, specs, target);
+                    PieceSpec moving = specs.get(move.from());
+                    PieceSpec placed = move.isPromotion() ? PieceSpec.of(move.promotion(), moving.teamColor()) : moving;
+
+                    position = position.applied(move);
+                    specs = specs.minus(move.from()).plus(move.to(), placed);
+                }
+            }
+
+            assertMatches(specs, position);
+        }
+    }
+
+    @Test
+    @DisplayName("수순이 달라도 같은 배치에 이르면 해시가 같다")
+    void transpositionsShareHash() {
+        GridSpec gridSpec = GridSpec.of(8, 8);
+        Position start = startingPosition(gridSpec);
+        Move knight = Move.of(Coordinate.of(0, 1), Coordinate.of(2, 2));
+        Move pawn = Move.of(Coordinate.of(6, 4), Coordinate.of(4, 4));
+        Position knightFirst = start.applied(knight).applied(pawn);
+        Position pawnFirst = start.applied(pawn).applied(knight);
+
+        assertEquals(knightFirst, pawnFirst);
+        assertEquals(knightFirst.zobristHash(), pawnFirst.zobristHash());
+        assertNotEquals(start.zobristHash(), knightFirst.zobristHash());
+        assertEquals(start.zobristHash(), knightFirst
+                .applied(Move.of(Coordinate.of(2, 2), Coordinate.of(0, 1)))
+                .applied(Move.of(Coordinate.of(4, 4), Coordinate.of(6, 4)))
+                .zobristHash());
+    }
+
+    @Test
+    @DisplayName("같은 배치라도 격자 크기가 다르면 해시가 다르다")
+    void gridSizeIsPartOfHash() {
+        PieceSpec king = PieceSpec.of(PieceType.KING, TeamColor.WHITE);
+        Position square = Position.empty(GridSpec.of(8, 8)).with(Coordinate.of(0, 4), king);
+        Position wide = Position.empty(GridSpec.of(8, 12)).with(Coordinate.of(0, 4), king);
+
+        assertNotEquals(square.zobristHash(), wide.zobristHash());
+        assertNotEquals(square, wide);
+    }
+
+    @Test
+    @DisplayName("빈 칸에서 출발하는 수와 격자 밖의 칸은 거부한다")
+    void rejectsInvalidUpdates() {
+        GridSpec gridSpec = GridSpec.of(6, 6);
+        Position position = startingPosition(gridSpec);
+        Coordinate outside = Coordinate.of(6, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> position.applied(
+                Move.of(Coordinate.of(3, 3), Coordinate.of(4, 4))));
+        assertThrows(IllegalArgumentException.class, () -> position.applied(
+                Move.of(Coordinate.of(1, 0), outside)));
+        assertThrows(IllegalArgumentException.class, () -> position.with(
+                outside, PieceSpec.of(PieceType.QUEEN, TeamColor.WHITE)));
+        assertSame(position, position.without(outside));
+    }
+
+    private static void assertMatches(CoordinateMap<PieceSpec> specs, Position position) {
+        GridSpec gridSpec = specs.gridSpec();
+        int rowCount = gridSpec.rowCount();
+        int colCount = gridSpec.colCount();
+        int lineCount = Position.lineCountOf(gridSpec);
+        long[] rows = new long[rowCount];
+        long[] columns = new long[colCount];
+        long[] diagonals = new long[lineCount];
+        long[] antiDiagonals = new long[lineCount];
+        long[][] teamRows = new long[TEAMS.length][rowCount];
+        long[][][] pieceRows = new long[TEAMS.length][TYPES.length][rowCount];
+
+        for (var entry : specs.entrySet()) {
+            int row = entry.getKey().row();
+            int col = entry.getKey().col();
+            PieceSpec spec = entry.getValue();
+            long bit = 1L << col;
+
+            rows[row] |= bit;
+            columns[col] |= 1L << row;
+            diagonals[row - col + colCount - 1] |= bit;
+            antiDiagonals[row + col] |= bit;
+            teamRows[spec.teamColor().ordinal()][row] |= bit;
+            pieceRows[spec.teamColor().ordinal()][spec.type().ordinal()][row] |= bit;
+        }
+
+        assertEquals(Position.fromSpecs(specs), position);
+        assertEquals(hashOf(specs), position.zobristHash());
+        assertEquals(specs, position.toSpecs());
+        assertEquals(specs.size(), position.occupancy().count());
+
+        for (int row = 0; row < rowCount; row++) {
+            int r = row;
+
+            assertEquals(rows[row], position.occupancyRow(row), () -> "Row " + r);
+
+            for (TeamColor team : TEAMS) {
+                assertEquals(teamRows[team.ordinal()][row], position.occupancyRow(team, row),
+                        () -> team + " row " + r);
+
+                for (PieceType type : TYPES) {
+                    assertEquals(pieceRows[team.ordinal()][type.ordinal()][row], position.piecesRow(team, type, row),
+                            () -> team + " " + type + " row " + r);
+                }
+            }
+        }
+
+        for (int col = 0; col < colCount; col++) {
+            int c = col;
+
+            assertEquals(columns[col], position.occupancyColumn(col), () -> "Column " + c);
+        }
+
+        for (int line = 0; line < lineCount; line++) {
+            int l = line;
+
+            assertEquals(diagonals[line], position.occupancyDiagonal(line), () -> "Diagonal " + l);
+            assertEquals(antiDiagonals[line], position.occupancyAntiDiagonal(line), () -> "Anti-diagonal " + l);
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                Coordinate coordinate = Coordinate.of(row, col);
+
+                assertEquals(Optional.ofNullable(specs.get(coordinate)), position.specAt(coordinate),
+                        () -> "Spec at " + coordinate.toNotation());
+            }
+        }
+    }
+
+    // 격자 키에 놓인 기물의 키를 모두 XOR한 값
+    private static long hashOf(CoordinateMap<PieceSpec> specs) {
+        long hash = ZobristKeys.gridKey(specs.gridSpec());
+
+        for (var entry : specs.entrySet()) {
+            hash ^= ZobristKeys.pieceKey(entry.getValue(), entry.getKey());
+        }
+
+        return hash;
+    }
+
+    // 기물이 있는 칸에서 출발하는 수, 폰은 가끔 승급 수로 만듦
+    private static Move randomMove(Random random, CoordinateMap<PieceSpec> specs, Coordinate to) {
+        List<Coordinate> occupied = new ArrayList<>(specs.keySet());
+        Coordinate from = occupied.get(random.nextInt(occupied.size()));
+
+        if (from.equals(to)) {
+            to = Coordinate.of((to.row() + 1) % specs.gridSpec().rowCount(), to.col());
+        }
+
+        if (specs.get(from).type() == PieceType.PAWN && random.nextBoolean()) {
+            return Move.promoting(from, to, random.nextBoolean() ? PieceType.QUEEN : PieceType.KNIGHT);
+        }
+
+        return Move.of(from, to);
+    }
+
+    private static Coordinate randomSquare(Random random, GridSpec gridSpec) {
+        return Coordinate.of(random.nextInt(gridSpec.rowCount()), random.nextInt(gridSpec.colCount()));
+    }
+}
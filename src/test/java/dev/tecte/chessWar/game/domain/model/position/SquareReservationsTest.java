@@ -0,0 +1,49 @@
+package dev.tecte.chessWar.game.domain.model.position;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 칸 예약 표의 예약과 해제를 검증합니다.
+ */
+class SquareReservationsTest {
+    private final SquareReservations reservations = SquareReservations.of(GridSpec.of(8, 8));
+
+    @Test
+    @DisplayName("이미 예약된 칸을 도착 칸으로 하는 수는 출발 칸 예약을 되돌리고 실패한다")
+    void rollsBackFromWhenToIsReserved() {
+        Coordinate from = Coordinate.of(1, 4);
+        Coordinate to = Coordinate.of(3, 4);
+
+        assertTrue(reservations.tryReserve(to));
+        assertFalse(reservations.tryReserve(Move.of(from, to)));
+        assertFalse(reservations.isReserved(from));
+    }
+
+    @Test
+    @DisplayName("도착 칸이 격자를 벗어난 수는 어떤 칸도 예약하지 않는다")
+    void leavesNoReservationWhenToIsOutsideGrid() {
+        Coordinate from = Coordinate.of(1, 4);
+        Move move = Move.of(from, Coordinate.of(39, 25));
+
+        assertThrows(IllegalArgumentException.class, () -> reservations.tryReserve(move));
+        assertFalse(reservations.isReserved(from));
+        assertTrue(reservations.tryReserve(from));
+    }
+
+    @Test
+    @DisplayName("해제한 수의 두 칸은 다시 예약할 수 있다")
+    void releasesBothSquares() {
+        Move move = Move.of(Coordinate.of(0, 0), Coordinate.of(7, 7));
+
+        assertTrue(reservations.tryReserve(move));
+        reservations.release(move);
+        assertTrue(reservations.tryReserve(move));
+    }
+}
@@ -0,0 +1,307 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static dev.tecte.chessWar.game.domain.model.position.PositionFixtures.backRankTypeAt;
+import static dev.tecte.chessWar.game.domain.model.position.PositionFixtures.startingPosition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 수 생성기의 perft 값을 검증합니다.
+ * <p>
+ * 8x8 표준 시작 국면은 알려진 값과 비교하고, 그 밖의 격자는 단순한 배열 기반 참조 생성기의 값과 비교합니다.
+ * 앙파상과 캐슬링은 깊이 4까지의 표준 시작 국면에서 나타나지 않으므로 알려진 값을 그대로 쓸 수 있습니다.
+ */
+class MoveGeneratorPerftTest {
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+
+    @ParameterizedTest(name = "깊이 {0}: {1}")
+    @CsvSource({"1, 20", "2, 400", "3, 8902", "4, 197281"})
+    @DisplayName("8x8 표준 시작 국면의 perft 값이 알려진 값과 같다")
+    void standardPosition(int depth, long expected) {
+        Position position = startingPosition(GridSpec.of(8, 8));
+
+        assertEquals(expected, moveGenerator.perft(position, TeamColor.WHITE, depth));
+    }
+
+    @ParameterizedTest(name = "{0}x{1}, 깊이 {2}")
+    @CsvSource({
+            "6, 6, 1", "6, 6, 2", "6, 6, 3", "6, 6, 4",
+            "10, 10, 1", "10, 10, 2", "10, 10, 3",
+            "8, 12, 1", "8, 12, 2", "8, 12, 3",
+            "12, 5, 1", "12, 5, 2", "12, 5, 3"
+    })
+    @DisplayName("8x8이 아닌 격자의 시작 국면 perft 값이 참조 생성기와 같다")
+    void nonStandardGrid(int rowCount, int colCount, int depth) {
+        GridSpec gridSpec = GridSpec.of(rowCount, colCount);
+        long expected = new ReferenceBoard(rowCount, colCount).perft(TeamColor.WHITE, depth);
+
+        assertEquals(expected, moveGenerator.perft(startingPosition(gridSpec), TeamColor.WHITE, depth));
+    }
+
+    @Test
+    @DisplayName("폰이 마지막 행에 도달하면 네 가지 기물로 승급한다")
+    void promotionOnWideGrid() {
+        GridSpec gridSpec = GridSpec.of(5, 10);
+        Position position = Position.empty(gridSpec)
+                .with(Coordinate.of(0, 0), PieceSpec.of(PieceType.KING, TeamColor.WHITE))
+                .with(Coordinate.of(4, 9), PieceSpec.of(PieceType.KING, TeamColor.BLACK))
+                .with(Coordinate.of(3, 5), PieceSpec.of(PieceType.PAWN, TeamColor.WHITE));
+
+        // 킹 3수 + 승급 4수
+        assertEquals(7, moveGenerator.perft(position, TeamColor.WHITE, 1));
+    }
+
+    /**
+     * 최적화 없이 칸 배열을 직접 훑는 참조 수 생성기입니다.
+     * <p>
+     * 백은 0행에서 위쪽으로, 흑은 마지막 행에서 아래쪽으로 진행하며,
+     * 앙파상과 캐슬링 없이 폰의 첫 두 칸 전진과 네 가지 승급만 지원합니다.
+     */
+    private static final class ReferenceBoard {
+        private static final int[][] KNIGHT_STEPS = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1},
+                {-1, 2}};
+        private static final int[][] KING_STEPS = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1},
+                {1, -1}};
+        private static final int[][] ROOK_LINES = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        private static final int[][] BISHOP_LINES = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+        private static final PieceType[] PROMOTIONS = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+                PieceType.KNIGHT};
+
+        private final int rowCount;
+        private final int colCount;
+        private final PieceSpec[][] squares;
+
+        private ReferenceBoard(int rowCount, int colCount) {
+            this.rowCount = rowCount;
+            this.colCount = colCount;
+            this.squares = new PieceSpec[rowCount][colCount];
+
+            for (int col = 0; col < colCount; col++) {
+                PieceType backRank = backRankTypeAt(col, colCount);
+
+                squares[0][col] = PieceSpec.of(backRank, TeamColor.WHITE);
+                squares[1][col] = PieceSpec.of(PieceType.PAWN, TeamColor.WHITE);
+                squares[rowCount - 2][col] = PieceSpec.of(PieceType.PAWN, TeamColor.BLACK);
+                squares[rowCount - 1][col] = PieceSpec.of(backRank, TeamColor.BLACK);
+            }
+        }
+
+        private long perft(TeamColor team, int depth) {
+            if (depth == 0) {
+                return 1;
+            }
+
+            long nodes = 0;
+
+            for (int row = 0; row < rowCount; row++) {
+                for (int col = 0; col < colCount; col++) {
+                    PieceSpec piece = squares[row][col];
+
+                    if (piece != null && piece.teamColor() == team) {
+                        nodes += perftFrom(team, depth, row, col, piece.type());
+                    }
+                }
+            }
+
+            return nodes;
+        }
+
+        private long perftFrom(TeamColor team, int depth, int row, int col, PieceType type) {
+            long nodes = 0;
+
+            switch (type) {
+                case PAWN -> nodes += perftPawn(team, depth, row, col);
+                case KNIGHT -> nodes += perftSteps(team, depth, row, col, KNIGHT_STEPS);
+                case KING -> nodes += perftSteps(team, depth, row, col, KING_STEPS);
+                case ROOK -> nodes += perftLines(team, depth, row, col, ROOK_LINES);
+                case BISHOP -> nodes += perftLines(team, depth, row, col, BISHOP_LINES);
+                case QUEEN -> nodes += perftLines(team, depth, row, col, ROOK_LINES)
+                        + perftLines(team, depth, row, col, BISHOP_LINES);
+            }
+
+            return nodes;
+        }
+
+        private long perftPawn(TeamColor team, int depth, int row, int col) {
+            int forward = team == TeamColor.WHITE ? 1 : -1;
+            int startRow = team == TeamColor.WHITE ? 1 : rowCount - 2;
+            int oneStep = row + forward;
+            long nodes = 0;
+
+            if (isInside(oneStep, col) && squares[oneStep][col] == null) {
+                nodes += perftPawnTo(team, depth, row, col, oneStep, col);
+
+                int twoSteps = oneStep + forward;
+
+                if (row == startRow && isInside(twoSteps, col) && squares[twoSteps][col] == null) {
+                    nodes += play(team, depth, row, col, twoSteps, col, null);
+                }
+            }
+
+            for (int side : new int[]{-1, 1}) {
+                int targetCol = col + side;
+
+                if (isInside(oneStep, targetCol) && isEnemy(team, oneStep, targetCol)) {
+                    nodes += perftPawnTo(team, depth, row, col, oneStep, targetCol);
+                }
+            }
+
+            return nodes;
+        }
+
+        private long perftPawnTo(TeamColor team, int depth, int row, int col, int toRow, int toCol) {
+            if (toRow != 0 && toRow != rowCount - 1) {
+                return play(team, depth, row, col, toRow, toCol, null);
+            }
+
+            long nodes = 0;
+
+            for (PieceType promotion : PROMOTIONS) {
+                nodes += play(team, depth, row, col, toRow, toCol, promotion);
+            }
+
+            return nodes;
+        }
+
+        private long perftSteps(TeamColor team, int depth, int row, int col, int[][] steps) {
+            long nodes = 0;
+
+            for (int[] step : steps) {
+                int toRow = row + step[0];
+                int toCol = col + step[1];
+
+                if (isInside(toRow, toCol) && !isOwn(team, toRow, toCol)) {
+                    nodes += play(team, depth, row, col, toRow, toCol, null);
+                }
+            }
+
+            return nodes;
+        }
+
+        private long perftLines(TeamColor team, int depth, int row, int col, int[][] lines) {
+            long nodes = 0;
+
+            for (int[] line : lines) {
+                int toRow = row + line[0];
+                int toCol = col + line[1];
+
+                while (isInside(toRow, toCol) && !isOwn(team, toRow, toCol)) {
+                    nodes += play(team, depth, row, col, toRow, toCol, null);
+
+                    if (squares[toRow][toCol] != null) {
+                        break;
+                    }
+
+                    toRow += line[0];
+                    toCol += line[1];
+                }
+            }
+
+            return nodes;
+        }
+
+        private long play(TeamColor team, int depth, int row, int col, int toRow, int toCol, PieceType promotion) {
+            PieceSpec moving = squares[row][col];
+            PieceSpec captured = squares[toRow][toCol];
+
+            squares[toRow][toCol] = promotion == null ? moving : PieceSpec.of(promotion, team);
+            squares[row][col] = null;
+
+            long nodes = isKingAttacked(team) ? 0 : perft(team.opposite(), depth - 1);
+
+            squares[row][col] = moving;
+            squares[toRow][toCol] = captured;
+
+            return nodes;
+        }
+
+        private boolean isKingAttacked(TeamColor team) {
+            for (int row = 0; row < rowCount; row++) {
+                for (int col = 0; col < colCount; col++) {
+                    PieceSpec piece = squares[row][col];
+
+                    if (piece != null && piece.teamColor() == team && piece.type() == PieceType.KING) {
+                        return isAttacked(row, col, team.opposite());
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isAttacked(int row, int col, TeamColor attacker) {
+            int pawnRow = row - (attacker == TeamColor.WHITE ? 1 : -1);
+
+            for (int side : new int[]{-1, 1}) {
+                if (isPiece(pawnRow, col + side, attacker, PieceType.PAWN)) {
+                    return true;
+                }
+            }
+
+            for (int[] step : KNIGHT_STEPS) {
+                if (isPiece(row + step[0], col + step[1], attacker, PieceType.KNIGHT)) {
+                    return true;
+                }
+            }
+
+            for (int[] step : KING_STEPS) {
+                if (isPiece(row + step[0], col + step[1], attacker, PieceType.KING)) {
+                    return true;
+                }
+            }
+
+            return isAttackedAlong(row, col, attacker, ROOK_LINES, PieceType.ROOK)
+                    || isAttackedAlong(row, col, attacker, BISHOP_LINES, PieceType.BISHOP);
+        }
+
+        private boolean isAttackedAlong(int row, int col, TeamColor attacker, int[][] lines, PieceType slider) {
+            for (int[] line : lines) {
+                int r = row + line[0];
+                int c = col + line[1];
+
+                while (isInside(r, c) && squares[r][c] == null) {
+                    r += line[0];
+                    c += line[1];
+                }
+
+                if (isPiece(r, c, attacker, slider) || isPiece(r, c, attacker, PieceType.QUEEN)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isPiece(int row, int col, TeamColor team, PieceType type) {
+            if (!isInside(row, col)) {
+                return false;
+            }
+
+            PieceSpec piece = squares[row][col];
+
+            return piece != null && piece.teamColor() == team && piece.type() == type;
+        }
+
+        private boolean isOwn(TeamColor team, int row, int col) {
+            return squares[row][col] != null && squares[row][col].teamColor() == team;
+        }
+
+        private boolean isEnemy(TeamColor team, int row, int col) {
+            return squares[row][col] != null && squares[row][col].teamColor() != team;
+        }
+
+        private boolean isInside(int row, int col) {
+            return row >= 0 && row < rowCount && col >= 0 && col < colCount;
+        }
+    }
+}
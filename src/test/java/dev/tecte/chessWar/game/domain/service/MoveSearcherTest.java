@@ -0,0 +1,116 @@
+package dev.tecte.chessWar.game.domain.service;
+
+import dev.tecte.chessWar.board.domain.model.Bitboard;
+import dev.tecte.chessWar.board.domain.model.Coordinate;
+import dev.tecte.chessWar.board.domain.model.spec.GridSpec;
+import dev.tecte.chessWar.game.domain.model.position.Move;
+import dev.tecte.chessWar.game.domain.model.position.Position;
+import dev.tecte.chessWar.piece.domain.model.PieceSpec;
+import dev.tecte.chessWar.piece.domain.model.PieceType;
+import dev.tecte.chessWar.team.domain.model.TeamColor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static dev.tecte.chessWar.game.domain.model.position.PositionFixtures.startingPosition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 수읽기가 찾는 수와 움직일 수 있는 기물 제한을 검증합니다.
+ */
+class MoveSearcherTest {
+    private static final Duration BUDGET = Duration.ofMillis(300);
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveSearcher moveSearcher = new MoveSearcher(moveGenerator);
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 수 만에 외통이 되는 수가 있으면 기물을 잡는 수보다 먼저 고른다")
+    void findsMateInOne() {
+        Position position = backRankMate();
+
+        Optional<Move> found = moveSearcher.search(position, TeamColor.WHITE, allSquares(position), BUDGET, pool);
+
+        assertEquals(Optional.of(Move.of(Coordinate.of(0, 0), Coordinate.of(7, 0))), found);
+        assertTrue(moveGenerator.legalMoves(position.applied(found.get()), TeamColor.BLACK).isEmpty());
+    }
+
+    @Test
+    @DisplayName("외통수를 두는 기물이 움직일 수 없는 기물이면 다른 기물의 수를 고른다")
+    void ignoresMateByImmovablePiece() {
+        Position position = backRankMate();
+        Bitboard knightOnly = Bitboard.of(Coordinate.of(1, 2));
+
+        Optional<Move> found = moveSearcher.search(position, TeamColor.WHITE, knightOnly, BUDGET, pool);
+
+        assertTrue(found.isPresent());
+        assertEquals(Coordinate.of(1, 2), found.get().from());
+    }
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @CsvSource({"8, 8", "6, 6", "10, 10"})
+    @DisplayName("고른 수는 언제나 움직일 수 있는 칸에서 출발하는 합법 수다")
+    void picksLegalMoveFromMovableSquare(int rowCount, int colCount) {
+        Position position = startingPosition(GridSpec.of(rowCount, colCount));
+
+        for (TeamColor team : TeamColor.values()) {
+            int backRank = team == TeamColor.WHITE ? 0 : rowCount - 1;
+            int pawnRank = team == TeamColor.WHITE ? 1 : rowCount - 2;
+            // 나이트 하나와 폰 하나만 움직일 수 있게 함
+            Bitboard movable = Bitboard.builder()
+                    .add(Coordinate.of(backRank, 1))
+                    .add(Coordinate.of(pawnRank, colCount - 1))
+                    .build();
+
+            Optional<Move> found = moveSearcher.search(position, team, movable, BUDGET, pool);
+            List<Move> legal = moveGenerator.legalMoves(position, team);
+
+            assertTrue(found.isPresent(), () -> team + " found no move");
+            assertTrue(movable.contains(found.get().from()), () -> team + " moved " + found.get());
+            assertTrue(legal.contains(found.get()), () -> team + " played illegal " + found.get());
+        }
+    }
+
+    @Test
+    @DisplayName("움직일 수 있는 기물에 둘 수가 없으면 빈 값을 반환한다")
+    void returnsEmptyWhenMovablePiecesAreStuck() {
+        Position position = startingPosition(GridSpec.of(8, 8));
+        // 시작 국면의 룩은 움직일 칸이 없음
+        Bitboard rooks = Bitboard.builder()
+                .add(Coordinate.of(0, 0))
+                .add(Coordinate.of(0, 7))
+                .build();
+
+        assertEquals(Optional.empty(), moveSearcher.search(position, TeamColor.WHITE, rooks, BUDGET, pool));
+    }
+
+    // 백 룩이 a8로 가면 외통이고, 백 나이트는 흑 나이트를 잡을 수 있는 국면
+    private static Position backRankMate() {
+        return Position.empty(GridSpec.of(8, 8))
+                .with(Coordinate.of(0, 4), PieceSpec.of(PieceType.KING, TeamColor.WHITE))
+                .with(Coordinate.of(0, 0), PieceSpec.of(PieceType.ROOK, TeamColor.WHITE))
+                .with(Coordinate.of(1, 2), PieceSpec.of(PieceType.KNIGHT, TeamColor.WHITE))
+                .with(Coordinate.of(7, 7), PieceSpec.of(PieceType.KING, TeamColor.BLACK))
+                .with(Coordinate.of(6, 6), PieceSpec.of(PieceType.PAWN, TeamColor.BLACK))
+                .with(Coordinate.of(6, 7), PieceSpec.of(PieceType.PAWN, TeamColor.BLACK))
+                .with(Coordinate.of(3, 3), PieceSpec.of(PieceType.KNIGHT, TeamColor.BLACK));
+    }
+
+    private static Bitboard allSquares(Position position) {
+        return Bitboard.full(position.gridSpec());
+    }
+}